@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.math.matrix.SparseMatrixFactory;
+import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import com.powsybl.openloadflow.network.BenchmarkNetworkFactory;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkParameters;
+import com.powsybl.openloadflow.network.impl.Networks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Common state of load flow benchmarks: the network, from IEEE 14 buses up to a 10k buses synthetic grid, the
+ * matrix factory and the load flow parameters.
+ * <p>
+ * Dense matrix factory is only usable on small networks, for instance with
+ * {@code -p networkName=ieee14,ieee118 -p matrixFactoryName=dense}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractLoadFlowBenchmark {
+
+    @Param({"ieee14", "ieee118", "ieee300", "grid32x32", "grid100x100"})
+    protected String networkName;
+
+    @Param({"sparse"})
+    protected String matrixFactoryName;
+
+    protected Network network;
+
+    protected LoadFlowParameters parameters;
+
+    protected OpenLoadFlowParameters parametersExt;
+
+    protected MatrixFactory matrixFactory;
+
+    protected final GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory = new EvenShiloachGraphDecrementalConnectivityFactory<>();
+
+    protected static MatrixFactory createMatrixFactory(String name) {
+        switch (name) {
+            case "sparse":
+                return new SparseMatrixFactory();
+            case "dense":
+                return new DenseMatrixFactory();
+            default:
+                throw new PowsyblException("Unknown matrix factory: " + name);
+        }
+    }
+
+    /**
+     * To be called first by benchmark trial setup.
+     */
+    protected void setUpNetwork() {
+        network = BenchmarkNetworkFactory.create(networkName);
+        matrixFactory = createMatrixFactory(matrixFactoryName);
+        parameters = new LoadFlowParameters();
+        parametersExt = OpenLoadFlowParameters.create(parameters);
+    }
+
+    protected AcLoadFlowParameters createAcParameters() {
+        return OpenLoadFlowParameters.createAcParameters(network, parameters, parametersExt, matrixFactory, connectivityFactory);
+    }
+
+    protected DcLoadFlowParameters createDcParameters() {
+        return OpenLoadFlowParameters.createDcParameters(network, parameters, parametersExt, matrixFactory, connectivityFactory, false);
+    }
+
+    /**
+     * Create N-1 contingencies on the first branches of the network.
+     */
+    protected List<Contingency> createBranchContingencies(int count) {
+        return network.getBranchStream()
+                .limit(count)
+                .map(b -> new Contingency(b.getId(), new BranchContingency(b.getId())))
+                .toList();
+    }
+
+    /**
+     * Load the LF network of the main connected and synchronous component.
+     */
+    protected LfNetwork loadMainNetwork(LfNetworkParameters networkParameters) {
+        return Networks.load(network, networkParameters).get(0);
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.ac.equations;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.network.LfNetwork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Creation of the AC equation system. As equation system creation attaches evaluables and listeners to the LF
+ * network, each invocation works on a fresh copy of it.
+ * <p>
+ * Allocations are measured with the GC profiler, for instance on a 50k buses grid with
+ * {@code -p networkName=grid224x224 -prof gc}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class AcEquationSystemBenchmark extends AbstractLoadFlowBenchmark {
+
+    private AcEquationSystemCreationParameters creationParameters;
+
+    private LfNetwork lfNetwork;
+
+    private LfNetwork lfNetworkCopy;
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        var acParameters = createAcParameters();
+        creationParameters = acParameters.getEquationSystemCreationParameters();
+        lfNetwork = loadMainNetwork(acParameters.getNetworkParameters());
+    }
+
+    @Setup(Level.Invocation)
+    public void copyNetwork() {
+        lfNetworkCopy = lfNetwork.copy(Reporter.NO_OP);
+    }
+
+    @Benchmark
+    public EquationSystem<AcVariableType, AcEquationType> create() {
+        return new AcEquationSystemCreator(lfNetworkCopy, creationParameters).create();
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.ac.equations;
+
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.network.ElementType;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfNetwork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lookups of AC equations by bus and of equation terms by branch, as done by outer loops and sensitivity analysis.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class AcEquationSystemLookupBenchmark extends AbstractLoadFlowBenchmark {
+
+    private LfNetwork lfNetwork;
+
+    private EquationSystem<AcVariableType, AcEquationType> equationSystem;
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        var acParameters = createAcParameters();
+        lfNetwork = loadMainNetwork(acParameters.getNetworkParameters());
+        equationSystem = new AcEquationSystemCreator(lfNetwork, acParameters.getEquationSystemCreationParameters()).create();
+    }
+
+    @Benchmark
+    public void lookup(Blackhole blackhole) {
+        for (LfBus bus : lfNetwork.getBuses()) {
+            blackhole.consume(equationSystem.getEquation(bus.getNum(), AcEquationType.BUS_TARGET_P));
+            blackhole.consume(equationSystem.getEquation(bus.getNum(), AcEquationType.BUS_TARGET_Q));
+        }
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            blackhole.consume(equationSystem.getEquationTerms(ElementType.BRANCH, branch.getNum()));
+        }
+    }
+}
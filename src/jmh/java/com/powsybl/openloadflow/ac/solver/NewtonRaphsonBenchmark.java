@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.ac.solver;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
+import com.powsybl.openloadflow.network.util.VoltageInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Newton-Raphson solving from a flat start, without any outer loop, on an already created equation system and
+ * Jacobian matrix.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class NewtonRaphsonBenchmark extends AbstractLoadFlowBenchmark {
+
+    @Param({"15"})
+    private int maxNewtonRaphsonIterations;
+
+    @Param({"NONE", "MAX_VOLTAGE_CHANGE", "LINE_SEARCH"})
+    private StateVectorScalingMode stateVectorScalingMode;
+
+    private AcLoadFlowContext context;
+
+    private NewtonRaphson newtonRaphson;
+
+    private final VoltageInitializer voltageInitializer = new UniformValueVoltageInitializer();
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        parametersExt.setMaxNewtonRaphsonIterations(maxNewtonRaphsonIterations)
+                .setStateVectorScalingMode(stateVectorScalingMode);
+        var acParameters = createAcParameters();
+        context = new AcLoadFlowContext(loadMainNetwork(acParameters.getNetworkParameters()), acParameters);
+        newtonRaphson = new NewtonRaphson(context.getNetwork(), acParameters.getNewtonRaphsonParameters(), context.getEquationSystem(),
+                context.getJacobianMatrix(), context.getTargetVector(), context.getEquationVector(), false);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AcSolverResult run() {
+        return newtonRaphson.run(voltageInitializer, Reporter.NO_OP);
+    }
+}
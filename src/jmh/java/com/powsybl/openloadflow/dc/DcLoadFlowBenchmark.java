@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.dc;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.openloadflow.network.LfNetwork;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Complete DC load flow run on an LF network: equation system creation, matrix building and LU decomposition,
+ * slack distribution and solving. Each invocation works on a fresh copy of the LF network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class DcLoadFlowBenchmark extends AbstractLoadFlowBenchmark {
+
+    private DcLoadFlowParameters dcParameters;
+
+    private LfNetwork lfNetwork;
+
+    private DcLoadFlowContext context;
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        dcParameters = createDcParameters();
+        lfNetwork = loadMainNetwork(dcParameters.getNetworkParameters());
+    }
+
+    @Setup(Level.Invocation)
+    public void createContext() {
+        context = new DcLoadFlowContext(lfNetwork.copy(Reporter.NO_OP), dcParameters);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public DcLoadFlowResult run() {
+        return new DcLoadFlowEngine(context).run();
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.equations;
+
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.openloadflow.ac.AcJacobianMatrix;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.equations.AcEquationType;
+import com.powsybl.openloadflow.ac.equations.AcVariableType;
+import com.powsybl.openloadflow.ac.solver.AcSolverUtil;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * AC Jacobian matrix building and LU decomposition ({@link #init()}), and update of its values and LU decomposition
+ * after a state change, as done at each Newton-Raphson iteration ({@link #update()}).
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class JacobianMatrixBenchmark extends AbstractLoadFlowBenchmark {
+
+    private LfNetwork lfNetwork;
+
+    private AcLoadFlowContext context;
+
+    private JacobianMatrix<AcVariableType, AcEquationType> j;
+
+    private double[] rhs;
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        var acParameters = createAcParameters();
+        lfNetwork = loadMainNetwork(acParameters.getNetworkParameters());
+        context = new AcLoadFlowContext(lfNetwork, acParameters);
+        AcSolverUtil.initStateVector(lfNetwork, context.getEquationSystem(), new UniformValueVoltageInitializer());
+        j = context.getJacobianMatrix();
+        rhs = new double[context.getEquationSystem().getIndex().getSortedEquationsToSolve().size()];
+        j.solve(rhs.clone());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public double[] init() {
+        try (var newJ = new AcJacobianMatrix(context.getEquationSystem(), matrixFactory, lfNetwork)) {
+            double[] x = rhs.clone();
+            newJ.solve(x);
+            return x;
+        }
+    }
+
+    @Benchmark
+    public double[] update() {
+        j.onStateUpdate();
+        double[] x = rhs.clone();
+        j.solve(x);
+        return x;
+    }
+}
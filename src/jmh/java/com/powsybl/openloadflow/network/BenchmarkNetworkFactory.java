@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.network;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+
+/**
+ * Networks used by benchmarks: IEEE CDF test cases and synthetic meshed grids of increasing size.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class BenchmarkNetworkFactory extends AbstractLoadFlowNetworkFactory {
+
+    private static final double NOMINAL_V = 400;
+
+    private static final int GENERATOR_SPACING = 5;
+
+    private BenchmarkNetworkFactory() {
+    }
+
+    /**
+     * Create a benchmark network from its name: one of ieee14, ieee30, ieee57, ieee118, ieee300 or gridRxC for a
+     * synthetic grid of R rows and C columns (for instance grid100x100 for a 10k buses network).
+     */
+    public static Network create(String name) {
+        switch (name) {
+            case "ieee14":
+                return IeeeCdfNetworkFactory.create14();
+            case "ieee30":
+                return IeeeCdfNetworkFactory.create30();
+            case "ieee57":
+                return IeeeCdfNetworkFactory.create57();
+            case "ieee118":
+                return IeeeCdfNetworkFactory.create118();
+            case "ieee300":
+                return IeeeCdfNetworkFactory.create300();
+            default:
+                if (name.startsWith("grid")) {
+                    String[] size = name.substring(4).split("x");
+                    if (size.length == 2) {
+                        return createGrid(Integer.parseInt(size[0]), Integer.parseInt(size[1]));
+                    }
+                }
+                throw new PowsyblException("Unknown benchmark network: " + name);
+        }
+    }
+
+    /**
+     * Create a meshed grid of rows x columns 400 kV buses, each bus being connected to its right and bottom
+     * neighbours. Every bus has a load and one bus out of {@link #GENERATOR_SPACING} has a voltage regulating
+     * generator, so that generation and load are balanced.
+     */
+    public static Network createGrid(int rows, int columns) {
+        if (rows < 1 || columns < 1) {
+            throw new PowsyblException("Invalid grid size: " + rows + "x" + columns);
+        }
+        Network network = Network.create("grid" + rows + "x" + columns, "benchmark");
+        Bus[][] buses = new Bus[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                String id = "b" + i + "_" + j;
+                Bus b = createBus(network, id, NOMINAL_V);
+                buses[i][j] = b;
+                createLoad(b, "l" + i + "_" + j, 10, 3);
+                if ((i * columns + j) % GENERATOR_SPACING == 0) {
+                    createGenerator(b, "g" + i + "_" + j, 10d * GENERATOR_SPACING, NOMINAL_V * 1.02);
+                }
+                if (j > 0) {
+                    createLine(network, buses[i][j - 1], b, "h" + i + "_" + j, 1, 10);
+                }
+                if (i > 0) {
+                    createLine(network, buses[i - 1][j], b, "v" + i + "_" + j, 1, 10);
+                }
+            }
+        }
+        return network;
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.network;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.network.impl.Networks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the cost of getting a new LF network for a worker thread by reloading it from IIDM or by copying an
+ * already loaded one.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LfNetworkCopyBenchmark {
+
+    @Param({"ieee300", "grid100x100"})
+    private String networkName;
+
+    private Network network;
+
+    private LfNetworkParameters networkParameters;
+
+    private LfNetwork lfNetwork;
+
+    @Setup
+    public void setUp() {
+        network = BenchmarkNetworkFactory.create(networkName);
+        LoadFlowParameters parameters = new LoadFlowParameters()
+                .setTransformerVoltageControlOn(true)
+                .setShuntCompensatorVoltageControlOn(true);
+        OpenLoadFlowParameters parametersExt = OpenLoadFlowParameters.create(parameters);
+        networkParameters = OpenLoadFlowParameters.createAcParameters(network, parameters, parametersExt, new DenseMatrixFactory(),
+                new EvenShiloachGraphDecrementalConnectivityFactory<>()).getNetworkParameters();
+        lfNetwork = Networks.load(network, networkParameters).get(0);
+    }
+
+    @Benchmark
+    public List<LfNetwork> load() {
+        return Networks.load(network, networkParameters);
+    }
+
+    @Benchmark
+    public LfNetwork copy() {
+        return lfNetwork.copy(Reporter.NO_OP);
+    }
+}
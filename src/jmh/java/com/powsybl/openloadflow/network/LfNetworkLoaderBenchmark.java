@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.network;
+
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.openloadflow.network.impl.LfNetworkLoaderImpl;
+import com.powsybl.openloadflow.network.impl.Networks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+/**
+ * Loading of LF networks from IIDM, so mainly {@link LfNetworkLoaderImpl}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfNetworkLoaderBenchmark extends AbstractLoadFlowBenchmark {
+
+    private LfNetworkParameters networkParameters;
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        networkParameters = createAcParameters().getNetworkParameters();
+    }
+
+    @Benchmark
+    public List<LfNetwork> load() {
+        return Networks.load(network, networkParameters);
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.security.SecurityAnalysisParameters;
+import com.powsybl.security.SecurityAnalysisReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AC security analysis of N-1 contingencies on the first branches of the network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class AcSecurityAnalysisBenchmark extends AbstractLoadFlowBenchmark {
+
+    @Param({"50"})
+    private int contingencyCount;
+
+    @Param({"1"})
+    private int threadCount;
+
+    private List<Contingency> contingencies;
+
+    private SecurityAnalysisParameters securityAnalysisParameters;
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        contingencies = createBranchContingencies(contingencyCount);
+        securityAnalysisParameters = new SecurityAnalysisParameters()
+                .setLoadFlowParameters(parameters);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, new OpenSecurityAnalysisParameters()
+                .setThreadCount(threadCount));
+    }
+
+    @Benchmark
+    public SecurityAnalysisReport run() {
+        var securityAnalysis = new AcSecurityAnalysis(network, matrixFactory, connectivityFactory, Collections.emptyList(), Reporter.NO_OP);
+        return securityAnalysis.runSync(securityAnalysisParameters, n -> contingencies, Collections.emptyList(), Collections.emptyList());
+    }
+}
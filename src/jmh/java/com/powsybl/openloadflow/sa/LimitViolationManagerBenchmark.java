@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.iidm.network.Line;
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.AcloadFlowEngine;
+import com.powsybl.security.LimitViolation;
+import com.powsybl.security.SecurityAnalysisParameters;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * Post-contingency limit violations detection on a converged network where each line has a permanent and a temporary
+ * current limit on both sides, the permanent one being violated on a part of the lines.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LimitViolationManagerBenchmark extends AbstractLoadFlowBenchmark {
+
+    private AcLoadFlowContext context;
+
+    private LimitViolationManager preContingencyLimitViolationManager;
+
+    private final SecurityAnalysisParameters.IncreasedViolationsParameters violationsParameters = new SecurityAnalysisParameters.IncreasedViolationsParameters();
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        int i = 0;
+        for (Line line : network.getLines()) {
+            // about one line out of ten violates its permanent limit
+            double permanentLimit = i++ % 10 == 0 ? 0.001 : 100000;
+            line.newCurrentLimits1()
+                    .setPermanentLimit(permanentLimit)
+                    .beginTemporaryLimit()
+                        .setName("20'")
+                        .setAcceptableDuration(20 * 60)
+                        .setValue(permanentLimit * 2)
+                    .endTemporaryLimit()
+                    .add();
+            line.newCurrentLimits2()
+                    .setPermanentLimit(permanentLimit)
+                    .add();
+        }
+        var acParameters = createAcParameters();
+        context = new AcLoadFlowContext(loadMainNetwork(acParameters.getNetworkParameters()), acParameters);
+        new AcloadFlowEngine(context).run();
+        preContingencyLimitViolationManager = new LimitViolationManager();
+        preContingencyLimitViolationManager.detectViolations(context.getNetwork());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<LimitViolation> run() {
+        var limitViolationManager = new LimitViolationManager(preContingencyLimitViolationManager, violationsParameters);
+        limitViolationManager.detectViolations(context.getNetwork());
+        return limitViolationManager.getLimitViolations();
+    }
+}
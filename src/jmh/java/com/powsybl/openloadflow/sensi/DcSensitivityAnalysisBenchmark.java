@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.openloadflow.AbstractLoadFlowBenchmark;
+import com.powsybl.openloadflow.network.LfTopoConfig;
+import com.powsybl.openloadflow.network.impl.PropagatedContingency;
+import com.powsybl.openloadflow.network.impl.PropagatedContingencyCreationParameters;
+import com.powsybl.sensitivity.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DC sensitivity analysis of the flow of the first branches of the network to the injection of the first generators,
+ * for the base case and N-1 contingencies on the first branches.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class DcSensitivityAnalysisBenchmark extends AbstractLoadFlowBenchmark {
+
+    @Param({"50"})
+    private int contingencyCount;
+
+    @Param({"100"})
+    private int monitoredBranchCount;
+
+    @Param({"100"})
+    private int generatorCount;
+
+    private List<PropagatedContingency> propagatedContingencies;
+
+    private LfTopoConfig topoConfig;
+
+    private List<SensitivityFactor> factors;
+
+    private SensitivityAnalysisParameters sensitivityAnalysisParameters;
+
+    @Setup
+    public void setUp() {
+        setUpNetwork();
+        parameters.setDc(true);
+        sensitivityAnalysisParameters = new SensitivityAnalysisParameters()
+                .setLoadFlowParameters(parameters);
+        topoConfig = new LfTopoConfig();
+        propagatedContingencies = PropagatedContingency.createList(network, createBranchContingencies(contingencyCount), topoConfig,
+                new PropagatedContingencyCreationParameters());
+        List<String> generatorIds = network.getGeneratorStream().limit(generatorCount).map(Generator::getId).toList();
+        factors = network.getBranchStream()
+                .limit(monitoredBranchCount)
+                .map(Branch::getId)
+                .flatMap(branchId -> generatorIds.stream()
+                        .map(generatorId -> new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, branchId,
+                                                                  SensitivityVariableType.INJECTION_ACTIVE_POWER, generatorId,
+                                                                  false, ContingencyContext.all())))
+                .toList();
+    }
+
+    @Benchmark
+    public double analyse() {
+        var resultWriter = new SensitivityResultWriter() {
+
+            private double sum = 0;
+
+            @Override
+            public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+                sum += value;
+            }
+
+            @Override
+            public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+                // nothing to do
+            }
+        };
+        new DcSensitivityAnalysis(matrixFactory, connectivityFactory, sensitivityAnalysisParameters)
+                .analyse(network, propagatedContingencies, Collections.emptyList(), new SensitivityFactorModelReader(factors, network),
+                         resultWriter, Reporter.NO_OP, topoConfig);
+        return resultWriter.sum;
+    }
+}
@@ -9,7 +9,6 @@ package com.powsybl.openloadflow;
 import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Switch;
-import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.ac.AcLoadFlowContext;
 import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
 import com.powsybl.openloadflow.ac.AcLoadFlowResult;
@@ -35,20 +34,20 @@ public class AcLoadFlowFromCache {
 
     private final Network network;
 
-    private final LoadFlowParameters parameters;
-
     private final OpenLoadFlowParameters parametersExt;
 
     private final AcLoadFlowParameters acParameters;
 
+    private final NetworkCache.Entry entry;
+
     private final Reporter reporter;
 
-    public AcLoadFlowFromCache(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
-                               AcLoadFlowParameters acParameters, Reporter reporter) {
+    public AcLoadFlowFromCache(Network network, OpenLoadFlowParameters parametersExt, AcLoadFlowParameters acParameters,
+                               NetworkCache.Entry entry, Reporter reporter) {
         this.network = Objects.requireNonNull(network);
-        this.parameters = Objects.requireNonNull(parameters);
         this.parametersExt = Objects.requireNonNull(parametersExt);
         this.acParameters = Objects.requireNonNull(acParameters);
+        this.entry = Objects.requireNonNull(entry);
         this.reporter = Objects.requireNonNull(reporter);
     }
 
@@ -70,7 +69,7 @@ public class AcLoadFlowFromCache {
         }
     }
 
-    private List<AcLoadFlowContext> initContexts(NetworkCache.Entry entry) {
+    private List<AcLoadFlowContext> initContexts() {
         List<AcLoadFlowContext> contexts;
         LfTopoConfig topoConfig = new LfTopoConfig();
         configureSwitches(topoConfig);
@@ -106,10 +105,9 @@ public class AcLoadFlowFromCache {
     }
 
     public List<AcLoadFlowResult> run() {
-        NetworkCache.Entry entry = NetworkCache.INSTANCE.get(network, parameters);
         List<AcLoadFlowContext> contexts = entry.getContexts();
         if (contexts == null) {
-            contexts = initContexts(entry);
+            contexts = initContexts();
         }
         return contexts.stream()
                 .map(AcLoadFlowFromCache::run)
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Injection and setpoint values of a scenario run by {@link AcMultiScenarioLoadFlow}, in SI units (MW, MVar, kV).
+ * Values are applied on top of the base case: elements which are not part of the scenario keep their base case value,
+ * whatever the previous scenarios.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class AcLoadFlowScenario {
+
+    private final String id;
+
+    private final Map<String, Double> loadsP0 = new LinkedHashMap<>();
+
+    private final Map<String, Double> loadsQ0 = new LinkedHashMap<>();
+
+    private final Map<String, Double> generatorsTargetP = new LinkedHashMap<>();
+
+    private final Map<String, Double> generatorsTargetV = new LinkedHashMap<>();
+
+    public AcLoadFlowScenario(String id) {
+        this.id = Objects.requireNonNull(id);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Map<String, Double> getLoadsP0() {
+        return Collections.unmodifiableMap(loadsP0);
+    }
+
+    public AcLoadFlowScenario setLoadP0(String loadId, double p0) {
+        loadsP0.put(Objects.requireNonNull(loadId), p0);
+        return this;
+    }
+
+    public Map<String, Double> getLoadsQ0() {
+        return Collections.unmodifiableMap(loadsQ0);
+    }
+
+    public AcLoadFlowScenario setLoadQ0(String loadId, double q0) {
+        loadsQ0.put(Objects.requireNonNull(loadId), q0);
+        return this;
+    }
+
+    public Map<String, Double> getGeneratorsTargetP() {
+        return Collections.unmodifiableMap(generatorsTargetP);
+    }
+
+    public AcLoadFlowScenario setGeneratorTargetP(String generatorId, double targetP) {
+        generatorsTargetP.put(Objects.requireNonNull(generatorId), targetP);
+        return this;
+    }
+
+    public Map<String, Double> getGeneratorsTargetV() {
+        return Collections.unmodifiableMap(generatorsTargetV);
+    }
+
+    public AcLoadFlowScenario setGeneratorTargetV(String generatorId, double targetV) {
+        generatorsTargetV.put(Objects.requireNonNull(generatorId), targetV);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "AcLoadFlowScenario(" +
+                "id=" + id +
+                ", loadsP0=" + loadsP0 +
+                ", loadsQ0=" + loadsQ0 +
+                ", generatorsTargetP=" + generatorsTargetP +
+                ", generatorsTargetV=" + generatorsTargetV +
+                ')';
+    }
+}
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowResult;
+import com.powsybl.openloadflow.ac.AcloadFlowEngine;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
+import com.powsybl.openloadflow.util.ConcurrencyUtil;
+import com.powsybl.openloadflow.util.PerUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Run AC load flows of many scenarios on a same network, for instance for time series or Monte-Carlo studies.
+ * <p>
+ * The LF networks and their AC load flow contexts (equation system, Jacobian matrix) are created once. Each scenario is
+ * then directly applied to the LF networks on top of the base case, without any IIDM variant switching nor network
+ * update, and solved with a warm start from the previous scenario solution. Results are streamed to a handler after
+ * each scenario: LF networks of the results are only valid during the handler call, as they are updated by next
+ * scenario.
+ * <p>
+ * As each scenario run adds reports to the reporter, a no-op reporter should be used for long studies.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class AcMultiScenarioLoadFlow implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcMultiScenarioLoadFlow.class);
+
+    private final Network network;
+
+    private final List<AcLoadFlowContext> contexts;
+
+    private final List<NetworkState> baseStates;
+
+    private boolean firstScenario = true;
+
+    private record AppliedLoadChange(LfLoad load, String loadId, double deltaP0, double deltaQ0) {
+    }
+
+    // changes that are not restored by a network state
+    private final List<AppliedLoadChange> appliedLoadChanges = new ArrayList<>();
+
+    private final Map<GeneratorVoltageControl, Double> baseTargetVoltages = new LinkedHashMap<>();
+
+    public AcMultiScenarioLoadFlow(Network network, LoadFlowParameters parameters, MatrixFactory matrixFactory, Reporter reporter) {
+        this(network, parameters, matrixFactory, new EvenShiloachGraphDecrementalConnectivityFactory<>(), reporter);
+    }
+
+    public AcMultiScenarioLoadFlow(Network network, LoadFlowParameters parameters, MatrixFactory matrixFactory,
+                                   GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory, Reporter reporter) {
+        this.network = Objects.requireNonNull(network);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(matrixFactory);
+        Objects.requireNonNull(connectivityFactory);
+        Objects.requireNonNull(reporter);
+        OpenLoadFlowParameters parametersExt = OpenLoadFlowParameters.get(parameters);
+        AcLoadFlowParameters acParameters = OpenLoadFlowParameters.createAcParameters(network, parameters, parametersExt, matrixFactory, connectivityFactory);
+        List<LfNetwork> lfNetworks = Networks.load(network, acParameters.getNetworkParameters(), reporter);
+        // each context has its own parameters, as the voltage initializer is changed after the first scenario
+        contexts = lfNetworks.stream()
+                .map(lfNetwork -> new AcLoadFlowContext(lfNetwork, OpenLoadFlowParameters.createAcParameters(network, parameters, parametersExt,
+                                                                                                            matrixFactory, connectivityFactory)))
+                .toList();
+        baseStates = lfNetworks.stream()
+                .map(NetworkState::save)
+                .toList();
+    }
+
+    public List<AcLoadFlowContext> getContexts() {
+        return contexts;
+    }
+
+    /**
+     * Restore base case injections and setpoints, but keep previous scenario voltages for the warm start.
+     */
+    private void restoreBaseCase() {
+        for (AppliedLoadChange change : appliedLoadChanges) {
+            change.load().updateOriginalLoadPower(change.loadId(), -change.deltaP0(), -change.deltaQ0());
+        }
+        appliedLoadChanges.clear();
+        baseTargetVoltages.forEach(GeneratorVoltageControl::setTargetValue);
+        baseTargetVoltages.clear();
+        for (int i = 0; i < contexts.size(); i++) {
+            List<LfBus> buses = contexts.get(i).getNetwork().getBuses();
+            double[] v = new double[buses.size()];
+            double[] angle = new double[buses.size()];
+            for (LfBus bus : buses) {
+                v[bus.getNum()] = bus.getV();
+                angle[bus.getNum()] = bus.getAngle();
+            }
+            baseStates.get(i).restore();
+            for (LfBus bus : buses) {
+                bus.setV(v[bus.getNum()]);
+                bus.setAngle(angle[bus.getNum()]);
+            }
+        }
+    }
+
+    private void applyLoadChange(String loadId, double deltaP0, double deltaQ0) {
+        boolean found = false;
+        for (AcLoadFlowContext context : contexts) {
+            LfLoad lfLoad = context.getNetwork().getLoadById(loadId);
+            if (lfLoad != null) {
+                lfLoad.updateOriginalLoadPower(loadId, deltaP0, deltaQ0);
+                appliedLoadChanges.add(new AppliedLoadChange(lfLoad, loadId, deltaP0, deltaQ0));
+                found = true;
+            }
+        }
+        if (!found) {
+            LOGGER.warn("Cannot update load '{}'", loadId);
+        }
+    }
+
+    private void applyLoadChanges(AcLoadFlowScenario scenario) {
+        Set<String> loadIds = new LinkedHashSet<>(scenario.getLoadsP0().keySet());
+        loadIds.addAll(scenario.getLoadsQ0().keySet());
+        for (String loadId : loadIds) {
+            Load load = network.getLoad(loadId);
+            if (load == null) {
+                LOGGER.warn("Load '{}' not found", loadId);
+                continue;
+            }
+            Double p0 = scenario.getLoadsP0().get(loadId);
+            Double q0 = scenario.getLoadsQ0().get(loadId);
+            applyLoadChange(loadId, p0 != null ? p0 - load.getP0() : 0, q0 != null ? q0 - load.getQ0() : 0);
+        }
+    }
+
+    private LfGenerator getGenerator(String generatorId) {
+        for (AcLoadFlowContext context : contexts) {
+            LfGenerator generator = context.getNetwork().getGeneratorById(generatorId);
+            if (generator != null && !generator.isDisabled()) {
+                return generator;
+            }
+        }
+        LOGGER.warn("Cannot update generator '{}'", generatorId);
+        return null;
+    }
+
+    private void applyGeneratorChanges(AcLoadFlowScenario scenario) {
+        scenario.getGeneratorsTargetP().forEach((generatorId, targetP) -> {
+            LfGenerator generator = getGenerator(generatorId);
+            if (generator != null) {
+                generator.setTargetP(targetP / PerUnit.SB);
+            }
+        });
+        scenario.getGeneratorsTargetV().forEach((generatorId, targetV) -> {
+            LfGenerator generator = getGenerator(generatorId);
+            if (generator != null) {
+                Optional<GeneratorVoltageControl> voltageControl = generator.getBus().getGeneratorVoltageControl();
+                if (voltageControl.isPresent() && generator.getGeneratorControlType() == LfGenerator.GeneratorControlType.VOLTAGE) {
+                    GeneratorVoltageControl vc = voltageControl.get();
+                    baseTargetVoltages.putIfAbsent(vc, vc.getTargetValue());
+                    vc.setTargetValue(targetV / vc.getControlledBus().getNominalV());
+                } else {
+                    LOGGER.warn("Generator '{}' does not control voltage, target voltage is ignored", generatorId);
+                }
+            }
+        });
+    }
+
+    private static AcLoadFlowResult run(AcLoadFlowContext context) {
+        if (!context.getNetwork().isValid()) {
+            return AcLoadFlowResult.createNoCalculationResult(context.getNetwork());
+        }
+        return new AcloadFlowEngine(context)
+                .run();
+    }
+
+    /**
+     * Run a scenario and return one result per component. LF networks of the results are updated by next scenario.
+     */
+    public List<AcLoadFlowResult> run(AcLoadFlowScenario scenario) {
+        Objects.requireNonNull(scenario);
+        LOGGER.debug("Run scenario '{}'", scenario.getId());
+        if (!firstScenario) {
+            restoreBaseCase();
+        }
+        applyLoadChanges(scenario);
+        applyGeneratorChanges(scenario);
+
+        int threadCount = contexts.isEmpty() ? 1 : contexts.get(0).getParameters().getNetworkParameters().getThreadCount();
+        List<AcLoadFlowResult> results = ConcurrencyUtil.map(contexts, threadCount,
+                context -> context.getNetwork().getBuses().size(), AcMultiScenarioLoadFlow::run);
+
+        if (firstScenario) {
+            // warm start from previous scenario solution
+            for (AcLoadFlowContext context : contexts) {
+                context.getParameters().setVoltageInitializer(new PreviousValueVoltageInitializer(true));
+            }
+            firstScenario = false;
+        }
+        return results;
+    }
+
+    /**
+     * Run scenarios in stream order and give results of each scenario to the handler as soon as they are available.
+     */
+    public void run(Stream<AcLoadFlowScenario> scenarios, BiConsumer<AcLoadFlowScenario, List<AcLoadFlowResult>> resultHandler) {
+        Objects.requireNonNull(scenarios);
+        Objects.requireNonNull(resultHandler);
+        scenarios.forEachOrdered(scenario -> resultHandler.accept(scenario, run(scenario)));
+    }
+
+    @Override
+    public void close() {
+        for (AcLoadFlowContext context : contexts) {
+            context.close();
+        }
+    }
+}
@@ -7,13 +7,16 @@
 package com.powsybl.openloadflow;
 
 import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.util.HvdcUtils;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.ac.AcLoadFlowContext;
 import com.powsybl.openloadflow.ac.AcLoadFlowResult;
 import com.powsybl.openloadflow.ac.solver.AcSolverStatus;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.impl.AbstractLfGenerator;
+import com.powsybl.openloadflow.network.impl.LfLegBranch;
 import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
+import com.powsybl.openloadflow.util.PerUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,8 +25,24 @@ import java.util.*;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
+ * Cache of AC load flow contexts, indexed by network, working variant and load flow parameters, so that several
+ * variants of a same network and several sets of parameters can be cached at the same time.
+ * <p>
+ * The cache is bounded by a maximum number of entries and by a memory budget. When one of these limits is exceeded,
+ * least recently used entries are evicted, except the ones currently used by a load flow. Memory used by an entry is
+ * a rough estimation based on the number of buses and branches of the cached networks, so the memory budget is only
+ * approximate: the actual memory used by an entry depends on the equations and terms created for each bus and branch,
+ * which vary with the load flow parameters and the network topology.
+ * <p>
+ * An entry can be evicted by any thread running a load flow, while its network is used by another thread, so the
+ * temporary variant of an evicted entry is not removed at eviction but on next access to the cache for the same
+ * network (or on {@link #clear()}). For the same reason, network events received by an entry are handled under the
+ * cache lock, so that its contexts cannot be closed by an eviction while being updated.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public enum NetworkCache {
@@ -31,8 +50,105 @@ public enum NetworkCache {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkCache.class);
 
+    public static final int DEFAULT_MAX_ENTRY_COUNT = 16;
+
+    public static final long DEFAULT_MAX_MEMORY_SIZE = Long.MAX_VALUE;
+
+    // rough estimation of the memory used by a bus or a branch including its equations, terms and Jacobian elements,
+    // not derived from the actual cached structures
+    private static final long BUS_ESTIMATED_MEMORY_SIZE = 4096;
+    private static final long BRANCH_ESTIMATED_MEMORY_SIZE = 4096;
+
+    /**
+     * Cache statistics: a hit is a request for which an entry with still valid contexts has been found, a miss is a
+     * request for which an entry has to be created or its contexts re-created, an eviction is an entry removed because
+     * of the entry count or memory limits.
+     */
+    public record Statistics(long hitCount, long missCount, long evictionCount) {
+    }
+
+    private static final class EntryKey {
+
+        private final WeakReference<Network> networkRef;
+
+        private final int networkHashCode;
+
+        private final String variantId;
+
+        private final LoadFlowParameters parameters;
+
+        private final int parametersHashCode;
+
+        private EntryKey(Network network, String variantId, LoadFlowParameters parameters) {
+            this.networkRef = new WeakReference<>(network);
+            this.networkHashCode = System.identityHashCode(network);
+            this.variantId = variantId;
+            this.parameters = parameters;
+            this.parametersHashCode = OpenLoadFlowParameters.hashCode(parameters);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EntryKey other)) {
+                return false;
+            }
+            Network network = networkRef.get();
+            return network != null
+                    && network == other.networkRef.get()
+                    && variantId.equals(other.variantId)
+                    && parametersHashCode == other.parametersHashCode
+                    && OpenLoadFlowParameters.equals(parameters, other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(networkHashCode, variantId, parametersHashCode);
+        }
+    }
+
+    private static final class VariantKey {
+
+        private final WeakReference<Network> networkRef;
+
+        private final int networkHashCode;
+
+        private final String variantId;
+
+        private VariantKey(Network network, String variantId) {
+            this.networkRef = new WeakReference<>(network);
+            this.networkHashCode = System.identityHashCode(network);
+            this.variantId = variantId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof VariantKey other)) {
+                return false;
+            }
+            Network network = networkRef.get();
+            return network != null
+                    && network == other.networkRef.get()
+                    && variantId.equals(other.variantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(networkHashCode, variantId);
+        }
+    }
+
     public static class Entry extends DefaultNetworkListener {
 
+        private static final Pattern TAP_POSITION_ATTRIBUTE_PATTERN = Pattern.compile("(ratio|phase)TapChanger([123]?)\\.tapPosition");
+
+        private static final double POWER_EPSILON_SI = 1e-4;
+
         private final WeakReference<Network> networkRef;
 
         private final String workingVariantId;
@@ -44,6 +160,13 @@ public enum NetworkCache {
 
         private boolean pause = false;
 
+        private int useCount = 0;
+
+        private VariantKey variantKey;
+
+        // branches disconnected at only one side, which cannot be updated incrementally
+        private final Set<String> branchIdsConnectedAtOneSide = new HashSet<>();
+
         public Entry(Network network, LoadFlowParameters parameters) {
             Objects.requireNonNull(network);
             this.networkRef = new WeakReference<>(network);
@@ -79,6 +202,18 @@ public enum NetworkCache {
             this.pause = pause;
         }
 
+        public long getEstimatedMemorySize() {
+            if (contexts == null) {
+                return 0;
+            }
+            long size = 0;
+            for (AcLoadFlowContext context : contexts) {
+                LfNetwork network = context.getNetwork();
+                size += network.getBuses().size() * BUS_ESTIMATED_MEMORY_SIZE + network.getBranches().size() * BRANCH_ESTIMATED_MEMORY_SIZE;
+            }
+            return size;
+        }
+
         private void reset() {
             if (contexts != null) {
                 for (AcLoadFlowContext context : contexts) {
@@ -86,11 +221,33 @@ public enum NetworkCache {
                 }
                 contexts = null;
             }
+            branchIdsConnectedAtOneSide.clear();
+        }
+
+        private void checkBranchesConnectedAtOneSide() {
+            if (!branchIdsConnectedAtOneSide.isEmpty()) {
+                LOGGER.info("Network cache invalidated because of branches {} connected at only one side", branchIdsConnectedAtOneSide);
+                reset();
+            }
         }
 
         private void onStructureChange() {
             // too difficult to update LfNetwork incrementally
-            reset();
+            runWithCacheLock(this::reset);
+        }
+
+        /**
+         * Network events are received on the thread modifying the network, while the entry can be evicted, and its
+         * contexts closed, by any other thread using the cache.
+         */
+        private static void runWithCacheLock(Runnable runnable) {
+            Lock lock = INSTANCE.lock;
+            lock.lock();
+            try {
+                runnable.run();
+            } finally {
+                lock.unlock();
+            }
         }
 
         @Override
@@ -117,15 +274,16 @@ public enum NetworkCache {
         private boolean onInjectionUpdate(Injection<?> injection, String attribute, BiPredicate<AcLoadFlowContext, LfBus> handler) {
             boolean found = false;
             for (AcLoadFlowContext context : contexts) {
-                found |= getLfBus(injection, context)
-                        .map(lfBus -> {
-                            boolean done = handler.test(context, lfBus);
-                            if (done) {
-                                context.setNetworkUpdated(true);
-                            }
-                            return done;
-                        })
-                        .orElse(Boolean.FALSE);
+                Optional<LfBus> lfBus = getLfBus(injection, context);
+                if (lfBus.isPresent()) {
+                    // all contexts containing the injection have to be updated
+                    if (!handler.test(context, lfBus.get())) {
+                        found = false;
+                        break;
+                    }
+                    context.setNetworkUpdated(true);
+                    found = true;
+                }
             }
             if (!found) {
                 LOGGER.warn("Cannot update attribute {} of injection '{}'", attribute, injection.getId());
@@ -156,6 +314,49 @@ public enum NetworkCache {
             });
         }
 
+        private boolean onGeneratorActivePowerUpdate(Injection<?> injection, String attribute, double oldTargetP, double newTargetP) {
+            // starting or stopping a generator might change its voltage control status
+            if (Math.abs(oldTargetP) < POWER_EPSILON_SI || Math.abs(newTargetP) < POWER_EPSILON_SI) {
+                return false;
+            }
+            return onInjectionUpdate(injection, attribute, (context, lfBus) -> {
+                LfGenerator generator = context.getNetwork().getGeneratorById(injection.getId());
+                if (generator == null || generator.isDisabled()) {
+                    return false;
+                }
+                LfNetworkParameters networkParameters = context.getParameters().getNetworkParameters();
+                boolean participating = AbstractLfGenerator.checkActivePowerControl(generator.getId(), newTargetP,
+                        generator.getMinP() * PerUnit.SB, generator.getMaxP() * PerUnit.SB,
+                        networkParameters.getPlausibleActivePowerLimit(), networkParameters.isUseActiveLimits(), null);
+                if (participating && !generator.isParticipating()) {
+                    // the generator could have been discarded from slack distribution because of its previous target
+                    return false;
+                }
+                // as for a generator action, the shift is applied to the target that might have been modified by slack distribution
+                generator.setTargetP(generator.getTargetP() + (newTargetP - oldTargetP) / PerUnit.SB);
+                if (!participating) {
+                    generator.setParticipating(false);
+                }
+                return true;
+            });
+        }
+
+        private boolean onLoadUpdate(Load load, String attribute, double oldValue, double newValue) {
+            return onInjectionUpdate(load, attribute, (context, lfBus) -> {
+                LfLoad lfLoad = context.getNetwork().getLoadById(load.getId());
+                if (lfLoad == null) {
+                    return false;
+                }
+                double delta = newValue - oldValue;
+                if (attribute.equals("p0")) {
+                    lfLoad.updateOriginalLoadPower(load.getId(), delta, 0);
+                } else {
+                    lfLoad.updateOriginalLoadPower(load.getId(), 0, delta);
+                }
+                return true;
+            });
+        }
+
         private boolean onShuntUpdate(ShuntCompensator shunt, String attribute) {
             return onInjectionUpdate(shunt, attribute, (context, lfBus) -> {
                 if (attribute.equals("sectionCount")) {
@@ -189,6 +390,120 @@ public enum NetworkCache {
             return found;
         }
 
+        private boolean onTapPositionUpdate(Identifiable<?> transformer, String attribute, int tapPosition) {
+            Matcher matcher = TAP_POSITION_ATTRIBUTE_PATTERN.matcher(attribute);
+            if (!matcher.matches()) {
+                return false;
+            }
+            boolean phase = matcher.group(1).equals("phase");
+            String branchId;
+            TapChanger<?, ?> otherTapChanger;
+            if (transformer instanceof TwoWindingsTransformer twt) {
+                branchId = twt.getId();
+                otherTapChanger = phase ? twt.getRatioTapChanger() : twt.getPhaseTapChanger();
+            } else if (transformer instanceof ThreeWindingsTransformer twt && !matcher.group(2).isEmpty()) {
+                ThreeSides side = ThreeSides.valueOf(Integer.parseInt(matcher.group(2)));
+                ThreeWindingsTransformer.Leg leg = twt.getLeg(side);
+                branchId = LfLegBranch.getId(side, twt.getId());
+                otherTapChanger = phase ? leg.getRatioTapChanger() : leg.getPhaseTapChanger();
+            } else {
+                return false;
+            }
+            // pi model array is built from the taps of one of the tap changers mixed with the current tap of the other
+            // one: we cannot know which one if both are present
+            if (otherTapChanger != null) {
+                return false;
+            }
+            boolean found = false;
+            for (AcLoadFlowContext context : contexts) {
+                LfBranch lfBranch = context.getNetwork().getBranchById(branchId);
+                if (lfBranch != null) {
+                    PiModel piModel = lfBranch.getPiModel();
+                    if (!(piModel instanceof PiModelArray)) {
+                        return false;
+                    }
+                    double r = piModel.getR();
+                    double x = piModel.getX();
+                    double g1 = piModel.getG1();
+                    double b1 = piModel.getB1();
+                    double g2 = piModel.getG2();
+                    double b2 = piModel.getB2();
+                    piModel.setTapPosition(tapPosition);
+                    // flow equation terms keep impedance and admittances of the pi model at creation, as for a tap
+                    // change by an outer loop, only a ratio or phase shift change can be taken into account
+                    if (piModel.getR() != r || piModel.getX() != x
+                            || piModel.getG1() != g1 || piModel.getB1() != b1
+                            || piModel.getG2() != g2 || piModel.getB2() != b2) {
+                        return false;
+                    }
+                    context.setNetworkUpdated(true);
+                    found = true;
+                }
+            }
+            if (!found) {
+                LOGGER.warn("Cannot update attribute {} of transformer '{}'", attribute, transformer.getId());
+            }
+            return found;
+        }
+
+        private boolean onHvdcLineUpdate(HvdcLine hvdcLine) {
+            // LCC converter stations are part of loads
+            if (hvdcLine.getConverterStation1().getHvdcType() != HvdcConverterStation.HvdcType.VSC
+                    || hvdcLine.getConverterStation2().getHvdcType() != HvdcConverterStation.HvdcType.VSC) {
+                return false;
+            }
+            boolean found = false;
+            for (AcLoadFlowContext context : contexts) {
+                for (HvdcConverterStation<?> station : List.of(hvdcLine.getConverterStation1(), hvdcLine.getConverterStation2())) {
+                    LfGenerator lfStation = context.getNetwork().getGeneratorById(station.getId());
+                    if (lfStation != null) {
+                        // in case of AC emulation, only used when the HVDC line is disabled
+                        lfStation.setTargetP(HvdcUtils.getConverterStationTargetP(station) / PerUnit.SB);
+                        context.setNetworkUpdated(true);
+                        found = true;
+                    }
+                }
+            }
+            if (!found) {
+                LOGGER.warn("Cannot update active power set point of HVDC line '{}'", hvdcLine.getId());
+            }
+            return found;
+        }
+
+        private boolean onBranchConnectionUpdate(Branch<?> branch) {
+            boolean connected1 = branch.getTerminal1().isConnected();
+            boolean connected2 = branch.getTerminal2().isConnected();
+            boolean found = false;
+            for (AcLoadFlowContext context : contexts) {
+                LfNetwork lfNetwork = context.getNetwork();
+                LfBranch lfBranch = lfNetwork.getBranchById(branch.getId());
+                if (lfBranch != null) {
+                    // bus view buses are invalidated by a terminal connection change, only bus breaker view ones can be kept
+                    if (!context.getParameters().getNetworkParameters().isBreakers()
+                            || lfBranch.getBus1() == null || lfBranch.getBus2() == null) {
+                        return false;
+                    }
+                    // a branch disconnected at both sides is modeled as a disabled branch, as for a switch opening
+                    if (connected1 == connected2 && lfBranch.isDisabled() == connected1) {
+                        updateSwitch(!connected1, lfNetwork, lfBranch);
+                        context.setNetworkUpdated(true);
+                    }
+                    found = true;
+                }
+            }
+            if (found) {
+                // first terminal disconnection or connection, waiting for the other terminal one
+                if (connected1 == connected2) {
+                    branchIdsConnectedAtOneSide.remove(branch.getId());
+                } else {
+                    branchIdsConnectedAtOneSide.add(branch.getId());
+                }
+            } else {
+                LOGGER.warn("Cannot update connection of branch '{}'", branch.getId());
+            }
+            return found;
+        }
+
         private static void updateSwitch(boolean open, LfNetwork lfNetwork, LfBranch lfBranch) {
             var connectivity = lfNetwork.getConnectivity();
             connectivity.startTemporaryChanges();
@@ -206,9 +521,18 @@ public enum NetworkCache {
 
         @Override
         public void onUpdate(Identifiable identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
-            if (contexts == null || pause) {
+            // variant id is null for attributes that are not variant dependent
+            if (pause || variantId != null && !variantId.equals(workingVariantId)) {
                 return;
             }
+            runWithCacheLock(() -> {
+                if (contexts != null) {
+                    update(identifiable, attribute, oldValue, newValue);
+                }
+            });
+        }
+
+        private void update(Identifiable<?> identifiable, String attribute, Object oldValue, Object newValue) {
             boolean done = false;
             switch (attribute) {
                 case "v",
@@ -219,12 +543,49 @@ public enum NetworkCache {
                      "q1",
                      "p2",
                      "q2" -> done = true; // ignore because it is related to state update and won't affect LF calculation
+                case "connection" -> done = true; // ignore because already notified by a terminal or a switch update
                 default -> {
                     if (identifiable.getType() == IdentifiableType.GENERATOR) {
                         Generator generator = (Generator) identifiable;
                         if (attribute.equals("targetV")
                                 && onGeneratorUpdate(generator, attribute, oldValue, newValue)) {
                             done = true;
+                        } else if (attribute.equals("targetP")
+                                && onGeneratorActivePowerUpdate(generator, attribute, (double) oldValue, (double) newValue)) {
+                            done = true;
+                        }
+                    } else if (identifiable.getType() == IdentifiableType.BATTERY) {
+                        Battery battery = (Battery) identifiable;
+                        if (attribute.equals("targetP")
+                                && onGeneratorActivePowerUpdate(battery, attribute, (double) oldValue, (double) newValue)) {
+                            done = true;
+                        }
+                    } else if (identifiable.getType() == IdentifiableType.LOAD) {
+                        Load load = (Load) identifiable;
+                        if ((attribute.equals("p0") || attribute.equals("q0"))
+                                && onLoadUpdate(load, attribute, (double) oldValue, (double) newValue)) {
+                            done = true;
+                        }
+                    } else if (identifiable.getType() == IdentifiableType.TWO_WINDINGS_TRANSFORMER
+                            || identifiable.getType() == IdentifiableType.THREE_WINDINGS_TRANSFORMER) {
+                        if (attribute.endsWith(".tapPosition")
+                                && onTapPositionUpdate(identifiable, attribute, (int) newValue)) {
+                            done = true;
+                        } else if (attribute.equals("connected")
+                                && identifiable instanceof TwoWindingsTransformer twt
+                                && onBranchConnectionUpdate(twt)) {
+                            done = true;
+                        }
+                    } else if (identifiable.getType() == IdentifiableType.LINE) {
+                        if (attribute.equals("connected")
+                                && onBranchConnectionUpdate((Line) identifiable)) {
+                            done = true;
+                        }
+                    } else if (identifiable.getType() == IdentifiableType.HVDC_LINE) {
+                        HvdcLine hvdcLine = (HvdcLine) identifiable;
+                        if (attribute.equals("activePowerSetpoint")
+                                && onHvdcLineUpdate(hvdcLine)) {
+                            done = true;
                         }
                     } else if (identifiable.getType() == IdentifiableType.SHUNT_COMPENSATOR) {
                         ShuntCompensator shunt = (ShuntCompensator) identifiable;
@@ -265,53 +626,194 @@ public enum NetworkCache {
             onPropertyChange();
         }
 
-        private void onVariantChange() {
-            // we reset
-            // TODO to study later if we can do better
-            reset();
-        }
-
         @Override
         public void onVariantCreated(String sourceVariantId, String targetVariantId) {
-            onVariantChange();
+            // nothing to do, cached variant is not modified
         }
 
         @Override
         public void onVariantOverwritten(String sourceVariantId, String targetVariantId) {
-            onVariantChange();
+            if (targetVariantId.equals(workingVariantId)) {
+                runWithCacheLock(this::reset);
+            }
         }
 
         @Override
         public void onVariantRemoved(String variantId) {
-            onVariantChange();
+            if (variantId.equals(workingVariantId)) {
+                runWithCacheLock(this::reset);
+            } else if (variantId.equals(tmpVariantId)) {
+                tmpVariantId = null;
+            }
         }
 
+        /**
+         * Release the contexts of the entry and stop listening to the network. The temporary variant, if any, is not
+         * removed, see {@link #removeTmpVariant()}.
+         */
         public void close() {
             reset();
             Network network = networkRef.get();
-            if (network != null && tmpVariantId != null) {
+            if (network != null) {
+                network.removeListener(this);
+            }
+        }
+
+        /**
+         * Remove the temporary variant of a closed entry. As removing a variant is not thread safe, this has to be
+         * called from a thread using the network.
+         */
+        private void removeTmpVariant() {
+            Network network = networkRef.get();
+            // the entry does not listen to the network anymore, so the variant might have been removed meanwhile
+            if (network != null && tmpVariantId != null && network.getVariantManager().getVariantIds().contains(tmpVariantId)) {
                 network.getVariantManager().removeVariant(tmpVariantId);
             }
+            tmpVariantId = null;
         }
     }
 
-    private final List<Entry> entries = new ArrayList<>();
+    // in access order, so from the least recently used entry to the most recently used one
+    private final Map<EntryKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // entries of a network variant (one per parameters) from the least recently used to the most recently used one
+    private final Map<VariantKey, List<Entry>> entriesByVariant = new HashMap<>();
+
+    // evicted entries with a temporary variant to remove on next access to their network
+    private final List<Entry> evictedEntries = new ArrayList<>();
 
     private final Lock lock = new ReentrantLock();
 
+    private int maxEntryCount = DEFAULT_MAX_ENTRY_COUNT;
+
+    private long maxMemorySize = DEFAULT_MAX_MEMORY_SIZE;
+
+    private long hitCount = 0;
+
+    private long missCount = 0;
+
+    private long evictionCount = 0;
+
     private void evictDeadEntries() {
-        Iterator<Entry> it = entries.iterator();
+        Iterator<Entry> it = entries.values().iterator();
         while (it.hasNext()) {
             Entry entry = it.next();
             if (entry.getNetworkRef().get() == null) {
                 // release all resources
                 entry.close();
                 it.remove();
+                removeFromVariantIndex(entry);
                 LOGGER.info("Dead network removed from cache ({} remains)", entries.size());
             }
         }
     }
 
+    private void evictLeastRecentlyUsedEntries() {
+        long memorySize = entries.values().stream().mapToLong(Entry::getEstimatedMemorySize).sum();
+        Iterator<Entry> it = entries.values().iterator();
+        while ((entries.size() > maxEntryCount || memorySize > maxMemorySize) && it.hasNext()) {
+            Entry entry = it.next();
+            // an entry used by a running load flow cannot be evicted
+            if (entry.useCount == 0) {
+                memorySize -= entry.getEstimatedMemorySize();
+                // release all resources, except the temporary variant which is removed by next thread using the network
+                entry.close();
+                it.remove();
+                removeFromVariantIndex(entry);
+                if (entry.tmpVariantId != null) {
+                    evictedEntries.add(entry);
+                }
+                evictionCount++;
+                LOGGER.info("Network cache entry of variant '{}' evicted ({} remains)", entry.getWorkingVariantId(), entries.size());
+            }
+        }
+    }
+
+    private void addToVariantIndex(Entry entry) {
+        entriesByVariant.computeIfAbsent(entry.variantKey, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void removeFromVariantIndex(Entry entry) {
+        // key is found by identity even if the network has been garbage collected
+        List<Entry> variantEntries = entriesByVariant.get(entry.variantKey);
+        if (variantEntries != null) {
+            variantEntries.remove(entry);
+            if (variantEntries.isEmpty()) {
+                entriesByVariant.remove(entry.variantKey);
+            }
+        }
+    }
+
+    private void markAsMostRecentlyUsed(Entry entry) {
+        List<Entry> variantEntries = entriesByVariant.get(entry.variantKey);
+        if (variantEntries.get(variantEntries.size() - 1) != entry) {
+            variantEntries.remove(entry);
+            variantEntries.add(entry);
+        }
+    }
+
+    private List<Entry> removeEvictedEntries(Network network) {
+        List<Entry> networkEvictedEntries = new ArrayList<>();
+        Iterator<Entry> it = evictedEntries.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            Network entryNetwork = entry.getNetworkRef().get();
+            if (entryNetwork == null) {
+                it.remove();
+            } else if (entryNetwork == network) {
+                networkEvictedEntries.add(entry);
+                it.remove();
+            }
+        }
+        return networkEvictedEntries;
+    }
+
+    public int getMaxEntryCount() {
+        return maxEntryCount;
+    }
+
+    public void setMaxEntryCount(int maxEntryCount) {
+        if (maxEntryCount < 1) {
+            throw new IllegalArgumentException("Invalid max entry count: " + maxEntryCount);
+        }
+        lock.lock();
+        try {
+            this.maxEntryCount = maxEntryCount;
+            evictLeastRecentlyUsedEntries();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    /**
+     * @param maxMemorySize the memory budget of the cache in bytes.
+     */
+    public void setMaxMemorySize(long maxMemorySize) {
+        if (maxMemorySize < 0) {
+            throw new IllegalArgumentException("Invalid max memory size: " + maxMemorySize);
+        }
+        lock.lock();
+        try {
+            this.maxMemorySize = maxMemorySize;
+            evictLeastRecentlyUsedEntries();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Statistics getStatistics() {
+        lock.lock();
+        try {
+            return new Statistics(hitCount, missCount, evictionCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public int getEntryCount() {
         lock.lock();
         try {
@@ -322,52 +824,76 @@ public enum NetworkCache {
         }
     }
 
+    /**
+     * Find the most recently used entry of the working variant of a network.
+     */
     public Optional<Entry> findEntry(Network network) {
         String variantId = network.getVariantManager().getWorkingVariantId();
-        return entries.stream()
-                .filter(e -> e.getNetworkRef().get() == network && e.getWorkingVariantId().equals(variantId))
-                .findFirst();
+        lock.lock();
+        try {
+            List<Entry> variantEntries = entriesByVariant.get(new VariantKey(network, variantId));
+            return variantEntries != null ? Optional.of(variantEntries.get(variantEntries.size() - 1)) : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
     }
 
+    /**
+     * Get the entry of the working variant of a network and given parameters, or create it. The entry is then marked
+     * as used and cannot be evicted until {@link #release(Entry)} is called.
+     */
     public Entry get(Network network, LoadFlowParameters parameters) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(parameters);
 
+        String variantId = network.getVariantManager().getWorkingVariantId();
         Entry entry;
+        boolean created = false;
+        List<Entry> networkEvictedEntries;
         lock.lock();
         try {
             evictDeadEntries();
+            networkEvictedEntries = removeEvictedEntries(network);
 
-            entry = findEntry(network).orElse(null);
-
-            // invalid cache if parameters have changed
-            // TODO to refine later by comparing in detail parameters that have changed
-            if (entry != null && !OpenLoadFlowParameters.equals(parameters, entry.getParameters())) {
-                // release all resources
-                entry.close();
-                entries.remove(entry);
-                entry = null;
-                LOGGER.info("Network cache evicted because of parameters change");
-            }
-
+            entry = entries.get(new EntryKey(network, variantId, parameters));
             if (entry == null) {
+                missCount++;
+
                 entry = new Entry(network, OpenLoadFlowParameters.clone(parameters));
-                entries.add(entry);
+                entry.variantKey = new VariantKey(network, variantId);
+                entries.put(new EntryKey(network, variantId, entry.getParameters()), entry);
+                addToVariantIndex(entry);
                 network.addListener(entry);
+                entry.useCount++;
+                created = true;
 
-                LOGGER.info("Network cache created for network '{}' and variant '{}'",
-                        network.getId(), network.getVariantManager().getWorkingVariantId());
+                LOGGER.info("Network cache created for network '{}' and variant '{}'", network.getId(), variantId);
 
-                return entry;
+                evictLeastRecentlyUsedEntries();
+            } else {
+                markAsMostRecentlyUsed(entry);
+                entry.checkBranchesConnectedAtOneSide();
+                if (entry.getContexts() != null) {
+                    hitCount++;
+                } else {
+                    missCount++;
+                }
+                entry.useCount++;
             }
         } finally {
             lock.unlock();
         }
 
+        // this thread is using the network, so temporary variants of its evicted entries can be safely removed
+        networkEvictedEntries.forEach(Entry::removeTmpVariant);
+
+        if (created) {
+            return entry;
+        }
+
         // restart from previous state
         if (entry.getContexts() != null) {
-            LOGGER.info("Network cache reused for network '{}' and variant '{}'",
-                    network.getId(), network.getVariantManager().getWorkingVariantId());
+            LOGGER.info("Network cache reused for network '{}' and variant '{}'", network.getId(), variantId);
 
             for (AcLoadFlowContext context : entry.getContexts()) {
                 AcLoadFlowResult result = context.getResult();
@@ -382,13 +908,39 @@ public enum NetworkCache {
         return entry;
     }
 
+    /**
+     * Release an entry previously got with {@link #get(Network, LoadFlowParameters)}. As entry contexts might have been
+     * created since, memory limit is checked again.
+     */
+    public void release(Entry entry) {
+        Objects.requireNonNull(entry);
+        lock.lock();
+        try {
+            entry.useCount--;
+            evictLeastRecentlyUsedEntries();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all entries and their temporary variants. Unlike eviction, temporary variants are removed immediately, so
+     * this must not be called while cached networks are used by other threads.
+     */
     public void clear() {
         lock.lock();
         try {
-            for (var entry : entries) {
+            for (var entry : entries.values()) {
                 entry.close();
+                entry.removeTmpVariant();
             }
             entries.clear();
+            entriesByVariant.clear();
+            evictedEntries.forEach(Entry::removeTmpVariant);
+            evictedEntries.clear();
+            hitCount = 0;
+            missCount = 0;
+            evictionCount = 0;
         } finally {
             lock.unlock();
         }
@@ -225,6 +225,12 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
 
     public static final String NEWTON_KRYLOV_LINE_SEARCH_PARAM_NAME = "newtonKrylovLineSearch";
 
+    public static final String THREAD_COUNT_PARAM_NAME = "threadCount";
+
+    public static final String DISHONEST_NEWTON_RAPHSON_PARAM_NAME = "dishonestNewtonRaphson";
+
+    public static final String DISHONEST_NEWTON_RAPHSON_REFRESH_RATIO_PARAM_NAME = "dishonestNewtonRaphsonRefreshRatio";
+
     private static <E extends Enum<E>> List<Object> getEnumPossibleValues(Class<E> enumClass) {
         return EnumSet.allOf(enumClass).stream().map(Enum::name).collect(Collectors.toList());
     }
@@ -287,7 +293,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         new Parameter(DC_APPROXIMATION_TYPE_PARAM_NAME, ParameterType.STRING, "DC approximation type", DcEquationSystemCreationParameters.DC_APPROXIMATION_TYPE_DEFAULT_VALUE.name(), getEnumPossibleValues(DcApproximationType.class)),
         new Parameter(SIMULATE_AUTOMATION_SYSTEMS_PARAM_NAME, ParameterType.BOOLEAN, "Automation systems simulation", LfNetworkParameters.SIMULATE_AUTOMATION_SYSTEMS_DEFAULT_VALUE),
         new Parameter(MAX_NEWTON_KRYLOV_ITERATIONS_PARAM_NAME, ParameterType.INTEGER, "Newton Krylov max number of iterations", NewtonKrylovParameters.DEFAULT_MAX_ITERATIONS),
-        new Parameter(NEWTON_KRYLOV_LINE_SEARCH_PARAM_NAME, ParameterType.BOOLEAN, "Newton Krylov line search activation", NewtonKrylovParameters.LINE_SEARCH_DEFAULT_VALUE)
+        new Parameter(NEWTON_KRYLOV_LINE_SEARCH_PARAM_NAME, ParameterType.BOOLEAN, "Newton Krylov line search activation", NewtonKrylovParameters.LINE_SEARCH_DEFAULT_VALUE),
+        new Parameter(THREAD_COUNT_PARAM_NAME, ParameterType.INTEGER, "Max number of threads used to create and solve network components concurrently", LfNetworkParameters.THREAD_COUNT_DEFAULT_VALUE),
+        new Parameter(DISHONEST_NEWTON_RAPHSON_PARAM_NAME, ParameterType.BOOLEAN, "Newton-Raphson reuses Jacobian matrix LU decomposition across iterations and runs", NewtonRaphsonParameters.DISHONEST_DEFAULT_VALUE),
+        new Parameter(DISHONEST_NEWTON_RAPHSON_REFRESH_RATIO_PARAM_NAME, ParameterType.DOUBLE, "Dishonest Newton-Raphson refreshes Jacobian matrix when mismatch norm reduction ratio of an iteration is greater than this value", NewtonRaphsonParameters.DEFAULT_DISHONEST_REFRESH_RATIO)
     );
 
     public enum VoltageInitModeOverride {
@@ -447,6 +456,12 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
 
     private boolean newtonKrylovLineSearch = NewtonKrylovParameters.LINE_SEARCH_DEFAULT_VALUE;
 
+    private int threadCount = LfNetworkParameters.THREAD_COUNT_DEFAULT_VALUE;
+
+    private boolean dishonestNewtonRaphson = NewtonRaphsonParameters.DISHONEST_DEFAULT_VALUE;
+
+    private double dishonestNewtonRaphsonRefreshRatio = NewtonRaphsonParameters.DEFAULT_DISHONEST_REFRESH_RATIO;
+
     public static double checkParameterValue(double parameterValue, boolean condition, String parameterName) {
         if (!condition) {
             throw new IllegalArgumentException("Invalid value for parameter " + parameterName + ": " + parameterValue);
@@ -1054,6 +1069,37 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         return this;
     }
 
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public OpenLoadFlowParameters setThreadCount(int threadCount) {
+        this.threadCount = checkParameterValue(threadCount,
+                threadCount >= 1,
+                THREAD_COUNT_PARAM_NAME);
+        return this;
+    }
+
+    public boolean isDishonestNewtonRaphson() {
+        return dishonestNewtonRaphson;
+    }
+
+    public OpenLoadFlowParameters setDishonestNewtonRaphson(boolean dishonestNewtonRaphson) {
+        this.dishonestNewtonRaphson = dishonestNewtonRaphson;
+        return this;
+    }
+
+    public double getDishonestNewtonRaphsonRefreshRatio() {
+        return dishonestNewtonRaphsonRefreshRatio;
+    }
+
+    public OpenLoadFlowParameters setDishonestNewtonRaphsonRefreshRatio(double dishonestNewtonRaphsonRefreshRatio) {
+        this.dishonestNewtonRaphsonRefreshRatio = checkParameterValue(dishonestNewtonRaphsonRefreshRatio,
+                dishonestNewtonRaphsonRefreshRatio > 0,
+                DISHONEST_NEWTON_RAPHSON_REFRESH_RATIO_PARAM_NAME);
+        return this;
+    }
+
     public static OpenLoadFlowParameters load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -1120,7 +1166,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setDcApproximationType(config.getEnumProperty(DC_APPROXIMATION_TYPE_PARAM_NAME, DcApproximationType.class, DcEquationSystemCreationParameters.DC_APPROXIMATION_TYPE_DEFAULT_VALUE))
                 .setSimulateAutomationSystems(config.getBooleanProperty(SIMULATE_AUTOMATION_SYSTEMS_PARAM_NAME, LfNetworkParameters.SIMULATE_AUTOMATION_SYSTEMS_DEFAULT_VALUE))
                 .setMaxNewtonKrylovIterations(config.getIntProperty(MAX_NEWTON_KRYLOV_ITERATIONS_PARAM_NAME, NewtonKrylovParameters.DEFAULT_MAX_ITERATIONS))
-                .setNewtonKrylovLineSearch(config.getBooleanProperty(NEWTON_KRYLOV_LINE_SEARCH_PARAM_NAME, NewtonKrylovParameters.LINE_SEARCH_DEFAULT_VALUE)));
+                .setNewtonKrylovLineSearch(config.getBooleanProperty(NEWTON_KRYLOV_LINE_SEARCH_PARAM_NAME, NewtonKrylovParameters.LINE_SEARCH_DEFAULT_VALUE))
+                .setThreadCount(config.getIntProperty(THREAD_COUNT_PARAM_NAME, LfNetworkParameters.THREAD_COUNT_DEFAULT_VALUE))
+                .setDishonestNewtonRaphson(config.getBooleanProperty(DISHONEST_NEWTON_RAPHSON_PARAM_NAME, NewtonRaphsonParameters.DISHONEST_DEFAULT_VALUE))
+                .setDishonestNewtonRaphsonRefreshRatio(config.getDoubleProperty(DISHONEST_NEWTON_RAPHSON_REFRESH_RATIO_PARAM_NAME, NewtonRaphsonParameters.DEFAULT_DISHONEST_REFRESH_RATIO)));
         return parameters;
     }
 
@@ -1252,11 +1301,17 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .ifPresent(prop -> this.setMaxNewtonKrylovIterations(Integer.parseInt(prop)));
         Optional.ofNullable(properties.get(NEWTON_KRYLOV_LINE_SEARCH_PARAM_NAME))
                 .ifPresent(prop -> this.setNewtonKrylovLineSearch(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(THREAD_COUNT_PARAM_NAME))
+                .ifPresent(prop -> this.setThreadCount(Integer.parseInt(prop)));
+        Optional.ofNullable(properties.get(DISHONEST_NEWTON_RAPHSON_PARAM_NAME))
+                .ifPresent(prop -> this.setDishonestNewtonRaphson(Boolean.parseBoolean(prop)));
+        Optional.ofNullable(properties.get(DISHONEST_NEWTON_RAPHSON_REFRESH_RATIO_PARAM_NAME))
+                .ifPresent(prop -> this.setDishonestNewtonRaphsonRefreshRatio(Double.parseDouble(prop)));
         return this;
     }
 
     public Map<String, Object> toMap() {
-        Map<String, Object> map = new LinkedHashMap<>(58);
+        Map<String, Object> map = new LinkedHashMap<>(61);
         map.put(SLACK_BUS_SELECTION_MODE_PARAM_NAME, slackBusSelectionMode);
         map.put(SLACK_BUSES_IDS_PARAM_NAME, slackBusesIds);
         map.put(SLACK_DISTRIBUTION_FAILURE_BEHAVIOR_PARAM_NAME, slackDistributionFailureBehavior);
@@ -1315,6 +1370,9 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         map.put(SIMULATE_AUTOMATION_SYSTEMS_PARAM_NAME, simulateAutomationSystems);
         map.put(MAX_NEWTON_KRYLOV_ITERATIONS_PARAM_NAME, maxNewtonKrylovIterations);
         map.put(NEWTON_KRYLOV_LINE_SEARCH_PARAM_NAME, newtonKrylovLineSearch);
+        map.put(THREAD_COUNT_PARAM_NAME, threadCount);
+        map.put(DISHONEST_NEWTON_RAPHSON_PARAM_NAME, dishonestNewtonRaphson);
+        map.put(DISHONEST_NEWTON_RAPHSON_REFRESH_RATIO_PARAM_NAME, dishonestNewtonRaphsonRefreshRatio);
         return map;
     }
 
@@ -1438,7 +1496,8 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setMinNominalVoltageTargetVoltageCheck(parametersExt.getMinNominalVoltageTargetVoltageCheck())
                 .setLinePerUnitMode(parametersExt.getLinePerUnitMode())
                 .setUseLoadModel(parametersExt.isUseLoadModel())
-                .setSimulateAutomationSystems(parametersExt.isSimulateAutomationSystems());
+                .setSimulateAutomationSystems(parametersExt.isSimulateAutomationSystems())
+                .setThreadCount(parametersExt.getThreadCount());
     }
 
     public static AcLoadFlowParameters createAcParameters(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
@@ -1500,7 +1559,9 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 .setLineSearchStateVectorScalingStepFold(parametersExt.getLineSearchStateVectorScalingStepFold())
                 .setMaxVoltageChangeStateVectorScalingMaxDv(parametersExt.getMaxVoltageChangeStateVectorScalingMaxDv())
                 .setMaxVoltageChangeStateVectorScalingMaxDphi(parametersExt.getMaxVoltageChangeStateVectorScalingMaxDphi())
-                .setAlwaysUpdateNetwork(parametersExt.isAlwaysUpdateNetwork());
+                .setAlwaysUpdateNetwork(parametersExt.isAlwaysUpdateNetwork())
+                .setDishonest(parametersExt.isDishonestNewtonRaphson())
+                .setDishonestRefreshRatio(parametersExt.getDishonestNewtonRaphsonRefreshRatio());
 
         NewtonKrylovParameters newtonKrylovParameters = new NewtonKrylovParameters()
                 .setLineSearch(parametersExt.isNewtonKrylovLineSearch())
@@ -1511,6 +1572,7 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
         AcSolverFactory solverFactory = switch (parametersExt.getAcSolverType()) {
             case NEWTON_RAPHSON -> new NewtonRaphsonFactory();
             case NEWTOW_KRYLOV -> new NewtonKrylovFactory();
+            case FAST_DECOUPLED -> new FastDecoupledFactory();
         };
 
         return new AcLoadFlowParameters()
@@ -1671,7 +1733,43 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                 extension1.getDcApproximationType() == extension2.getDcApproximationType() &&
                 extension1.isSimulateAutomationSystems() == extension2.isSimulateAutomationSystems() &&
                 extension1.getMaxNewtonKrylovIterations() == extension2.getMaxNewtonKrylovIterations() &&
-                extension1.isNewtonKrylovLineSearch() == extension2.isNewtonKrylovLineSearch();
+                extension1.isNewtonKrylovLineSearch() == extension2.isNewtonKrylovLineSearch() &&
+                extension1.getThreadCount() == extension2.getThreadCount() &&
+                extension1.isDishonestNewtonRaphson() == extension2.isDishonestNewtonRaphson() &&
+                extension1.getDishonestNewtonRaphsonRefreshRatio() == extension2.getDishonestNewtonRaphsonRefreshRatio();
+    }
+
+    /**
+     * Hash code consistent with {@link #equals(LoadFlowParameters, LoadFlowParameters)}, computed on a subset of the
+     * compared parameters.
+     */
+    public static int hashCode(LoadFlowParameters parameters) {
+        Objects.requireNonNull(parameters);
+        int hashCode = Objects.hash(parameters.getVoltageInitMode(),
+                                    parameters.isTransformerVoltageControlOn(),
+                                    parameters.isUseReactiveLimits(),
+                                    parameters.isPhaseShifterRegulationOn(),
+                                    parameters.isShuntCompensatorVoltageControlOn(),
+                                    parameters.isDc(),
+                                    parameters.isDistributedSlack(),
+                                    parameters.getBalanceType(),
+                                    parameters.getCountriesToBalance(),
+                                    parameters.getConnectedComponentMode(),
+                                    parameters.isHvdcAcEmulation());
+        OpenLoadFlowParameters extension = parameters.getExtension(OpenLoadFlowParameters.class);
+        if (extension != null) {
+            hashCode = 31 * hashCode + Objects.hash(extension.getSlackBusSelectionMode(),
+                                                    extension.getSlackBusesIds(),
+                                                    extension.hasVoltageRemoteControl(),
+                                                    extension.getMaxNewtonRaphsonIterations(),
+                                                    extension.getMaxOuterLoopIterations(),
+                                                    extension.getTransformerVoltageControlMode(),
+                                                    extension.getShuntVoltageControlMode(),
+                                                    extension.getActionableSwitchesIds(),
+                                                    extension.isAsymmetrical(),
+                                                    extension.getOuterLoopNames());
+        }
+        return hashCode;
     }
 
     public static LoadFlowParameters clone(LoadFlowParameters parameters) {
@@ -1746,7 +1844,10 @@ public class OpenLoadFlowParameters extends AbstractExtension<LoadFlowParameters
                     .setUseLoadModel(extension.isUseLoadModel())
                     .setDcApproximationType(extension.getDcApproximationType())
                     .setMaxNewtonKrylovIterations(extension.maxNewtonKrylovIterations)
-                    .setNewtonKrylovLineSearch(extension.isNewtonKrylovLineSearch());
+                    .setNewtonKrylovLineSearch(extension.isNewtonKrylovLineSearch())
+                    .setThreadCount(extension.getThreadCount())
+                    .setDishonestNewtonRaphson(extension.isDishonestNewtonRaphson())
+                    .setDishonestNewtonRaphsonRefreshRatio(extension.getDishonestNewtonRaphsonRefreshRatio());
             if (extension2 != null) {
                 parameters2.addExtension(OpenLoadFlowParameters.class, extension2);
             }
@@ -59,8 +59,12 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
 
     private final GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory;
 
+    private final GraphConnectivityFactory<LfBus, LfBranch> incrementalConnectivityFactory;
+
     private boolean forcePhaseControlOffAndAddAngle1Var = false; // just for unit testing
 
+    private final MetricsListener metricsListener;
+
     public OpenLoadFlowProvider() {
         this(new SparseMatrixFactory());
     }
@@ -70,8 +74,27 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
     }
 
     public OpenLoadFlowProvider(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory) {
+        this(matrixFactory, connectivityFactory, MetricsListener.NO_OP);
+    }
+
+    public OpenLoadFlowProvider(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory,
+                                MetricsListener metricsListener) {
+        this(matrixFactory, connectivityFactory, new NaiveGraphConnectivityFactory<>(LfBus::getNum), metricsListener);
+    }
+
+    /**
+     * @param incrementalConnectivityFactory the connectivity factory used when an incremental connectivity is needed
+     *                                       (network cache with actionable switches or automation systems simulation),
+     *                                       {@link NaiveGraphConnectivityFactory} in the other constructors. A faster
+     *                                       implementation like {@link com.powsybl.openloadflow.graph.IntGraphConnectivityFactory}
+     *                                       can be given here.
+     */
+    public OpenLoadFlowProvider(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory,
+                                GraphConnectivityFactory<LfBus, LfBranch> incrementalConnectivityFactory, MetricsListener metricsListener) {
         this.matrixFactory = Objects.requireNonNull(matrixFactory);
         this.connectivityFactory = Objects.requireNonNull(connectivityFactory);
+        this.incrementalConnectivityFactory = Objects.requireNonNull(incrementalConnectivityFactory);
+        this.metricsListener = Objects.requireNonNull(metricsListener);
     }
 
     public void setForcePhaseControlOffAndAddAngle1Var(boolean forcePhaseControlOffAndAddAngle1Var) {
@@ -91,14 +114,14 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
     private GraphConnectivityFactory<LfBus, LfBranch> getConnectivityFactory(OpenLoadFlowParameters parametersExt) {
         return parametersExt.isNetworkCacheEnabled() && !parametersExt.getActionableSwitchesIds().isEmpty()
                 || parametersExt.isSimulateAutomationSystems()
-                ? new NaiveGraphConnectivityFactory<>(LfBus::getNum)
+                ? incrementalConnectivityFactory
                 : connectivityFactory;
     }
 
-    private void updateAcState(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
-                               AcLoadFlowResult result, AcLoadFlowParameters acParameters, boolean atLeastOneComponentHasToBeUpdated) {
-        if (parametersExt.isNetworkCacheEnabled()) {
-            NetworkCache.INSTANCE.findEntry(network).orElseThrow().setPause(true);
+    private void updateAcState(LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt, AcLoadFlowResult result,
+                               AcLoadFlowParameters acParameters, NetworkCache.Entry cacheEntry, boolean atLeastOneComponentHasToBeUpdated) {
+        if (cacheEntry != null) {
+            cacheEntry.setPause(true);
         }
         try {
             // update network state
@@ -117,8 +140,8 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
                 computeZeroImpedanceFlows(result.getNetwork(), LoadFlowModel.AC);
             }
         } finally {
-            if (parametersExt.isNetworkCacheEnabled()) {
-                NetworkCache.INSTANCE.findEntry(network).orElseThrow().setPause(false);
+            if (cacheEntry != null) {
+                cacheEntry.setPause(false);
             }
         }
     }
@@ -126,22 +149,33 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
     private LoadFlowResult runAc(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt, Reporter reporter) {
         GraphConnectivityFactory<LfBus, LfBranch> selectedConnectivityFactory = getConnectivityFactory(parametersExt);
         AcLoadFlowParameters acParameters = OpenLoadFlowParameters.createAcParameters(network, parameters, parametersExt, matrixFactory, selectedConnectivityFactory);
-        acParameters.setDetailedReport(parametersExt.getReportedFeatures().contains(OpenLoadFlowParameters.ReportedFeatures.NEWTON_RAPHSON_LOAD_FLOW));
+        acParameters.setDetailedReport(parametersExt.getReportedFeatures().contains(OpenLoadFlowParameters.ReportedFeatures.NEWTON_RAPHSON_LOAD_FLOW))
+                .setMetricsListener(metricsListener);
 
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("Outer loops: {}", acParameters.getOuterLoops().stream().map(OuterLoop::getName).toList());
         }
 
-        List<AcLoadFlowResult> results;
         if (parametersExt.isNetworkCacheEnabled()) {
-            results = new AcLoadFlowFromCache(network, parameters, parametersExt, acParameters, reporter)
-                    .run();
+            NetworkCache.Entry cacheEntry = NetworkCache.INSTANCE.get(network, parameters);
+            try {
+                List<AcLoadFlowResult> results = new AcLoadFlowFromCache(network, parametersExt, acParameters, cacheEntry, reporter)
+                        .run();
+                return createAcLoadFlowResult(network, parameters, parametersExt, acParameters, cacheEntry, results);
+            } finally {
+                NetworkCache.INSTANCE.release(cacheEntry);
+            }
         } else {
+            List<AcLoadFlowResult> results;
             try (LfNetworkList lfNetworkList = Networks.load(network, acParameters.getNetworkParameters(), new LfTopoConfig(), reporter)) {
                 results = AcloadFlowEngine.run(lfNetworkList.getList(), acParameters);
             }
+            return createAcLoadFlowResult(network, parameters, parametersExt, acParameters, null, results);
         }
+    }
 
+    private LoadFlowResult createAcLoadFlowResult(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt,
+                                                  AcLoadFlowParameters acParameters, NetworkCache.Entry cacheEntry, List<AcLoadFlowResult> results) {
         // we reset the state if at least one component needs a network update.
         boolean atLeastOneComponentHasToBeUpdated = results.stream().anyMatch(AcLoadFlowResult::isWithNetworkUpdate);
         if (atLeastOneComponentHasToBeUpdated || parametersExt.isAlwaysUpdateNetwork()) {
@@ -155,7 +189,7 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
 
         List<LoadFlowResult.ComponentResult> componentResults = new ArrayList<>(results.size());
         for (AcLoadFlowResult result : results) {
-            updateAcState(network, parameters, parametersExt, result, acParameters, atLeastOneComponentHasToBeUpdated);
+            updateAcState(parameters, parametersExt, result, acParameters, cacheEntry, atLeastOneComponentHasToBeUpdated);
 
             ReferenceBusAndSlackBusesResults referenceBusAndSlackBusesResults = buildReferenceBusAndSlackBusesResults(result);
             componentResults.add(new LoadFlowResultImpl.ComponentResultImpl(result.getNetwork().getNumCC(),
@@ -199,7 +233,8 @@ public class OpenLoadFlowProvider implements LoadFlowProvider {
 
     private LoadFlowResult runDc(Network network, LoadFlowParameters parameters, OpenLoadFlowParameters parametersExt, Reporter reporter) {
 
-        var dcParameters = OpenLoadFlowParameters.createDcParameters(network, parameters, parametersExt, matrixFactory, connectivityFactory, forcePhaseControlOffAndAddAngle1Var);
+        var dcParameters = OpenLoadFlowParameters.createDcParameters(network, parameters, parametersExt, matrixFactory, connectivityFactory, forcePhaseControlOffAndAddAngle1Var)
+                .setMetricsListener(metricsListener);
         dcParameters.getNetworkParameters()
                 .setCacheEnabled(false); // force not caching as not supported in DC LF
 
@@ -15,6 +15,7 @@ import com.powsybl.openloadflow.network.AbstractLfNetworkListener;
 import com.powsybl.openloadflow.network.LfLoad;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.LfNetworkListener;
+import com.powsybl.openloadflow.util.MetricsListener;
 
 import java.util.Objects;
 
@@ -44,7 +45,12 @@ public class AcJacobianMatrix extends JacobianMatrix<AcVariableType, AcEquationT
 
     public AcJacobianMatrix(EquationSystem<AcVariableType, AcEquationType> equationSystem, MatrixFactory matrixFactory,
                             LfNetwork network) {
-        super(equationSystem, matrixFactory);
+        this(equationSystem, matrixFactory, network, MetricsListener.NO_OP);
+    }
+
+    public AcJacobianMatrix(EquationSystem<AcVariableType, AcEquationType> equationSystem, MatrixFactory matrixFactory,
+                            LfNetwork network, MetricsListener metricsListener) {
+        super(equationSystem, matrixFactory, metricsListener);
         this.network = Objects.requireNonNull(network);
         network.addListener(networkListener);
     }
@@ -10,6 +10,7 @@ import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.ac.equations.AcEquationSystemCreationParameters;
 import com.powsybl.openloadflow.ac.outerloop.AcOuterLoop;
 import com.powsybl.openloadflow.ac.solver.AcSolverFactory;
+import com.powsybl.openloadflow.ac.solver.FastDecoupledParameters;
 import com.powsybl.openloadflow.ac.solver.NewtonKrylovParameters;
 import com.powsybl.openloadflow.ac.solver.NewtonRaphsonFactory;
 import com.powsybl.openloadflow.ac.solver.NewtonRaphsonParameters;
@@ -18,6 +19,7 @@ import com.powsybl.openloadflow.network.LfNetworkParameters;
 import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
 import com.powsybl.openloadflow.network.util.VoltageInitializer;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -33,6 +35,8 @@ public class AcLoadFlowParameters extends AbstractLoadFlowParameters<AcLoadFlowP
 
     private NewtonKrylovParameters newtonKrylovParameters = new NewtonKrylovParameters();
 
+    private FastDecoupledParameters fastDecoupledParameters = new FastDecoupledParameters();
+
     private List<AcOuterLoop> outerLoops = Collections.emptyList();
 
     private int maxOuterLoopIterations = DEFAULT_MAX_OUTER_LOOP_ITERATIONS;
@@ -47,6 +51,8 @@ public class AcLoadFlowParameters extends AbstractLoadFlowParameters<AcLoadFlowP
 
     private boolean detailedReport = false;
 
+    private Instant deadline = Instant.MAX;
+
     public AcEquationSystemCreationParameters getEquationSystemCreationParameters() {
         return equationSystemCreationParameters;
     }
@@ -74,6 +80,15 @@ public class AcLoadFlowParameters extends AbstractLoadFlowParameters<AcLoadFlowP
         return this;
     }
 
+    public FastDecoupledParameters getFastDecoupledParameters() {
+        return fastDecoupledParameters;
+    }
+
+    public AcLoadFlowParameters setFastDecoupledParameters(FastDecoupledParameters fastDecoupledParameters) {
+        this.fastDecoupledParameters = Objects.requireNonNull(fastDecoupledParameters);
+        return this;
+    }
+
     public List<AcOuterLoop> getOuterLoops() {
         return outerLoops;
     }
@@ -137,6 +152,19 @@ public class AcLoadFlowParameters extends AbstractLoadFlowParameters<AcLoadFlowP
         return this;
     }
 
+    public Instant getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Instant after which solver iterations and outer loops are not run anymore, the load flow then ending with a
+     * {@link com.powsybl.openloadflow.ac.solver.AcSolverStatus#TIMEOUT} solver status. No deadline by default.
+     */
+    public AcLoadFlowParameters setDeadline(Instant deadline) {
+        this.deadline = Objects.requireNonNull(deadline);
+        return this;
+    }
+
     @Override
     public String toString() {
         return "AcLoadFlowParameters(" +
@@ -144,6 +172,7 @@ public class AcLoadFlowParameters extends AbstractLoadFlowParameters<AcLoadFlowP
                 ", equationSystemCreationParameters=" + equationSystemCreationParameters +
                 ", newtonRaphsonParameters=" + newtonRaphsonParameters +
                 ", newtonKrylovParameters=" + newtonKrylovParameters +
+                ", fastDecoupledParameters=" + fastDecoupledParameters +
                 ", outerLoops=" + outerLoops.stream().map(outerLoop -> outerLoop.getClass().getSimpleName()).toList() +
                 ", maxOuterLoopIterations=" + maxOuterLoopIterations +
                 ", matrixFactory=" + matrixFactory.getClass().getSimpleName() +
@@ -6,6 +6,7 @@
  */
 package com.powsybl.openloadflow.ac;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.commons.reporter.TypedValue;
@@ -20,13 +21,16 @@ import com.powsybl.openloadflow.lf.outerloop.OuterLoopStatus;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
 import com.powsybl.openloadflow.network.util.VoltageInitializer;
+import com.powsybl.openloadflow.util.ConcurrencyUtil;
 import com.powsybl.openloadflow.util.Reports;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -78,10 +82,21 @@ public class AcloadFlowEngine implements LoadFlowEngine<AcVariableType, AcEquati
             outerLoopContext.setIteration(outerLoopIteration.getValue());
             outerLoopContext.setLastSolverResult(runningContext.lastSolverResult);
             outerLoopContext.setLoadFlowContext(context);
+            Stopwatch stopwatch = Stopwatch.createStarted();
             outerLoopStatus = outerLoop.check(outerLoopContext, olReporter);
+            context.getParameters().getMetricsListener().onOuterLoopCheck(outerLoop.getName(), outerLoopIteration.getValue(), outerLoopStatus,
+                                                                          stopwatch.elapsed(TimeUnit.NANOSECONDS));
             runningContext.lastOuterLoopStatus = outerLoopStatus;
 
             if (outerLoopStatus == OuterLoopStatus.UNSTABLE) {
+                // do not restart solver after the deadline, outer loops then stop as solver has not converged
+                if (!Instant.now().isBefore(context.getParameters().getDeadline())) {
+                    LOGGER.warn("Deadline reached, outer loop '{}' stopped at iteration {}", outerLoop.getName(), runningContext.outerLoopTotalIterations);
+                    runningContext.lastSolverResult = new AcSolverResult(AcSolverStatus.TIMEOUT, 0,
+                                                                         runningContext.lastSolverResult.getSlackBusActivePowerMismatch());
+                    break;
+                }
+
                 LOGGER.debug("Start outer loop '{}' iteration {}", outerLoop.getName(), runningContext.outerLoopTotalIterations);
 
                 Reporter nrReporter = context.getNetwork().getReporter();
@@ -214,17 +229,19 @@ public class AcloadFlowEngine implements LoadFlowEngine<AcVariableType, AcEquati
         return result;
     }
 
+    /**
+     * Run a load flow on each network. Networks are independent, so when more than one thread is allowed by network
+     * parameters they are solved concurrently. Results are in network order.
+     */
     public static List<AcLoadFlowResult> run(List<LfNetwork> lfNetworks, AcLoadFlowParameters parameters) {
-        return lfNetworks.stream()
-                .map(n -> {
-                    if (n.isValid()) {
-                        try (AcLoadFlowContext context = new AcLoadFlowContext(n, parameters)) {
-                            return new AcloadFlowEngine(context, parameters.getSolverFactory())
-                                    .run();
-                        }
-                    }
-                    return AcLoadFlowResult.createNoCalculationResult(n);
-                })
-                .toList();
+        return ConcurrencyUtil.map(lfNetworks, parameters.getNetworkParameters().getThreadCount(), n -> n.getBuses().size(), n -> {
+            if (n.isValid()) {
+                try (AcLoadFlowContext context = new AcLoadFlowContext(n, parameters)) {
+                    return new AcloadFlowEngine(context, parameters.getSolverFactory())
+                            .run();
+                }
+            }
+            return AcLoadFlowResult.createNoCalculationResult(n);
+        });
     }
 }
@@ -14,5 +14,6 @@ public enum AcSolverStatus {
     MAX_ITERATION_REACHED,
     SOLVER_FAILED,
     NO_CALCULATION,
-    UNREALISTIC_STATE
+    UNREALISTIC_STATE,
+    TIMEOUT
 }
@@ -11,5 +11,6 @@ package com.powsybl.openloadflow.ac.solver;
  */
 public enum AcSolverType {
     NEWTON_RAPHSON,
-    NEWTOW_KRYLOV
+    NEWTOW_KRYLOV,
+    FAST_DECOUPLED
 }
@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.ac.solver;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.Matrix;
+import com.powsybl.math.matrix.MatrixException;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.ac.equations.AcEquationType;
+import com.powsybl.openloadflow.ac.equations.AcVariableType;
+import com.powsybl.openloadflow.equations.*;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.util.VoltageInitializer;
+import gnu.trove.list.array.TIntArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Fast decoupled load flow: active power and angle equations on one side and reactive power and voltage magnitude
+ * equations on the other side are solved by alternate half steps, each with a constant matrix factorized once per run,
+ * so that no factorization is needed at each iteration.
+ * <p>
+ * Constant matrices B' and B'' are the active/angle and reactive/magnitude diagonal blocks of the Jacobian matrix
+ * evaluated with the initial state, using derivatives of the equation system terms, so that all equations of the
+ * system (controls, zero impedance branches, distributed slack) are supported. With a uniform voltage initialization
+ * this is the BB variant of the fast decoupled method, with a warm start the blocks are even closer to the Jacobian
+ * at the solution.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class FastDecoupled extends AbstractAcSolver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FastDecoupled.class);
+
+    private static final Set<AcEquationType> ACTIVE_EQUATION_TYPES = EnumSet.of(AcEquationType.BUS_TARGET_P,
+                                                                                AcEquationType.BUS_TARGET_PHI,
+                                                                                AcEquationType.BRANCH_TARGET_P,
+                                                                                AcEquationType.BRANCH_TARGET_ALPHA1,
+                                                                                AcEquationType.ZERO_PHI,
+                                                                                AcEquationType.DUMMY_TARGET_P,
+                                                                                AcEquationType.BUS_DISTR_SLACK_P);
+
+    private static final Set<AcEquationType> REACTIVE_EQUATION_TYPES = EnumSet.of(AcEquationType.BUS_TARGET_Q,
+                                                                                  AcEquationType.BUS_TARGET_V,
+                                                                                  AcEquationType.SHUNT_TARGET_B,
+                                                                                  AcEquationType.BRANCH_TARGET_Q,
+                                                                                  AcEquationType.BRANCH_TARGET_RHO1,
+                                                                                  AcEquationType.DISTR_Q,
+                                                                                  AcEquationType.ZERO_V,
+                                                                                  AcEquationType.DISTR_RHO,
+                                                                                  AcEquationType.DISTR_SHUNT_B,
+                                                                                  AcEquationType.DUMMY_TARGET_Q);
+
+    private static final Set<AcVariableType> ACTIVE_VARIABLE_TYPES = EnumSet.of(AcVariableType.BUS_PHI,
+                                                                                AcVariableType.BRANCH_ALPHA1,
+                                                                                AcVariableType.DUMMY_P);
+
+    private static final Set<AcVariableType> REACTIVE_VARIABLE_TYPES = EnumSet.of(AcVariableType.BUS_V,
+                                                                                  AcVariableType.SHUNT_B,
+                                                                                  AcVariableType.BRANCH_RHO1,
+                                                                                  AcVariableType.DUMMY_Q);
+
+    private final FastDecoupledParameters parameters;
+
+    private final NewtonRaphsonStoppingCriteria stoppingCriteria;
+
+    private final MatrixFactory matrixFactory;
+
+    private final Instant deadline;
+
+    public FastDecoupled(LfNetwork network, FastDecoupledParameters parameters, NewtonRaphsonStoppingCriteria stoppingCriteria,
+                         MatrixFactory matrixFactory, EquationSystem<AcVariableType, AcEquationType> equationSystem,
+                         JacobianMatrix<AcVariableType, AcEquationType> j, TargetVector<AcVariableType, AcEquationType> targetVector,
+                         EquationVector<AcVariableType, AcEquationType> equationVector) {
+        this(network, parameters, stoppingCriteria, matrixFactory, equationSystem, j, targetVector, equationVector, Instant.MAX);
+    }
+
+    /**
+     * @param deadline instant after which no iteration is started anymore, the run then ending with a
+     *                 {@link AcSolverStatus#TIMEOUT} status
+     */
+    public FastDecoupled(LfNetwork network, FastDecoupledParameters parameters, NewtonRaphsonStoppingCriteria stoppingCriteria,
+                         MatrixFactory matrixFactory, EquationSystem<AcVariableType, AcEquationType> equationSystem,
+                         JacobianMatrix<AcVariableType, AcEquationType> j, TargetVector<AcVariableType, AcEquationType> targetVector,
+                         EquationVector<AcVariableType, AcEquationType> equationVector, Instant deadline) {
+        super(network, equationSystem, j, targetVector, equationVector, false);
+        this.parameters = Objects.requireNonNull(parameters);
+        this.stoppingCriteria = Objects.requireNonNull(stoppingCriteria);
+        this.matrixFactory = Objects.requireNonNull(matrixFactory);
+        this.deadline = Objects.requireNonNull(deadline);
+    }
+
+    @Override
+    public String getName() {
+        return "Fast Decoupled";
+    }
+
+    /**
+     * One half of the decoupled system: a subset of equations (matrix columns) and variables (matrix rows) with the LU
+     * decomposition of the corresponding constant matrix.
+     */
+    private static final class HalfStep implements AutoCloseable {
+
+        private final int[] columns;
+
+        // for bus power equations, row of the bus voltage magnitude to scale the mismatch, -1 otherwise
+        private final int[] voltageRows;
+
+        private final int[] rows;
+
+        private final LUDecomposition lu;
+
+        private HalfStep(int[] columns, int[] voltageRows, int[] rows, LUDecomposition lu) {
+            this.columns = columns;
+            this.voltageRows = voltageRows;
+            this.rows = rows;
+            this.lu = lu;
+        }
+
+        /**
+         * Compute the state vector correction from equation mismatches, only for this half step variables. As in the
+         * classical method, bus power mismatches are divided by the bus voltage magnitude.
+         */
+        private void solve(double[] mismatches, double[] x, double[] dx) {
+            double[] b = new double[columns.length];
+            for (int k = 0; k < columns.length; k++) {
+                b[k] = mismatches[columns[k]];
+                if (voltageRows[k] != -1) {
+                    b[k] /= x[voltageRows[k]];
+                }
+            }
+            lu.solveTransposed(b);
+            Arrays.fill(dx, 0);
+            for (int k = 0; k < rows.length; k++) {
+                dx[rows[k]] = b[k];
+            }
+        }
+
+        @Override
+        public void close() {
+            lu.close();
+        }
+    }
+
+    private HalfStep createHalfStep(Set<AcEquationType> equationTypes, Set<AcVariableType> variableTypes) {
+        List<Variable<AcVariableType>> variables = equationSystem.getIndex().getSortedVariablesToFind();
+        int[] subRows = new int[variables.size()];
+        Arrays.fill(subRows, -1);
+        TIntArrayList rows = new TIntArrayList();
+        for (Variable<AcVariableType> variable : variables) {
+            if (variableTypes.contains(variable.getType())) {
+                subRows[variable.getRow()] = rows.size();
+                rows.add(variable.getRow());
+            }
+        }
+        // equations are ordered by column, so sub matrix is filled column by column
+        List<Equation<AcVariableType, AcEquationType>> equations = equationSystem.getIndex().getSortedEquationsToSolve().stream()
+                .filter(equation -> equationTypes.contains(equation.getType()))
+                .toList();
+        if (equations.size() != rows.size()) {
+            throw new IllegalStateException("Decoupled system is not square: " + equations.size()
+                    + " equations and " + rows.size() + " variables");
+        }
+        int[] columns = new int[equations.size()];
+        int[] voltageRows = new int[equations.size()];
+        double[] x = equationSystem.getStateVector().get();
+        Matrix matrix = matrixFactory.create(rows.size(), equations.size(), equations.size() * 4);
+        for (int k = 0; k < equations.size(); k++) {
+            Equation<AcVariableType, AcEquationType> equation = equations.get(k);
+            columns[k] = equation.getColumn();
+            voltageRows[k] = getVoltageRow(equation);
+            double scale = voltageRows[k] != -1 ? x[voltageRows[k]] : 1;
+            int subColumn = k;
+            equation.der((variable, value, matrixElementIndex) -> {
+                int subRow = subRows[variable.getRow()];
+                if (subRow != -1) {
+                    matrix.add(subRow, subColumn, value / scale);
+                }
+                return matrixElementIndex; // don't change Jacobian matrix element index
+            });
+        }
+        return new HalfStep(columns, voltageRows, rows.toArray(), matrix.decomposeLU());
+    }
+
+    private int getVoltageRow(Equation<AcVariableType, AcEquationType> equation) {
+        if (equation.getType() == AcEquationType.BUS_TARGET_P || equation.getType() == AcEquationType.BUS_TARGET_Q) {
+            Variable<AcVariableType> v = equationSystem.getVariableSet().getVariable(equation.getElementNum(), AcVariableType.BUS_V);
+            return v.getRow();
+        }
+        return -1;
+    }
+
+    private void checkEquationSystem() {
+        for (Equation<AcVariableType, AcEquationType> equation : equationSystem.getIndex().getSortedEquationsToSolve()) {
+            if (!ACTIVE_EQUATION_TYPES.contains(equation.getType()) && !REACTIVE_EQUATION_TYPES.contains(equation.getType())) {
+                throw new IllegalStateException("Equation type not supported: " + equation.getType());
+            }
+        }
+    }
+
+    private void runHalfStep(HalfStep halfStep, double[] dx) {
+        halfStep.solve(equationVector.getArray(), equationSystem.getStateVector().get(), dx);
+
+        // update x and f(x) will be automatically updated
+        equationSystem.getStateVector().minus(dx);
+
+        // substract targets from f(x)
+        equationVector.minus(targetVector);
+    }
+
+    @Override
+    public AcSolverResult run(VoltageInitializer voltageInitializer, Reporter reporter) {
+        // initialize state vector
+        AcSolverUtil.initStateVector(network, equationSystem, voltageInitializer);
+
+        equationVector.minus(targetVector);
+
+        NewtonRaphsonStoppingCriteria.TestResult testResult = stoppingCriteria.test(equationVector.getArray(), equationSystem);
+        LOGGER.debug("|f(x0)|={}", testResult.getNorm());
+
+        AcSolverStatus status;
+        int iterations = 0;
+        HalfStep activeHalfStep = null;
+        HalfStep reactiveHalfStep = null;
+        try {
+            checkEquationSystem();
+            activeHalfStep = createHalfStep(ACTIVE_EQUATION_TYPES, ACTIVE_VARIABLE_TYPES);
+            reactiveHalfStep = createHalfStep(REACTIVE_EQUATION_TYPES, REACTIVE_VARIABLE_TYPES);
+
+            double[] dx = new double[equationSystem.getStateVector().get().length];
+            boolean timeout = false;
+            while (!testResult.isStop() && iterations < parameters.getMaxIterations()) {
+                if (!Instant.now().isBefore(deadline)) {
+                    timeout = true;
+                    break;
+                }
+                runHalfStep(activeHalfStep, dx);
+                runHalfStep(reactiveHalfStep, dx);
+                testResult = stoppingCriteria.test(equationVector.getArray(), equationSystem);
+                iterations++;
+                LOGGER.debug("|f(x)|={}", testResult.getNorm());
+            }
+            if (testResult.isStop()) {
+                status = AcSolverStatus.CONVERGED;
+            } else {
+                status = timeout ? AcSolverStatus.TIMEOUT : AcSolverStatus.MAX_ITERATION_REACHED;
+            }
+        } catch (IllegalStateException | MatrixException e) {
+            LOGGER.error(e.toString(), e);
+            status = AcSolverStatus.SOLVER_FAILED;
+        } finally {
+            if (activeHalfStep != null) {
+                activeHalfStep.close();
+            }
+            if (reactiveHalfStep != null) {
+                reactiveHalfStep.close();
+            }
+        }
+
+        if (status == AcSolverStatus.CONVERGED) {
+            AcSolverUtil.updateNetwork(network, equationSystem);
+        }
+
+        double slackBusActivePowerMismatch = network.getSlackBuses().stream().mapToDouble(LfBus::getMismatchP).sum();
+        return new AcSolverResult(status, iterations, slackBusActivePowerMismatch);
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.ac.solver;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public class FastDecoupledParameters extends AbstractNewtonParameters<FastDecoupledParameters> {
+
+    public static final int DEFAULT_MAX_ITERATIONS = 50;
+
+    public FastDecoupledParameters() {
+        super(DEFAULT_MAX_ITERATIONS);
+    }
+
+    @Override
+    public String toString() {
+        return "FastDecoupledParameters(" +
+                "maxIterations=" + maxIterations +
+                ')';
+    }
+}
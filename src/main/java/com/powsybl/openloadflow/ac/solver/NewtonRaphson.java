@@ -6,6 +6,7 @@
  */
 package com.powsybl.openloadflow.ac.solver;
 
+import com.google.common.base.Stopwatch;
 import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.math.matrix.MatrixException;
 import com.powsybl.openloadflow.ac.equations.AcEquationType;
@@ -15,18 +16,25 @@ import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfElement;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.util.VoltageInitializer;
+import com.powsybl.openloadflow.util.MetricsListener;
 import com.powsybl.openloadflow.util.Reports;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
+ * Newton-Raphson solver. In dishonest mode (see {@link NewtonRaphsonParameters#setDishonest(boolean)}), Jacobian matrix
+ * values are frozen during the run so that the LU decomposition of a previous iteration, or of a previous run on the
+ * same Jacobian matrix, is reused until the mismatch norm reduction degrades past the refresh ratio.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class NewtonRaphson extends AbstractAcSolver {
@@ -37,14 +45,42 @@ public class NewtonRaphson extends AbstractAcSolver {
 
     protected final NewtonRaphsonParameters parameters;
 
+    protected final MetricsListener metricsListener;
+
+    protected final Instant deadline;
+
     public NewtonRaphson(LfNetwork network, NewtonRaphsonParameters parameters,
                          EquationSystem<AcVariableType, AcEquationType> equationSystem,
                          JacobianMatrix<AcVariableType, AcEquationType> j,
                          TargetVector<AcVariableType, AcEquationType> targetVector,
                          EquationVector<AcVariableType, AcEquationType> equationVector,
                          boolean detailedReport) {
+        this(network, parameters, equationSystem, j, targetVector, equationVector, detailedReport, MetricsListener.NO_OP);
+    }
+
+    public NewtonRaphson(LfNetwork network, NewtonRaphsonParameters parameters,
+                         EquationSystem<AcVariableType, AcEquationType> equationSystem,
+                         JacobianMatrix<AcVariableType, AcEquationType> j,
+                         TargetVector<AcVariableType, AcEquationType> targetVector,
+                         EquationVector<AcVariableType, AcEquationType> equationVector,
+                         boolean detailedReport, MetricsListener metricsListener) {
+        this(network, parameters, equationSystem, j, targetVector, equationVector, detailedReport, metricsListener, Instant.MAX);
+    }
+
+    /**
+     * @param deadline instant after which no iteration is started anymore, the run then ending with a
+     *                 {@link AcSolverStatus#TIMEOUT} status
+     */
+    public NewtonRaphson(LfNetwork network, NewtonRaphsonParameters parameters,
+                         EquationSystem<AcVariableType, AcEquationType> equationSystem,
+                         JacobianMatrix<AcVariableType, AcEquationType> j,
+                         TargetVector<AcVariableType, AcEquationType> targetVector,
+                         EquationVector<AcVariableType, AcEquationType> equationVector,
+                         boolean detailedReport, MetricsListener metricsListener, Instant deadline) {
         super(network, equationSystem, j, targetVector, equationVector, detailedReport);
         this.parameters = Objects.requireNonNull(parameters);
+        this.metricsListener = Objects.requireNonNull(metricsListener);
+        this.deadline = Objects.requireNonNull(deadline);
     }
 
     @Override
@@ -105,10 +141,28 @@ public class NewtonRaphson extends AbstractAcSolver {
         };
     }
 
-    private AcSolverStatus runIteration(StateVectorScaling svScaling, MutableInt iterations, Reporter reporter) {
+    /**
+     * Dishonest mode counters.
+     */
+    private static final class JacobianReuse {
+
+        private double previousNorm;
+
+        private int savedLuUpdateCount = 0;
+
+        private int refreshCount = 0;
+
+        private JacobianReuse(double initialNorm) {
+            previousNorm = initialNorm;
+        }
+    }
+
+    private AcSolverStatus runIteration(StateVectorScaling svScaling, MutableInt iterations, JacobianReuse jacobianReuse, Reporter reporter) {
         LOGGER.debug("Start iteration {}", iterations);
 
         try {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+
             // solve f(x) = j * dx
             try {
                 j.solveTransposed(equationVector.getArray());
@@ -118,8 +172,17 @@ public class NewtonRaphson extends AbstractAcSolver {
             }
             // f(x) now contains dx
 
+            if (jacobianReuse != null && j.hasWithheldValueUpdates()) {
+                jacobianReuse.savedLuUpdateCount++;
+            }
+
+            long solveDuration = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+            stopwatch.reset().start();
+
             svScaling.apply(equationVector.getArray(), equationSystem);
 
+            long scalingDuration = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+
             // update x and f(x) will be automatically updated
             equationSystem.getStateVector().minus(equationVector.getArray());
 
@@ -139,11 +202,17 @@ public class NewtonRaphson extends AbstractAcSolver {
             // test stopping criteria and log norm(fx)
             NewtonRaphsonStoppingCriteria.TestResult testResult = parameters.getStoppingCriteria().test(equationVector.getArray(), equationSystem);
 
+            stopwatch.reset().start();
+
             testResult = svScaling.applyAfter(equationSystem, equationVector, targetVector,
                                               parameters.getStoppingCriteria(), testResult);
 
+            scalingDuration += stopwatch.elapsed(TimeUnit.NANOSECONDS);
+
             LOGGER.debug("|f(x)|={}", testResult.getNorm());
 
+            metricsListener.onNewtonRaphsonIteration(iterations.getValue(), testResult.getNorm(), solveDuration, scalingDuration);
+
             if (detailedReport || LOGGER.isTraceEnabled()) {
                 reportAndLogLargestMismatchByAcEquationType(reporter, equationSystem, equationVector.getArray(), testResult.getNorm(), iterations.getValue());
             }
@@ -152,6 +221,15 @@ public class NewtonRaphson extends AbstractAcSolver {
                 return AcSolverStatus.CONVERGED;
             }
 
+            if (jacobianReuse != null) {
+                if (testResult.getNorm() > parameters.getDishonestRefreshRatio() * jacobianReuse.previousNorm) {
+                    // mismatch reduction is not good enough with current Jacobian matrix values
+                    j.refreshValues();
+                    jacobianReuse.refreshCount++;
+                }
+                jacobianReuse.previousNorm = testResult.getNorm();
+            }
+
             return null;
         } finally {
             iterations.increment();
@@ -201,15 +279,37 @@ public class NewtonRaphson extends AbstractAcSolver {
         // start iterations
         AcSolverStatus status = AcSolverStatus.NO_CALCULATION;
         MutableInt iterations = new MutableInt();
-        while (iterations.getValue() <= parameters.getMaxIterations()) {
-            AcSolverStatus newStatus = runIteration(svScaling, iterations, reporter);
-            if (newStatus != null) {
-                status = newStatus;
-                break;
+        JacobianReuse jacobianReuse = null;
+        if (parameters.isDishonest()) {
+            jacobianReuse = new JacobianReuse(initialTestResult.getNorm());
+            j.setValuesFrozen(true);
+        }
+        try {
+            while (iterations.getValue() <= parameters.getMaxIterations()) {
+                if (!Instant.now().isBefore(deadline)) {
+                    status = AcSolverStatus.TIMEOUT;
+                    break;
+                }
+                AcSolverStatus newStatus = runIteration(svScaling, iterations, jacobianReuse, reporter);
+                if (newStatus != null) {
+                    status = newStatus;
+                    break;
+                }
+            }
+        } finally {
+            if (jacobianReuse != null) {
+                // pending value updates are kept and withheld again by next dishonest run
+                j.setValuesFrozen(false);
             }
         }
 
-        if (iterations.getValue() >= parameters.getMaxIterations()) {
+        if (jacobianReuse != null) {
+            LOGGER.debug("Dishonest Newton-Raphson saved {} Jacobian matrix LU decomposition updates ({} refreshes)",
+                    jacobianReuse.savedLuUpdateCount, jacobianReuse.refreshCount);
+            Reports.reportNewtonRaphsonJacobianReuse(reporter, jacobianReuse.savedLuUpdateCount, jacobianReuse.refreshCount);
+        }
+
+        if (status != AcSolverStatus.TIMEOUT && iterations.getValue() >= parameters.getMaxIterations()) {
             status = AcSolverStatus.MAX_ITERATION_REACHED;
         }
 
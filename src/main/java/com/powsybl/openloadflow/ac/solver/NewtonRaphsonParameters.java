@@ -18,6 +18,8 @@ public class NewtonRaphsonParameters extends AbstractNewtonParameters<NewtonRaph
     public static final double DEFAULT_MAX_REALISTIC_VOLTAGE = 2;
     public static final StateVectorScalingMode DEFAULT_STATE_VECTOR_SCALING_MODE = StateVectorScalingMode.NONE;
     public static final boolean ALWAYS_UPDATE_NETWORK_DEFAULT_VALUE = false;
+    public static final boolean DISHONEST_DEFAULT_VALUE = false;
+    public static final double DEFAULT_DISHONEST_REFRESH_RATIO = 0.5;
 
     public NewtonRaphsonParameters() {
         super(DEFAULT_MAX_ITERATIONS);
@@ -41,6 +43,10 @@ public class NewtonRaphsonParameters extends AbstractNewtonParameters<NewtonRaph
 
     private boolean alwaysUpdateNetwork = ALWAYS_UPDATE_NETWORK_DEFAULT_VALUE;
 
+    private boolean dishonest = DISHONEST_DEFAULT_VALUE;
+
+    private double dishonestRefreshRatio = DEFAULT_DISHONEST_REFRESH_RATIO;
+
     public double getMinRealisticVoltage() {
         return minRealisticVoltage;
     }
@@ -123,6 +129,33 @@ public class NewtonRaphsonParameters extends AbstractNewtonParameters<NewtonRaph
         return this;
     }
 
+    public boolean isDishonest() {
+        return dishonest;
+    }
+
+    /**
+     * In dishonest mode, Jacobian matrix values and its LU decomposition are kept across iterations and across
+     * solver runs on the same Jacobian matrix, and only refreshed when the mismatch norm reduction of an iteration is
+     * not good enough (see {@link #setDishonestRefreshRatio(double)}).
+     */
+    public NewtonRaphsonParameters setDishonest(boolean dishonest) {
+        this.dishonest = dishonest;
+        return this;
+    }
+
+    public double getDishonestRefreshRatio() {
+        return dishonestRefreshRatio;
+    }
+
+    /**
+     * Jacobian matrix is refreshed when the mismatch norm after an iteration is greater than this ratio times the
+     * mismatch norm before the iteration.
+     */
+    public NewtonRaphsonParameters setDishonestRefreshRatio(double dishonestRefreshRatio) {
+        this.dishonestRefreshRatio = dishonestRefreshRatio;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "NewtonRaphsonParameters(" +
@@ -136,6 +169,8 @@ public class NewtonRaphsonParameters extends AbstractNewtonParameters<NewtonRaph
                 ", lineSearchStateVectorScalingStepFold=" + lineSearchStateVectorScalingStepFold +
                 ", maxVoltageChangeStateVectorScalingMaxDv=" + maxVoltageChangeStateVectorScalingMaxDv +
                 ", maxVoltageChangeStateVectorScalingMaxDphi=" + maxVoltageChangeStateVectorScalingMaxDphi +
+                ", dishonest=" + dishonest +
+                ", dishonestRefreshRatio=" + dishonestRefreshRatio +
                 ')';
     }
 }
@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.dc;
+
+import com.powsybl.math.matrix.DenseMatrix;
+import com.powsybl.math.matrix.LUDecomposition;
+import com.powsybl.math.matrix.MatrixException;
+import com.powsybl.openloadflow.dc.equations.ClosedBranchSide1DcFlowEquationTerm;
+import com.powsybl.openloadflow.dc.equations.DcEquationType;
+import com.powsybl.openloadflow.dc.equations.DcVariableType;
+import com.powsybl.openloadflow.equations.Equation;
+import com.powsybl.openloadflow.equations.EquationSystem;
+import com.powsybl.openloadflow.network.DisabledBranchStatus;
+import com.powsybl.openloadflow.network.DisabledNetwork;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfContingency;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.util.Evaluable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Post-contingency DC load flow computed from the pre-contingency one without any new factorization of the Jacobian
+ * matrix.
+ * <p>
+ * A LU decomposition of the pre-contingency Jacobian matrix is kept and the outage of k branches is modeled, as in DC
+ * sensitivity analysis, by k fictitious injections at the branches ends, chosen so that each fictitious injection is
+ * equal to the flow of its branch. This is a rank k update of the pre-contingency solution (compensation method), which
+ * only requires k right hand sides to be solved with the pre-contingency LU decomposition and a k x k dense linear
+ * system to be solved.
+ * <p>
+ * Only contingencies that open branches on both sides without breaking connectivity are supported, other ones have to
+ * be computed by a regular DC load flow.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class DcFastContingencyEngine implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DcFastContingencyEngine.class);
+
+    private static final double SINGULARITY_THRESHOLD = 1e-8;
+
+    private final DcLoadFlowContext context;
+
+    private final LUDecomposition lu;
+
+    private final double[] preContingencyStates;
+
+    private final int[] busColumns;
+
+    private final double[] preContingencyFlows;
+
+    /**
+     * Has to be created just after a successful pre-contingency DC load flow run on the context.
+     */
+    public DcFastContingencyEngine(DcLoadFlowContext context) {
+        this.context = Objects.requireNonNull(context);
+        LfNetwork network = context.getNetwork();
+        EquationSystem<DcVariableType, DcEquationType> equationSystem = context.getEquationSystem();
+
+        // a copy of the matrix is needed as the context one will be updated by contingencies application
+        lu = context.getJacobianMatrix().getMatrix().copy(context.getParameters().getMatrixFactory()).decomposeLU();
+        preContingencyStates = equationSystem.getStateVector().get().clone();
+
+        busColumns = new int[network.getBuses().size()];
+        for (LfBus bus : network.getBuses()) {
+            busColumns[bus.getNum()] = equationSystem.getEquation(bus.getNum(), DcEquationType.BUS_TARGET_P)
+                    .filter(Equation::isActive)
+                    .map(Equation::getColumn)
+                    .orElse(-1);
+        }
+
+        preContingencyFlows = new double[network.getBranches().size()];
+        for (LfBranch branch : network.getBranches()) {
+            Evaluable p1 = branch.getP1();
+            preContingencyFlows[branch.getNum()] = p1 instanceof ClosedBranchSide1DcFlowEquationTerm ? p1.eval() : Double.NaN;
+        }
+    }
+
+    private record OpenedBranch(LfBranch branch, ClosedBranchSide1DcFlowEquationTerm p1) {
+    }
+
+    private List<OpenedBranch> getOpenedBranches(LfContingency lfContingency) {
+        DisabledNetwork disabledNetwork = lfContingency.getDisabledNetwork();
+        if (!disabledNetwork.getBuses().isEmpty()
+                || !disabledNetwork.getHvdcs().isEmpty()
+                || !lfContingency.getLostGenerators().isEmpty()
+                || !lfContingency.getLostLoads().isEmpty()
+                || !lfContingency.getShuntsShift().isEmpty()
+                || disabledNetwork.getBranchesStatus().isEmpty()) {
+            return null;
+        }
+        List<OpenedBranch> openedBranches = new ArrayList<>(disabledNetwork.getBranchesStatus().size());
+        for (Map.Entry<LfBranch, DisabledBranchStatus> e : disabledNetwork.getBranchesStatus().entrySet()) {
+            LfBranch branch = e.getKey();
+            if (e.getValue() != DisabledBranchStatus.BOTH_SIDES
+                    || !(branch.getP1() instanceof ClosedBranchSide1DcFlowEquationTerm p1)
+                    || Double.isNaN(preContingencyFlows[branch.getNum()])
+                    || busColumns[branch.getBus1().getNum()] == -1 && busColumns[branch.getBus2().getNum()] == -1) {
+                return null;
+            }
+            openedBranches.add(new OpenedBranch(branch, p1));
+        }
+        return openedBranches;
+    }
+
+    /**
+     * Compute the post-contingency state of a contingency that has already been applied to the network and update the
+     * network.
+     *
+     * @return false if the contingency is not supported, in that case the network has not been updated and a regular
+     * DC load flow has to be run.
+     */
+    public boolean run(LfContingency lfContingency) {
+        Objects.requireNonNull(lfContingency);
+        List<OpenedBranch> openedBranches = getOpenedBranches(lfContingency);
+        EquationSystem<DcVariableType, DcEquationType> equationSystem = context.getEquationSystem();
+        int stateSize = preContingencyStates.length;
+        if (openedBranches == null || equationSystem.getIndex().getSortedVariablesToFind().size() != stateSize) {
+            return false;
+        }
+
+        // states of a unit injection at each opened branch ends
+        int k = openedBranches.size();
+        DenseMatrix states = new DenseMatrix(stateSize, k);
+        for (int j = 0; j < k; j++) {
+            LfBranch branch = openedBranches.get(j).branch();
+            int column1 = busColumns[branch.getBus1().getNum()];
+            int column2 = busColumns[branch.getBus2().getNum()];
+            if (column1 != -1) {
+                states.set(column1, j, 1);
+            }
+            if (column2 != -1) {
+                states.set(column2, j, -1);
+            }
+        }
+        lu.solveTransposed(states);
+
+        // fictitious injections so that each one is equal to the flow of its branch
+        double[] injections = new double[k];
+        try {
+            if (k == 1) {
+                OpenedBranch openedBranch = openedBranches.get(0);
+                double a = 1 - openedBranch.p1().calculateSensi(states, 0);
+                if (Math.abs(a) < SINGULARITY_THRESHOLD) {
+                    return false;
+                }
+                injections[0] = preContingencyFlows[openedBranch.branch().getNum()] / a;
+            } else {
+                DenseMatrix m = new DenseMatrix(k, k);
+                for (int i = 0; i < k; i++) {
+                    OpenedBranch openedBranch = openedBranches.get(i);
+                    for (int j = 0; j < k; j++) {
+                        m.set(i, j, (i == j ? 1 : 0) - openedBranch.p1().calculateSensi(states, j));
+                    }
+                    injections[i] = preContingencyFlows[openedBranch.branch().getNum()];
+                }
+                try (LUDecomposition mLu = m.decomposeLU()) {
+                    mLu.solve(injections);
+                }
+            }
+        } catch (MatrixException e) {
+            LOGGER.debug("Contingency '{}' cannot be computed from pre-contingency state: {}", lfContingency.getId(), e.getMessage());
+            return false;
+        }
+        for (double injection : injections) {
+            if (!Double.isFinite(injection)) {
+                return false;
+            }
+        }
+
+        double[] x = preContingencyStates.clone();
+        for (int j = 0; j < k; j++) {
+            double injection = injections[j];
+            for (int row = 0; row < stateSize; row++) {
+                x[row] += injection * states.get(row, j);
+            }
+        }
+
+        LfNetwork network = context.getNetwork();
+        equationSystem.getStateVector().set(x);
+        DcLoadFlowEngine.updateNetwork(network, equationSystem, x);
+        if (context.getParameters().isSetVToNan()) {
+            for (LfBus bus : network.getBuses()) {
+                bus.setV(Double.NaN);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        lu.close();
+    }
+}
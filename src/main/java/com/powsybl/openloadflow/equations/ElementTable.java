@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.equations;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * A table of objects indexed by a type and an element number, backed by one array per type indexed by element number.
+ * Contrary to a hash map keyed by (type, element number) pairs, lookups do not allocate and are cache friendly. As
+ * element numbers of a LF network are dense, arrays are small compared to the hash map entries they replace.
+ * <p>
+ * Values are iterated by type ordinal, then by element number.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class ElementTable<K extends Enum<K>, T> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private Object[][] arrays = new Object[0][];
+
+    private int size = 0;
+
+    private int modCount = 0;
+
+    private final Collection<T> values = new AbstractCollection<>() {
+
+        @Override
+        public Iterator<T> iterator() {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    };
+
+    private final class ValueIterator implements Iterator<T> {
+
+        private final int expectedModCount = modCount;
+
+        private int ordinal = 0;
+
+        private int num = -1;
+
+        private ValueIterator() {
+            advance();
+        }
+
+        private void advance() {
+            num++;
+            while (ordinal < arrays.length) {
+                Object[] array = arrays[ordinal];
+                if (array != null) {
+                    while (num < array.length) {
+                        if (array[num] != null) {
+                            return;
+                        }
+                        num++;
+                    }
+                }
+                ordinal++;
+                num = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return ordinal < arrays.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T value = (T) arrays[ordinal][num];
+            advance();
+            return value;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(K type, int num) {
+        int ordinal = type.ordinal();
+        if (ordinal < arrays.length) {
+            Object[] array = arrays[ordinal];
+            if (array != null && num >= 0 && num < array.length) {
+                return (T) array[num];
+            }
+        }
+        return null;
+    }
+
+    private Object[] getOrCreateArray(K type, int num) {
+        if (num < 0) {
+            throw new IllegalArgumentException("Invalid element number: " + num);
+        }
+        int ordinal = type.ordinal();
+        if (ordinal >= arrays.length) {
+            arrays = Arrays.copyOf(arrays, type.getDeclaringClass().getEnumConstants().length);
+        }
+        Object[] array = arrays[ordinal];
+        if (array == null) {
+            array = new Object[Math.max(MIN_CAPACITY, num + 1)];
+            arrays[ordinal] = array;
+        } else if (num >= array.length) {
+            array = Arrays.copyOf(array, Math.max(array.length * 2, num + 1));
+            arrays[ordinal] = array;
+        }
+        return array;
+    }
+
+    /**
+     * @return the previous value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public T put(K type, int num, T value) {
+        Objects.requireNonNull(value);
+        Object[] array = getOrCreateArray(type, num);
+        T oldValue = (T) array[num];
+        array[num] = value;
+        if (oldValue == null) {
+            size++;
+            modCount++;
+        }
+        return oldValue;
+    }
+
+    public T computeIfAbsent(K type, int num, Supplier<T> supplier) {
+        T value = get(type, num);
+        if (value == null) {
+            value = Objects.requireNonNull(supplier.get());
+            put(type, num, value);
+        }
+        return value;
+    }
+
+    /**
+     * @return the removed value, or null if there was none
+     */
+    public T remove(K type, int num) {
+        T value = get(type, num);
+        if (value != null) {
+            arrays[type.ordinal()][num] = null;
+            size--;
+            modCount++;
+        }
+        return value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a view of the values, which does not support modification of the table during iteration
+     */
+    public Collection<T> values() {
+        return values;
+    }
+}
@@ -36,11 +36,20 @@ public class Equation<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity
 
     private final List<EquationTerm<V, E>> terms = new ArrayList<>();
 
-    private final Map<Variable<V>, List<EquationTerm<V, E>>> termsByVariable = new TreeMap<>();
+    /**
+     * Sorted variables of the terms. An equation only has a few variables, so a sorted list is more compact and faster
+     * to iterate than a sorted map.
+     */
+    private final List<Variable<V>> variables = new ArrayList<>();
+
+    /**
+     * Terms depending on each variable of {@link #variables}, at the same index.
+     */
+    private final List<List<EquationTerm<V, E>>> termsByVariable = new ArrayList<>();
 
     /**
      * Element index of a two dimensions matrix (equations * variables) indexed by variable index (order of the variable
-     * in {@link @termsByVariable}.
+     * in {@link #variables}).
      */
     private int[] matrixElementIndexes;
 
@@ -65,7 +74,7 @@ public class Equation<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity
 
     public void setRemoved() {
         equationSystem = null;
-        column = -1;
+        // column is reset by the equation system index, which needs it to free the column
     }
 
     private void checkNotRemoved() {
@@ -104,8 +113,13 @@ public class Equation<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity
         }
         terms.add(term);
         for (Variable<V> v : term.getVariables()) {
-            termsByVariable.computeIfAbsent(v, k -> new ArrayList<>())
-                    .add(term);
+            int i = Collections.binarySearch(variables, v);
+            if (i < 0) {
+                i = -i - 1;
+                variables.add(i, v);
+                termsByVariable.add(i, new ArrayList<>());
+            }
+            termsByVariable.get(i).add(term);
         }
         matrixElementIndexes = null;
         term.setEquation(this);
@@ -145,10 +159,6 @@ public class Equation<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity
         }
     }
 
-    public Map<Variable<V>, List<EquationTerm<V, E>>> getTermsByVariable() {
-        return termsByVariable;
-    }
-
     @Override
     public double eval() {
         double value = 0;
@@ -171,14 +181,14 @@ public class Equation<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity
     public void der(DerHandler<V> handler) {
         Objects.requireNonNull(handler);
         int variableIndex = 0;
-        for (Map.Entry<Variable<V>, List<EquationTerm<V, E>>> e : termsByVariable.entrySet()) {
-            Variable<V> variable = e.getKey();
+        for (int i = 0; i < variables.size(); i++) {
+            Variable<V> variable = variables.get(i);
             int row = variable.getRow();
             if (row != -1) {
                 double value = 0;
                 // create a derivative even if all terms are not active, to allow later reactivation of terms
                 // that won't create a new matrix element and a simple update of the matrix
-                for (EquationTerm<V, E> term : e.getValue()) {
+                for (EquationTerm<V, E> term : termsByVariable.get(i)) {
                     if (term.isActive()) {
                         value += term.der(variable);
                     }
@@ -186,7 +196,7 @@ public class Equation<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity
                 int oldMatrixElementIndex = matrixElementIndexes == null ? -1 : matrixElementIndexes[variableIndex];
                 int matrixElementIndex = handler.onDer(variable, value, oldMatrixElementIndex);
                 if (matrixElementIndexes == null) {
-                    matrixElementIndexes = new int[termsByVariable.size()];
+                    matrixElementIndexes = new int[variables.size()];
                 }
                 matrixElementIndexes[variableIndex] = matrixElementIndex;
                 variableIndex++;
@@ -10,7 +10,6 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.openloadflow.network.ElementType;
 import com.powsybl.openloadflow.network.LfElement;
 import com.powsybl.openloadflow.network.LfNetwork;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.IOException;
 import java.io.StringWriter;
@@ -24,11 +23,11 @@ import java.util.stream.Collectors;
  */
 public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity> {
 
-    private final Map<Pair<Integer, E>, Equation<V, E>> equations = new HashMap<>();
+    private final ElementTable<E, Equation<V, E>> equations = new ElementTable<>();
 
-    private final Map<Pair<ElementType, Integer>, List<Equation<V, E>>> equationsByElement = new HashMap<>();
+    private final ElementTable<ElementType, List<Equation<V, E>>> equationsByElement = new ElementTable<>();
 
-    private Map<Pair<ElementType, Integer>, List<EquationTerm<V, E>>> equationTermsByElement;
+    private ElementTable<ElementType, List<EquationTerm<V, E>>> equationTermsByElement;
 
     private final List<EquationSystemListener<V, E>> listeners = new ArrayList<>();
 
@@ -70,8 +69,7 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     private void indexTerm(EquationTerm<V, E> equationTerm) {
         if (equationTermsByElement != null) {
             if (equationTerm.getElementType() != null && equationTerm.getElementNum() != -1) {
-                Pair<ElementType, Integer> element = Pair.of(equationTerm.getElementType(), equationTerm.getElementNum());
-                equationTermsByElement.computeIfAbsent(element, k -> new ArrayList<>())
+                equationTermsByElement.computeIfAbsent(equationTerm.getElementType(), equationTerm.getElementNum(), ArrayList::new)
                         .add(equationTerm);
             }
             for (EquationTerm<V, E> child : equationTerm.getChildren()) {
@@ -82,7 +80,7 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     private void indexAllTerms() {
         if (equationTermsByElement == null) {
-            equationTermsByElement = new HashMap<>();
+            equationTermsByElement = new ElementTable<>();
             for (var equation : equations.values()) {
                 for (var term : equation.getTerms()) {
                     indexTerm(term);
@@ -99,8 +97,8 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     public List<EquationTerm<V, E>> getEquationTerms(ElementType elementType, int elementNum) {
         Objects.requireNonNull(elementType);
         indexAllTerms();
-        Pair<ElementType, Integer> element = Pair.of(elementType, elementNum);
-        return equationTermsByElement.getOrDefault(element, Collections.emptyList());
+        List<EquationTerm<V, E>> terms = equationTermsByElement.get(elementType, elementNum);
+        return terms != null ? terms : Collections.emptyList();
     }
 
     public <T extends EquationTerm<V, E>> T getEquationTerm(ElementType elementType, int elementNum, Class<T> clazz) {
@@ -118,37 +116,34 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         if (element.getType() != type.getElementType()) {
             throw new PowsyblException("Incorrect equation type: " + type);
         }
-        Pair<Integer, E> p = Pair.of(element.getNum(), type);
-        Equation<V, E> equation = equations.get(p);
+        Equation<V, E> equation = equations.get(type, element.getNum());
         if (equation == null) {
-            equation = addEquation(p)
+            equation = addEquation(element.getNum(), type)
                     .setActive(!element.isDisabled());
         }
         return equation;
     }
 
     public Equation<V, E> createEquation(int num, E type) {
-        Pair<Integer, E> p = Pair.of(num, type);
-        Equation<V, E> equation = equations.get(p);
+        Objects.requireNonNull(type);
+        Equation<V, E> equation = equations.get(type, num);
         if (equation == null) {
-            equation = addEquation(p);
+            equation = addEquation(num, type);
         }
         return equation;
     }
 
     public Optional<Equation<V, E>> getEquation(int num, E type) {
-        Pair<Integer, E> p = Pair.of(num, type);
-        return Optional.ofNullable(equations.get(p));
+        return Optional.ofNullable(equations.get(type, num));
     }
 
     public boolean hasEquation(int num, E type) {
-        Pair<Integer, E> p = Pair.of(num, type);
-        return equations.containsKey(p);
+        return equations.get(type, num) != null;
     }
 
     private void deindexTerm(EquationTerm<V, E> term) {
         if (term.getElementType() != null && term.getElementNum() != -1) {
-            List<EquationTerm<V, E>> termsForThisElement = equationTermsByElement.get(Pair.of(term.getElementType(), term.getElementNum()));
+            List<EquationTerm<V, E>> termsForThisElement = equationTermsByElement.get(term.getElementType(), term.getElementNum());
             if (termsForThisElement != null) {
                 termsForThisElement.remove(term);
             }
@@ -159,11 +154,9 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
     }
 
     public Equation<V, E> removeEquation(int num, E type) {
-        Pair<Integer, E> p = Pair.of(num, type);
-        Equation<V, E> equation = equations.remove(p);
+        Equation<V, E> equation = equations.remove(type, num);
         if (equation != null) {
-            Pair<ElementType, Integer> element = Pair.of(type.getElementType(), num);
-            equationsByElement.get(element).remove(equation);
+            equationsByElement.get(type.getElementType(), num).remove(equation);
             if (equationTermsByElement != null) {
                 for (EquationTerm<V, E> term : equation.getTerms()) {
                     deindexTerm(term);
@@ -175,11 +168,10 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         return equation;
     }
 
-    private Equation<V, E> addEquation(Pair<Integer, E> p) {
-        Equation<V, E> equation = new Equation<>(p.getLeft(), p.getRight(), EquationSystem.this);
-        equations.put(p, equation);
-        Pair<ElementType, Integer> element = Pair.of(p.getRight().getElementType(), p.getLeft());
-        equationsByElement.computeIfAbsent(element, k -> new ArrayList<>())
+    private Equation<V, E> addEquation(int num, E type) {
+        Equation<V, E> equation = new Equation<>(num, type, EquationSystem.this);
+        equations.put(type, num, equation);
+        equationsByElement.computeIfAbsent(type.getElementType(), num, ArrayList::new)
                 .add(equation);
         notifyEquationChange(equation, EquationEventType.EQUATION_CREATED);
         return equation;
@@ -187,8 +179,8 @@ public class EquationSystem<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     public List<Equation<V, E>> getEquations(ElementType elementType, int elementNum) {
         Objects.requireNonNull(elementType);
-        Pair<ElementType, Integer> element = Pair.of(elementType, elementNum);
-        return equationsByElement.getOrDefault(element, Collections.emptyList());
+        List<Equation<V, E>> equationsOfElement = equationsByElement.get(elementType, elementNum);
+        return equationsOfElement != null ? equationsOfElement : Collections.emptyList();
     }
 
     public void attach(EquationTerm<V, E> term) {
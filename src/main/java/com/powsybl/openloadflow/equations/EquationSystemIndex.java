@@ -14,6 +14,14 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 /**
+ * Index of active equations (matrix columns) and of variables (matrix rows) of an equation system.
+ * <p>
+ * Once built, the index is incrementally maintained when possible: an equation removed and then re-added gets back its
+ * column, and when the same number of equations is added and removed, for instance when a bus switches from voltage
+ * control to reactive power target, added equations take the freed columns (preferably of an equation of the same
+ * element) so that all other equations keep their column. The same way, a variable removed and then re-added gets
+ * back its row. In any other case, equations and variables are fully re-indexed by sorting.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity>
@@ -34,6 +42,15 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
 
     private boolean variablesIndexValid = false;
 
+    // equations added since last index update, that do not have a column yet
+    private final Set<Equation<V, E>> addedEquations = new LinkedHashSet<>();
+
+    // columns of equations removed since last index update
+    private final Map<Equation<V, E>, Integer> freedColumns = new LinkedHashMap<>();
+
+    // rows of variables removed since last index update
+    private final Map<Variable<V>, Integer> freedRows = new HashMap<>();
+
     private final List<EquationSystemIndexListener<V, E>> listeners = new ArrayList<>();
 
     public EquationSystemIndex(EquationSystem<V, E> equationSystem) {
@@ -60,7 +77,58 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
         listeners.forEach(listener -> listener.onEquationTermChange(term));
     }
 
+    private void notifyIndexUpdate(boolean incremental) {
+        listeners.forEach(listener -> listener.onIndexUpdate(incremental));
+    }
+
+    private static boolean isSameElement(Equation<?, ?> equation1, Equation<?, ?> equation2) {
+        return equation1.getElementNum() == equation2.getElementNum()
+                && equation1.getType().getElementType() == equation2.getType().getElementType();
+    }
+
+    private void updateColumns() {
+        List<Equation<V, E>> equations = new ArrayList<>(sortedEquationsToSolve);
+        // first give to each added equation the column of a removed equation of the same element, and then any of
+        // remaining freed columns
+        List<Equation<V, E>> equationsWithoutColumn = new ArrayList<>(addedEquations.size());
+        for (Equation<V, E> equation : addedEquations) {
+            Equation<V, E> removedEquation = freedColumns.keySet().stream()
+                    .filter(e -> isSameElement(e, equation))
+                    .findFirst()
+                    .orElse(null);
+            if (removedEquation != null) {
+                int column = freedColumns.remove(removedEquation);
+                equation.setColumn(column);
+                equations.set(column, equation);
+            } else {
+                equationsWithoutColumn.add(equation);
+            }
+        }
+        Iterator<Integer> it = freedColumns.values().iterator();
+        for (Equation<V, E> equation : equationsWithoutColumn) {
+            int column = it.next();
+            equation.setColumn(column);
+            equations.set(column, equation);
+        }
+        sortedEquationsToSolve = equations;
+        LOGGER.debug("Equations index incrementally updated ({} columns reassigned)", addedEquations.size());
+    }
+
     private void update() {
+        boolean updated = false;
+        boolean incremental = true;
+
+        if (equationsIndexValid && (!addedEquations.isEmpty() || !freedColumns.isEmpty())) {
+            if (addedEquations.size() == freedColumns.size()) {
+                updateColumns();
+                updated = true;
+            } else {
+                equationsIndexValid = false;
+            }
+        }
+        addedEquations.clear();
+        freedColumns.clear();
+
         if (!equationsIndexValid) {
             sortedEquationsToSolve = equationsToSolve.stream().sorted().collect(Collectors.toList());
             int columnCount = 0;
@@ -68,9 +136,16 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
                 equation.setColumn(columnCount++);
             }
             equationsIndexValid = true;
+            updated = true;
+            incremental = false;
             LOGGER.debug("Equations index updated ({} columns)", columnCount);
         }
 
+        if (!freedRows.isEmpty()) {
+            variablesIndexValid = false;
+            freedRows.clear();
+        }
+
         if (!variablesIndexValid) {
             sortedVariablesToFind = variablesToFindRefCount.keySet().stream().sorted().collect(Collectors.toList());
             int rowCount = 0;
@@ -78,8 +153,14 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
                 variable.setRow(rowCount++);
             }
             variablesIndexValid = true;
+            updated = true;
+            incremental = false;
             LOGGER.debug("Variables index updated ({} rows)", rowCount);
         }
+
+        if (updated) {
+            notifyIndexUpdate(incremental);
+        }
     }
 
     private void addTerm(EquationTerm<V, E> term) {
@@ -89,7 +170,12 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
             if (variableRefCount == null) {
                 variableRefCount = new MutableInt(1);
                 variablesToFindRefCount.put(variable, variableRefCount);
-                variablesIndexValid = false;
+                Integer row = freedRows.remove(variable);
+                if (row != null) {
+                    variable.setRow(row);
+                } else {
+                    variablesIndexValid = false;
+                }
                 notifyVariableChange(variable, EquationSystemIndexListener.ChangeType.ADDED);
             } else {
                 variableRefCount.increment();
@@ -99,7 +185,16 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
 
     private void addEquation(Equation<V, E> equation) {
         equationsToSolve.add(equation);
-        equationsIndexValid = false;
+        if (equationsIndexValid) {
+            // equations are compared by element and type, so check it is the same instance to give back its column
+            Integer column = freedColumns.get(equation);
+            if (column != null && sortedEquationsToSolve.get(column) == equation) {
+                freedColumns.remove(equation);
+                equation.setColumn(column);
+            } else {
+                addedEquations.add(equation);
+            }
+        }
         for (EquationTerm<V, E> term : equation.getTerms()) {
             if (term.isActive()) {
                 addTerm(term);
@@ -115,9 +210,11 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
             if (variableRefCount != null) {
                 variableRefCount.decrement();
                 if (variableRefCount.intValue() == 0) {
+                    if (variablesIndexValid && variable.getRow() != -1) {
+                        freedRows.put(variable, variable.getRow());
+                    }
                     variable.setRow(-1);
                     variablesToFindRefCount.remove(variable);
-                    variablesIndexValid = false;
                     notifyVariableChange(variable, EquationSystemIndexListener.ChangeType.REMOVED);
                 }
             }
@@ -125,9 +222,15 @@ public class EquationSystemIndex<V extends Enum<V> & Quantity, E extends Enum<E>
     }
 
     private void removeEquation(Equation<V, E> equation) {
+        if (equationsIndexValid && !addedEquations.remove(equation)) {
+            if (equation.getColumn() != -1) {
+                freedColumns.put(equation, equation.getColumn());
+            } else {
+                equationsIndexValid = false;
+            }
+        }
         equation.setColumn(-1);
         equationsToSolve.remove(equation);
-        equationsIndexValid = false;
         for (EquationTerm<V, E> term : equation.getTerms()) {
             if (term.isActive()) {
                 removeTerm(term);
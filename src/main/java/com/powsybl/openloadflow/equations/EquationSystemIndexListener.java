@@ -30,4 +30,13 @@ public interface EquationSystemIndexListener<V extends Enum<V> & Quantity, E ext
      * Called when a term is added or removed from an equation.
      */
     void onEquationTermChange(EquationTerm<V, E> term);
+
+    /**
+     * Called when equations columns or variables rows have been updated. When update is incremental, already indexed
+     * equations and variables have kept their column and row, and only added equations have been given the column of
+     * removed ones.
+     */
+    default void onIndexUpdate(boolean incremental) {
+        // nothing to do
+    }
 }
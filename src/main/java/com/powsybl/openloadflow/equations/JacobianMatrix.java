@@ -12,15 +12,34 @@ import com.powsybl.math.matrix.DenseMatrix;
 import com.powsybl.math.matrix.LUDecomposition;
 import com.powsybl.math.matrix.Matrix;
 import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.util.MetricsListener;
+import gnu.trove.list.array.TIntArrayList;
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static com.powsybl.openloadflow.util.Markers.PERFORMANCE_MARKER;
 
 /**
+ * Jacobian matrix of an equation system (one column per equation and one row per variable) and its LU decomposition.
+ * <p>
+ * When some equations are replaced by other ones without any other structural change, for instance when a bus
+ * switches from voltage control to reactive power target, other equations and variables keep their column and row
+ * (see {@link EquationSystemIndex}). If derivatives of added equations fit in the sparsity pattern of the matrix, the
+ * matrix is only updated and the symbolic analysis of the LU decomposition is reused. Otherwise, the matrix is rebuilt
+ * keeping previous pattern as explicit zeros, so that switching back and forth the same equations does not need any
+ * other rebuild.
+ * <p>
+ * Values can be frozen (see {@link #setValuesFrozen(boolean)}): value updates are then withheld and the current LU
+ * decomposition is reused until {@link #refreshValues()} is called, as in a dishonest Newton method.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Quantity>
@@ -32,40 +51,120 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
     private final MatrixFactory matrixFactory;
 
+    private final MetricsListener metricsListener;
+
     private Matrix matrix;
 
+    private int nonZeroCount;
+
     private LUDecomposition lu;
 
+    // sparsity pattern of the matrix: rows and element indexes of each column
+    private int[] columnStarts;
+
+    private TIntArrayList patternRows;
+
+    private TIntArrayList patternElementIndexes;
+
+    // equations added since last update
+    private final Set<Equation<V, E>> addedEquations = new LinkedHashSet<>();
+
     protected enum Status {
         VALID,
         VALUES_INVALID, // same structure but values have to be updated
         VALUES_AND_ZEROS_INVALID, // same structure but values have to be updated and non zero values might have changed
+        SLOTS_INVALID, // equations and variables might have kept their column and row but some columns have new equations
         STRUCTURE_INVALID, // structure has changed
     }
 
     private Status status = Status.STRUCTURE_INVALID;
 
+    private boolean valuesFrozen = false;
+
+    // value updates withheld while values are frozen
+    private Status frozenStatus = Status.VALID;
+
     public JacobianMatrix(EquationSystem<V, E> equationSystem, MatrixFactory matrixFactory) {
+        this(equationSystem, matrixFactory, MetricsListener.NO_OP);
+    }
+
+    public JacobianMatrix(EquationSystem<V, E> equationSystem, MatrixFactory matrixFactory, MetricsListener metricsListener) {
         this.equationSystem = Objects.requireNonNull(equationSystem);
         this.matrixFactory = Objects.requireNonNull(matrixFactory);
+        this.metricsListener = Objects.requireNonNull(metricsListener);
         equationSystem.getIndex().addListener(this);
         equationSystem.getStateVector().addListener(this);
     }
 
+    private static boolean isValuesOnly(Status status) {
+        return status == Status.VALUES_INVALID || status == Status.VALUES_AND_ZEROS_INVALID;
+    }
+
     protected void updateStatus(Status status) {
-        if (status.ordinal() > this.status.ordinal()) {
+        if (valuesFrozen && isValuesOnly(status)) {
+            if (status.ordinal() > frozenStatus.ordinal()) {
+                frozenStatus = status;
+            }
+        } else if (status.ordinal() > this.status.ordinal()) {
             this.status = status;
         }
     }
 
+    public boolean isValuesFrozen() {
+        return valuesFrozen;
+    }
+
+    /**
+     * Freeze or unfreeze matrix values. While frozen, state and equation term changes do not update matrix values nor
+     * LU decomposition, but structural changes still do (and then refresh all values). A pending value update is also
+     * withheld when values get frozen, so that freezing again before next solve reuses the previous LU decomposition.
+     */
+    public void setValuesFrozen(boolean valuesFrozen) {
+        if (valuesFrozen == this.valuesFrozen) {
+            return;
+        }
+        this.valuesFrozen = valuesFrozen;
+        if (valuesFrozen) {
+            if (isValuesOnly(status)) {
+                frozenStatus = status;
+                status = Status.VALID;
+            }
+        } else {
+            refreshValues();
+        }
+    }
+
+    /**
+     * Apply withheld value updates at next use of the matrix, even if values are frozen.
+     */
+    public void refreshValues() {
+        if (frozenStatus.ordinal() > status.ordinal()) {
+            status = frozenStatus;
+        }
+        frozenStatus = Status.VALID;
+    }
+
+    /**
+     * @return true if some value updates are currently withheld, so that matrix values and LU decomposition are not
+     * the ones of current state
+     */
+    public boolean hasWithheldValueUpdates() {
+        return frozenStatus != Status.VALID;
+    }
+
     @Override
     public void onEquationChange(Equation<V, E> equation, ChangeType changeType) {
-        updateStatus(Status.STRUCTURE_INVALID);
+        if (changeType == ChangeType.ADDED) {
+            addedEquations.add(equation);
+        } else {
+            addedEquations.remove(equation);
+        }
+        updateStatus(Status.SLOTS_INVALID);
     }
 
     @Override
     public void onVariableChange(Variable<V> variable, ChangeType changeType) {
-        updateStatus(Status.STRUCTURE_INVALID);
+        updateStatus(Status.SLOTS_INVALID);
     }
 
     @Override
@@ -73,33 +172,111 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         updateStatus(Status.VALUES_AND_ZEROS_INVALID);
     }
 
+    @Override
+    public void onIndexUpdate(boolean incremental) {
+        if (!incremental) {
+            updateStatus(Status.STRUCTURE_INVALID);
+        }
+    }
+
     @Override
     public void onStateUpdate() {
         updateStatus(Status.VALUES_INVALID);
     }
 
-    private void initDer() {
+    /**
+     * Build the matrix. When previous pattern is kept, which is only possible if equations and variables have kept
+     * their column and row, elements of previous matrix which are not a derivative anymore are added as explicit zeros.
+     */
+    private void initDer(boolean keepPreviousPattern) {
         Stopwatch stopwatch = Stopwatch.createStarted();
 
-        int rowCount = equationSystem.getIndex().getSortedEquationsToSolve().size();
+        List<Equation<V, E>> equations = equationSystem.getIndex().getSortedEquationsToSolve();
+        int rowCount = equations.size();
         int columnCount = equationSystem.getIndex().getSortedVariablesToFind().size();
         if (rowCount != columnCount) {
             throw new PowsyblException("Expected to have same number of equations (" + rowCount
                     + ") and variables (" + columnCount + ")");
         }
 
-        int estimatedNonZeroValueCount = rowCount * 3;
+        boolean keepPattern = keepPreviousPattern && columnStarts != null && columnStarts.length == columnCount + 1;
+        int[] previousColumnStarts = columnStarts;
+        TIntArrayList previousPatternRows = patternRows;
+
+        int estimatedNonZeroValueCount = keepPattern ? previousPatternRows.size() : rowCount * 3;
         matrix = matrixFactory.create(rowCount, columnCount, estimatedNonZeroValueCount);
 
-        for (Equation<V, E> eq : equationSystem.getIndex().getSortedEquationsToSolve()) {
+        columnStarts = new int[columnCount + 1];
+        patternRows = new TIntArrayList(estimatedNonZeroValueCount);
+        patternElementIndexes = new TIntArrayList(estimatedNonZeroValueCount);
+        // to know if a row of the previous pattern already has a derivative in the current column
+        int[] rowColumns = keepPattern ? new int[rowCount] : null;
+        if (rowColumns != null) {
+            Arrays.fill(rowColumns, -1);
+        }
+
+        // equations are ordered by column
+        for (Equation<V, E> eq : equations) {
             int column = eq.getColumn();
+            columnStarts[column] = patternRows.size();
             eq.der((variable, value, matrixElementIndex) -> {
                 int row = variable.getRow();
-                return matrix.addAndGetIndex(row, column, value);
+                int elementIndex = matrix.addAndGetIndex(row, column, value);
+                patternRows.add(row);
+                patternElementIndexes.add(elementIndex);
+                if (rowColumns != null) {
+                    rowColumns[row] = column;
+                }
+                return elementIndex;
             });
+            if (keepPattern) {
+                for (int i = previousColumnStarts[column]; i < previousColumnStarts[column + 1]; i++) {
+                    int row = previousPatternRows.getQuick(i);
+                    if (rowColumns[row] != column) {
+                        patternRows.add(row);
+                        patternElementIndexes.add(matrix.addAndGetIndex(row, column, 0));
+                    }
+                }
+            }
+        }
+        columnStarts[columnCount] = patternRows.size();
+        nonZeroCount = patternRows.size();
+
+        long duration = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+        LOGGER.debug(PERFORMANCE_MARKER, "Jacobian matrix built in {} us", TimeUnit.NANOSECONDS.toMicros(duration));
+        metricsListener.onJacobianMatrixBuilt(rowCount, nonZeroCount, duration);
+    }
+
+    private int getElementIndex(int row, int column) {
+        for (int i = columnStarts[column]; i < columnStarts[column + 1]; i++) {
+            if (patternRows.getQuick(i) == row) {
+                return patternElementIndexes.getQuick(i);
+            }
         }
+        return -1;
+    }
 
-        LOGGER.debug(PERFORMANCE_MARKER, "Jacobian matrix built in {} us", stopwatch.elapsed(TimeUnit.MICROSECONDS));
+    /**
+     * Map derivatives of added equations to elements of current matrix.
+     *
+     * @return false if one of the derivatives is not part of the sparsity pattern of the matrix
+     */
+    private boolean updateAddedEquationsDer() {
+        MutableBoolean inPattern = new MutableBoolean(true);
+        for (Equation<V, E> eq : addedEquations) {
+            int column = eq.getColumn();
+            eq.der((variable, value, matrixElementIndex) -> {
+                int elementIndex = getElementIndex(variable.getRow(), column);
+                if (elementIndex == -1) {
+                    inPattern.setFalse();
+                }
+                return elementIndex;
+            });
+            if (inPattern.isFalse()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private void clearLu() {
@@ -109,8 +286,8 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         lu = null;
     }
 
-    private void initMatrix() {
-        initDer();
+    private void initMatrix(boolean keepPreviousPattern) {
+        initDer(keepPreviousPattern);
         clearLu();
     }
 
@@ -125,7 +302,9 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
             });
         }
 
-        LOGGER.debug(PERFORMANCE_MARKER, "Jacobian matrix values updated in {} us", stopwatch.elapsed(TimeUnit.MICROSECONDS));
+        long duration = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+        LOGGER.debug(PERFORMANCE_MARKER, "Jacobian matrix values updated in {} us", TimeUnit.NANOSECONDS.toMicros(duration));
+        metricsListener.onJacobianMatrixUpdated(matrix.getRowCount(), nonZeroCount, duration);
     }
 
     private void updateLu(boolean allowIncrementalUpdate) {
@@ -134,7 +313,9 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
             lu.update(allowIncrementalUpdate);
 
-            LOGGER.debug(PERFORMANCE_MARKER, "LU decomposition updated in {} us", stopwatch.elapsed(TimeUnit.MICROSECONDS));
+            long duration = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+            LOGGER.debug(PERFORMANCE_MARKER, "LU decomposition updated in {} us", TimeUnit.NANOSECONDS.toMicros(duration));
+            metricsListener.onLuDecomposition(matrix.getRowCount(), true, duration);
         }
     }
 
@@ -143,15 +324,34 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         updateLu(allowIncrementalUpdate);
     }
 
+    private void updateSlots() {
+        if (matrix != null && updateAddedEquationsDer()) {
+            // same sparsity pattern, so LU decomposition can be numerically updated
+            updateValues(false);
+        } else {
+            initMatrix(true);
+        }
+    }
+
     public void forceUpdate() {
         update();
     }
 
     private void update() {
+        if (status == Status.SLOTS_INVALID) {
+            // update the index first as it might not be incremental, in which case the status is escalated
+            equationSystem.getIndex().getSortedEquationsToSolve();
+        }
         if (status != Status.VALID) {
             switch (status) {
                 case STRUCTURE_INVALID:
-                    initMatrix();
+                    initMatrix(false);
+                    frozenStatus = Status.VALID; // all values have been computed
+                    break;
+
+                case SLOTS_INVALID:
+                    updateSlots();
+                    frozenStatus = Status.VALID; // all values have been computed
                     break;
 
                 case VALUES_INVALID:
@@ -165,6 +365,7 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
                 default:
                     break;
             }
+            addedEquations.clear();
             status = Status.VALID;
         }
     }
@@ -181,7 +382,9 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
 
             lu = m.decomposeLU();
 
-            LOGGER.debug(PERFORMANCE_MARKER, "LU decomposition done in {} us", stopwatch.elapsed(TimeUnit.MICROSECONDS));
+            long duration = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+            LOGGER.debug(PERFORMANCE_MARKER, "LU decomposition done in {} us", TimeUnit.NANOSECONDS.toMicros(duration));
+            metricsListener.onLuDecomposition(m.getRowCount(), false, duration);
         }
         return lu;
     }
@@ -207,6 +410,9 @@ public class JacobianMatrix<V extends Enum<V> & Quantity, E extends Enum<E> & Qu
         equationSystem.getIndex().removeListener(this);
         equationSystem.getStateVector().removeListener(this);
         matrix = null;
+        columnStarts = null;
+        patternRows = null;
+        patternElementIndexes = null;
         clearLu();
     }
 }
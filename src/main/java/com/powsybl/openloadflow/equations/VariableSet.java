@@ -6,21 +6,19 @@
  */
 package com.powsybl.openloadflow.equations;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class VariableSet<V extends Enum<V> & Quantity> {
 
-    private final Map<Pair<Integer, V>, Variable<V>> variables = new HashMap<>();
+    private final ElementTable<V, Variable<V>> variables = new ElementTable<>();
 
     public Variable<V> getVariable(int elementNum, V type) {
-        return variables.computeIfAbsent(Pair.of(elementNum, type), p -> new Variable<>(p.getLeft(), p.getRight()));
+        Objects.requireNonNull(type);
+        return variables.computeIfAbsent(type, elementNum, () -> new Variable<>(elementNum, type));
     }
 
     public Collection<Variable<V>> getVariables() {
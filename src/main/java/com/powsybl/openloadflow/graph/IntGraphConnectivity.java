@@ -0,0 +1,695 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.graph;
+
+import com.powsybl.commons.PowsyblException;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * Connectivity computation on a graph stored in primitive arrays indexed by vertex and edge numbers, without any
+ * jgrapht graph nor object keyed map.
+ * <p>
+ * The adjacency of all the edges ever added is stored in compressed sparse row arrays, an edge removal only clearing a
+ * flag so that the adjacency is only rebuilt when an unknown edge is added. Connected components are maintained
+ * incrementally as a component label per vertex: an edge addition merges the components of its vertices and an edge
+ * removal runs two interleaved breadth first traversals from the edge vertices, stopping as soon as one reaches the
+ * other one or has visited its whole side, which is then relabelled as a new component. Temporary changes are undone
+ * from logs of the graph modifications and of the vertices component label changes. Temporary changes nesting is
+ * supported.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class IntGraphConnectivity<V, E> implements GraphConnectivity<V, E> {
+
+    private static final int VERTEX_ADD = 0;
+    private static final int EDGE_ADD = 1;
+    private static final int EDGE_REMOVE = 2;
+
+    private final ToIntFunction<V> vertexNumGetter;
+
+    private final ToIntFunction<E> edgeNumGetter;
+
+    // vertices and edges indexed by their number, a null vertex or a false edge flag meaning not in the graph
+
+    private Object[] vertices = new Object[0];
+
+    private Object[] edges = new Object[0];
+
+    private int[] edgeVertices1 = new int[0];
+
+    private int[] edgeVertices2 = new int[0];
+
+    private boolean[] edgesInGraph = new boolean[0];
+
+    // compressed sparse row adjacency of all known edges, including the ones not in the graph anymore
+
+    private int[] adjacencyStarts;
+
+    private int[] adjacencyEdges;
+
+    // component label of each vertex (-1 if not in the graph) and vertex count of each label
+
+    private int[] componentLabels;
+
+    private int[] componentSizes = new int[0];
+
+    private int labelCount;
+
+    // component numbers (size ranking) of each label
+
+    private int[] componentNumbers;
+
+    private int[] componentLabelsByNumber;
+
+    private int componentCount;
+
+    private List<Set<V>> componentSets;
+
+    // undo logs: (modification type, element number) and (vertex number, previous component label) pairs
+
+    private final TIntArrayList modifications = new TIntArrayList();
+
+    private final TIntArrayList labelChanges = new TIntArrayList();
+
+    private final Deque<TemporaryChanges> temporaryChangesStack = new ArrayDeque<>();
+
+    private V defaultMainComponentVertex;
+
+    // work arrays
+
+    private int[] queue1 = new int[0];
+
+    private int[] queue2 = new int[0];
+
+    private int[] vertexStamps1 = new int[0];
+
+    private int[] vertexStamps2 = new int[0];
+
+    private int[] labelsBefore = new int[0];
+
+    private int[] edgeStamps = new int[0];
+
+    private boolean[] edgesInGraphBefore = new boolean[0];
+
+    private int stamp;
+
+    private final class TemporaryChanges {
+
+        private final int modificationsStart;
+
+        private final int labelChangesStart;
+
+        private final int labelCountBefore;
+
+        private final int mainComponentLabelBefore;
+
+        private V mainComponentVertex;
+
+        private Set<V> verticesAddedToMainComponent;
+
+        private Set<V> verticesRemovedFromMainComponent;
+
+        private Set<E> edgesAddedToMainComponent;
+
+        private Set<E> edgesRemovedFromMainComponent;
+
+        private TemporaryChanges(V mainComponentVertex) {
+            this.mainComponentVertex = mainComponentVertex;
+            modificationsStart = modifications.size();
+            labelChangesStart = labelChanges.size();
+            labelCountBefore = labelCount;
+            mainComponentLabelBefore = getMainComponentLabel(mainComponentVertex);
+        }
+
+        private void invalidateComparisons() {
+            verticesAddedToMainComponent = null;
+            verticesRemovedFromMainComponent = null;
+            edgesAddedToMainComponent = null;
+            edgesRemovedFromMainComponent = null;
+        }
+    }
+
+    public IntGraphConnectivity(ToIntFunction<V> vertexNumGetter, ToIntFunction<E> edgeNumGetter) {
+        this.vertexNumGetter = Objects.requireNonNull(vertexNumGetter);
+        this.edgeNumGetter = Objects.requireNonNull(edgeNumGetter);
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+        Objects.requireNonNull(vertex);
+        int num = vertexNumGetter.applyAsInt(vertex);
+        ensureVertexCapacity(num + 1);
+        if (vertices[num] != null) {
+            return;
+        }
+        vertices[num] = vertex;
+        if (adjacencyStarts != null && num >= adjacencyStarts.length - 1) {
+            adjacencyStarts = null;
+        }
+        addModification(VERTEX_ADD, num);
+        if (componentLabels != null) {
+            setComponentLabel(num, createComponentLabel());
+        }
+    }
+
+    @Override
+    public void addEdge(V vertex1, V vertex2, E edge) {
+        Objects.requireNonNull(vertex1);
+        Objects.requireNonNull(vertex2);
+        Objects.requireNonNull(edge);
+        int num = edgeNumGetter.applyAsInt(edge);
+        ensureEdgeCapacity(num + 1);
+        if (edgesInGraph[num]) {
+            return;
+        }
+        int num1 = checkVertex(vertex1);
+        int num2 = checkVertex(vertex2);
+        if (edges[num] == null || edgeVertices1[num] != num1 || edgeVertices2[num] != num2) {
+            edgeVertices1[num] = num1;
+            edgeVertices2[num] = num2;
+            adjacencyStarts = null;
+        }
+        edges[num] = edge;
+        edgesInGraph[num] = true;
+        addModification(EDGE_ADD, num);
+        if (componentLabels != null) {
+            mergeComponents(componentLabels[num1], componentLabels[num2]);
+        }
+    }
+
+    @Override
+    public void removeEdge(E edge) {
+        Objects.requireNonNull(edge);
+        int num = edgeNumGetter.applyAsInt(edge);
+        if (num >= edgesInGraph.length || !edgesInGraph[num]) {
+            return;
+        }
+        edgesInGraph[num] = false;
+        addModification(EDGE_REMOVE, num);
+        if (componentLabels != null) {
+            splitComponent(edgeVertices1[num], edgeVertices2[num]);
+        }
+    }
+
+    @Override
+    public boolean supportTemporaryChangesNesting() {
+        return true;
+    }
+
+    @Override
+    public void startTemporaryChanges() {
+        updateComponentLabels();
+        temporaryChangesStack.add(new TemporaryChanges(defaultMainComponentVertex));
+    }
+
+    @Override
+    public void undoTemporaryChanges() {
+        if (temporaryChangesStack.isEmpty()) {
+            throw new PowsyblException("Cannot reset, no remaining saved connectivity");
+        }
+        TemporaryChanges temporaryChanges = temporaryChangesStack.pollLast();
+
+        // undo graph modifications in reverse order
+        for (int i = modifications.size() - 2; i >= temporaryChanges.modificationsStart; i -= 2) {
+            int num = modifications.getQuick(i + 1);
+            switch (modifications.getQuick(i)) {
+                case VERTEX_ADD -> vertices[num] = null;
+                case EDGE_ADD -> edgesInGraph[num] = false;
+                case EDGE_REMOVE -> edgesInGraph[num] = true;
+                default -> throw new IllegalStateException("Unknown modification type");
+            }
+        }
+        modifications.remove(temporaryChanges.modificationsStart, modifications.size() - temporaryChanges.modificationsStart);
+
+        // undo component labels changes in reverse order
+        for (int i = labelChanges.size() - 2; i >= temporaryChanges.labelChangesStart; i -= 2) {
+            int num = labelChanges.getQuick(i);
+            int previousLabel = labelChanges.getQuick(i + 1);
+            componentSizes[componentLabels[num]]--;
+            if (previousLabel != -1) {
+                componentSizes[previousLabel]++;
+            }
+            componentLabels[num] = previousLabel;
+        }
+        labelChanges.remove(temporaryChanges.labelChangesStart, labelChanges.size() - temporaryChanges.labelChangesStart);
+        labelCount = temporaryChanges.labelCountBefore;
+
+        invalidateComponentNumbers();
+    }
+
+    @Override
+    public int getComponentNumber(V vertex) {
+        checkSavedContext();
+        int num = checkVertex(vertex);
+        updateComponentNumbers();
+        return componentNumbers[componentLabels[num]];
+    }
+
+    @Override
+    public void setMainComponentVertex(V mainComponentVertex) {
+        if (!temporaryChangesStack.isEmpty()) {
+            TemporaryChanges temporaryChanges = temporaryChangesStack.peekLast();
+            temporaryChanges.mainComponentVertex = mainComponentVertex;
+            temporaryChanges.invalidateComparisons();
+            if (mainComponentVertex != null) {
+                int num = checkVertex(mainComponentVertex);
+                markLabelsBefore(temporaryChanges);
+                if (getLabelBefore(num) != temporaryChanges.mainComponentLabelBefore) {
+                    throw new PowsyblException("Cannot take the given vertex as main component vertex! This vertex was outside the main component before starting temporary changes");
+                }
+            }
+        }
+        defaultMainComponentVertex = mainComponentVertex;
+    }
+
+    @Override
+    public int getNbConnectedComponents() {
+        checkSavedContext();
+        updateComponentNumbers();
+        return componentCount;
+    }
+
+    @Override
+    public Set<V> getConnectedComponent(V vertex) {
+        int componentNumber = getComponentNumber(vertex);
+        Set<V> componentSet = componentSets.get(componentNumber);
+        if (componentSet == null) {
+            int label = componentLabelsByNumber[componentNumber];
+            componentSet = new LinkedHashSet<>(componentSizes[label]);
+            for (int num = 0; num < vertices.length; num++) {
+                if (vertices[num] != null && componentLabels[num] == label) {
+                    componentSet.add(getVertex(num));
+                }
+            }
+            componentSets.set(componentNumber, componentSet);
+        }
+        return componentSet;
+    }
+
+    @Override
+    public Set<V> getVerticesRemovedFromMainComponent() {
+        return updateComparisons().verticesRemovedFromMainComponent;
+    }
+
+    @Override
+    public Set<E> getEdgesRemovedFromMainComponent() {
+        return updateComparisons().edgesRemovedFromMainComponent;
+    }
+
+    @Override
+    public Set<V> getVerticesAddedToMainComponent() {
+        return updateComparisons().verticesAddedToMainComponent;
+    }
+
+    @Override
+    public Set<E> getEdgesAddedToMainComponent() {
+        return updateComparisons().edgesAddedToMainComponent;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getVertex(int num) {
+        return (V) vertices[num];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getEdge(int num) {
+        return (E) edges[num];
+    }
+
+    private TemporaryChanges checkSavedContext() {
+        if (temporaryChangesStack.isEmpty()) {
+            throw new PowsyblException("Cannot compute connectivity without a saved state, please call GraphConnectivity::startTemporaryChanges at least once beforehand");
+        }
+        return temporaryChangesStack.peekLast();
+    }
+
+    private int checkVertex(V vertex) {
+        int num = vertex != null ? vertexNumGetter.applyAsInt(vertex) : -1;
+        if (num < 0 || num >= vertices.length || vertices[num] == null) {
+            throw new IllegalArgumentException("given vertex " + vertex + " is not in the graph");
+        }
+        return num;
+    }
+
+    private void ensureVertexCapacity(int capacity) {
+        if (capacity > vertices.length) {
+            int newCapacity = Math.max(capacity, vertices.length * 2);
+            int oldCapacity = vertices.length;
+            vertices = Arrays.copyOf(vertices, newCapacity);
+            if (componentLabels != null) {
+                componentLabels = Arrays.copyOf(componentLabels, newCapacity);
+                Arrays.fill(componentLabels, oldCapacity, newCapacity, -1);
+            }
+            queue1 = new int[newCapacity];
+            queue2 = new int[newCapacity];
+            vertexStamps1 = Arrays.copyOf(vertexStamps1, newCapacity);
+            vertexStamps2 = Arrays.copyOf(vertexStamps2, newCapacity);
+            labelsBefore = Arrays.copyOf(labelsBefore, newCapacity);
+        }
+    }
+
+    private void ensureEdgeCapacity(int capacity) {
+        if (capacity > edges.length) {
+            int newCapacity = Math.max(capacity, edges.length * 2);
+            edges = Arrays.copyOf(edges, newCapacity);
+            edgeVertices1 = Arrays.copyOf(edgeVertices1, newCapacity);
+            edgeVertices2 = Arrays.copyOf(edgeVertices2, newCapacity);
+            edgesInGraph = Arrays.copyOf(edgesInGraph, newCapacity);
+            edgeStamps = Arrays.copyOf(edgeStamps, newCapacity);
+            edgesInGraphBefore = Arrays.copyOf(edgesInGraphBefore, newCapacity);
+        }
+    }
+
+    private int nextStamp() {
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(vertexStamps1, 0);
+            Arrays.fill(vertexStamps2, 0);
+            Arrays.fill(edgeStamps, 0);
+            stamp = 0;
+        }
+        return ++stamp;
+    }
+
+    private void addModification(int type, int num) {
+        if (!temporaryChangesStack.isEmpty()) {
+            modifications.add(type);
+            modifications.add(num);
+            temporaryChangesStack.peekLast().invalidateComparisons();
+        }
+        invalidateComponentNumbers();
+    }
+
+    private void updateAdjacency() {
+        if (adjacencyStarts != null) {
+            return;
+        }
+        adjacencyStarts = new int[vertices.length + 1];
+        int adjacencyCount = 0;
+        for (int num = 0; num < edges.length; num++) {
+            if (edges[num] != null) {
+                adjacencyStarts[edgeVertices1[num] + 1]++;
+                adjacencyStarts[edgeVertices2[num] + 1]++;
+                adjacencyCount += 2;
+            }
+        }
+        for (int i = 0; i < vertices.length; i++) {
+            adjacencyStarts[i + 1] += adjacencyStarts[i];
+        }
+        adjacencyEdges = new int[adjacencyCount];
+        int[] positions = Arrays.copyOf(adjacencyStarts, vertices.length);
+        for (int num = 0; num < edges.length; num++) {
+            if (edges[num] != null) {
+                adjacencyEdges[positions[edgeVertices1[num]]++] = num;
+                adjacencyEdges[positions[edgeVertices2[num]]++] = num;
+            }
+        }
+    }
+
+    /**
+     * Visit from a vertex the neighbours not already visited by a traversal, stopping as soon as a vertex visited by
+     * the other traversal is reached.
+     *
+     * @return the new size of the traversal queue, or -1 if a vertex visited by the other traversal has been reached
+     */
+    private int visitNeighbours(int num, int[] queue, int queueSize, int[] vertexStamps, int[] otherVertexStamps) {
+        int size = queueSize;
+        for (int i = adjacencyStarts[num]; i < adjacencyStarts[num + 1]; i++) {
+            int edgeNum = adjacencyEdges[i];
+            if (edgesInGraph[edgeNum]) {
+                int otherNum = edgeVertices1[edgeNum] == num ? edgeVertices2[edgeNum] : edgeVertices1[edgeNum];
+                if (otherVertexStamps[otherNum] == stamp) {
+                    return -1;
+                }
+                if (vertexStamps[otherNum] != stamp) {
+                    vertexStamps[otherNum] = stamp;
+                    queue[size++] = otherNum;
+                }
+            }
+        }
+        return size;
+    }
+
+    private void updateComponentLabels() {
+        if (componentLabels != null) {
+            return;
+        }
+        updateAdjacency();
+        componentLabels = new int[vertices.length];
+        Arrays.fill(componentLabels, -1);
+        componentSizes = new int[0];
+        labelCount = 0;
+        for (int num = 0; num < vertices.length; num++) {
+            if (vertices[num] != null && componentLabels[num] == -1) {
+                int label = createComponentLabel();
+                nextStamp();
+                vertexStamps1[num] = stamp;
+                queue1[0] = num;
+                int head = 0;
+                int size = 1;
+                while (head < size) {
+                    // nothing is marked with the new stamp in second traversal stamps so traversal stops only once whole component is visited
+                    size = visitNeighbours(queue1[head++], queue1, size, vertexStamps1, vertexStamps2);
+                }
+                for (int i = 0; i < size; i++) {
+                    componentLabels[queue1[i]] = label;
+                }
+                componentSizes[label] = size;
+            }
+        }
+    }
+
+    private int createComponentLabel() {
+        if (labelCount == componentSizes.length) {
+            componentSizes = Arrays.copyOf(componentSizes, Math.max(8, componentSizes.length * 2));
+        }
+        componentSizes[labelCount] = 0;
+        return labelCount++;
+    }
+
+    private void setComponentLabel(int num, int label) {
+        int previousLabel = componentLabels[num];
+        if (!temporaryChangesStack.isEmpty()) {
+            labelChanges.add(num);
+            labelChanges.add(previousLabel);
+        }
+        if (previousLabel != -1) {
+            componentSizes[previousLabel]--;
+        }
+        componentSizes[label]++;
+        componentLabels[num] = label;
+    }
+
+    private void mergeComponents(int label1, int label2) {
+        if (label1 == label2) {
+            return;
+        }
+        int keptLabel = componentSizes[label1] >= componentSizes[label2] ? label1 : label2;
+        int mergedLabel = keptLabel == label1 ? label2 : label1;
+        for (int num = 0; num < componentLabels.length; num++) {
+            if (componentLabels[num] == mergedLabel) {
+                setComponentLabel(num, keptLabel);
+            }
+        }
+    }
+
+    private void splitComponent(int num1, int num2) {
+        if (num1 == num2) {
+            return;
+        }
+        updateAdjacency();
+        nextStamp();
+        vertexStamps1[num1] = stamp;
+        vertexStamps2[num2] = stamp;
+        queue1[0] = num1;
+        queue2[0] = num2;
+        int head1 = 0;
+        int head2 = 0;
+        int size1 = 1;
+        int size2 = 1;
+        while (true) {
+            if (head1 == size1) {
+                relabel(queue1, size1);
+                return;
+            }
+            size1 = visitNeighbours(queue1[head1++], queue1, size1, vertexStamps1, vertexStamps2);
+            if (size1 == -1) {
+                return;
+            }
+            if (head2 == size2) {
+                relabel(queue2, size2);
+                return;
+            }
+            size2 = visitNeighbours(queue2[head2++], queue2, size2, vertexStamps2, vertexStamps1);
+            if (size2 == -1) {
+                return;
+            }
+        }
+    }
+
+    private void relabel(int[] queue, int size) {
+        int label = createComponentLabel();
+        for (int i = 0; i < size; i++) {
+            setComponentLabel(queue[i], label);
+        }
+    }
+
+    private void invalidateComponentNumbers() {
+        componentNumbers = null;
+        componentSets = null;
+    }
+
+    private void updateComponentNumbers() {
+        if (componentNumbers != null) {
+            return;
+        }
+        updateComponentLabels();
+
+        // sort components by decreasing size and then by first vertex number
+        long[] keys = new long[labelCount];
+        int[] labelsByOrder = new int[labelCount];
+        int[] orders = new int[labelCount];
+        Arrays.fill(orders, -1);
+        componentCount = 0;
+        for (int num = 0; num < componentLabels.length; num++) {
+            int label = componentLabels[num];
+            if (label != -1 && orders[label] == -1) {
+                orders[label] = componentCount;
+                labelsByOrder[componentCount] = label;
+                keys[componentCount] = ((long) (Integer.MAX_VALUE - componentSizes[label]) << 32) | componentCount;
+                componentCount++;
+            }
+        }
+        Arrays.sort(keys, 0, componentCount);
+        componentNumbers = new int[labelCount];
+        componentLabelsByNumber = new int[componentCount];
+        for (int number = 0; number < componentCount; number++) {
+            int label = labelsByOrder[(int) keys[number]];
+            componentNumbers[label] = number;
+            componentLabelsByNumber[number] = label;
+        }
+        componentSets = new ArrayList<>(Collections.nCopies(componentCount, null));
+    }
+
+    private int getMainComponentLabel(V mainComponentVertex) {
+        if (mainComponentVertex != null) {
+            return componentLabels[checkVertex(mainComponentVertex)];
+        }
+        updateComponentNumbers();
+        return componentCount > 0 ? componentLabelsByNumber[0] : -1;
+    }
+
+    /**
+     * Mark, with the current stamp, vertices whose component label has changed since the beginning of the temporary
+     * changes and save their label before the temporary changes.
+     */
+    private void markLabelsBefore(TemporaryChanges temporaryChanges) {
+        nextStamp();
+        for (int i = labelChanges.size() - 2; i >= temporaryChanges.labelChangesStart; i -= 2) {
+            int num = labelChanges.getQuick(i);
+            labelsBefore[num] = labelChanges.getQuick(i + 1);
+            vertexStamps1[num] = stamp;
+        }
+    }
+
+    private int getLabelBefore(int num) {
+        return vertexStamps1[num] == stamp ? labelsBefore[num] : componentLabels[num];
+    }
+
+    /**
+     * Mark, with the current stamp, edges added or removed since the beginning of the temporary changes and save if
+     * they were in the graph before the temporary changes.
+     */
+    private void markEdgesInGraphBefore(TemporaryChanges temporaryChanges) {
+        for (int i = modifications.size() - 2; i >= temporaryChanges.modificationsStart; i -= 2) {
+            int type = modifications.getQuick(i);
+            if (type != VERTEX_ADD) {
+                int num = modifications.getQuick(i + 1);
+                edgesInGraphBefore[num] = type == EDGE_REMOVE;
+                edgeStamps[num] = stamp;
+            }
+        }
+    }
+
+    private boolean isEdgeInGraphBefore(int num) {
+        return edgeStamps[num] == stamp ? edgesInGraphBefore[num] : edgesInGraph[num];
+    }
+
+    private TemporaryChanges updateComparisons() {
+        TemporaryChanges temporaryChanges = checkSavedContext();
+        if (temporaryChanges.verticesRemovedFromMainComponent != null) {
+            return temporaryChanges;
+        }
+        int mainLabelBefore = temporaryChanges.mainComponentLabelBefore;
+        int mainLabelAfter = getMainComponentLabel(temporaryChanges.mainComponentVertex);
+        updateAdjacency();
+        markLabelsBefore(temporaryChanges);
+        markEdgesInGraphBefore(temporaryChanges);
+
+        Set<V> verticesAdded = new HashSet<>();
+        Set<V> verticesRemoved = new HashSet<>();
+        Set<E> edgesAdded = new HashSet<>();
+        Set<E> edgesRemoved = new HashSet<>();
+        if (mainLabelBefore == mainLabelAfter) {
+            // only vertices whose label has changed and their edges, and added or removed edges can have changed
+            for (int i = temporaryChanges.labelChangesStart; i < labelChanges.size(); i += 2) {
+                int num = labelChanges.getQuick(i);
+                compareVertex(num, mainLabelBefore, mainLabelAfter, verticesAdded, verticesRemoved);
+                for (int j = adjacencyStarts[num]; j < adjacencyStarts[num + 1]; j++) {
+                    compareEdge(adjacencyEdges[j], mainLabelBefore, mainLabelAfter, edgesAdded, edgesRemoved);
+                }
+            }
+            for (int i = temporaryChanges.modificationsStart; i < modifications.size(); i += 2) {
+                if (modifications.getQuick(i) != VERTEX_ADD) {
+                    compareEdge(modifications.getQuick(i + 1), mainLabelBefore, mainLabelAfter, edgesAdded, edgesRemoved);
+                }
+            }
+        } else {
+            for (int num = 0; num < vertices.length; num++) {
+                compareVertex(num, mainLabelBefore, mainLabelAfter, verticesAdded, verticesRemoved);
+            }
+            for (int num = 0; num < edges.length; num++) {
+                compareEdge(num, mainLabelBefore, mainLabelAfter, edgesAdded, edgesRemoved);
+            }
+        }
+        temporaryChanges.verticesAddedToMainComponent = verticesAdded;
+        temporaryChanges.verticesRemovedFromMainComponent = verticesRemoved;
+        temporaryChanges.edgesAddedToMainComponent = edgesAdded;
+        temporaryChanges.edgesRemovedFromMainComponent = edgesRemoved;
+        return temporaryChanges;
+    }
+
+    private void compareVertex(int num, int mainLabelBefore, int mainLabelAfter, Set<V> verticesAdded, Set<V> verticesRemoved) {
+        if (vertices[num] == null) {
+            return;
+        }
+        int labelBefore = getLabelBefore(num);
+        boolean inMainComponentBefore = labelBefore != -1 && labelBefore == mainLabelBefore;
+        boolean inMainComponentAfter = componentLabels[num] == mainLabelAfter;
+        if (inMainComponentBefore && !inMainComponentAfter) {
+            verticesRemoved.add(getVertex(num));
+        } else if (!inMainComponentBefore && inMainComponentAfter) {
+            verticesAdded.add(getVertex(num));
+        }
+    }
+
+    private void compareEdge(int num, int mainLabelBefore, int mainLabelAfter, Set<E> edgesAdded, Set<E> edgesRemoved) {
+        if (edges[num] == null) {
+            return;
+        }
+        int labelBefore = getLabelBefore(edgeVertices1[num]);
+        boolean inMainComponentBefore = isEdgeInGraphBefore(num) && labelBefore != -1 && labelBefore == mainLabelBefore;
+        boolean inMainComponentAfter = edgesInGraph[num] && componentLabels[edgeVertices1[num]] == mainLabelAfter;
+        if (inMainComponentBefore && !inMainComponentAfter) {
+            edgesRemoved.add(getEdge(num));
+        } else if (!inMainComponentBefore && inMainComponentAfter) {
+            edgesAdded.add(getEdge(num));
+        }
+    }
+}
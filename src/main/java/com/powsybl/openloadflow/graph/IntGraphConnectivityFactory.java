@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.graph;
+
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public class IntGraphConnectivityFactory<V, E> implements GraphConnectivityFactory<V, E> {
+
+    private final ToIntFunction<V> vertexNumGetter;
+
+    private final ToIntFunction<E> edgeNumGetter;
+
+    public IntGraphConnectivityFactory(ToIntFunction<V> vertexNumGetter, ToIntFunction<E> edgeNumGetter) {
+        this.vertexNumGetter = Objects.requireNonNull(vertexNumGetter);
+        this.edgeNumGetter = Objects.requireNonNull(edgeNumGetter);
+    }
+
+    @Override
+    public GraphConnectivity<V, E> create() {
+        return new IntGraphConnectivity<>(vertexNumGetter, edgeNumGetter);
+    }
+}
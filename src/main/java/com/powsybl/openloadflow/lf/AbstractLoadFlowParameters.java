@@ -10,6 +10,7 @@ package com.powsybl.openloadflow.lf;
 import com.powsybl.math.matrix.MatrixFactory;
 import com.powsybl.math.matrix.SparseMatrixFactory;
 import com.powsybl.openloadflow.network.LfNetworkParameters;
+import com.powsybl.openloadflow.util.MetricsListener;
 
 import java.util.Objects;
 
@@ -25,6 +26,8 @@ public abstract class AbstractLoadFlowParameters<P extends AbstractLoadFlowParam
 
     protected MatrixFactory matrixFactory;
 
+    protected MetricsListener metricsListener = MetricsListener.NO_OP;
+
     protected AbstractLoadFlowParameters() {
         this(new LfNetworkParameters(), new SparseMatrixFactory());
     }
@@ -51,4 +54,13 @@ public abstract class AbstractLoadFlowParameters<P extends AbstractLoadFlowParam
         this.matrixFactory = Objects.requireNonNull(matrixFactory);
         return (P) this;
     }
+
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    public P setMetricsListener(MetricsListener metricsListener) {
+        this.metricsListener = Objects.requireNonNull(metricsListener);
+        return (P) this;
+    }
 }
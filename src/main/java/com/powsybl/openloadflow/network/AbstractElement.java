@@ -26,6 +26,12 @@ public abstract class AbstractElement extends AbstractPropertyBag implements LfE
         this.network = Objects.requireNonNull(network);
     }
 
+    protected AbstractElement(AbstractElement other, LfNetwork network) {
+        super(other);
+        this.network = Objects.requireNonNull(network);
+        this.disabled = other.disabled;
+    }
+
     @Override
     public List<String> getOriginalIds() {
         return List.of(getId());
@@ -99,4 +99,9 @@ public abstract class AbstractLfNetworkListener implements LfNetworkListener {
     public void onBranchConnectionStatusChange(LfBranch branch, TwoSides side, boolean connected) {
         // empty
     }
+
+    @Override
+    public void onInjectionStateChange(LfBus bus) {
+        // empty
+    }
 }
@@ -22,6 +22,10 @@ public abstract class AbstractLfShunt extends AbstractElement implements LfShunt
         super(network);
     }
 
+    protected AbstractLfShunt(AbstractLfShunt other, LfNetwork network) {
+        super(other, network);
+    }
+
     @Override
     public Evaluable getQ() {
         return q;
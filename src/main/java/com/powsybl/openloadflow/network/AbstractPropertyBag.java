@@ -17,6 +17,15 @@ public abstract class AbstractPropertyBag {
 
     protected Map<String, Object> properties;
 
+    protected AbstractPropertyBag() {
+    }
+
+    protected AbstractPropertyBag(AbstractPropertyBag other) {
+        if (other.properties != null) {
+            properties = new HashMap<>(other.properties);
+        }
+    }
+
     public Object getProperty(String name) {
         Objects.requireNonNull(name);
         if (properties == null) {
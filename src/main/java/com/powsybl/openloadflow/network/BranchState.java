@@ -43,21 +43,21 @@ public class BranchState extends ElementState<LfBranch> {
     }
 
     @Override
-    public void restore() {
-        super.restore();
-        PiModel piModel = element.getPiModel();
+    public void restore(LfBranch branch) {
+        super.restore(branch);
+        PiModel piModel = branch.getPiModel();
         if (piModel instanceof PiModelArray) {
             piModel.setTapPosition(tapPosition);
         }
         piModel.setA1(a1);
         piModel.setR1(r1);
-        element.setPhaseControlEnabled(phaseControlEnabled);
-        element.setVoltageControlEnabled(voltageControlEnabled);
+        branch.setPhaseControlEnabled(phaseControlEnabled);
+        branch.setVoltageControlEnabled(voltageControlEnabled);
         if (connectedSide1 != null) {
-            element.setConnectedSide1(connectedSide1);
+            branch.setConnectedSide1(connectedSide1);
         }
         if (connectedSide2 != null) {
-            element.setConnectedSide2(connectedSide2);
+            branch.setConnectedSide2(connectedSide2);
         }
     }
 
@@ -54,13 +54,13 @@ public class BusDcState extends ElementState<LfBus> {
     }
 
     @Override
-    public void restore() {
-        super.restore();
-        element.getGenerators().forEach(g -> g.setTargetP(generatorsTargetP.get(g.getId())));
-        element.getGenerators().forEach(g -> g.setParticipating(participatingGenerators.get(g.getId())));
-        element.getGenerators().forEach(g -> g.setDisabled(disablingStatusGenerators.get(g.getId())));
+    public void restore(LfBus bus) {
+        super.restore(bus);
+        bus.getGenerators().forEach(g -> g.setTargetP(generatorsTargetP.get(g.getId())));
+        bus.getGenerators().forEach(g -> g.setParticipating(participatingGenerators.get(g.getId())));
+        bus.getGenerators().forEach(g -> g.setDisabled(disablingStatusGenerators.get(g.getId())));
         for (int i = 0; i < loadStates.size(); i++) {
-            LfLoad load = element.getLoads().get(i);
+            LfLoad load = bus.getLoads().get(i);
             loadStates.get(i).restore(load);
         }
     }
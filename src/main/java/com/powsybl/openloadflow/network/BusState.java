@@ -70,32 +70,32 @@ public class BusState extends BusDcState {
     }
 
     @Override
-    public void restore() {
-        super.restore();
-        element.setAngle(angle);
-        element.setV(voltage);
-        element.setGenerationTargetQ(generationTargetQ);
-        element.setGeneratorVoltageControlEnabled(voltageControlEnabled);
-        element.setGeneratorReactivePowerControlEnabled(reactiveControlEnabled);
+    public void restore(LfBus bus) {
+        super.restore(bus);
+        bus.setAngle(angle);
+        bus.setV(voltage);
+        bus.setGenerationTargetQ(generationTargetQ);
+        bus.setGeneratorVoltageControlEnabled(voltageControlEnabled);
+        bus.setGeneratorReactivePowerControlEnabled(reactiveControlEnabled);
         if (shuntVoltageControlEnabled != null) {
-            element.getControllerShunt().orElseThrow().setVoltageControlEnabled(shuntVoltageControlEnabled);
+            bus.getControllerShunt().orElseThrow().setVoltageControlEnabled(shuntVoltageControlEnabled);
         }
         if (!Double.isNaN(controllerShuntB)) {
-            element.getControllerShunt().orElseThrow().setB(controllerShuntB);
+            bus.getControllerShunt().orElseThrow().setB(controllerShuntB);
         }
         if (!Double.isNaN(controllerShuntG)) {
-            element.getControllerShunt().orElseThrow().setG(controllerShuntG);
+            bus.getControllerShunt().orElseThrow().setG(controllerShuntG);
         }
         if (!Double.isNaN(shuntB)) {
-            element.getShunt().orElseThrow().setB(shuntB);
+            bus.getShunt().orElseThrow().setB(shuntB);
         }
         if (!Double.isNaN(shuntG)) {
-            element.getShunt().orElseThrow().setG(shuntG);
+            bus.getShunt().orElseThrow().setG(shuntG);
         }
         if (!Double.isNaN(svcShuntB)) {
-            element.getSvcShunt().orElseThrow().setB(svcShuntB);
+            bus.getSvcShunt().orElseThrow().setB(svcShuntB);
         }
-        element.getGenerators().forEach(g -> g.setGeneratorControlType(generatorsControlType.get(g.getId())));
+        bus.getGenerators().forEach(g -> g.setGeneratorControlType(generatorsControlType.get(g.getId())));
     }
 
     public static BusState save(LfBus bus) {
@@ -27,7 +27,14 @@ public class ElementState<T extends LfElement> {
     }
 
     public void restore() {
-        element.setDisabled(disabled);
+        restore(element);
+    }
+
+    /**
+     * Restore the saved state on another element, for instance the same element of a copy of the network.
+     */
+    public void restore(T otherElement) {
+        otherElement.setDisabled(disabled);
     }
 
     public static <T extends LfElement, U extends ElementState<T>> List<U> save(Collection<T> elements, Function<T, U> save) {
@@ -257,6 +257,30 @@ public final class LfAction {
         return Optional.empty();
     }
 
+    /**
+     * Create the same action on a copy of the LF network this action has been created for, without reading the IIDM
+     * network again.
+     */
+    public LfAction copy(LfNetwork network) {
+        Objects.requireNonNull(network);
+        TapPositionChange tapPositionChangeCopy = tapPositionChange != null
+                ? new TapPositionChange(network.getBranch(tapPositionChange.getBranch().getNum()), tapPositionChange.getValue(), tapPositionChange.isRelative())
+                : null;
+        LoadShift loadShiftCopy = loadShift != null
+                ? new LoadShift(loadShift.loadId, network.getLoadById(loadShift.loadId), loadShift.powerShift)
+                : null;
+        GeneratorChange generatorChangeCopy = generatorChange != null
+                ? new GeneratorChange(network.getGeneratorById(generatorChange.getGenerator().getId()), generatorChange.getDeltaTargetP())
+                : null;
+        return new LfAction(id,
+                            disabledBranch != null ? network.getBranch(disabledBranch.getNum()) : null,
+                            enabledBranch != null ? network.getBranch(enabledBranch.getNum()) : null,
+                            tapPositionChangeCopy,
+                            loadShiftCopy,
+                            generatorChangeCopy,
+                            hvdc != null ? network.getHvdc(hvdc.getNum()) : null);
+    }
+
     public String getId() {
         return id;
     }
@@ -295,4 +295,11 @@ public interface LfBranch extends LfElement {
     void setAsymLine(LfAsymLine asymLine);
 
     boolean isAsymmetric();
+
+    /**
+     * Create a copy of this branch, including its pi model, for another network and connected to the given buses
+     * (that have to be the copies of this branch buses). Controls are not copied: they have to be linked again by the
+     * caller.
+     */
+    LfBranch copy(LfNetwork network, LfBus bus1, LfBus bus2);
 }
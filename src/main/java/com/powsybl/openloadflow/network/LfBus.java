@@ -211,4 +211,10 @@ public interface LfBus extends LfElement {
     LfAsymBus getAsym();
 
     void setAsym(LfAsymBus asym);
+
+    /**
+     * Create a copy of this bus, including its generators, loads and shunts, for another network. Branches, HVDC lines
+     * and voltage controls are not copied: they have to be linked again by the caller.
+     */
+    LfBus copy(LfNetwork network);
 }
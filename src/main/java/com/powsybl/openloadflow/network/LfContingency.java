@@ -75,6 +75,39 @@ public class LfContingency {
         // FIXME: shuntsShift has to be included in the disconnected elements.
     }
 
+    private LfContingency(LfContingency other, LfNetwork network) {
+        id = other.id;
+        index = other.index;
+        createdSynchronousComponentsCount = other.createdSynchronousComponentsCount;
+        Set<LfBus> busesCopy = new LinkedHashSet<>();
+        other.disabledNetwork.getBuses().forEach(bus -> busesCopy.add(network.getBus(bus.getNum())));
+        Map<LfBranch, DisabledBranchStatus> branchesStatusCopy = new LinkedHashMap<>();
+        other.disabledNetwork.getBranchesStatus().forEach((branch, status) -> branchesStatusCopy.put(network.getBranch(branch.getNum()), status));
+        Set<LfHvdc> hvdcsCopy = new LinkedHashSet<>();
+        other.disabledNetwork.getHvdcs().forEach(hvdc -> hvdcsCopy.add(network.getHvdc(hvdc.getNum())));
+        disabledNetwork = new DisabledNetwork(busesCopy, branchesStatusCopy, hvdcsCopy);
+        shuntsShift = new LinkedHashMap<>();
+        other.shuntsShift.forEach((shunt, shift) -> shuntsShift.put(network.getShunt(shunt.getNum()), shift));
+        lostLoads = new LinkedHashMap<>();
+        other.lostLoads.forEach((load, lostLoad) -> {
+            LfBus bus = load.getBus();
+            lostLoads.put(network.getBus(bus.getNum()).getLoads().get(bus.getLoads().indexOf(load)), lostLoad);
+        });
+        lostGenerators = new LinkedHashSet<>();
+        other.lostGenerators.forEach(generator -> lostGenerators.add(network.getGeneratorById(generator.getId())));
+        disconnectedLoadActivePower = other.disconnectedLoadActivePower;
+        disconnectedGenerationActivePower = other.disconnectedGenerationActivePower;
+        disconnectedElementIds = other.disconnectedElementIds;
+    }
+
+    /**
+     * Create the same contingency on a copy of the LF network this contingency has been created for. Lost loads and
+     * shunts shifts are shared with this contingency.
+     */
+    public LfContingency copy(LfNetwork network) {
+        return new LfContingency(this, Objects.requireNonNull(network));
+    }
+
     public String getId() {
         return id;
     }
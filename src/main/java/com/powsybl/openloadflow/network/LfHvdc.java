@@ -38,4 +38,10 @@ public interface LfHvdc extends LfElement {
     void setConverterStation2(LfVscConverterStation converterStation2);
 
     void updateState();
+
+    /**
+     * Create a copy of this HVDC line for another network and connected to the given buses. Converter stations
+     * are the ones of the given network with the same ids.
+     */
+    LfHvdc copy(LfNetwork network, LfBus bus1, LfBus bus2);
 }
@@ -53,6 +53,16 @@ public interface LfLoad extends PropertyBag {
 
     void setOriginalLoadsDisablingStatus(Map<String, Boolean> originalLoadsDisablingStatus);
 
+    /**
+     * Update targets after a change of the active and reactive power of one of the original loads, the original load
+     * being already up-to-date.
+     *
+     * @param originalId the id of the original load
+     * @param deltaP0 the active power change in MW
+     * @param deltaQ0 the reactive power change in MVar
+     */
+    void updateOriginalLoadPower(String originalId, double deltaP0, double deltaQ0);
+
     void updateState(boolean loadPowerFactorConstant, boolean breakers);
 
     Evaluable getP();
@@ -12,6 +12,7 @@ import com.google.common.base.Stopwatch;
 import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.openloadflow.graph.GraphConnectivity;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import com.powsybl.openloadflow.network.impl.LfSwitch;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
 import org.anarres.graphviz.builder.GraphVizGraph;
@@ -609,6 +610,138 @@ public class LfNetwork extends AbstractPropertyBag implements PropertyBag {
         return lfNetworks;
     }
 
+    private static LfBus getBusCopy(LfNetwork copy, LfBus bus) {
+        return bus != null ? copy.getBus(bus.getNum()) : null;
+    }
+
+    private static LfBranch getBranchCopy(LfNetwork copy, LfBranch branch) {
+        return copy.getBranch(branch.getNum());
+    }
+
+    private void copyGeneratorControls(LfNetwork copy) {
+        Map<GeneratorVoltageControl, GeneratorVoltageControl> voltageControlCopies = new HashMap<>();
+        Map<GeneratorReactivePowerControl, GeneratorReactivePowerControl> reactivePowerControlCopies = new HashMap<>();
+        for (LfBus bus : busesByIndex) {
+            bus.getGeneratorVoltageControl().ifPresent(vc -> voltageControlCopies.computeIfAbsent(vc, k -> {
+                GeneratorVoltageControl vcCopy = new GeneratorVoltageControl(getBusCopy(copy, vc.getControlledBus()), vc.getTargetValue());
+                vc.getControllerElements().forEach(controllerBus -> vcCopy.addControllerElement(getBusCopy(copy, controllerBus)));
+                return vcCopy;
+            }));
+            bus.getGeneratorReactivePowerControl().ifPresent(rpc -> reactivePowerControlCopies.computeIfAbsent(rpc, k -> {
+                GeneratorReactivePowerControl rpcCopy = new GeneratorReactivePowerControl(getBranchCopy(copy, rpc.getControlledBranch()),
+                        rpc.getControlledSide(), rpc.getTargetValue());
+                rpc.getControllerBuses().forEach(controllerBus -> rpcCopy.addControllerBus(getBusCopy(copy, controllerBus)));
+                return rpcCopy;
+            }));
+        }
+        // adding controller elements has side effects on bus control links and enabled status: restore the exact
+        // original state
+        for (LfBus bus : busesByIndex) {
+            LfBus busCopy = getBusCopy(copy, bus);
+            bus.getGeneratorVoltageControl().ifPresent(vc -> busCopy.setGeneratorVoltageControl(voltageControlCopies.get(vc)));
+            bus.getGeneratorReactivePowerControl().ifPresent(rpc -> busCopy.setGeneratorReactivePowerControl(reactivePowerControlCopies.get(rpc)));
+            busCopy.setGeneratorVoltageControlEnabled(bus.isGeneratorVoltageControlEnabled());
+            busCopy.setGeneratorReactivePowerControlEnabled(bus.isGeneratorReactivePowerControlEnabled());
+        }
+        for (LfBranch branch : branches) {
+            branch.getGeneratorReactivePowerControl()
+                    .ifPresent(rpc -> getBranchCopy(copy, branch).setGeneratorReactivePowerControl(reactivePowerControlCopies.get(rpc)));
+        }
+        for (LfSecondaryVoltageControl svc : secondaryVoltageControls) {
+            Set<GeneratorVoltageControl> generatorVoltageControlsCopy = svc.getGeneratorVoltageControls().stream()
+                    .map(voltageControlCopies::get)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            copy.addSecondaryVoltageControl(new LfSecondaryVoltageControl(svc.getZoneName(), getBusCopy(copy, svc.getPilotBus()),
+                    svc.getTargetValue(), generatorVoltageControlsCopy));
+        }
+    }
+
+    private void copyTransformerControls(LfNetwork copy) {
+        Map<TransformerVoltageControl, TransformerVoltageControl> voltageControlCopies = new HashMap<>();
+        Map<TransformerPhaseControl, TransformerPhaseControl> phaseControlCopies = new HashMap<>();
+        for (LfBranch branch : branches) {
+            LfBranch branchCopy = getBranchCopy(copy, branch);
+            branch.getVoltageControl().ifPresent(vc -> branchCopy.setVoltageControl(voltageControlCopies.computeIfAbsent(vc, k -> {
+                TransformerVoltageControl vcCopy = new TransformerVoltageControl(getBusCopy(copy, vc.getControlledBus()), vc.getTargetValue(),
+                        vc.getTargetDeadband().orElse(null));
+                vc.getControllerElements().forEach(controllerBranch -> vcCopy.addControllerElement(getBranchCopy(copy, controllerBranch)));
+                return vcCopy;
+            })));
+            branch.getPhaseControl().ifPresent(pc -> branchCopy.setPhaseControl(phaseControlCopies.computeIfAbsent(pc,
+                k -> new TransformerPhaseControl(getBranchCopy(copy, pc.getControllerBranch()), getBranchCopy(copy, pc.getControlledBranch()),
+                                                 pc.getControlledSide(), pc.getMode(), pc.getTargetValue(), pc.getTargetDeadband(), pc.getUnit()))));
+        }
+        for (LfBus bus : busesByIndex) {
+            bus.getTransformerVoltageControl().ifPresent(vc -> getBusCopy(copy, bus).setTransformerVoltageControl(voltageControlCopies.get(vc)));
+        }
+    }
+
+    private void copyShuntControls(LfNetwork copy) {
+        Map<ShuntVoltageControl, ShuntVoltageControl> voltageControlCopies = new HashMap<>();
+        for (LfShunt shunt : shuntsByIndex) {
+            shunt.getVoltageControl().ifPresent(vc -> copy.getShunt(shunt.getNum()).setVoltageControl(voltageControlCopies.computeIfAbsent(vc, k -> {
+                ShuntVoltageControl vcCopy = new ShuntVoltageControl(getBusCopy(copy, vc.getControlledBus()), vc.getTargetValue(),
+                        vc.getTargetDeadband().orElse(null));
+                vc.getControllerElements().forEach(controllerShunt -> vcCopy.addControllerElement(copy.getShunt(controllerShunt.getNum())));
+                return vcCopy;
+            })));
+        }
+        for (LfBus bus : busesByIndex) {
+            bus.getShuntVoltageControl().ifPresent(vc -> getBusCopy(copy, bus).setShuntVoltageControl(voltageControlCopies.get(vc)));
+        }
+    }
+
+    /**
+     * Create a deep copy of this network without reading the IIDM network again: buses, branches, generators, loads,
+     * shunts, HVDC lines and all the controls are duplicated so that the copy can be modified and solved independently
+     * of this network, for instance by another thread. IIDM objects are shared by both networks and must only be read
+     * while the copy is in use.
+     * Listeners, evaluables, connectivity and zero impedance networks are not copied: they are created again on demand.
+     * Reporters are not thread safe, so the copy reports to the given reporter, which has to be created from the thread
+     * that owns this network's reporter if the copy is used by another thread.
+     */
+    public LfNetwork copy(Reporter reporter) {
+        Objects.requireNonNull(reporter);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        LfNetwork copy = new LfNetwork(numCC, numSC, slackBusSelector, maxSlackBusCount, connectivityFactory, reporter);
+        if (properties != null) {
+            copy.properties = new HashMap<>(properties);
+        }
+        for (LfBus bus : busesByIndex) {
+            copy.addBus(bus.copy(copy));
+        }
+        for (LfBranch branch : branches) {
+            copy.addBranch(branch.copy(copy, getBusCopy(copy, branch.getBus1()), getBusCopy(copy, branch.getBus2())));
+        }
+        for (LfHvdc hvdc : hvdcs) {
+            copy.addHvdc(hvdc.copy(copy, getBusCopy(copy, hvdc.getBus1()), getBusCopy(copy, hvdc.getBus2())));
+        }
+
+        copyGeneratorControls(copy);
+        copyTransformerControls(copy);
+        copyShuntControls(copy);
+        for (LfVoltageAngleLimit limit : voltageAngleLimits) {
+            copy.addVoltageAngleLimit(new LfVoltageAngleLimit(limit.getId(), getBusCopy(copy, limit.getFrom()), getBusCopy(copy, limit.getTo()),
+                    limit.getHighValue(), limit.getLowValue()));
+        }
+        for (LfOverloadManagementSystem system : overloadManagementSystems) {
+            copy.addOverloadManagementSystem(new LfOverloadManagementSystem(getBranchCopy(copy, system.getMonitoredBranch()), system.getThreshold(),
+                    (LfSwitch) getBranchCopy(copy, system.getSwitchToOperate()), system.isSwitchOpen()));
+        }
+
+        if (slackBuses != null) {
+            copy.slackBuses = slackBuses.stream().map(slackBus -> getBusCopy(copy, slackBus)).collect(Collectors.toList());
+        }
+        copy.referenceBus = getBusCopy(copy, referenceBus);
+        copy.valid = valid;
+
+        stopwatch.stop();
+        LOGGER.debug(PERFORMANCE_MARKER, "Network {} copied in {} ms", this, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+        return copy;
+    }
+
     public void updateZeroImpedanceCache(LoadFlowModel loadFlowModel) {
         zeroImpedanceNetworksByModel.computeIfAbsent(loadFlowModel, m -> LfZeroImpedanceNetwork.create(this, loadFlowModel));
     }
@@ -48,4 +48,11 @@ public interface LfNetworkListener {
     void onZeroImpedanceNetworkMerge(LfZeroImpedanceNetwork network1, LfZeroImpedanceNetwork network2, LfZeroImpedanceNetwork mergedNetwork, LoadFlowModel loadFlowModel);
 
     void onBranchConnectionStatusChange(LfBranch branch, TwoSides side, boolean connected);
+
+    /**
+     * Notify a change of an injection of a bus which is not notified by a more specific event: participation of a
+     * generator to slack distribution, generator disabling or control type, shunt conductance, load variable active
+     * power or original loads disabling status.
+     */
+    void onInjectionStateChange(LfBus bus);
 }
@@ -147,4 +147,10 @@ public class LfNetworkListenerTracer implements LfNetworkListener {
         LOGGER.trace("onBranchConnectionStatusChange(branch={}, side={}, connected={})", branch, side, connected);
         delegate.onBranchConnectionStatusChange(branch, side, connected);
     }
+
+    @Override
+    public void onInjectionStateChange(LfBus bus) {
+        LOGGER.trace("onInjectionStateChange(busId='{}')", bus.getId());
+        delegate.onInjectionStateChange(bus);
+    }
 }
@@ -56,6 +56,8 @@ public class LfNetworkParameters {
 
     public static final boolean SIMULATE_AUTOMATION_SYSTEMS_DEFAULT_VALUE = false;
 
+    public static final int THREAD_COUNT_DEFAULT_VALUE = 1;
+
     private SlackBusSelector slackBusSelector = new FirstSlackBusSelector(SLACK_BUS_COUNTRY_FILTER_DEFAULT_VALUE);
 
     private GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory = new EvenShiloachGraphDecrementalConnectivityFactory<>();
@@ -128,6 +130,8 @@ public class LfNetworkParameters {
 
     private boolean simulateAutomationSystems = SIMULATE_AUTOMATION_SYSTEMS_DEFAULT_VALUE;
 
+    private int threadCount = THREAD_COUNT_DEFAULT_VALUE;
+
     public LfNetworkParameters() {
     }
 
@@ -166,6 +170,7 @@ public class LfNetworkParameters {
         this.linePerUnitMode = other.linePerUnitMode;
         this.useLoadModel = other.useLoadModel;
         this.simulateAutomationSystems = other.simulateAutomationSystems;
+        this.threadCount = other.threadCount;
     }
 
     public SlackBusSelector getSlackBusSelector() {
@@ -484,6 +489,21 @@ public class LfNetworkParameters {
         return this;
     }
 
+    /**
+     * Maximum number of threads used to create, and then to solve, network components concurrently.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public LfNetworkParameters setThreadCount(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count should be >= 1");
+        }
+        this.threadCount = threadCount;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "LfNetworkParameters(" +
@@ -519,6 +539,7 @@ public class LfNetworkParameters {
                 ", linePerUnitMode=" + linePerUnitMode +
                 ", useLoadModel=" + useLoadModel +
                 ", simulateAutomationSystems=" + simulateAutomationSystems +
+                ", threadCount=" + threadCount +
                 ')';
     }
 }
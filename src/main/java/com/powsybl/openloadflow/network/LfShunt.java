@@ -44,6 +44,14 @@ public interface LfShunt extends LfElement {
             this.bMagnitude = Math.abs(bMax - bMin);
         }
 
+        protected Controller(Controller other) {
+            this.id = other.id;
+            this.sectionsB = other.sectionsB;
+            this.sectionsG = other.sectionsG;
+            this.position = other.position;
+            this.bMagnitude = other.bMagnitude;
+        }
+
         public String getId() {
             return id;
         }
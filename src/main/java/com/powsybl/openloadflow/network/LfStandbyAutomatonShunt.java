@@ -30,10 +30,23 @@ public final class LfStandbyAutomatonShunt extends AbstractLfShunt {
         b = svc.getB0() * zb;
     }
 
+    private LfStandbyAutomatonShunt(LfStandbyAutomatonShunt other, LfStaticVarCompensator svc) {
+        super(other, svc.getBus().getNetwork());
+        this.svc = svc;
+        this.b = other.b;
+    }
+
     public static LfStandbyAutomatonShunt create(LfStaticVarCompensator svc) {
         return new LfStandbyAutomatonShunt(Objects.requireNonNull(svc));
     }
 
+    /**
+     * Create a copy of this shunt for the copy of its static var compensator.
+     */
+    public LfStandbyAutomatonShunt copy(LfStaticVarCompensator svc) {
+        return new LfStandbyAutomatonShunt(this, Objects.requireNonNull(svc));
+    }
+
     @Override
     public ElementType getType() {
         return ElementType.SHUNT_COMPENSATOR;
@@ -13,37 +13,86 @@ import java.util.List;
 import java.util.Objects;
 
 /**
+ * A saved state of a network, to be restored after a modification, for instance a contingency or an action.
+ * <p>
+ * Modified elements are tracked through network events, so that only the elements modified since the save are
+ * restored. Bus voltages and angles, and ratios and phase shifts of controller branches, which are updated by each load
+ * flow, are always restored. Saves can be nested: saving an already saved network only saves the elements modified
+ * since the previous save. Restoring a state discards the states saved after it; restoring a discarded state restores
+ * all the elements.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class NetworkState {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NetworkState.class);
 
-    private final List<BusState> busStates;
+    private final LfNetwork network;
 
-    private final List<BranchState> branchStates;
+    private final NetworkStateTracker tracker;
 
-    private final List<HvdcState> hvdcStates;
+    private final NetworkStateTracker.SavePoint savePoint;
 
-    protected NetworkState(List<BusState> busStates, List<BranchState> branchStates, List<HvdcState> hvdcStates) {
-        this.busStates = Objects.requireNonNull(busStates);
-        this.branchStates = Objects.requireNonNull(branchStates);
-        this.hvdcStates = Objects.requireNonNull(hvdcStates);
+    private final double[] v;
+
+    private final double[] angle;
+
+    private final List<BranchState> controllerBranchStates;
+
+    protected NetworkState(LfNetwork network, NetworkStateTracker tracker, NetworkStateTracker.SavePoint savePoint) {
+        this.network = Objects.requireNonNull(network);
+        this.tracker = Objects.requireNonNull(tracker);
+        this.savePoint = Objects.requireNonNull(savePoint);
+        List<LfBus> buses = network.getBuses();
+        v = new double[buses.size()];
+        angle = new double[buses.size()];
+        for (int i = 0; i < buses.size(); i++) {
+            LfBus bus = buses.get(i);
+            v[i] = bus.getV();
+            angle[i] = bus.getAngle();
+        }
+        controllerBranchStates = ElementState.save(tracker.getControllerBranches(), BranchState::save);
     }
 
     public static NetworkState save(LfNetwork network) {
         Objects.requireNonNull(network);
         LOGGER.trace("Saving network state");
-        List<BusState> busStates = ElementState.save(network.getBuses(), BusState::save);
-        List<BranchState> branchStates = ElementState.save(network.getBranches(), BranchState::save);
-        List<HvdcState> hvdcStates = ElementState.save(network.getHvdcs(), HvdcState::save);
-        return new NetworkState(busStates, branchStates, hvdcStates);
+        NetworkStateTracker tracker = NetworkStateTracker.getOrCreate(network);
+        return new NetworkState(network, tracker, tracker.save());
+    }
+
+    /**
+     * Copy the current state of all the buses, branches and HVDC lines of a network to a copy of this network, as a
+     * restore would do, so that a copy can be reused for several states of the network instead of being copied again.
+     */
+    public static void copy(LfNetwork network, LfNetwork networkCopy) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(networkCopy);
+        LOGGER.trace("Copying network state");
+        for (LfBus bus : network.getBuses()) {
+            BusState.save(bus).restore(networkCopy.getBus(bus.getNum()));
+        }
+        for (LfBranch branch : network.getBranches()) {
+            BranchState.save(branch).restore(networkCopy.getBranch(branch.getNum()));
+        }
+        for (LfHvdc hvdc : network.getHvdcs()) {
+            HvdcState.save(hvdc).restore(networkCopy.getHvdc(hvdc.getNum()));
+        }
     }
 
     public void restore() {
         LOGGER.trace("Restoring network state");
-        ElementState.restore(busStates);
-        ElementState.restore(branchStates);
-        ElementState.restore(hvdcStates);
+        if (savePoint.isActive()) {
+            tracker.restore(savePoint);
+        } else {
+            tracker.restoreAll(savePoint);
+        }
+        List<LfBus> buses = network.getBuses();
+        for (int i = 0; i < buses.size(); i++) {
+            LfBus bus = buses.get(i);
+            bus.setV(v[i]);
+            bus.setAngle(angle[i]);
+        }
+        ElementState.restore(controllerBranchStates);
     }
 }
@@ -0,0 +1,306 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.network;
+
+import com.powsybl.iidm.network.TwoSides;
+
+import java.util.*;
+
+/**
+ * Tracks, through network events, the buses, branches and HVDC lines modified since each save point of a
+ * {@link NetworkState}.
+ * <p>
+ * Save points are stacked: the first one (the root) saves the state of all the elements, and the following ones only
+ * save the state of the elements modified since the previous one. Restoring a save point discards the save points
+ * stacked above it.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class NetworkStateTracker extends AbstractLfNetworkListener {
+
+    static final class SavePoint {
+
+        private final SavePoint parent;
+
+        // root save point: state of all elements, indexed by element number
+        private final List<BusState> busStates;
+        private final List<BranchState> branchStates;
+        private final List<HvdcState> hvdcStates;
+
+        // other save points: state of elements modified since parent save point
+        private final Map<LfBus, BusState> modifiedBusStates;
+        private final Map<LfBranch, BranchState> modifiedBranchStates;
+        private final Map<LfHvdc, HvdcState> modifiedHvdcStates;
+
+        private final BitSet modifiedBuses = new BitSet();
+        private final BitSet modifiedBranches = new BitSet();
+        private final BitSet modifiedHvdcs = new BitSet();
+
+        private boolean active = true;
+
+        private SavePoint(LfNetwork network) {
+            parent = null;
+            busStates = ElementState.save(network.getBuses(), BusState::save);
+            branchStates = ElementState.save(network.getBranches(), BranchState::save);
+            hvdcStates = ElementState.save(network.getHvdcs(), HvdcState::save);
+            modifiedBusStates = null;
+            modifiedBranchStates = null;
+            modifiedHvdcStates = null;
+        }
+
+        private SavePoint(LfNetwork network, SavePoint parent) {
+            this.parent = parent;
+            busStates = null;
+            branchStates = null;
+            hvdcStates = null;
+            modifiedBusStates = new IdentityHashMap<>();
+            parent.modifiedBuses.stream().forEach(num -> {
+                LfBus bus = network.getBus(num);
+                modifiedBusStates.put(bus, BusState.save(bus));
+            });
+            modifiedBranchStates = new IdentityHashMap<>();
+            parent.modifiedBranches.stream().forEach(num -> {
+                LfBranch branch = network.getBranch(num);
+                modifiedBranchStates.put(branch, BranchState.save(branch));
+            });
+            modifiedHvdcStates = new IdentityHashMap<>();
+            parent.modifiedHvdcs.stream().forEach(num -> {
+                LfHvdc hvdc = network.getHvdc(num);
+                modifiedHvdcStates.put(hvdc, HvdcState.save(hvdc));
+            });
+        }
+
+        boolean isActive() {
+            return active;
+        }
+
+        private boolean isClean() {
+            return modifiedBuses.isEmpty() && modifiedBranches.isEmpty() && modifiedHvdcs.isEmpty();
+        }
+
+        private BusState getBusState(LfBus bus) {
+            if (busStates != null) {
+                return busStates.get(bus.getNum());
+            }
+            BusState busState = modifiedBusStates.get(bus);
+            return busState != null ? busState : parent.getBusState(bus);
+        }
+
+        private BranchState getBranchState(LfBranch branch) {
+            if (branchStates != null) {
+                return branchStates.get(branch.getNum());
+            }
+            BranchState branchState = modifiedBranchStates.get(branch);
+            return branchState != null ? branchState : parent.getBranchState(branch);
+        }
+
+        private HvdcState getHvdcState(LfHvdc hvdc) {
+            if (hvdcStates != null) {
+                return hvdcStates.get(hvdc.getNum());
+            }
+            HvdcState hvdcState = modifiedHvdcStates.get(hvdc);
+            return hvdcState != null ? hvdcState : parent.getHvdcState(hvdc);
+        }
+    }
+
+    private final LfNetwork network;
+
+    private final Map<LfShunt, LfBus> shuntBuses = new IdentityHashMap<>();
+
+    private final List<LfBranch> controllerBranches;
+
+    private final Deque<SavePoint> savePoints = new ArrayDeque<>();
+
+    private boolean suspended = false;
+
+    private NetworkStateTracker(LfNetwork network) {
+        this.network = Objects.requireNonNull(network);
+        for (LfBus bus : network.getBuses()) {
+            bus.getShunt().ifPresent(shunt -> shuntBuses.put(shunt, bus));
+            bus.getControllerShunt().ifPresent(shunt -> shuntBuses.put(shunt, bus));
+            bus.getSvcShunt().ifPresent(shunt -> shuntBuses.put(shunt, bus));
+        }
+        // ratio and phase shift of controller branches are updated by load flow without any event
+        controllerBranches = network.getBranches().stream()
+                .filter(branch -> branch.isPhaseController() || branch.isVoltageController())
+                .toList();
+    }
+
+    static NetworkStateTracker getOrCreate(LfNetwork network) {
+        for (LfNetworkListener listener : network.getListeners()) {
+            if (listener instanceof NetworkStateTracker tracker) {
+                return tracker;
+            }
+        }
+        NetworkStateTracker tracker = new NetworkStateTracker(network);
+        network.addListener(tracker);
+        return tracker;
+    }
+
+    List<LfBranch> getControllerBranches() {
+        return controllerBranches;
+    }
+
+    /**
+     * Get a save point for the current state of the network: the last save point if nothing has been modified since,
+     * otherwise a new one.
+     */
+    SavePoint save() {
+        SavePoint last = savePoints.peekLast();
+        if (last == null) {
+            last = new SavePoint(network);
+            savePoints.addLast(last);
+        } else if (!last.isClean()) {
+            last = new SavePoint(network, last);
+            savePoints.addLast(last);
+        }
+        return last;
+    }
+
+    /**
+     * Restore the elements modified since an active save point, and discard the save points stacked above it.
+     */
+    void restore(SavePoint savePoint) {
+        if (!savePoint.isActive()) {
+            throw new IllegalStateException("Save point has been discarded");
+        }
+        while (savePoints.peekLast() != savePoint) {
+            savePoints.removeLast().active = false;
+        }
+        suspended = true;
+        try {
+            savePoint.modifiedBuses.stream().forEach(num -> savePoint.getBusState(network.getBus(num)).restore());
+            savePoint.modifiedBranches.stream().forEach(num -> savePoint.getBranchState(network.getBranch(num)).restore());
+            savePoint.modifiedHvdcs.stream().forEach(num -> savePoint.getHvdcState(network.getHvdc(num)).restore());
+        } finally {
+            suspended = false;
+        }
+        savePoint.modifiedBuses.clear();
+        savePoint.modifiedBranches.clear();
+        savePoint.modifiedHvdcs.clear();
+    }
+
+    /**
+     * Restore all the elements to a save point, even a discarded one. As the states of elements are then unknown for
+     * other save points, all save points are discarded.
+     */
+    void restoreAll(SavePoint savePoint) {
+        suspended = true;
+        try {
+            network.getBuses().forEach(bus -> savePoint.getBusState(bus).restore());
+            network.getBranches().forEach(branch -> savePoint.getBranchState(branch).restore());
+            network.getHvdcs().forEach(hvdc -> savePoint.getHvdcState(hvdc).restore());
+        } finally {
+            suspended = false;
+        }
+        while (!savePoints.isEmpty()) {
+            savePoints.removeLast().active = false;
+        }
+    }
+
+    private void onBusChange(LfBus bus) {
+        if (!suspended && bus != null) {
+            for (SavePoint savePoint : savePoints) {
+                savePoint.modifiedBuses.set(bus.getNum());
+            }
+        }
+    }
+
+    private void onBranchChange(LfBranch branch) {
+        if (!suspended) {
+            for (SavePoint savePoint : savePoints) {
+                savePoint.modifiedBranches.set(branch.getNum());
+            }
+        }
+    }
+
+    private void onHvdcChange(LfHvdc hvdc) {
+        if (!suspended) {
+            for (SavePoint savePoint : savePoints) {
+                savePoint.modifiedHvdcs.set(hvdc.getNum());
+            }
+        }
+    }
+
+    @Override
+    public void onGeneratorVoltageControlChange(LfBus controllerBus, boolean newVoltageControllerEnabled) {
+        onBusChange(controllerBus);
+    }
+
+    @Override
+    public void onGeneratorReactivePowerControlChange(LfBus controllerBus, boolean newReactiveControllerEnabled) {
+        onBusChange(controllerBus);
+    }
+
+    @Override
+    public void onTransformerPhaseControlChange(LfBranch controllerBranch, boolean newPhaseControlEnabled) {
+        onBranchChange(controllerBranch);
+    }
+
+    @Override
+    public void onTransformerVoltageControlChange(LfBranch controllerBranch, boolean newVoltageControllerEnabled) {
+        onBranchChange(controllerBranch);
+    }
+
+    @Override
+    public void onShuntVoltageControlChange(LfShunt controllerShunt, boolean newVoltageControllerEnabled) {
+        onBusChange(shuntBuses.get(controllerShunt));
+    }
+
+    @Override
+    public void onLoadActivePowerTargetChange(LfLoad load, double oldTargetP, double newTargetP) {
+        onBusChange(load.getBus());
+    }
+
+    @Override
+    public void onLoadReactivePowerTargetChange(LfLoad load, double oldTargetQ, double newTargetQ) {
+        onBusChange(load.getBus());
+    }
+
+    @Override
+    public void onGenerationActivePowerTargetChange(LfGenerator generator, double oldGenerationTargetP, double newGenerationTargetP) {
+        onBusChange(generator.getBus());
+    }
+
+    @Override
+    public void onGenerationReactivePowerTargetChange(LfBus bus, double oldGenerationTargetQ, double newGenerationTargetQ) {
+        onBusChange(bus);
+    }
+
+    @Override
+    public void onDisableChange(LfElement element, boolean disabled) {
+        if (element instanceof LfBus bus) {
+            onBusChange(bus);
+        } else if (element instanceof LfBranch branch) {
+            onBranchChange(branch);
+        } else if (element instanceof LfHvdc hvdc) {
+            onHvdcChange(hvdc);
+        } else if (element instanceof LfShunt shunt) {
+            onBusChange(shuntBuses.get(shunt));
+        }
+    }
+
+    @Override
+    public void onTapPositionChange(LfBranch branch, int oldPosition, int newPosition) {
+        onBranchChange(branch);
+    }
+
+    @Override
+    public void onShuntSusceptanceChange(LfShunt shunt, double b) {
+        onBusChange(shuntBuses.get(shunt));
+    }
+
+    @Override
+    public void onBranchConnectionStatusChange(LfBranch branch, TwoSides side, boolean connected) {
+        onBranchChange(branch);
+    }
+
+    @Override
+    public void onInjectionStateChange(LfBus bus) {
+        onBusChange(bus);
+    }
+}
@@ -72,4 +72,9 @@ public interface PiModel {
     PiModel setTapPosition(int tapPosition);
 
     Range<Integer> getTapPositionRange();
+
+    /**
+     * Create a deep copy of this pi model, not attached to any branch.
+     */
+    PiModel copy();
 }
@@ -8,6 +8,7 @@ package com.powsybl.openloadflow.network;
 
 import org.apache.commons.lang3.Range;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -393,4 +394,17 @@ public class PiModelArray implements PiModel {
     public Range<Integer> getTapPositionRange() {
         return Range.of(lowTapPosition, lowTapPosition + models.size() - 1);
     }
+
+    @Override
+    public PiModelArray copy() {
+        List<PiModel> modelsCopy = new ArrayList<>(models.size());
+        for (PiModel model : models) {
+            modelsCopy.add(model.copy());
+        }
+        PiModelArray copy = new PiModelArray(modelsCopy, lowTapPosition, getTapPosition());
+        copy.a1 = a1;
+        copy.r1 = r1;
+        copy.continuousR1 = continuousR1;
+        return copy;
+    }
 }
@@ -202,4 +202,17 @@ public class SimplePiModel implements PiModel {
     public Range<Integer> getTapPositionRange() {
         throw new IllegalStateException(NO_TAP_POSITION_ERROR);
     }
+
+    @Override
+    public SimplePiModel copy() {
+        return new SimplePiModel()
+                .setR(r)
+                .setX(x)
+                .setG1(g1)
+                .setB1(b1)
+                .setG2(g2)
+                .setB2(b2)
+                .setR1(r1)
+                .setA1(a1);
+    }
 }
@@ -75,6 +75,24 @@ public abstract class AbstractLfBranch extends AbstractElement implements LfBran
         }
     }
 
+    protected AbstractLfBranch(AbstractLfBranch other, LfNetwork network, LfBus bus1, LfBus bus2) {
+        super(other, network);
+        this.bus1 = bus1;
+        this.bus2 = bus2;
+        limits1.putAll(other.limits1);
+        limits2.putAll(other.limits2);
+        this.piModel = other.piModel.copy();
+        this.piModel.setBranch(this);
+        for (LoadFlowModel loadFlowModel : LoadFlowModel.values()) {
+            ZeroImpedanceContext context = new ZeroImpedanceContext();
+            context.zeroImpedance = other.zeroImpedanceContextByModel.get(loadFlowModel).zeroImpedance;
+            zeroImpedanceContextByModel.put(loadFlowModel, context);
+        }
+        phaseControlEnabled = other.phaseControlEnabled;
+        voltageControlEnabled = other.voltageControlEnabled;
+        asymLine = other.asymLine;
+    }
+
     protected static List<LfLimit> createSortedLimitsList(LoadingLimits loadingLimits, LfBus bus) {
         LinkedList<LfLimit> sortedLimits = new LinkedList<>();
         if (loadingLimits != null) {
@@ -94,6 +94,47 @@ public abstract class AbstractLfBus extends AbstractElement implements LfBus {
         this.distributedOnConformLoad = distributedOnConformLoad;
     }
 
+    protected AbstractLfBus(AbstractLfBus other, LfNetwork network) {
+        super(other, network);
+        if (other.asym != null) {
+            throw new PowsyblException("Copy of asymmetrical bus '" + other.getId() + "' is not supported");
+        }
+        slack = other.slack;
+        reference = other.reference;
+        v = other.v;
+        angle = other.angle;
+        hasGeneratorsWithSlope = other.hasGeneratorsWithSlope;
+        generatorVoltageControlEnabled = other.generatorVoltageControlEnabled;
+        generatorReactivePowerControlEnabled = other.generatorReactivePowerControlEnabled;
+        generationTargetQ = other.generationTargetQ;
+        qLimitType = other.qLimitType;
+        distributedOnConformLoad = other.distributedOnConformLoad;
+        remoteControlReactivePercent = other.remoteControlReactivePercent;
+        for (LfGenerator generator : other.generators) {
+            AbstractLfGenerator generatorCopy = ((AbstractLfGenerator) generator).copy(network, this);
+            generators.add(generatorCopy);
+            generatorCopy.setBus(this);
+            LfShunt standByAutomatonShunt = generator instanceof LfStaticVarCompensatorImpl svc ? svc.getStandByAutomatonShunt().orElse(null) : null;
+            if (standByAutomatonShunt != null) {
+                LfStaticVarCompensatorImpl svcCopy = (LfStaticVarCompensatorImpl) generatorCopy;
+                LfShunt standByAutomatonShuntCopy = ((LfStandbyAutomatonShunt) standByAutomatonShunt).copy(svcCopy);
+                svcCopy.setStandByAutomatonShunt(standByAutomatonShuntCopy);
+                if (standByAutomatonShunt == other.svcShunt) {
+                    svcShunt = standByAutomatonShuntCopy;
+                }
+            }
+        }
+        if (other.shunt != null) {
+            shunt = ((LfShuntImpl) other.shunt).copy(network, this);
+        }
+        if (other.controllerShunt != null) {
+            controllerShunt = ((LfShuntImpl) other.controllerShunt).copy(network, this);
+        }
+        for (LfLoad load : other.loads) {
+            loads.add(((LfLoadImpl) load).copy(this));
+        }
+    }
+
     @Override
     public ElementType getType() {
         return ElementType.BUS;
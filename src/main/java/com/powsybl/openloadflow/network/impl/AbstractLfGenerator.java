@@ -56,6 +56,26 @@ public abstract class AbstractLfGenerator extends AbstractLfInjection implements
         this.network = Objects.requireNonNull(network);
     }
 
+    protected AbstractLfGenerator(AbstractLfGenerator other, LfNetwork network) {
+        super(other);
+        this.network = Objects.requireNonNull(network);
+        this.calculatedQ = other.calculatedQ;
+        this.targetV = other.targetV;
+        this.generatorControlType = other.generatorControlType;
+        this.controlledBusId = other.controlledBusId;
+        this.controlledBranchId = other.controlledBranchId;
+        this.controlledBranchSide = other.controlledBranchSide;
+        this.remoteTargetQ = other.remoteTargetQ;
+        this.disabled = other.disabled;
+        this.asym = other.asym;
+    }
+
+    /**
+     * Create a copy of this generator for another network. The bus is the one the copy will be attached to, but the
+     * link is not made here.
+     */
+    protected abstract AbstractLfGenerator copy(LfNetwork network, LfBus bus);
+
     @Override
     public String getOriginalId() {
         return getId();
@@ -98,7 +118,20 @@ public abstract class AbstractLfGenerator extends AbstractLfInjection implements
 
     @Override
     public void setGeneratorControlType(GeneratorControlType generatorControlType) {
-        this.generatorControlType = Objects.requireNonNull(generatorControlType);
+        Objects.requireNonNull(generatorControlType);
+        if (generatorControlType != this.generatorControlType) {
+            this.generatorControlType = generatorControlType;
+            notifyInjectionStateChange();
+        }
+    }
+
+    protected void notifyInjectionStateChange() {
+        // generator might not be attached to its bus yet during network loading
+        if (bus != null) {
+            for (LfNetworkListener listener : bus.getNetwork().getListeners()) {
+                listener.onInjectionStateChange(bus);
+            }
+        }
     }
 
     @Override
@@ -365,7 +398,10 @@ public abstract class AbstractLfGenerator extends AbstractLfInjection implements
 
     @Override
     public void setDisabled(boolean disabled) {
-        this.disabled = disabled;
+        if (disabled != this.disabled) {
+            this.disabled = disabled;
+            notifyInjectionStateChange();
+        }
     }
 
     @Override
@@ -22,6 +22,12 @@ public abstract class AbstractLfInjection extends AbstractPropertyBag {
         this.targetP = targetP;
     }
 
+    protected AbstractLfInjection(AbstractLfInjection other) {
+        super(other);
+        this.initialTargetP = other.initialTargetP;
+        this.targetP = other.targetP;
+    }
+
     public double getInitialTargetP() {
         return initialTargetP;
     }
@@ -9,6 +9,7 @@ package com.powsybl.openloadflow.network.impl;
 import com.powsybl.iidm.network.Battery;
 import com.powsybl.iidm.network.ReactiveLimits;
 import com.powsybl.iidm.network.extensions.ActivePowerControl;
+import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.LfNetworkParameters;
 import com.powsybl.openloadflow.util.PerUnit;
@@ -52,6 +53,14 @@ public final class LfBatteryImpl extends AbstractLfGenerator {
         }
     }
 
+    private LfBatteryImpl(LfBatteryImpl other, LfNetwork network) {
+        super(other, network);
+        this.batteryRef = other.batteryRef;
+        this.participating = other.participating;
+        this.droop = other.droop;
+        this.participationFactor = other.participationFactor;
+    }
+
     public static LfBatteryImpl create(Battery battery, LfNetwork network, LfNetworkParameters parameters, LfNetworkLoadingReport report) {
         Objects.requireNonNull(battery);
         Objects.requireNonNull(network);
@@ -60,6 +69,11 @@ public final class LfBatteryImpl extends AbstractLfGenerator {
         return new LfBatteryImpl(battery, network, parameters, report);
     }
 
+    @Override
+    protected LfBatteryImpl copy(LfNetwork network, LfBus bus) {
+        return new LfBatteryImpl(this, network);
+    }
+
     private Battery getBattery() {
         return batteryRef.get();
     }
@@ -96,7 +110,10 @@ public final class LfBatteryImpl extends AbstractLfGenerator {
 
     @Override
     public void setParticipating(boolean participating) {
-        this.participating = participating;
+        if (participating != this.participating) {
+            this.participating = participating;
+            notifyInjectionStateChange();
+        }
     }
 
     @Override
@@ -29,6 +29,16 @@ public class LfBranchImpl extends AbstractImpedantLfBranch {
         this.branchRef = Ref.create(branch, parameters.isCacheEnabled());
     }
 
+    protected LfBranchImpl(LfBranchImpl other, LfNetwork network, LfBus bus1, LfBus bus2) {
+        super(other, network, bus1, bus2);
+        this.branchRef = other.branchRef;
+    }
+
+    @Override
+    public LfBranchImpl copy(LfNetwork network, LfBus bus1, LfBus bus2) {
+        return new LfBranchImpl(this, network, bus1, bus2);
+    }
+
     private static void createLineAsym(Line line, double zb, PiModel piModel, LfBranchImpl lfBranch) {
         var extension = line.getExtension(LineFortescue.class);
         if (extension != null) {
@@ -64,6 +64,23 @@ public class LfBusImpl extends AbstractLfBus {
         }
     }
 
+    protected LfBusImpl(LfBusImpl other, LfNetwork network) {
+        super(other, network);
+        this.busRef = other.busRef;
+        this.nominalV = other.nominalV;
+        this.lowVoltageLimit = other.lowVoltageLimit;
+        this.highVoltageLimit = other.highVoltageLimit;
+        this.participating = other.participating;
+        this.breakers = other.breakers;
+        this.country = other.country;
+        this.bbsIds = other.bbsIds;
+    }
+
+    @Override
+    public LfBusImpl copy(LfNetwork network) {
+        return new LfBusImpl(this, network);
+    }
+
     private static void createAsym(Bus bus, LfBusImpl lfBus) {
         double totalDeltaPa = 0;
         double totalDeltaQa = 0;
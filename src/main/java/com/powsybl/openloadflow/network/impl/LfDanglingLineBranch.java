@@ -28,6 +28,16 @@ public class LfDanglingLineBranch extends AbstractImpedantLfBranch {
         this.danglingLineRef = Ref.create(danglingLine, parameters.isCacheEnabled());
     }
 
+    protected LfDanglingLineBranch(LfDanglingLineBranch other, LfNetwork network, LfBus bus1, LfBus bus2) {
+        super(other, network, bus1, bus2);
+        this.danglingLineRef = other.danglingLineRef;
+    }
+
+    @Override
+    public LfDanglingLineBranch copy(LfNetwork network, LfBus bus1, LfBus bus2) {
+        return new LfDanglingLineBranch(this, network, bus1, bus2);
+    }
+
     public static LfDanglingLineBranch create(DanglingLine danglingLine, LfNetwork network, LfBus bus1, LfBus bus2,
                                               LfNetworkParameters parameters) {
         Objects.requireNonNull(danglingLine);
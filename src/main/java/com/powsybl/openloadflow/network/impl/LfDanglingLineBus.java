@@ -33,6 +33,17 @@ public class LfDanglingLineBus extends AbstractLfBus {
         }
     }
 
+    protected LfDanglingLineBus(LfDanglingLineBus other, LfNetwork network) {
+        super(other, network);
+        this.danglingLineRef = other.danglingLineRef;
+        this.nominalV = other.nominalV;
+    }
+
+    @Override
+    public LfDanglingLineBus copy(LfNetwork network) {
+        return new LfDanglingLineBus(this, network);
+    }
+
     private DanglingLine getDanglingLine() {
         return danglingLineRef.get();
     }
@@ -8,6 +8,7 @@ package com.powsybl.openloadflow.network.impl;
 
 import com.powsybl.iidm.network.DanglingLine;
 import com.powsybl.iidm.network.ReactiveLimits;
+import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.LfNetworkParameters;
 import com.powsybl.openloadflow.util.PerUnit;
@@ -40,6 +41,11 @@ public final class LfDanglingLineGenerator extends AbstractLfGenerator {
         }
     }
 
+    private LfDanglingLineGenerator(LfDanglingLineGenerator other, LfNetwork network) {
+        super(other, network);
+        this.danglingLineRef = other.danglingLineRef;
+    }
+
     public static LfDanglingLineGenerator create(DanglingLine danglingLine, LfNetwork network, String controlledLfBusId, LfNetworkParameters parameters,
                                                  LfNetworkLoadingReport report) {
         Objects.requireNonNull(danglingLine);
@@ -49,6 +55,11 @@ public final class LfDanglingLineGenerator extends AbstractLfGenerator {
         return new LfDanglingLineGenerator(danglingLine, network, controlledLfBusId, parameters, report);
     }
 
+    @Override
+    protected LfDanglingLineGenerator copy(LfNetwork network, LfBus bus) {
+        return new LfDanglingLineGenerator(this, network);
+    }
+
     private DanglingLine getDanglingLine() {
         return danglingLineRef.get();
     }
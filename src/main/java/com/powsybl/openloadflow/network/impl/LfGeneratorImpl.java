@@ -14,6 +14,7 @@ import com.powsybl.iidm.network.extensions.CoordinatedReactiveControl;
 import com.powsybl.iidm.network.extensions.GeneratorFortescue;
 import com.powsybl.iidm.network.extensions.RemoteReactivePowerControl;
 import com.powsybl.openloadflow.network.LfAsymGenerator;
+import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.LfNetworkParameters;
 import com.powsybl.openloadflow.util.PerUnit;
@@ -85,6 +86,15 @@ public final class LfGeneratorImpl extends AbstractLfGenerator {
         }
     }
 
+    private LfGeneratorImpl(LfGeneratorImpl other, LfNetwork network) {
+        super(other, network);
+        this.generatorRef = other.generatorRef;
+        this.participating = other.participating;
+        this.droop = other.droop;
+        this.participationFactor = other.participationFactor;
+        this.qPercent = other.qPercent;
+    }
+
     private static void createAsym(Generator generator, LfGeneratorImpl lfGenerator) {
         var extension = generator.getExtension(GeneratorFortescue.class);
         if (extension != null) {
@@ -130,6 +140,11 @@ public final class LfGeneratorImpl extends AbstractLfGenerator {
         return lfGenerator;
     }
 
+    @Override
+    protected LfGeneratorImpl copy(LfNetwork network, LfBus bus) {
+        return new LfGeneratorImpl(this, network);
+    }
+
     private Generator getGenerator() {
         return generatorRef.get();
     }
@@ -176,7 +191,10 @@ public final class LfGeneratorImpl extends AbstractLfGenerator {
 
     @Override
     public void setParticipating(boolean participating) {
-        this.participating = participating;
+        if (participating != this.participating) {
+            this.participating = participating;
+            notifyInjectionStateChange();
+        }
     }
 
     @Override
@@ -48,6 +48,27 @@ public class LfHvdcImpl extends AbstractElement implements LfHvdc {
         p0 = control.getP0();
     }
 
+    private LfHvdcImpl(LfHvdcImpl other, LfNetwork network, LfBus bus1, LfBus bus2) {
+        super(other, network);
+        this.id = other.id;
+        this.bus1 = bus1;
+        this.bus2 = bus2;
+        this.droop = other.droop;
+        this.p0 = other.p0;
+    }
+
+    @Override
+    public LfHvdcImpl copy(LfNetwork network, LfBus bus1, LfBus bus2) {
+        LfHvdcImpl copy = new LfHvdcImpl(this, network, bus1, bus2);
+        if (converterStation1 != null) {
+            copy.setConverterStation1((LfVscConverterStation) network.getGeneratorById(converterStation1.getId()));
+        }
+        if (converterStation2 != null) {
+            copy.setConverterStation2((LfVscConverterStation) network.getGeneratorById(converterStation2.getId()));
+        }
+        return copy;
+    }
+
     @Override
     public ElementType getType() {
         return ElementType.HVDC;
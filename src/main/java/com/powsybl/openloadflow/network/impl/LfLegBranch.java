@@ -31,6 +31,17 @@ public final class LfLegBranch extends AbstractImpedantLfBranch {
         this.legRef = Ref.create(leg, parameters.isCacheEnabled());
     }
 
+    private LfLegBranch(LfLegBranch other, LfNetwork network, LfBus bus1, LfBus bus2) {
+        super(other, network, bus1, bus2);
+        this.twtRef = other.twtRef;
+        this.legRef = other.legRef;
+    }
+
+    @Override
+    public LfLegBranch copy(LfNetwork network, LfBus bus1, LfBus bus2) {
+        return new LfLegBranch(this, network, bus1, bus2);
+    }
+
     private ThreeWindingsTransformer getTwt() {
         return twtRef.get();
     }
@@ -6,6 +6,7 @@
  */
 package com.powsybl.openloadflow.network.impl;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.DanglingLine;
 import com.powsybl.iidm.network.LccConverterStation;
 import com.powsybl.iidm.network.Load;
@@ -55,6 +56,24 @@ public class LfLoadImpl extends AbstractLfInjection implements LfLoad {
         this.loadModel = loadModel;
     }
 
+    private LfLoadImpl(LfLoadImpl other, LfBus bus) {
+        super(other);
+        this.bus = Objects.requireNonNull(bus);
+        this.distributedOnConformLoad = other.distributedOnConformLoad;
+        this.loadModel = other.loadModel;
+        loadsRefs.addAll(other.loadsRefs);
+        lccCsRefs.addAll(other.lccCsRefs);
+        targetQ = other.targetQ;
+        ensurePowerFactorConstantByLoad = other.ensurePowerFactorConstantByLoad;
+        loadsAbsVariableTargetP.addAll(other.loadsAbsVariableTargetP);
+        absVariableTargetP = other.absVariableTargetP;
+        loadsDisablingStatus = new LinkedHashMap<>(other.loadsDisablingStatus);
+    }
+
+    LfLoadImpl copy(LfBus bus) {
+        return new LfLoadImpl(this, bus);
+    }
+
     @Override
     public String getId() {
         return bus.getId() + "_load";
@@ -84,19 +103,23 @@ public class LfLoadImpl extends AbstractLfInjection implements LfLoad {
         targetP += p0 / PerUnit.SB;
         initialTargetP += p0 / PerUnit.SB;
         targetQ += load.getQ0() / PerUnit.SB;
+        if (isPowerFactorConstantByLoad(load)) {
+            ensurePowerFactorConstantByLoad = true;
+        }
+        double absTargetP = getAbsVariableTargetP(load);
+        loadsAbsVariableTargetP.add(absTargetP);
+        absVariableTargetP += absTargetP;
+    }
+
+    private boolean isPowerFactorConstantByLoad(Load load) {
         boolean hasVariableActivePower = false;
-        if (parameters.isDistributedOnConformLoad()) {
+        if (distributedOnConformLoad) {
             LoadDetail loadDetail = load.getExtension(LoadDetail.class);
             if (loadDetail != null) {
                 hasVariableActivePower = loadDetail.getFixedActivePower() != load.getP0();
             }
         }
-        if (p0 < 0 || hasVariableActivePower) {
-            ensurePowerFactorConstantByLoad = true;
-        }
-        double absTargetP = getAbsVariableTargetP(load);
-        loadsAbsVariableTargetP.add(absTargetP);
-        absVariableTargetP += absTargetP;
+        return load.getP0() < 0 || hasVariableActivePower;
     }
 
     void add(LccConverterStation lccCs, LfNetworkParameters parameters) {
@@ -152,7 +175,16 @@ public class LfLoadImpl extends AbstractLfInjection implements LfLoad {
 
     @Override
     public void setAbsVariableTargetP(double absVariableTargetP) {
-        this.absVariableTargetP = absVariableTargetP;
+        if (absVariableTargetP != this.absVariableTargetP) {
+            this.absVariableTargetP = absVariableTargetP;
+            notifyInjectionStateChange();
+        }
+    }
+
+    private void notifyInjectionStateChange() {
+        for (LfNetworkListener listener : bus.getNetwork().getListeners()) {
+            listener.onInjectionStateChange(bus);
+        }
     }
 
     private double getAbsVariableTargetP(Load load) {
@@ -236,6 +268,7 @@ public class LfLoadImpl extends AbstractLfInjection implements LfLoad {
     @Override
     public void setOriginalLoadDisabled(String originalId, boolean disabled) {
         loadsDisablingStatus.put(originalId, disabled);
+        notifyInjectionStateChange();
     }
 
     @Override
@@ -246,6 +279,32 @@ public class LfLoadImpl extends AbstractLfInjection implements LfLoad {
     @Override
     public void setOriginalLoadsDisablingStatus(Map<String, Boolean> originalLoadsDisablingStatus) {
         this.loadsDisablingStatus = Objects.requireNonNull(originalLoadsDisablingStatus);
+        notifyInjectionStateChange();
+    }
+
+    @Override
+    public void updateOriginalLoadPower(String originalId, double deltaP0, double deltaQ0) {
+        Objects.requireNonNull(originalId);
+        int index = -1;
+        for (int i = 0; i < loadsRefs.size(); i++) {
+            if (loadsRefs.get(i).get().getId().equals(originalId)) {
+                index = i;
+                break;
+            }
+        }
+        if (index == -1) {
+            throw new PowsyblException("Load '" + originalId + "' is not part of '" + getId() + "'");
+        }
+        setTargetP(targetP + deltaP0 / PerUnit.SB);
+        initialTargetP += deltaP0 / PerUnit.SB;
+        setTargetQ(targetQ + deltaQ0 / PerUnit.SB);
+
+        // participation of the load to slack distribution has also changed
+        Load load = loadsRefs.get(index).get();
+        double absTargetP = getAbsVariableTargetP(load);
+        absVariableTargetP += absTargetP - loadsAbsVariableTargetP.get(index);
+        loadsAbsVariableTargetP.set(index, absTargetP);
+        ensurePowerFactorConstantByLoad = loadsRefs.stream().anyMatch(r -> isPowerFactorConstantByLoad(r.get()));
     }
 
     private static double getPowerFactor(Load load) {
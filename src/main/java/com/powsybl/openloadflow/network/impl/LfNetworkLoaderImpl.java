@@ -929,6 +929,14 @@ public class LfNetworkLoaderImpl implements LfNetworkLoader<Network> {
         }
     }
 
+    private record ComponentToCreate(int numCc, int numSc, List<Bus> buses, List<Switch> switches, Reporter reporter) {
+    }
+
+    private LfNetwork create(ComponentToCreate component, Network network, LfTopoConfig topoConfig, LfNetworkParameters parameters) {
+        return create(component.numCc(), component.numSc(), network, component.buses(), component.switches(), topoConfig,
+                parameters, component.reporter());
+    }
+
     @Override
     public List<LfNetwork> load(Network network, LfTopoConfig topoConfig, LfNetworkParameters parameters, Reporter reporter) {
         Objects.requireNonNull(network);
@@ -970,16 +978,19 @@ public class LfNetworkLoaderImpl implements LfNetworkLoader<Network> {
             ? busesByCc.entrySet().stream().filter(e -> e.getKey().getLeft() == ComponentConstants.MAIN_NUM)
             : busesByCc.entrySet().stream();
 
-        List<LfNetwork> lfNetworks = filteredBusesByCcStream
+        // reporters are created here so that their order does not depend on the thread scheduling
+        List<ComponentToCreate> componentsToCreate = filteredBusesByCcStream
                 .map(e -> {
                     var networkKey = e.getKey();
                     int numCc = networkKey.getLeft();
                     int numSc = networkKey.getRight();
-                    List<Bus> lfBuses = e.getValue();
-                    return create(numCc, numSc, network, lfBuses, switchesByCc.get(networkKey), topoConfig,
-                            parameters, Reports.createLfNetworkReporter(reporter, numCc, numSc));
+                    return new ComponentToCreate(numCc, numSc, e.getValue(), switchesByCc.get(networkKey),
+                            Reports.createLfNetworkReporter(reporter, numCc, numSc));
                 })
-                .collect(Collectors.toList());
+                .toList();
+
+        List<LfNetwork> lfNetworks = Networks.mapConcurrently(network, componentsToCreate, parameters.getThreadCount(), c -> c.buses().size(),
+                c -> create(c, network, topoConfig, parameters));
 
         stopwatch.stop();
 
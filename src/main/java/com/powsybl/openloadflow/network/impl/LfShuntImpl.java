@@ -32,6 +32,11 @@ public class LfShuntImpl extends AbstractLfShunt {
             this.shuntCompensatorRef = shuntCompensatorRef;
         }
 
+        private ControllerImpl(ControllerImpl other) {
+            super(other);
+            this.shuntCompensatorRef = other.shuntCompensatorRef;
+        }
+
         private Ref<ShuntCompensator> getShuntCompensatorRef() {
             return shuntCompensatorRef;
         }
@@ -115,6 +120,27 @@ public class LfShuntImpl extends AbstractLfShunt {
         }
     }
 
+    private LfShuntImpl(LfShuntImpl other, LfNetwork network, LfBus bus) {
+        super(other, network);
+        shuntCompensatorsRefs = other.shuntCompensatorsRefs;
+        this.bus = Objects.requireNonNull(bus);
+        voltageControlCapability = other.voltageControlCapability;
+        voltageControlEnabled = other.voltageControlEnabled;
+        for (Controller controller : other.controllers) {
+            controllers.add(new ControllerImpl((ControllerImpl) controller));
+        }
+        b = other.b;
+        zb = other.zb;
+        g = other.g;
+    }
+
+    /**
+     * Create a copy of this shunt for another network. The shunt voltage control, if any, is not copied.
+     */
+    public LfShuntImpl copy(LfNetwork network, LfBus bus) {
+        return new LfShuntImpl(this, network, bus);
+    }
+
     private static double computeG(List<ShuntCompensator> shuntCompensators, double zb) {
         return zb * shuntCompensators.stream()
                 .mapToDouble(ShuntCompensator::getG)
@@ -164,7 +190,12 @@ public class LfShuntImpl extends AbstractLfShunt {
 
     @Override
     public void setG(double g) {
-        this.g = g;
+        if (g != this.g) {
+            this.g = g;
+            for (LfNetworkListener listener : getNetwork().getListeners()) {
+                listener.onInjectionStateChange(bus);
+            }
+        }
     }
 
     @Override
@@ -28,6 +28,17 @@ public class LfStarBus extends AbstractLfBus {
         nominalV = t3wt.getRatedU0();
     }
 
+    protected LfStarBus(LfStarBus other, LfNetwork network) {
+        super(other, network);
+        this.t3wtRef = other.t3wtRef;
+        this.nominalV = other.nominalV;
+    }
+
+    @Override
+    public LfStarBus copy(LfNetwork network) {
+        return new LfStarBus(this, network);
+    }
+
     private ThreeWindingsTransformer getT3wt() {
         return t3wtRef.get();
     }
@@ -12,6 +12,7 @@ import com.powsybl.iidm.network.ReactiveLimitsKind;
 import com.powsybl.iidm.network.StaticVarCompensator;
 import com.powsybl.iidm.network.extensions.StandbyAutomaton;
 import com.powsybl.iidm.network.extensions.VoltagePerReactivePowerControl;
+import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.LfNetworkParameters;
 import com.powsybl.openloadflow.network.LfShunt;
@@ -51,35 +52,7 @@ public final class LfStaticVarCompensatorImpl extends AbstractLfGenerator implem
         super(network, 0);
         this.svcRef = Ref.create(svc, parameters.isCacheEnabled());
         this.nominalV = svc.getTerminal().getVoltageLevel().getNominalV();
-        this.reactiveLimits = new MinMaxReactiveLimits() {
-
-            @Override
-            public double getMinQ() {
-                double v = bus.getV() * nominalV;
-                return svcRef.get().getBmin() * v * v;
-            }
-
-            @Override
-            public double getMaxQ() {
-                double v = bus.getV() * nominalV;
-                return svcRef.get().getBmax() * v * v;
-            }
-
-            @Override
-            public ReactiveLimitsKind getKind() {
-                return ReactiveLimitsKind.MIN_MAX;
-            }
-
-            @Override
-            public double getMinQ(double p) {
-                return getMinQ();
-            }
-
-            @Override
-            public double getMaxQ(double p) {
-                return getMaxQ();
-            }
-        };
+        this.reactiveLimits = createReactiveLimits(bus);
 
         if (svc.getRegulationMode() == StaticVarCompensator.RegulationMode.VOLTAGE) {
             setVoltageControl(svc.getVoltageSetpoint(), svc.getTerminal(), svc.getRegulatingTerminal(), parameters, report);
@@ -112,6 +85,49 @@ public final class LfStaticVarCompensatorImpl extends AbstractLfGenerator implem
         }
     }
 
+    private LfStaticVarCompensatorImpl(LfStaticVarCompensatorImpl other, LfNetwork network, LfBus bus) {
+        super(other, network);
+        this.svcRef = other.svcRef;
+        this.nominalV = other.nominalV;
+        this.reactiveLimits = createReactiveLimits(bus);
+        this.slope = other.slope;
+        this.targetQ = other.targetQ;
+        this.standByAutomaton = other.standByAutomaton;
+        this.b0 = other.b0;
+    }
+
+    private ReactiveLimits createReactiveLimits(LfBus bus) {
+        return new MinMaxReactiveLimits() {
+
+            @Override
+            public double getMinQ() {
+                double v = bus.getV() * nominalV;
+                return svcRef.get().getBmin() * v * v;
+            }
+
+            @Override
+            public double getMaxQ() {
+                double v = bus.getV() * nominalV;
+                return svcRef.get().getBmax() * v * v;
+            }
+
+            @Override
+            public ReactiveLimitsKind getKind() {
+                return ReactiveLimitsKind.MIN_MAX;
+            }
+
+            @Override
+            public double getMinQ(double p) {
+                return getMinQ();
+            }
+
+            @Override
+            public double getMaxQ(double p) {
+                return getMaxQ();
+            }
+        };
+    }
+
     public static LfStaticVarCompensatorImpl create(StaticVarCompensator svc, LfNetwork network, AbstractLfBus bus, LfNetworkParameters parameters,
                                                     LfNetworkLoadingReport report) {
         Objects.requireNonNull(svc);
@@ -122,6 +138,14 @@ public final class LfStaticVarCompensatorImpl extends AbstractLfGenerator implem
         return new LfStaticVarCompensatorImpl(svc, network, bus, parameters, report);
     }
 
+    /**
+     * The stand by automaton shunt, if any, is not copied: it has to be re-created from the copy by the bus.
+     */
+    @Override
+    protected LfStaticVarCompensatorImpl copy(LfNetwork network, LfBus bus) {
+        return new LfStaticVarCompensatorImpl(this, network, bus);
+    }
+
     private StaticVarCompensator getSvc() {
         return svcRef.get();
     }
@@ -31,6 +31,16 @@ public class LfSwitch extends AbstractLfBranch {
         this.switchRef = Ref.create(aSwitch, parameters.isCacheEnabled());
     }
 
+    protected LfSwitch(LfSwitch other, LfNetwork network, LfBus bus1, LfBus bus2) {
+        super(other, network, bus1, bus2);
+        this.switchRef = other.switchRef;
+    }
+
+    @Override
+    public LfSwitch copy(LfNetwork network, LfBus bus1, LfBus bus2) {
+        return new LfSwitch(this, network, bus1, bus2);
+    }
+
     private Switch getSwitch() {
         return switchRef.get();
     }
@@ -32,6 +32,18 @@ public class LfTieLineBranch extends AbstractImpedantLfBranch {
         this.id = tieLine.getId();
     }
 
+    protected LfTieLineBranch(LfTieLineBranch other, LfNetwork network, LfBus bus1, LfBus bus2) {
+        super(other, network, bus1, bus2);
+        this.danglingLine1Ref = other.danglingLine1Ref;
+        this.danglingLine2Ref = other.danglingLine2Ref;
+        this.id = other.id;
+    }
+
+    @Override
+    public LfTieLineBranch copy(LfNetwork network, LfBus bus1, LfBus bus2) {
+        return new LfTieLineBranch(this, network, bus1, bus2);
+    }
+
     public static LfTieLineBranch create(TieLine line, LfNetwork network, LfBus bus1, LfBus bus2, LfNetworkParameters parameters) {
         Objects.requireNonNull(line);
         Objects.requireNonNull(network);
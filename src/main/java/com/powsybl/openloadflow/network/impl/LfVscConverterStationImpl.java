@@ -11,6 +11,7 @@ import com.powsybl.iidm.network.ReactiveLimits;
 import com.powsybl.iidm.network.VscConverterStation;
 import com.powsybl.iidm.network.util.HvdcUtils;
 import com.powsybl.openloadflow.network.LfHvdc;
+import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.LfNetworkParameters;
 import com.powsybl.openloadflow.network.LfVscConverterStation;
@@ -41,6 +42,12 @@ public class LfVscConverterStationImpl extends AbstractLfGenerator implements Lf
         }
     }
 
+    protected LfVscConverterStationImpl(LfVscConverterStationImpl other, LfNetwork network) {
+        super(other, network);
+        this.stationRef = other.stationRef;
+        this.lossFactor = other.lossFactor;
+    }
+
     public static LfVscConverterStationImpl create(VscConverterStation station, LfNetwork network, LfNetworkParameters parameters, LfNetworkLoadingReport report) {
         Objects.requireNonNull(station);
         Objects.requireNonNull(network);
@@ -48,6 +55,11 @@ public class LfVscConverterStationImpl extends AbstractLfGenerator implements Lf
         return new LfVscConverterStationImpl(station, network, parameters, report);
     }
 
+    @Override
+    protected LfVscConverterStationImpl copy(LfNetwork network, LfBus bus) {
+        return new LfVscConverterStationImpl(this, network);
+    }
+
     VscConverterStation getStation() {
         return stationRef.get();
     }
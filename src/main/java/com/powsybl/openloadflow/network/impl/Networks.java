@@ -12,8 +12,11 @@ import com.powsybl.iidm.network.*;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.impl.extensions.OverloadManagementSystem;
 import com.powsybl.openloadflow.network.impl.extensions.SubstationAutomationSystems;
+import com.powsybl.openloadflow.util.ConcurrencyUtil;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -212,6 +215,46 @@ public final class Networks {
         }
     }
 
+    /**
+     * IIDM computes bus views and connected components lazily and without synchronization: compute them from the
+     * calling thread before reading the network from several threads. Both views are needed as some equipments are
+     * read from the bus view even in bus breaker mode and conversely.
+     */
+    private static void prepareConcurrentReads(Network network) {
+        for (Bus bus : network.getBusView().getBuses()) {
+            bus.getConnectedComponent();
+            bus.getSynchronousComponent();
+        }
+        for (Bus bus : network.getBusBreakerView().getBuses()) {
+            bus.getConnectedComponent();
+            bus.getSynchronousComponent();
+        }
+    }
+
+    /**
+     * Apply a function only reading the IIDM network to each item, on at most thread count threads, and return
+     * results in item order. The working variant of the calling thread is also the one of the workers.
+     */
+    public static <T, R> List<R> mapConcurrently(Network network, List<T> items, int threadCount, ToIntFunction<T> weightGetter,
+                                                 Function<T, R> mapper) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(mapper);
+        if (threadCount <= 1 || items.size() <= 1) {
+            return ConcurrencyUtil.map(items, 1, weightGetter, mapper);
+        }
+        prepareConcurrentReads(network);
+        VariantManager variantManager = network.getVariantManager();
+        String workingVariantId = variantManager.getWorkingVariantId();
+        boolean variantMultiThreadAccess = variantManager.isVariantMultiThreadAccessAllowed();
+        return ConcurrencyUtil.map(items, threadCount, weightGetter, item -> {
+            if (variantMultiThreadAccess) {
+                // working variant is thread local in that case
+                variantManager.setWorkingVariant(workingVariantId);
+            }
+            return mapper.apply(item);
+        });
+    }
+
     public static Iterable<Bus> getBuses(Network network, boolean breaker) {
         return breaker ? network.getBusBreakerView().getBuses()
                        : network.getBusView().getBuses();
@@ -6,9 +6,12 @@
  */
 package com.powsybl.openloadflow.network.impl;
 
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyElement;
+import com.powsybl.contingency.ContingencyElementType;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControl;
 import com.powsybl.iidm.network.extensions.LoadDetail;
@@ -20,6 +23,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.RoundingMode;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,6 +35,8 @@ public class PropagatedContingency {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(PropagatedContingency.class);
 
+    private static final int BATCH_COUNT_PER_THREAD = 4;
+
     private final Contingency contingency;
 
     private final int index;
@@ -109,13 +115,59 @@ public class PropagatedContingency {
                               load.getQ0() / PerUnit.SB); // ensurePowerFactorConstant is not supported.
     }
 
+    private record ElementKey(ContingencyElementType type, String id) {
+    }
+
+    private static List<ElementKey> getElementKeys(Contingency contingency) {
+        return contingency.getElements().stream().map(element -> new ElementKey(element.getType(), element.getId())).toList();
+    }
+
+    private record Propagation(PropagatedContingency propagatedContingency, LfTopoConfig topoConfig) {
+    }
+
+    /**
+     * Propagate contingencies, on several threads if configured so. Propagation only reads the IIDM network, each
+     * contingency being propagated with its own topo config which is then merged into the given one. Contingencies
+     * with the same elements are only propagated once. Propagated contingencies are in the same order as the given
+     * contingencies.
+     */
     public static List<PropagatedContingency> createList(Network network, List<Contingency> contingencies, LfTopoConfig topoConfig,
                                                          PropagatedContingencyCreationParameters creationParameters) {
-        List<PropagatedContingency> propagatedContingencies = new ArrayList<>();
+        Map<List<ElementKey>, Integer> propagationIndexByElementKeys = new HashMap<>();
+        int[] propagationIndexes = new int[contingencies.size()];
+        List<Integer> indexesToPropagate = new ArrayList<>();
+        for (int index = 0; index < contingencies.size(); index++) {
+            int propagationIndex = propagationIndexByElementKeys.computeIfAbsent(getElementKeys(contingencies.get(index)), k -> indexesToPropagate.size());
+            if (propagationIndex == indexesToPropagate.size()) {
+                indexesToPropagate.add(index);
+            }
+            propagationIndexes[index] = propagationIndex;
+        }
+
+        int threadCount = creationParameters.getThreadCount();
+        int batchSize = IntMath.divide(indexesToPropagate.size(), threadCount * BATCH_COUNT_PER_THREAD, RoundingMode.CEILING);
+        List<Propagation> propagations = Networks.mapConcurrently(network, Lists.partition(indexesToPropagate, Math.max(batchSize, 1)),
+                threadCount, List::size, batch -> batch.stream().map(index -> {
+                    LfTopoConfig contingencyTopoConfig = new LfTopoConfig();
+                    PropagatedContingency propagatedContingency = create(network, contingencies.get(index), index, contingencyTopoConfig,
+                            creationParameters);
+                    return new Propagation(propagatedContingency, contingencyTopoConfig);
+                }).toList())
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+
+        for (Propagation propagation : propagations) {
+            topoConfig.getBranchIdsOpenableSide1().addAll(propagation.topoConfig().getBranchIdsOpenableSide1());
+            topoConfig.getBranchIdsOpenableSide2().addAll(propagation.topoConfig().getBranchIdsOpenableSide2());
+        }
+
+        List<PropagatedContingency> propagatedContingencies = new ArrayList<>(contingencies.size());
         for (int index = 0; index < contingencies.size(); index++) {
-            Contingency contingency = contingencies.get(index);
-            PropagatedContingency propagatedContingency =
-                    PropagatedContingency.create(network, contingency, index, topoConfig, creationParameters);
+            PropagatedContingency propagatedContingency = propagations.get(propagationIndexes[index]).propagatedContingency();
+            if (propagatedContingency.getIndex() != index) {
+                propagatedContingency = propagatedContingency.copy(contingencies.get(index), index);
+            }
             propagatedContingencies.add(propagatedContingency);
             topoConfig.getSwitchesToOpen().addAll(propagatedContingency.switchesToOpen);
             topoConfig.getBusIdsToLose().addAll(propagatedContingency.busIdsToLose);
@@ -123,6 +175,20 @@ public class PropagatedContingency {
         return propagatedContingencies;
     }
 
+    /**
+     * Copy of the propagation for another contingency with the same elements.
+     */
+    private PropagatedContingency copy(Contingency otherContingency, int otherIndex) {
+        PropagatedContingency copy = new PropagatedContingency(otherContingency, otherIndex, new HashSet<>(switchesToOpen),
+                new HashSet<>(terminalsToDisconnect), new HashSet<>(busIdsToLose));
+        copy.branchIdsToOpen.putAll(branchIdsToOpen);
+        copy.hvdcIdsToOpen.addAll(hvdcIdsToOpen);
+        copy.generatorIdsToLose.addAll(generatorIdsToLose);
+        loadIdsToLoose.forEach((id, shift) -> copy.loadIdsToLoose.put(id, new PowerShift(shift.getActive(), shift.getVariableActive(), shift.getReactive())));
+        shuntIdsToShift.forEach((id, shift) -> copy.shuntIdsToShift.put(id, new AdmittanceShift(shift.getG(), shift.getB())));
+        return copy;
+    }
+
     private static PropagatedContingency create(Network network, Contingency contingency, int index, LfTopoConfig topoConfig,
                                                 PropagatedContingencyCreationParameters creationParameters) {
         Set<Switch> switchesToOpen = new HashSet<>();
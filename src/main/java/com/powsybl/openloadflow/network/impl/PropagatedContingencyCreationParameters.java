@@ -23,6 +23,8 @@ public class PropagatedContingencyCreationParameters {
 
     private boolean hvdcAcEmulation = LoadFlowParameters.DEFAULT_HVDC_AC_EMULATION_ON;
 
+    private int threadCount = 1;
+
     public boolean isContingencyPropagation() {
         return contingencyPropagation;
     }
@@ -58,4 +60,13 @@ public class PropagatedContingencyCreationParameters {
         this.hvdcAcEmulation = hvdcAcEmulation;
         return this;
     }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public PropagatedContingencyCreationParameters setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+        return this;
+    }
 }
@@ -7,11 +7,9 @@
 package com.powsybl.openloadflow.sa;
 
 import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
 import com.powsybl.openloadflow.network.impl.LfLegBranch;
-import com.powsybl.openloadflow.network.impl.LfStarBus;
-import com.powsybl.security.monitor.StateMonitor;
-import com.powsybl.security.monitor.StateMonitorIndex;
 import com.powsybl.security.results.BranchResult;
 import com.powsybl.security.results.BusResult;
 import com.powsybl.security.results.ThreeWindingsTransformerResult;
@@ -26,7 +24,7 @@ public abstract class AbstractNetworkResult {
 
     protected final LfNetwork network;
 
-    protected final StateMonitorIndex monitorIndex;
+    protected final LfStateMonitorIndex monitorIndex;
 
     protected final boolean createResultExtension;
 
@@ -34,32 +32,30 @@ public abstract class AbstractNetworkResult {
 
     protected final List<ThreeWindingsTransformerResult> threeWindingsTransformerResults = new ArrayList<>();
 
-    protected AbstractNetworkResult(LfNetwork network, StateMonitorIndex monitorIndex, boolean createResultExtension) {
-        this.network = Objects.requireNonNull(network);
+    protected AbstractNetworkResult(LfStateMonitorIndex monitorIndex, boolean createResultExtension) {
         this.monitorIndex = Objects.requireNonNull(monitorIndex);
+        this.network = monitorIndex.getNetwork();
         this.createResultExtension = createResultExtension;
     }
 
-    protected void addResults(StateMonitor monitor, Consumer<LfBranch> branchConsumer) {
+    protected void addResults(LfStateMonitorIndex.LfStateMonitor monitor, Consumer<LfBranch> branchConsumer) {
         Objects.requireNonNull(monitor);
-        if (!monitor.getBranchIds().isEmpty()) {
-            network.getBranches().stream()
-                    .filter(lfBranch -> monitor.getBranchIds().contains(lfBranch.getId()))
-                    .filter(lfBranch -> !lfBranch.isDisabled())
-                    .forEach(branchConsumer);
+        for (LfBranch branch : monitor.branches()) {
+            if (!branch.isDisabled()) {
+                branchConsumer.accept(branch);
+            }
         }
 
-        if (!monitor.getVoltageLevelIds().isEmpty()) {
-            network.getBuses().stream()
-                    .filter(lfBus -> monitor.getVoltageLevelIds().contains(lfBus.getVoltageLevelId()))
-                    .filter(lfBus -> !lfBus.isDisabled())
-                    .forEach(lfBus -> busResults.addAll(lfBus.createBusResults()));
+        for (LfBus bus : monitor.buses()) {
+            if (!bus.isDisabled()) {
+                busResults.addAll(bus.createBusResults());
+            }
         }
 
-        if (!monitor.getThreeWindingsTransformerIds().isEmpty()) {
-            monitor.getThreeWindingsTransformerIds().stream()
-                    .filter(id -> network.getBusById(LfStarBus.getId(id)) != null && !network.getBusById(LfStarBus.getId(id)).isDisabled())
-                    .forEach(id -> threeWindingsTransformerResults.add(LfLegBranch.createThreeWindingsTransformerResult(network, id, createResultExtension)));
+        for (int i = 0; i < monitor.threeWindingsTransformerIds().size(); i++) {
+            if (!monitor.starBuses().get(i).isDisabled()) {
+                threeWindingsTransformerResults.add(LfLegBranch.createThreeWindingsTransformerResult(network, monitor.threeWindingsTransformerIds().get(i), createResultExtension));
+            }
         }
     }
 
@@ -68,6 +64,10 @@ public abstract class AbstractNetworkResult {
         threeWindingsTransformerResults.clear();
     }
 
+    public LfStateMonitorIndex getMonitorIndex() {
+        return monitorIndex;
+    }
+
     public List<BusResult> getBusResults() {
         return busResults;
     }
@@ -7,6 +7,9 @@
 package com.powsybl.openloadflow.sa;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.computation.CompletableFutureTask;
@@ -27,6 +30,7 @@ import com.powsybl.openloadflow.lf.LoadFlowEngine;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.network.impl.*;
 import com.powsybl.openloadflow.network.util.ActivePowerDistribution;
+import com.powsybl.openloadflow.util.MetricsListener;
 import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.openloadflow.util.Reports;
 import com.powsybl.security.*;
@@ -43,9 +47,12 @@ import com.powsybl.security.strategy.OperatorStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -69,6 +76,10 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
     protected final Reporter reporter;
 
+    protected MetricsListener metricsListener = MetricsListener.NO_OP;
+
+    protected SecurityAnalysisResultHandler resultHandler;
+
     private static final String NOT_FOUND = "' not found in the network";
 
     protected AbstractSecurityAnalysis(Network network, MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory,
@@ -80,6 +91,14 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         this.reporter = Objects.requireNonNull(reporter);
     }
 
+    public void setMetricsListener(MetricsListener metricsListener) {
+        this.metricsListener = Objects.requireNonNull(metricsListener);
+    }
+
+    public void setResultHandler(SecurityAnalysisResultHandler resultHandler) {
+        this.resultHandler = Objects.requireNonNull(resultHandler);
+    }
+
     protected static SecurityAnalysisResult createNoResult() {
         return new SecurityAnalysisResult(new LimitViolationsResult(Collections.emptyList()), LoadFlowResult.ComponentResult.Status.FAILED, Collections.emptyList());
     }
@@ -114,6 +133,11 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         OpenLoadFlowParameters lfParametersExt = OpenLoadFlowParameters.get(securityAnalysisParameters.getLoadFlowParameters());
         OpenSecurityAnalysisParameters securityAnalysisParametersExt = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
 
+        // time budget includes contingencies creation and screening
+        Instant deadline = securityAnalysisParametersExt.getTimeBudget() > 0
+                ? Instant.now().plus(Duration.ofMillis(Math.round(securityAnalysisParametersExt.getTimeBudget() * 1000)))
+                : Instant.MAX;
+
         // check actions validity
         checkActions(network, actions);
 
@@ -132,25 +156,114 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
                 .setContingencyPropagation(securityAnalysisParametersExt.isContingencyPropagation())
                 .setShuntCompensatorVoltageControlOn(isShuntCompensatorVoltageControlOn(lfParameters))
                 .setSlackDistributionOnConformLoad(lfParameters.getBalanceType() == LoadFlowParameters.BalanceType.PROPORTIONAL_TO_CONFORM_LOAD)
-                .setHvdcAcEmulation(isHvdcAcEmulation(lfParameters));
+                .setHvdcAcEmulation(isHvdcAcEmulation(lfParameters))
+                .setThreadCount(securityAnalysisParametersExt.getThreadCount());
 
         List<PropagatedContingency> propagatedContingencies = PropagatedContingency.createList(network, contingencies, topoConfig, creationParameters);
 
-        var parameters = createParameters(lfParameters, lfParametersExt, topoConfig.isBreaker());
+        // index operator strategies and actions once for all contingencies
+        Map<String, Action> actionsById = indexActionsById(actions);
+        Set<Action> neededActions = new HashSet<>(actionsById.size());
+        Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId = indexOperatorStrategiesByContingencyId(propagatedContingencies, operatorStrategies, actionsById, neededActions);
+
+        // contingencies with operator strategies are always simulated as actions conditions depend on their results
+        ContingencyScreeningResult screeningResult = screenContingencies(propagatedContingencies, topoConfig, securityAnalysisParameters,
+                                                                         operatorStrategiesByContingencyId.keySet(), saReporter, deadline);
+        List<PropagatedContingency> simulatedContingencies = screeningResult.simulatedContingencies();
+
+        SecurityAnalysisResult result;
+        var parameters = createParameters(lfParameters, lfParametersExt, topoConfig.isBreaker())
+                .setMetricsListener(metricsListener);
 
         // create networks including all necessary switches
         try (LfNetworkList lfNetworks = Networks.load(network, parameters.getNetworkParameters(), topoConfig, saReporter)) {
             // run simulation on largest network
-            SecurityAnalysisResult result = lfNetworks.getLargest().filter(LfNetwork::isValid)
-                    .map(largestNetwork -> runSimulations(largestNetwork, propagatedContingencies, parameters, securityAnalysisParameters, operatorStrategies, actions))
+            result = lfNetworks.getLargest().filter(LfNetwork::isValid)
+                    .map(largestNetwork -> runSimulations(largestNetwork, simulatedContingencies, parameters, securityAnalysisParameters,
+                                                          operatorStrategiesByContingencyId, neededActions, deadline))
                     .orElse(createNoResult());
+        }
 
-            stopwatch.stop();
-            LOGGER.info("Security analysis {} in {} ms", Thread.currentThread().isInterrupted() ? "cancelled" : "done",
-                    stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        if (securityAnalysisParametersExt.isContingencyPrioritization()) {
+            result = sortResults(result, propagatedContingencies, operatorStrategies);
+        }
+        if (!screeningResult.screenedOutContingencyIds().isEmpty() && result.getPreContingencyResult().getStatus() == LoadFlowResult.ComponentResult.Status.CONVERGED) {
+            addScreenedOutContingencies(result, screeningResult.screenedOutContingencyIds());
+        }
+
+        stopwatch.stop();
+        LOGGER.info("Security analysis {} in {} ms", Thread.currentThread().isInterrupted() ? "cancelled" : "done",
+                stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+        return new SecurityAnalysisReport(result);
+    }
+
+    /**
+     * Contingencies to simulate and IDs of the contingencies screened-out before any simulation.
+     */
+    protected record ContingencyScreeningResult(List<PropagatedContingency> simulatedContingencies,
+                                                List<String> screenedOutContingencyIds) {
+    }
+
+    /**
+     * Select contingencies to simulate, in simulation order. By default, all of them, in the original order unless
+     * contingency prioritization is enabled. Selection must not go on after the deadline.
+     */
+    protected ContingencyScreeningResult screenContingencies(List<PropagatedContingency> propagatedContingencies, LfTopoConfig topoConfig,
+                                                             SecurityAnalysisParameters securityAnalysisParameters,
+                                                             Set<String> alwaysSimulatedContingencyIds, Reporter saReporter,
+                                                             Instant deadline) {
+        if (OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters).isContingencyPrioritization() && propagatedContingencies.size() > 1) {
+            LoadFlowParameters lfParameters = securityAnalysisParameters.getLoadFlowParameters();
+            List<PropagatedContingency> sortedContingencies = new DcContingencyScreening(network, matrixFactory, connectivityFactory)
+                    .prioritize(propagatedContingencies, topoConfig, lfParameters, OpenLoadFlowParameters.get(lfParameters), deadline);
+            return new ContingencyScreeningResult(sortedContingencies, Collections.emptyList());
+        }
+        return new ContingencyScreeningResult(propagatedContingencies, Collections.emptyList());
+    }
+
+    /**
+     * List screened-out contingencies in the result extension, together with contingencies and operator strategies not
+     * computed if any.
+     */
+    private static void addScreenedOutContingencies(SecurityAnalysisResult result, List<String> screenedOutContingencyIds) {
+        OlfSecurityAnalysisResult resultExt = result.getExtension(OlfSecurityAnalysisResult.class);
+        result.addExtension(OlfSecurityAnalysisResult.class,
+                            new OlfSecurityAnalysisResult(resultExt != null ? resultExt.getNotComputedContingencyIds() : Collections.emptyList(),
+                                                          resultExt != null ? resultExt.getNotComputedOperatorStrategyIds() : Collections.emptyList(),
+                                                          screenedOutContingencyIds));
+    }
 
-            return new SecurityAnalysisReport(result);
+    /**
+     * Sort post-contingency results following the original contingency order, and operator strategy results following
+     * the original contingency order and then the original operator strategy order, as if contingencies had been
+     * simulated in their original order.
+     */
+    private static SecurityAnalysisResult sortResults(SecurityAnalysisResult result, List<PropagatedContingency> propagatedContingencies,
+                                                      List<OperatorStrategy> operatorStrategies) {
+        Map<String, Integer> contingencyIndexes = new HashMap<>(propagatedContingencies.size());
+        for (PropagatedContingency propagatedContingency : propagatedContingencies) {
+            contingencyIndexes.put(propagatedContingency.getContingency().getId(), contingencyIndexes.size());
+        }
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>(result.getPostContingencyResults());
+        postContingencyResults.sort(Comparator.comparingInt(postContingencyResult -> contingencyIndexes.get(postContingencyResult.getContingency().getId())));
+
+        Map<String, Integer> operatorStrategyIndexes = new HashMap<>(operatorStrategies.size());
+        for (OperatorStrategy operatorStrategy : operatorStrategies) {
+            operatorStrategyIndexes.putIfAbsent(operatorStrategy.getId(), operatorStrategyIndexes.size());
         }
+        List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>(result.getOperatorStrategyResults());
+        operatorStrategyResults.sort(Comparator.<OperatorStrategyResult>comparingInt(operatorStrategyResult -> contingencyIndexes.get(operatorStrategyResult.getOperatorStrategy().getContingencyContext().getContingencyId()))
+                .thenComparingInt(operatorStrategyResult -> operatorStrategyIndexes.get(operatorStrategyResult.getOperatorStrategy().getId())));
+
+        SecurityAnalysisResult sortedResult = new SecurityAnalysisResult(result.getPreContingencyResult(), postContingencyResults, operatorStrategyResults);
+        OlfSecurityAnalysisResult resultExt = result.getExtension(OlfSecurityAnalysisResult.class);
+        if (resultExt != null) {
+            sortedResult.addExtension(OlfSecurityAnalysisResult.class,
+                                      new OlfSecurityAnalysisResult(resultExt.getNotComputedContingencyIds(), resultExt.getNotComputedOperatorStrategyIds(),
+                                                                    resultExt.getScreenedOutContingencyIds()));
+        }
+        return sortedResult;
     }
 
     protected abstract PostContingencyComputationStatus postContingencyStatusFromLoadFlowResult(R result);
@@ -290,9 +403,16 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
     }
 
     protected List<String> checkCondition(OperatorStrategy operatorStrategy, LimitViolationsResult limitViolationsResult) {
-        Set<String> limitViolationEquipmentIds = limitViolationsResult.getLimitViolations().stream()
+        return checkCondition(operatorStrategy, getLimitViolationEquipmentIds(limitViolationsResult));
+    }
+
+    private static Set<String> getLimitViolationEquipmentIds(LimitViolationsResult limitViolationsResult) {
+        return limitViolationsResult.getLimitViolations().stream()
                 .map(LimitViolation::getSubjectId)
                 .collect(Collectors.toSet());
+    }
+
+    private static List<String> checkCondition(OperatorStrategy operatorStrategy, Set<String> limitViolationEquipmentIds) {
         List<String> actionsIds = new ArrayList<>();
         for (ConditionalActions conditionalActions : operatorStrategy.getConditionalActions()) {
             if (checkCondition(conditionalActions, limitViolationEquipmentIds)) {
@@ -352,19 +472,46 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
     protected abstract LoadFlowEngine<V, E, P, R> createLoadFlowEngine(C context);
 
-    protected void afterPreContingencySimulation(P acParameters) {
+    protected void afterPreContingencySimulation(C context, OpenSecurityAnalysisParameters openSecurityAnalysisParameters) {
     }
 
-    protected SecurityAnalysisResult runSimulations(LfNetwork lfNetwork, List<PropagatedContingency> propagatedContingencies, P acParameters,
-                                                    SecurityAnalysisParameters securityAnalysisParameters, List<OperatorStrategy> operatorStrategies,
-                                                    List<Action> actions) {
-        Map<String, Action> actionsById = indexActionsById(actions);
-        Set<Action> neededActions = new HashSet<>(actionsById.size());
-        Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId = indexOperatorStrategiesByContingencyId(propagatedContingencies, operatorStrategies, actionsById, neededActions);
+    protected void afterPostContingencySimulations(C context) {
+    }
+
+    /**
+     * Called on each load flow context created to simulate operator strategies on a copy of a post-contingency
+     * network, so that it can be configured as the context of the original network after pre-contingency simulation.
+     */
+    protected void beforeOperatorStrategySimulations(C context, OpenSecurityAnalysisParameters openSecurityAnalysisParameters) {
+    }
+
+    /**
+     * Set the instant after which the post-contingency and post-action load flows run with a context are stopped. By
+     * default, load flows are not stopped.
+     */
+    protected void setSimulationDeadline(C context, Instant deadline) {
+    }
+
+    /**
+     * Whether the last load flow run with a context has been stopped at the deadline.
+     */
+    protected boolean isSimulationTimedOut(C context) {
+        return false;
+    }
+
+    private SecurityAnalysisResult runSimulations(LfNetwork lfNetwork, List<PropagatedContingency> propagatedContingencies, P acParameters,
+                                                  SecurityAnalysisParameters securityAnalysisParameters,
+                                                  Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId,
+                                                  Set<Action> neededActions, Instant deadline) {
         Map<String, LfAction> lfActionById = createLfActions(lfNetwork, neededActions, network, acParameters.getNetworkParameters()); // only convert needed actions
+        return runSimulations(lfNetwork, propagatedContingencies, acParameters, securityAnalysisParameters, operatorStrategiesByContingencyId,
+                              lfActionById, deadline);
+    }
 
-        LoadFlowParameters loadFlowParameters = securityAnalysisParameters.getLoadFlowParameters();
-        OpenLoadFlowParameters openLoadFlowParameters = OpenLoadFlowParameters.get(loadFlowParameters);
+    protected SecurityAnalysisResult runSimulations(LfNetwork lfNetwork, List<PropagatedContingency> propagatedContingencies, P acParameters,
+                                                    SecurityAnalysisParameters securityAnalysisParameters,
+                                                    Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId,
+                                                    Map<String, LfAction> lfActionById, Instant deadline) {
         OpenSecurityAnalysisParameters openSecurityAnalysisParameters = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
         boolean createResultExtension = openSecurityAnalysisParameters.isCreateResultExtension();
 
@@ -380,12 +527,16 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
             boolean preContingencyComputationOk = preContingencyLoadFlowResult.isSuccess();
             var preContingencyLimitViolationManager = new LimitViolationManager();
             List<PostContingencyResult> postContingencyResults = new ArrayList<>();
-            var preContingencyNetworkResult = new PreContingencyNetworkResult(lfNetwork, monitorIndex, createResultExtension);
+            // resolve monitored elements once for all the simulations of this network
+            var lfMonitorIndex = new LfStateMonitorIndex(lfNetwork, monitorIndex);
+            var preContingencyNetworkResult = new PreContingencyNetworkResult(lfMonitorIndex, createResultExtension);
             List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>();
+            List<String> notComputedContingencyIds = new ArrayList<>();
+            List<String> notComputedOperatorStrategyIds = new ArrayList<>();
 
             // only run post-contingency simulations if pre-contingency simulation is ok
             if (preContingencyComputationOk) {
-                afterPreContingencySimulation(acParameters);
+                afterPreContingencySimulation(context, openSecurityAnalysisParameters);
 
                 // update network result
                 preContingencyNetworkResult.update();
@@ -393,93 +544,569 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
                 // detect violations
                 preContingencyLimitViolationManager.detectViolations(lfNetwork);
 
-                // save base state for later restoration after each contingency
-                NetworkState networkState = NetworkState.save(lfNetwork);
-
-                // start a simulation for each of the contingency
-                Iterator<PropagatedContingency> contingencyIt = propagatedContingencies.iterator();
-                while (contingencyIt.hasNext() && !Thread.currentThread().isInterrupted()) {
-                    PropagatedContingency propagatedContingency = contingencyIt.next();
-                    propagatedContingency.toLfContingency(lfNetwork)
-                            .ifPresent(lfContingency -> { // only process contingencies that impact the network
-                                Reporter postContSimReporter = Reports.createPostContingencySimulation(networkReporter, lfContingency.getId());
-                                lfNetwork.setReporter(postContSimReporter);
-
-                                lfContingency.apply(loadFlowParameters.getBalanceType());
-
-                                distributedMismatch(lfNetwork, lfContingency.getActivePowerLoss(), loadFlowParameters, openLoadFlowParameters);
-
-                                var postContingencyResult = runPostContingencySimulation(lfNetwork, context, propagatedContingency.getContingency(),
-                                        lfContingency, preContingencyLimitViolationManager,
-                                        securityAnalysisParameters.getIncreasedViolationsParameters(),
-                                        preContingencyNetworkResult, createResultExtension);
-                                postContingencyResults.add(postContingencyResult);
-
-                                List<OperatorStrategy> operatorStrategiesForThisContingency = operatorStrategiesByContingencyId.get(lfContingency.getId());
-                                if (operatorStrategiesForThisContingency != null) {
-                                    // we have at least an operator strategy for this contingency.
-                                    if (operatorStrategiesForThisContingency.size() == 1) {
-                                        runActionSimulation(lfNetwork, context,
-                                                operatorStrategiesForThisContingency.get(0), preContingencyLimitViolationManager,
-                                                securityAnalysisParameters.getIncreasedViolationsParameters(), lfActionById,
-                                                createResultExtension, lfContingency, postContingencyResult.getLimitViolationsResult(),
-                                                acParameters.getNetworkParameters())
-                                                .ifPresent(operatorStrategyResults::add);
-                                    } else {
-                                        // save post contingency state for later restoration after action
-                                        NetworkState postContingencyNetworkState = NetworkState.save(lfNetwork);
-                                        for (OperatorStrategy operatorStrategy : operatorStrategiesForThisContingency) {
-                                            runActionSimulation(lfNetwork, context,
-                                                    operatorStrategy, preContingencyLimitViolationManager,
-                                                    securityAnalysisParameters.getIncreasedViolationsParameters(), lfActionById,
-                                                    createResultExtension, lfContingency, postContingencyResult.getLimitViolationsResult(),
-                                                    acParameters.getNetworkParameters())
-                                                    .ifPresent(result -> {
-                                                        operatorStrategyResults.add(result);
-                                                        postContingencyNetworkState.restore();
-                                                    });
-                                        }
-                                    }
-                                }
-
-                                if (contingencyIt.hasNext()) {
-                                    // restore base state
-                                    networkState.restore();
-                                }
-                            });
+                ContingencySimulationResult[] contingencySimulationResults = new ContingencySimulationResult[propagatedContingencies.size()];
+                // pre-contingency load flow is always run as its result is needed, but nothing else once the time
+                // budget is exhausted, not even the creation of the simulator and of its workers
+                if (Instant.now().isBefore(deadline)) {
+                    simulateContingencies(lfNetwork, context, networkReporter, lfMonitorIndex, lfActionById, preContingencyLimitViolationManager,
+                                          preContingencyNetworkResult, acParameters, securityAnalysisParameters, operatorStrategiesByContingencyId,
+                                          propagatedContingencies, contingencySimulationResults, deadline);
+                }
+
+                afterPostContingencySimulations(context);
+
+                // results in simulation order
+                for (int i = 0; i < contingencySimulationResults.length; i++) {
+                    ContingencySimulationResult contingencySimulationResult = contingencySimulationResults[i];
+                    if (contingencySimulationResult != null) {
+                        if (contingencySimulationResult.notComputed()) {
+                            notComputedContingencyIds.add(propagatedContingencies.get(i).getContingency().getId());
+                        } else if (contingencySimulationResult.postContingencyResult() != null) {
+                            postContingencyResults.add(contingencySimulationResult.postContingencyResult());
+                            operatorStrategyResults.addAll(contingencySimulationResult.operatorStrategyResults());
+                            notComputedOperatorStrategyIds.addAll(contingencySimulationResult.notComputedOperatorStrategyIds());
+                        }
+                    } else if (!Thread.currentThread().isInterrupted()) {
+                        // time budget is exhausted, remaining contingencies are not computed, except the ones without
+                        // any impact on the network which never have a result
+                        PropagatedContingency propagatedContingency = propagatedContingencies.get(i);
+                        if (propagatedContingency.toLfContingency(lfNetwork).isPresent()) {
+                            notComputedContingencyIds.add(propagatedContingency.getContingency().getId());
+                        }
+                    }
+                }
+                if (!notComputedContingencyIds.isEmpty() || !notComputedOperatorStrategyIds.isEmpty()) {
+                    LOGGER.warn("Time budget exhausted, {} contingencies not computed: {}, {} operator strategies not computed: {}",
+                            notComputedContingencyIds.size(), notComputedContingencyIds,
+                            notComputedOperatorStrategyIds.size(), notComputedOperatorStrategyIds);
+                    Reports.reportContingenciesNotComputed(networkReporter, notComputedContingencyIds, notComputedOperatorStrategyIds);
                 }
             }
 
-            return new SecurityAnalysisResult(
+            SecurityAnalysisResult result = new SecurityAnalysisResult(
                     new PreContingencyResult(
                             preContingencyLoadFlowResult.toComponentResultStatus(),
                             new LimitViolationsResult(preContingencyLimitViolationManager.getLimitViolations()),
                             preContingencyNetworkResult.getBranchResults(), preContingencyNetworkResult.getBusResults(),
                             preContingencyNetworkResult.getThreeWindingsTransformerResults()),
                     postContingencyResults, operatorStrategyResults);
+            if (!notComputedContingencyIds.isEmpty() || !notComputedOperatorStrategyIds.isEmpty()) {
+                result.addExtension(OlfSecurityAnalysisResult.class, new OlfSecurityAnalysisResult(notComputedContingencyIds, notComputedOperatorStrategyIds,
+                                                                                                   Collections.emptyList()));
+            }
+            return result;
         }
     }
 
-    private Optional<OperatorStrategyResult> runActionSimulation(LfNetwork network, C context, OperatorStrategy operatorStrategy,
-                                                                 LimitViolationManager preContingencyLimitViolationManager,
-                                                                 SecurityAnalysisParameters.IncreasedViolationsParameters violationsParameters,
-                                                                 Map<String, LfAction> lfActionById, boolean createResultExtension, LfContingency contingency,
-                                                                 LimitViolationsResult postContingencyLimitViolations, LfNetworkParameters networkParameters) {
-        OperatorStrategyResult operatorStrategyResult = null;
+    private void simulateContingencies(LfNetwork lfNetwork, C context, Reporter networkReporter, LfStateMonitorIndex lfMonitorIndex,
+                                       Map<String, LfAction> lfActionById, LimitViolationManager preContingencyLimitViolationManager,
+                                       PreContingencyNetworkResult preContingencyNetworkResult, P acParameters,
+                                       SecurityAnalysisParameters securityAnalysisParameters,
+                                       Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId,
+                                       List<PropagatedContingency> propagatedContingencies,
+                                       ContingencySimulationResult[] contingencySimulationResults, Instant deadline) {
+        try (var contingencySimulator = new ContingencySimulator(lfNetwork, context, networkReporter, lfMonitorIndex, lfActionById,
+                                                                 preContingencyLimitViolationManager, preContingencyNetworkResult,
+                                                                 acParameters, securityAnalysisParameters, operatorStrategiesByContingencyId)) {
+            // copy does not support asymmetrical networks
+            int threadCount = acParameters.getNetworkParameters().isAsymmetrical() ? 1
+                    : Math.min(OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters).getThreadCount(), propagatedContingencies.size());
+            if (threadCount > 1) {
+                runInParallel(threadCount, contingencySimulator, propagatedContingencies, contingencySimulationResults, deadline);
+            } else {
+                contingencySimulator.run(propagatedContingencies, new AtomicInteger(), contingencySimulationResults, deadline);
+            }
+        }
+    }
+
+    /**
+     * Simulate contingencies on several threads once the pre-contingency state has been computed. IIDM network and
+     * reporters are not thread safe, so each worker simulates contingencies on its own copy of the converged LF network,
+     * with its own load flow context, LF actions and reporter, all created from the calling thread. Workers take the
+     * next contingency to simulate from a shared counter, so that a group of long simulations does not delay a single
+     * thread.
+     */
+    private void runInParallel(int threadCount, ContingencySimulator contingencySimulator, List<PropagatedContingency> propagatedContingencies,
+                               ContingencySimulationResult[] contingencySimulationResults, Instant deadline) {
+        LOGGER.info("Running security analysis on {} threads", threadCount);
+        AtomicInteger nextContingencyIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                ContingencySimulator worker = contingencySimulator.createWorker(i);
+                futures.add(executor.submit(() -> {
+                    try (C workerContext = worker.context; worker) {
+                        afterPreContingencySimulation(workerContext, worker.securityAnalysisParametersExt);
+                        worker.run(propagatedContingencies, nextContingencyIndex, contingencySimulationResults, deadline);
+                        afterPostContingencySimulations(workerContext);
+                    }
+                }));
+            }
 
-        List<String> actionIds = checkCondition(operatorStrategy, postContingencyLimitViolations);
-        if (!actionIds.isEmpty()) {
-            operatorStrategyResult = runActionSimulation(network, context, operatorStrategy, actionIds, preContingencyLimitViolationManager,
-                    violationsParameters, lfActionById, createResultExtension, contingency, networkParameters);
+            boolean interrupted = false;
+            for (Future<?> future : futures) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        // interrupt workers so that they stop after their current contingency and wait for partial results
+                        interrupted = true;
+                        executor.shutdownNow();
+                    } catch (ExecutionException e) {
+                        if (e.getCause() instanceof RuntimeException runtimeException) {
+                            throw runtimeException;
+                        }
+                        throw new PowsyblException(e.getCause());
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            executor.shutdownNow();
         }
+    }
+
+    /**
+     * Post-contingency result of a contingency and results of its operator strategies, both already passed to the
+     * result handler, with the IDs of its operator strategies not computed before the deadline. A contingency without
+     * any impact on the LF network has no result, as a contingency not computed before the deadline.
+     */
+    private record ContingencySimulationResult(PostContingencyResult postContingencyResult, List<OperatorStrategyResult> operatorStrategyResults,
+                                               List<String> notComputedOperatorStrategyIds, boolean notComputed) {
 
-        return Optional.ofNullable(operatorStrategyResult);
+        private static final ContingencySimulationResult NO_IMPACT = new ContingencySimulationResult(null, Collections.emptyList(), Collections.emptyList(), false);
+
+        private static final ContingencySimulationResult NOT_COMPUTED = new ContingencySimulationResult(null, Collections.emptyList(), Collections.emptyList(), true);
     }
 
+    /**
+     * Simulates contingencies one after the other on a LF network whose pre-contingency state has been computed,
+     * restoring the pre-contingency state before each of them.
+     */
+    private final class ContingencySimulator implements AutoCloseable {
+
+        private final LfNetwork network;
+
+        private final C context;
+
+        private final Reporter networkReporter;
+
+        private final LfStateMonitorIndex lfMonitorIndex;
+
+        private final Map<String, LfAction> lfActionById;
+
+        private final LimitViolationManager preContingencyLimitViolationManager;
+
+        private final PreContingencyNetworkResult preContingencyNetworkResult;
+
+        private final P parameters;
+
+        private final SecurityAnalysisParameters securityAnalysisParameters;
+
+        private final OpenSecurityAnalysisParameters securityAnalysisParametersExt;
+
+        private final Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId;
+
+        private final NetworkState networkState;
+
+        private final OperatorStrategySimulator operatorStrategySimulator;
+
+        private boolean networkModified = false;
+
+        private ContingencySimulator(LfNetwork network, C context, Reporter networkReporter, LfStateMonitorIndex lfMonitorIndex,
+                                     Map<String, LfAction> lfActionById, LimitViolationManager preContingencyLimitViolationManager,
+                                     PreContingencyNetworkResult preContingencyNetworkResult, P parameters,
+                                     SecurityAnalysisParameters securityAnalysisParameters,
+                                     Map<String, List<OperatorStrategy>> operatorStrategiesByContingencyId) {
+            this.network = network;
+            this.context = context;
+            this.networkReporter = networkReporter;
+            this.lfMonitorIndex = lfMonitorIndex;
+            this.lfActionById = lfActionById;
+            this.preContingencyLimitViolationManager = preContingencyLimitViolationManager;
+            this.preContingencyNetworkResult = preContingencyNetworkResult;
+            this.parameters = parameters;
+            this.securityAnalysisParameters = securityAnalysisParameters;
+            this.securityAnalysisParametersExt = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
+            this.operatorStrategiesByContingencyId = operatorStrategiesByContingencyId;
+            // save base state for later restoration before each contingency
+            networkState = NetworkState.save(network);
+            operatorStrategySimulator = new OperatorStrategySimulator(network, context, lfMonitorIndex, lfActionById,
+                                                                      preContingencyLimitViolationManager, parameters, securityAnalysisParameters);
+        }
+
+        /**
+         * Create from the calling thread a simulator working on a copy of the network, to be run by another thread.
+         */
+        private ContingencySimulator createWorker(int workerIndex) {
+            LfNetwork networkCopy = network.copy(Reports.createSecurityAnalysisWorker(networkReporter, workerIndex));
+            LoadFlowParameters loadFlowParameters = securityAnalysisParameters.getLoadFlowParameters();
+            P parametersCopy = createParameters(loadFlowParameters, OpenLoadFlowParameters.get(loadFlowParameters),
+                                                parameters.getNetworkParameters().isBreakers())
+                    .setMetricsListener(metricsListener);
+            Map<String, LfAction> lfActionByIdCopy = new HashMap<>(lfActionById.size());
+            lfActionById.forEach((actionId, lfAction) -> lfActionByIdCopy.put(actionId, lfAction.copy(networkCopy)));
+            return new ContingencySimulator(networkCopy, createLoadFlowContext(networkCopy, parametersCopy), networkCopy.getReporter(),
+                                            new LfStateMonitorIndex(networkCopy, monitorIndex), lfActionByIdCopy,
+                                            preContingencyLimitViolationManager.copy(networkCopy), preContingencyNetworkResult,
+                                            parametersCopy, securityAnalysisParameters, operatorStrategiesByContingencyId);
+        }
+
+        /**
+         * Simulate contingencies taken from a shared counter until all of them have been taken, the thread has been
+         * interrupted or the time budget is exhausted.
+         */
+        private void run(List<PropagatedContingency> propagatedContingencies, AtomicInteger nextContingencyIndex,
+                         ContingencySimulationResult[] contingencySimulationResults, Instant deadline) {
+            while (!Thread.currentThread().isInterrupted() && Instant.now().isBefore(deadline)) {
+                int i = nextContingencyIndex.getAndIncrement();
+                if (i >= propagatedContingencies.size()) {
+                    break;
+                }
+                contingencySimulationResults[i] = simulate(propagatedContingencies.get(i), deadline);
+            }
+        }
+
+        private ContingencySimulationResult simulate(PropagatedContingency propagatedContingency, Instant deadline) {
+            if (networkModified) {
+                // restore base state
+                networkState.restore();
+                networkModified = false;
+            }
+
+            Optional<LfContingency> optLfContingency = propagatedContingency.toLfContingency(network);
+            if (optLfContingency.isEmpty()) {
+                // only process contingencies that impact the network
+                return ContingencySimulationResult.NO_IMPACT;
+            }
+            LfContingency lfContingency = optLfContingency.get();
+            networkModified = true;
+
+            // simulation of the contingency and of its operator strategies is stopped at the end of its own time budget
+            // or of the one of the security analysis, whichever comes first
+            double contingencyTimeBudget = securityAnalysisParametersExt.getContingencyTimeBudget();
+            Instant simulationDeadline = deadline;
+            if (contingencyTimeBudget > 0) {
+                Instant contingencyDeadline = Instant.now().plus(Duration.ofMillis(Math.round(contingencyTimeBudget * 1000)));
+                if (contingencyDeadline.isBefore(simulationDeadline)) {
+                    simulationDeadline = contingencyDeadline;
+                }
+            }
+            setSimulationDeadline(context, simulationDeadline);
+
+            Reporter postContSimReporter = Reports.createPostContingencySimulation(networkReporter, lfContingency.getId());
+            network.setReporter(postContSimReporter);
+
+            LoadFlowParameters loadFlowParameters = securityAnalysisParameters.getLoadFlowParameters();
+            lfContingency.apply(loadFlowParameters.getBalanceType());
+
+            distributedMismatch(network, lfContingency.getActivePowerLoss(), loadFlowParameters, OpenLoadFlowParameters.get(loadFlowParameters));
+
+            var postContingencyResult = runPostContingencySimulation(network, context, propagatedContingency.getContingency(),
+                    lfContingency, preContingencyLimitViolationManager,
+                    securityAnalysisParameters.getIncreasedViolationsParameters(),
+                    preContingencyNetworkResult, lfMonitorIndex, securityAnalysisParametersExt.isCreateResultExtension());
+            if (postContingencyResult == null) {
+                // operator strategies are not simulated either as their conditions depend on post-contingency results
+                return ContingencySimulationResult.NOT_COMPUTED;
+            }
+            postContingencyResult = handle(postContingencyResult);
+
+            List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>();
+            List<String> notComputedOperatorStrategyIds = Collections.emptyList();
+            List<OperatorStrategy> operatorStrategiesForThisContingency = operatorStrategiesByContingencyId.get(lfContingency.getId());
+            if (operatorStrategiesForThisContingency != null) {
+                // we have at least an operator strategy for this contingency.
+                OperatorStrategySimulationResult operatorStrategySimulationResult = operatorStrategySimulator.run(lfContingency, operatorStrategiesForThisContingency,
+                                                                                                                   postContingencyResult.getLimitViolationsResult(),
+                                                                                                                   simulationDeadline);
+                for (OperatorStrategyResult operatorStrategyResult : operatorStrategySimulationResult.operatorStrategyResults()) {
+                    operatorStrategyResults.add(handle(operatorStrategyResult));
+                }
+                notComputedOperatorStrategyIds = operatorStrategySimulationResult.notComputedOperatorStrategyIds();
+            }
+
+            return new ContingencySimulationResult(postContingencyResult, operatorStrategyResults, notComputedOperatorStrategyIds, false);
+        }
+
+        @Override
+        public void close() {
+            operatorStrategySimulator.close();
+            if (networkModified) {
+                networkState.restore();
+                networkModified = false;
+            }
+        }
+    }
+
+    /**
+     * Pass a post-contingency result to the result handler if any, and then only keep its status, limit violations and
+     * connectivity result.
+     */
+    private PostContingencyResult handle(PostContingencyResult postContingencyResult) {
+        if (resultHandler == null) {
+            return postContingencyResult;
+        }
+        synchronized (resultHandler) {
+            resultHandler.onPostContingencyResult(postContingencyResult);
+        }
+        return new PostContingencyResult(postContingencyResult.getContingency(), postContingencyResult.getStatus(),
+                                         postContingencyResult.getLimitViolationsResult(),
+                                         Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                                         postContingencyResult.getConnectivityResult());
+    }
+
+    /**
+     * Pass an operator strategy result to the result handler if any, and then only keep its status and limit
+     * violations.
+     */
+    private OperatorStrategyResult handle(OperatorStrategyResult operatorStrategyResult) {
+        if (resultHandler == null) {
+            return operatorStrategyResult;
+        }
+        synchronized (resultHandler) {
+            resultHandler.onOperatorStrategyResult(operatorStrategyResult);
+        }
+        return new OperatorStrategyResult(operatorStrategyResult.getOperatorStrategy(), operatorStrategyResult.getStatus(),
+                                          operatorStrategyResult.getLimitViolationsResult(),
+                                          new NetworkResult(Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+    }
+
+    /**
+     * An operator strategy whose conditions are met, with the IDs of its actions to apply.
+     */
+    private record TriggeredOperatorStrategy(OperatorStrategy operatorStrategy, List<String> actionIds) {
+    }
+
+    /**
+     * Results of the operator strategies of a contingency, with the IDs of its triggered operator strategies not
+     * computed before the deadline.
+     */
+    private record OperatorStrategySimulationResult(List<OperatorStrategyResult> operatorStrategyResults, List<String> notComputedOperatorStrategyIds) {
+    }
+
+    /**
+     * Simulates the operator strategies of each contingency of a LF network.
+     * <p>
+     * As conditions of operator strategies only depend on post-contingency limit violations, operator strategies that
+     * cannot be triggered are discarded before any load flow. When several operator strategies are triggered and
+     * several threads are configured, each thread simulates its part of the operator strategies on its own copy of the
+     * LF network and its own load flow context. Copies and contexts are only created once, for the first contingency
+     * simulated in parallel, and then reused: the converged post-contingency state of the LF network is copied to them
+     * before each contingency, so that the network is not copied again and the equation system is only updated.
+     * Otherwise, operator strategies are simulated one after the other on the LF network itself, restoring the
+     * post-contingency state between them. In both cases results follow the operator strategies order.
+     */
+    private final class OperatorStrategySimulator implements AutoCloseable {
+
+        private final LfNetwork network;
+
+        private final C context;
+
+        private final LfStateMonitorIndex lfMonitorIndex;
+
+        private final Map<String, LfAction> lfActionById;
+
+        private final LimitViolationManager preContingencyLimitViolationManager;
+
+        private final LfNetworkParameters networkParameters;
+
+        private final SecurityAnalysisParameters securityAnalysisParameters;
+
+        private final OpenSecurityAnalysisParameters securityAnalysisParametersExt;
+
+        private final boolean createResultExtension;
+
+        private final int threadCount;
+
+        // network copy and load flow context of each thread, created once and reused for all contingencies
+        private final List<Worker> workers = new ArrayList<>();
+
+        private ExecutorService executor;
+
+        /**
+         * A copy of the LF network with its own load flow context, LF actions and monitor index, only used by one
+         * thread at a time.
+         */
+        private final class Worker implements AutoCloseable {
+
+            private final LfNetwork networkCopy;
+
+            private final C contextCopy;
+
+            private final Map<String, LfAction> lfActionByIdCopy;
+
+            private final LfStateMonitorIndex lfMonitorIndexCopy;
+
+            // state of the copy at creation, restored before each contingency to discard states saved since
+            private final NetworkState networkCopyState;
+
+            private Worker(int workerIndex) {
+                // created from the calling thread as the IIDM network is read
+                networkCopy = network.copy(Reports.createOperatorStrategySimulationWorker(network.getReporter(), workerIndex));
+                LoadFlowParameters loadFlowParameters = securityAnalysisParameters.getLoadFlowParameters();
+                P parametersCopy = createParameters(loadFlowParameters, OpenLoadFlowParameters.get(loadFlowParameters), networkParameters.isBreakers())
+                        .setMetricsListener(metricsListener);
+                contextCopy = createLoadFlowContext(networkCopy, parametersCopy);
+                beforeOperatorStrategySimulations(contextCopy, securityAnalysisParametersExt);
+                lfActionByIdCopy = new HashMap<>(lfActionById.size());
+                lfActionById.forEach((actionId, lfAction) -> lfActionByIdCopy.put(actionId, lfAction.copy(networkCopy)));
+                lfMonitorIndexCopy = new LfStateMonitorIndex(networkCopy, monitorIndex);
+                networkCopyState = NetworkState.save(networkCopy);
+            }
+
+            /**
+             * Copy the current post-contingency state of the LF network, from the calling thread.
+             */
+            private void reset(int workerIndex) {
+                networkCopyState.restore();
+                NetworkState.copy(network, networkCopy);
+                networkCopy.setReporter(Reports.createOperatorStrategySimulationWorker(network.getReporter(), workerIndex));
+            }
+
+            @Override
+            public void close() {
+                contextCopy.close();
+            }
+        }
+
+        private OperatorStrategySimulator(LfNetwork network, C context, LfStateMonitorIndex lfMonitorIndex, Map<String, LfAction> lfActionById,
+                                          LimitViolationManager preContingencyLimitViolationManager, P parameters,
+                                          SecurityAnalysisParameters securityAnalysisParameters) {
+            this.network = network;
+            this.context = context;
+            this.lfMonitorIndex = lfMonitorIndex;
+            this.lfActionById = lfActionById;
+            this.preContingencyLimitViolationManager = preContingencyLimitViolationManager;
+            this.networkParameters = parameters.getNetworkParameters();
+            this.securityAnalysisParameters = securityAnalysisParameters;
+            securityAnalysisParametersExt = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
+            createResultExtension = securityAnalysisParametersExt.isCreateResultExtension();
+            // copy does not support asymmetrical networks
+            threadCount = networkParameters.isAsymmetrical() ? 1 : securityAnalysisParametersExt.getOperatorStrategyThreadCount();
+        }
+
+        OperatorStrategySimulationResult run(LfContingency lfContingency, List<OperatorStrategy> operatorStrategies,
+                                             LimitViolationsResult postContingencyLimitViolations, Instant deadline) {
+            Set<String> limitViolationEquipmentIds = getLimitViolationEquipmentIds(postContingencyLimitViolations);
+            List<TriggeredOperatorStrategy> triggeredOperatorStrategies = new ArrayList<>(operatorStrategies.size());
+            for (OperatorStrategy operatorStrategy : operatorStrategies) {
+                List<String> actionIds = checkCondition(operatorStrategy, limitViolationEquipmentIds);
+                if (!actionIds.isEmpty()) {
+                    triggeredOperatorStrategies.add(new TriggeredOperatorStrategy(operatorStrategy, actionIds));
+                }
+            }
+            List<OperatorStrategyResult> results;
+            if (triggeredOperatorStrategies.size() > 1 && threadCount > 1) {
+                results = runInParallel(lfContingency, triggeredOperatorStrategies, deadline);
+            } else {
+                results = simulate(network, context, lfContingency, lfActionById, lfMonitorIndex, triggeredOperatorStrategies, deadline);
+            }
+            // results follow triggered operator strategies, and are null for the ones not computed before the deadline
+            List<OperatorStrategyResult> operatorStrategyResults = new ArrayList<>(results.size());
+            List<String> notComputedOperatorStrategyIds = new ArrayList<>();
+            for (int i = 0; i < results.size(); i++) {
+                OperatorStrategyResult result = results.get(i);
+                if (result != null) {
+                    operatorStrategyResults.add(result);
+                } else {
+                    notComputedOperatorStrategyIds.add(triggeredOperatorStrategies.get(i).operatorStrategy().getId());
+                }
+            }
+            return new OperatorStrategySimulationResult(operatorStrategyResults, notComputedOperatorStrategyIds);
+        }
+
+        private List<OperatorStrategyResult> simulate(LfNetwork lfNetwork, C loadFlowContext, LfContingency lfContingency,
+                                                      Map<String, LfAction> lfActions, LfStateMonitorIndex lfStateMonitorIndex,
+                                                      List<TriggeredOperatorStrategy> operatorStrategies, Instant deadline) {
+            setSimulationDeadline(loadFlowContext, deadline);
+            List<OperatorStrategyResult> results = new ArrayList<>(operatorStrategies.size());
+            // save post contingency state for later restoration after action
+            NetworkState postContingencyNetworkState = operatorStrategies.size() > 1 ? NetworkState.save(lfNetwork) : null;
+            for (int i = 0; i < operatorStrategies.size(); i++) {
+                if (!Instant.now().isBefore(deadline)) {
+                    // remaining operator strategies are not computed
+                    results.add(null);
+                    continue;
+                }
+                if (i > 0) {
+                    postContingencyNetworkState.restore();
+                }
+                TriggeredOperatorStrategy operatorStrategy = operatorStrategies.get(i);
+                results.add(runActionSimulation(lfNetwork, loadFlowContext, operatorStrategy.operatorStrategy(), operatorStrategy.actionIds(),
+                                                preContingencyLimitViolationManager, securityAnalysisParameters.getIncreasedViolationsParameters(),
+                                                lfActions, createResultExtension, lfContingency, networkParameters, lfStateMonitorIndex));
+            }
+            return results;
+        }
+
+        private Worker getWorker(int i) {
+            if (i == workers.size()) {
+                workers.add(new Worker(i));
+            }
+            return workers.get(i);
+        }
+
+        private List<OperatorStrategyResult> runInParallel(LfContingency lfContingency, List<TriggeredOperatorStrategy> operatorStrategies,
+                                                           Instant deadline) {
+            List<List<TriggeredOperatorStrategy>> partitions = Lists.partition(operatorStrategies,
+                    IntMath.divide(operatorStrategies.size(), threadCount, RoundingMode.CEILING));
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(threadCount);
+            }
+            List<Future<List<OperatorStrategyResult>>> futures = new ArrayList<>(partitions.size());
+            for (int i = 0; i < partitions.size(); i++) {
+                List<TriggeredOperatorStrategy> partition = partitions.get(i);
+                // post-contingency state is copied from the calling thread, workers only modify their own copy and
+                // report to their own reporter
+                Worker worker = getWorker(i);
+                worker.reset(i);
+                LfContingency lfContingencyCopy = lfContingency.copy(worker.networkCopy);
+                futures.add(executor.submit(() -> simulate(worker.networkCopy, worker.contextCopy, lfContingencyCopy, worker.lfActionByIdCopy,
+                                                           worker.lfMonitorIndexCopy, partition, deadline)));
+            }
+
+            List<OperatorStrategyResult> results = new ArrayList<>(operatorStrategies.size());
+            try {
+                for (Future<List<OperatorStrategyResult>> future : futures) {
+                    results.addAll(future.get());
+                }
+            } catch (InterruptedException e) {
+                // keep results of the operator strategies already simulated, the simulation stops after this contingency
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new PowsyblException(e.getCause());
+            }
+            return results;
+        }
+
+        @Override
+        public void close() {
+            if (executor != null) {
+                executor.shutdownNow();
+                // contexts can only be closed once workers interrupted during a simulation have stopped
+                Uninterruptibles.awaitTerminationUninterruptibly(executor);
+            }
+            workers.forEach(Worker::close);
+        }
+    }
+
+    /**
+     * Simulate a contingency, returning {@code null} when the simulation has been stopped at the deadline.
+     */
     protected PostContingencyResult runPostContingencySimulation(LfNetwork network, C context, Contingency contingency, LfContingency lfContingency,
                                                                  LimitViolationManager preContingencyLimitViolationManager,
                                                                  SecurityAnalysisParameters.IncreasedViolationsParameters violationsParameters,
-                                                                 PreContingencyNetworkResult preContingencyNetworkResult, boolean createResultExtension) {
+                                                                 PreContingencyNetworkResult preContingencyNetworkResult, LfStateMonitorIndex lfMonitorIndex,
+                                                                 boolean createResultExtension) {
         LOGGER.info("Start post contingency '{}' simulation on network {}", lfContingency.getId(), network);
         LOGGER.debug("Contingency '{}' impact on network {}: remove {} buses, remove {} branches, remove {} generators, shift {} shunts, shift {} loads",
                 lfContingency.getId(), network, lfContingency.getDisabledNetwork().getBuses(), lfContingency.getDisabledNetwork().getBranchesStatus(),
@@ -488,9 +1115,15 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         Stopwatch stopwatch = Stopwatch.createStarted();
 
         // restart LF on post contingency equation system
-        PostContingencyComputationStatus status = runActionLoadFlow(context); // FIXME: change name.
+        PostContingencyComputationStatus status = runPostContingencyLoadFlow(context, lfContingency);
+        if (isSimulationTimedOut(context)) {
+            LOGGER.warn("Post contingency '{}' simulation stopped at the deadline on network {} after {} ms", lfContingency.getId(),
+                    network, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            return null;
+        }
         var postContingencyLimitViolationManager = new LimitViolationManager(preContingencyLimitViolationManager, violationsParameters);
-        var postContingencyNetworkResult = new PostContingencyNetworkResult(network, monitorIndex, createResultExtension, preContingencyNetworkResult, contingency);
+        var postContingencyNetworkResult = new PostContingencyNetworkResult(lfMonitorIndex, createResultExtension,
+                                                                            preContingencyNetworkResult, contingency);
 
         if (status.equals(PostContingencyComputationStatus.CONVERGED)) {
             // update network result
@@ -503,6 +1136,7 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
         stopwatch.stop();
         LOGGER.info("Post contingency '{}' simulation done on network {} in {} ms", lfContingency.getId(),
                 network, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        metricsListener.onPostContingencySimulation(contingency.getId(), status, stopwatch.elapsed(TimeUnit.NANOSECONDS));
 
         var connectivityResult = new ConnectivityResult(lfContingency.getCreatedSynchronousComponentsCount(), 0,
                 lfContingency.getDisconnectedLoadActivePower() * PerUnit.SB,
@@ -517,12 +1151,15 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
                 connectivityResult);
     }
 
+    /**
+     * Simulate an operator strategy, returning {@code null} when the simulation has been stopped at the deadline.
+     */
     protected OperatorStrategyResult runActionSimulation(LfNetwork network, C context, OperatorStrategy operatorStrategy,
                                                          List<String> actionsIds,
                                                          LimitViolationManager preContingencyLimitViolationManager,
                                                          SecurityAnalysisParameters.IncreasedViolationsParameters violationsParameters,
                                                          Map<String, LfAction> lfActionById, boolean createResultExtension, LfContingency contingency,
-                                                         LfNetworkParameters networkParameters) {
+                                                         LfNetworkParameters networkParameters, LfStateMonitorIndex lfMonitorIndex) {
         LOGGER.info("Start operator strategy {} after contingency '{}' simulation on network {}", operatorStrategy.getId(),
                 operatorStrategy.getContingencyContext().getContingencyId(), network);
 
@@ -540,8 +1177,14 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
         // restart LF on post contingency and post actions equation system
         PostContingencyComputationStatus status = runActionLoadFlow(context);
+        if (isSimulationTimedOut(context)) {
+            LOGGER.warn("Operator strategy {} after contingency '{}' simulation stopped at the deadline on network {} after {} ms",
+                    operatorStrategy.getId(), operatorStrategy.getContingencyContext().getContingencyId(), network,
+                    stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            return null;
+        }
         var postActionsViolationManager = new LimitViolationManager(preContingencyLimitViolationManager, violationsParameters);
-        var postActionsNetworkResult = new PreContingencyNetworkResult(network, monitorIndex, createResultExtension);
+        var postActionsNetworkResult = new PreContingencyNetworkResult(lfMonitorIndex, createResultExtension);
 
         if (status.equals(PostContingencyComputationStatus.CONVERGED)) {
             // update network result
@@ -555,6 +1198,8 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
 
         LOGGER.info("Operator strategy {} after contingency '{}' simulation done on network {} in {} ms", operatorStrategy.getId(),
                 operatorStrategy.getContingencyContext().getContingencyId(), network, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        metricsListener.onOperatorStrategySimulation(operatorStrategy.getId(), operatorStrategy.getContingencyContext().getContingencyId(),
+                                                     status, stopwatch.elapsed(TimeUnit.NANOSECONDS));
 
         return new OperatorStrategyResult(operatorStrategy, status,
                                           new LimitViolationsResult(postActionsViolationManager.getLimitViolations()),
@@ -563,6 +1208,10 @@ public abstract class AbstractSecurityAnalysis<V extends Enum<V> & Quantity, E e
                                                             postActionsNetworkResult.getThreeWindingsTransformerResults()));
     }
 
+    protected PostContingencyComputationStatus runPostContingencyLoadFlow(C context, LfContingency lfContingency) {
+        return runActionLoadFlow(context);
+    }
+
     protected void beforeActionLoadFlowRun(C context) {
     }
 
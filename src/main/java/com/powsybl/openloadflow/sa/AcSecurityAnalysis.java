@@ -17,17 +17,23 @@ import com.powsybl.openloadflow.ac.AcLoadFlowResult;
 import com.powsybl.openloadflow.ac.AcloadFlowEngine;
 import com.powsybl.openloadflow.ac.equations.AcEquationType;
 import com.powsybl.openloadflow.ac.equations.AcVariableType;
+import com.powsybl.openloadflow.ac.solver.AcSolverStatus;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.lf.outerloop.OuterLoopStatus;
 import com.powsybl.openloadflow.network.LfBranch;
 import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfTopoConfig;
+import com.powsybl.openloadflow.network.impl.PropagatedContingency;
 import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
 import com.powsybl.openloadflow.util.Reports;
 import com.powsybl.security.PostContingencyComputationStatus;
+import com.powsybl.security.SecurityAnalysisParameters;
 import com.powsybl.security.monitor.StateMonitor;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -73,7 +79,53 @@ public class AcSecurityAnalysis extends AbstractSecurityAnalysis<AcVariableType,
     }
 
     @Override
-    protected void afterPreContingencySimulation(AcLoadFlowParameters acParameters) {
+    protected ContingencyScreeningResult screenContingencies(List<PropagatedContingency> propagatedContingencies, LfTopoConfig topoConfig,
+                                                             SecurityAnalysisParameters securityAnalysisParameters,
+                                                             Set<String> alwaysSimulatedContingencyIds, Reporter saReporter,
+                                                             Instant deadline) {
+        OpenSecurityAnalysisParameters securityAnalysisParametersExt = OpenSecurityAnalysisParameters.getOrDefault(securityAnalysisParameters);
+        if (!securityAnalysisParametersExt.isContingencyScreening() || propagatedContingencies.isEmpty()) {
+            return super.screenContingencies(propagatedContingencies, topoConfig, securityAnalysisParameters, alwaysSimulatedContingencyIds, saReporter,
+                                             deadline);
+        }
+        LoadFlowParameters lfParameters = securityAnalysisParameters.getLoadFlowParameters();
+        return new DcContingencyScreening(network, matrixFactory, connectivityFactory)
+                .screen(propagatedContingencies, topoConfig, lfParameters, OpenLoadFlowParameters.get(lfParameters),
+                        securityAnalysisParametersExt, alwaysSimulatedContingencyIds, saReporter, deadline);
+    }
+
+    @Override
+    protected void afterPreContingencySimulation(AcLoadFlowContext context, OpenSecurityAnalysisParameters openSecurityAnalysisParameters) {
+        configurePostContingencyParameters(context.getParameters(), openSecurityAnalysisParameters);
+    }
+
+    @Override
+    protected void beforeOperatorStrategySimulations(AcLoadFlowContext context, OpenSecurityAnalysisParameters openSecurityAnalysisParameters) {
+        configurePostContingencyParameters(context.getParameters(), openSecurityAnalysisParameters);
+    }
+
+    private static void configurePostContingencyParameters(AcLoadFlowParameters acParameters, OpenSecurityAnalysisParameters openSecurityAnalysisParameters) {
+        relaxSlackDistributionFailureBehavior(acParameters);
+        // bound the cost of each post-contingency and post-action load flow
+        int contingencyMaxIterations = openSecurityAnalysisParameters.getContingencyMaxIterations();
+        if (contingencyMaxIterations > 0) {
+            acParameters.getNewtonRaphsonParameters().setMaxIterations(contingencyMaxIterations);
+            acParameters.getNewtonKrylovParameters().setMaxIterations(contingencyMaxIterations);
+            acParameters.getFastDecoupledParameters().setMaxIterations(contingencyMaxIterations);
+        }
+    }
+
+    @Override
+    protected void setSimulationDeadline(AcLoadFlowContext context, Instant deadline) {
+        context.getParameters().setDeadline(deadline);
+    }
+
+    @Override
+    protected boolean isSimulationTimedOut(AcLoadFlowContext context) {
+        return context.getResult() != null && context.getResult().getSolverStatus() == AcSolverStatus.TIMEOUT;
+    }
+
+    private static void relaxSlackDistributionFailureBehavior(AcLoadFlowParameters acParameters) {
         // in some post-contingency computation, it does not remain elements to participate to slack distribution.
         // in that case, no exception should be thrown. If parameters were configured to throw, reconfigure to FAIL.
         // (the contingency will be marked as not converged)
@@ -94,6 +146,9 @@ public class AcSecurityAnalysis extends AbstractSecurityAnalysis<AcVariableType,
                 case SOLVER_FAILED -> PostContingencyComputationStatus.SOLVER_FAILED;
                 case NO_CALCULATION -> PostContingencyComputationStatus.NO_IMPACT;
                 case UNREALISTIC_STATE -> PostContingencyComputationStatus.FAILED;
+                // not reported in security analysis results, contingencies and operator strategies stopped at the
+                // deadline being listed as not computed
+                case TIMEOUT -> PostContingencyComputationStatus.FAILED;
             };
         }
     }
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.util.PerUnit;
+import com.powsybl.security.LimitViolationType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Branch limits of a LF network compiled into flat arrays, for limit violations detection.
+ * <p>
+ * There is one entry per branch side and limit type having limits, in branch, side and then limit type (current,
+ * active power, apparent power) order. Limits of each entry are sorted by decreasing severity. Only the limits are
+ * compiled: the current, active power or apparent power of each entry is still evaluated from its equation term when
+ * checked.
+ * <p>
+ * Limits are compiled once per LF network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class CompiledBranchLimits {
+
+    interface ViolationHandler {
+
+        void onViolation(LfBranch branch, LfBranch.LfLimit limit, LimitViolationType type, double scale, double value, TwoSides side);
+    }
+
+    private static final LimitType[] LIMIT_TYPES = {LimitType.CURRENT, LimitType.ACTIVE_POWER, LimitType.APPARENT_POWER};
+
+    private static final LimitViolationType[] LIMIT_VIOLATION_TYPES = {LimitViolationType.CURRENT, LimitViolationType.ACTIVE_POWER, LimitViolationType.APPARENT_POWER};
+
+    private final LfNetwork network;
+
+    private final LfBranch[] branches;
+
+    private final boolean[] side1;
+
+    private final byte[] typeIndexes;
+
+    private final double[] scales;
+
+    private final int[] limitStarts;
+
+    private final double[] limitValues;
+
+    private final LfBranch.LfLimit[] limits;
+
+    CompiledBranchLimits(LfNetwork network) {
+        this.network = Objects.requireNonNull(network);
+        List<LfBranch> entryBranches = new ArrayList<>();
+        List<Boolean> entrySides = new ArrayList<>();
+        List<Byte> entryTypes = new ArrayList<>();
+        List<Double> entryScales = new ArrayList<>();
+        List<LfBranch.LfLimit> entryLimits = new ArrayList<>();
+        List<Integer> entryLimitStarts = new ArrayList<>();
+        for (LfBranch branch : network.getBranches()) {
+            for (TwoSides side : TwoSides.values()) {
+                LfBus bus = side == TwoSides.ONE ? branch.getBus1() : branch.getBus2();
+                if (bus == null) {
+                    continue;
+                }
+                for (byte typeIndex = 0; typeIndex < LIMIT_TYPES.length; typeIndex++) {
+                    List<LfBranch.LfLimit> sideLimits = side == TwoSides.ONE ? branch.getLimits1(LIMIT_TYPES[typeIndex])
+                                                                             : branch.getLimits2(LIMIT_TYPES[typeIndex]);
+                    if (!sideLimits.isEmpty()) {
+                        entryBranches.add(branch);
+                        entrySides.add(side == TwoSides.ONE);
+                        entryTypes.add(typeIndex);
+                        entryScales.add(LIMIT_TYPES[typeIndex] == LimitType.CURRENT ? PerUnit.ib(bus.getNominalV()) : PerUnit.SB);
+                        entryLimitStarts.add(entryLimits.size());
+                        entryLimits.addAll(sideLimits);
+                    }
+                }
+            }
+        }
+
+        int entryCount = entryBranches.size();
+        branches = entryBranches.toArray(new LfBranch[0]);
+        side1 = new boolean[entryCount];
+        typeIndexes = new byte[entryCount];
+        scales = new double[entryCount];
+        limitStarts = new int[entryCount + 1];
+        for (int k = 0; k < entryCount; k++) {
+            side1[k] = entrySides.get(k);
+            typeIndexes[k] = entryTypes.get(k);
+            scales[k] = entryScales.get(k);
+            limitStarts[k] = entryLimitStarts.get(k);
+        }
+        limitStarts[entryCount] = entryLimits.size();
+        limits = entryLimits.toArray(new LfBranch.LfLimit[0]);
+        limitValues = new double[limits.length];
+        for (int j = 0; j < limits.length; j++) {
+            limitValues[j] = limits[j].getValue();
+        }
+    }
+
+    LfNetwork getNetwork() {
+        return network;
+    }
+
+    private double evalValue(int k) {
+        LfBranch branch = branches[k];
+        if (branch.isDisabled()) {
+            return Double.NaN;
+        }
+        return switch (typeIndexes[k]) {
+            case 0 -> side1[k] ? branch.getI1().eval() : branch.getI2().eval();
+            case 1 -> side1[k] ? branch.getP1().eval() : branch.getP2().eval();
+            default -> side1[k] ? branch.computeApparentPower1() : branch.computeApparentPower2();
+        };
+    }
+
+    /**
+     * Check the current, active power or apparent power of all entries against their limits and notify, for each entry,
+     * the most severe violated limit.
+     */
+    void check(ViolationHandler handler) {
+        for (int k = 0; k < branches.length; k++) {
+            double value = evalValue(k);
+            // a NaN value, for instance a disabled branch or the apparent power of a fictitious branch, is never violated
+            double magnitude = typeIndexes[k] == 1 ? Math.abs(value) : value;
+            int end = limitStarts[k + 1];
+            for (int j = limitStarts[k]; j < end; j++) {
+                if (magnitude > limitValues[j]) {
+                    handler.onViolation(branches[k], limits[j], LIMIT_VIOLATION_TYPES[typeIndexes[k]], scales[k], value,
+                                        side1[k] ? TwoSides.ONE : TwoSides.TWO);
+                    break;
+                }
+            }
+        }
+    }
+}
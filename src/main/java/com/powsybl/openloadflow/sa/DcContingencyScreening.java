@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.google.common.base.Stopwatch;
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.MatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcFastContingencyEngine;
+import com.powsybl.openloadflow.dc.DcLoadFlowContext;
+import com.powsybl.openloadflow.dc.DcLoadFlowEngine;
+import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
+import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import com.powsybl.openloadflow.network.*;
+import com.powsybl.openloadflow.network.impl.LfNetworkList;
+import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.openloadflow.network.impl.PropagatedContingency;
+import com.powsybl.openloadflow.util.Reports;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screening of contingencies before an AC security analysis.
+ * <p>
+ * Post-contingency active power flows of each contingency are estimated by DC load flows on a dedicated DC LF network,
+ * using the pre-contingency LU decomposition when possible (see {@link DcFastContingencyEngine}). The severity of a
+ * contingency is the loading of its most loaded branch, i.e. the ratio of the estimated flow to the branch permanent
+ * limit. Only contingencies whose severity is greater than a threshold or which are among the most severe ones are kept
+ * for AC simulation. Contingencies that could not be estimated, including the ones not estimated before the end of the
+ * time budget of the security analysis, are kept too.
+ * <p>
+ * Only branch loading is screened, voltage and angle limits being ignored. Screened-out contingencies are not simulated,
+ * so they have no result, and their ids are listed in the {@link OlfSecurityAnalysisResult} extension of the security
+ * analysis result and reported.
+ * <p>
+ * The same estimation is used to prioritize contingencies, so that the most severe ones are simulated first when the
+ * security analysis has a time budget.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class DcContingencyScreening {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DcContingencyScreening.class);
+
+    private final Network network;
+
+    private final MatrixFactory matrixFactory;
+
+    private final GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory;
+
+    private record Estimation(PropagatedContingency propagatedContingency, double severity) {
+    }
+
+    public DcContingencyScreening(Network network, MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory) {
+        this.network = Objects.requireNonNull(network);
+        this.matrixFactory = Objects.requireNonNull(matrixFactory);
+        this.connectivityFactory = Objects.requireNonNull(connectivityFactory);
+    }
+
+    private static double getLoading(List<LfBranch.LfLimit> limits, double value) {
+        if (limits.isEmpty() || Double.isNaN(value)) {
+            return 0;
+        }
+        // limits are sorted by decreasing severity, so permanent limit is the last one
+        double permanentLimit = limits.get(limits.size() - 1).getValue();
+        return permanentLimit > 0 ? Math.abs(value) / permanentLimit : 0;
+    }
+
+    private static double getBranchSideLoading(List<LfBranch.LfLimit> currentLimits, List<LfBranch.LfLimit> activePowerLimits,
+                                               List<LfBranch.LfLimit> apparentPowerLimits, double i, double p) {
+        // in DC, apparent power is approximated by active power
+        return Math.max(getLoading(currentLimits, i), Math.max(getLoading(activePowerLimits, p), getLoading(apparentPowerLimits, p)));
+    }
+
+    private static double getSeverity(LfNetwork lfNetwork) {
+        double severity = 0;
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            if (branch.isDisabled()) {
+                continue;
+            }
+            if (branch.getBus1() != null) {
+                severity = Math.max(severity, getBranchSideLoading(branch.getLimits1(LimitType.CURRENT), branch.getLimits1(LimitType.ACTIVE_POWER),
+                        branch.getLimits1(LimitType.APPARENT_POWER), branch.getI1().eval(), branch.getP1().eval()));
+            }
+            if (branch.getBus2() != null) {
+                severity = Math.max(severity, getBranchSideLoading(branch.getLimits2(LimitType.CURRENT), branch.getLimits2(LimitType.ACTIVE_POWER),
+                        branch.getLimits2(LimitType.APPARENT_POWER), branch.getI2().eval(), branch.getP2().eval()));
+            }
+        }
+        return severity;
+    }
+
+    /**
+     * Estimate contingencies one after the other until the deadline, the remaining ones are not estimated.
+     */
+    private List<Estimation> estimate(List<PropagatedContingency> propagatedContingencies, LfTopoConfig topoConfig,
+                                      LoadFlowParameters lfParameters, OpenLoadFlowParameters lfParametersExt, Instant deadline) {
+        List<Estimation> estimations = new ArrayList<>(propagatedContingencies.size());
+        if (!Instant.now().isBefore(deadline)) {
+            LOGGER.warn("Time budget exhausted, contingencies not estimated by DC load flow");
+            return estimations;
+        }
+
+        DcLoadFlowParameters dcParameters = OpenLoadFlowParameters.createDcParameters(network, lfParameters, lfParametersExt,
+                matrixFactory, connectivityFactory, false);
+        dcParameters.getNetworkParameters()
+                .setBreakers(topoConfig.isBreaker())
+                .setCacheEnabled(false); // force not caching as not supported in security analysis
+
+        try (LfNetworkList lfNetworks = Networks.load(network, dcParameters.getNetworkParameters(), topoConfig, Reporter.NO_OP)) {
+            Optional<LfNetwork> optLargestNetwork = lfNetworks.getLargest().filter(LfNetwork::isValid);
+            if (optLargestNetwork.isEmpty()) {
+                return estimations;
+            }
+            LfNetwork lfNetwork = optLargestNetwork.get();
+            try (DcLoadFlowContext context = new DcLoadFlowContext(lfNetwork, dcParameters)) {
+                if (!new DcLoadFlowEngine(context).run().isSuccess()) {
+                    return estimations;
+                }
+                // with phase shifter control, post-contingency states also depend on the outer loop
+                DcFastContingencyEngine fastContingencyEngine = dcParameters.getNetworkParameters().isPhaseControl() ? null : new DcFastContingencyEngine(context);
+                try {
+                    NetworkState networkState = NetworkState.save(lfNetwork);
+                    for (PropagatedContingency propagatedContingency : propagatedContingencies) {
+                        if (!Instant.now().isBefore(deadline)) {
+                            LOGGER.warn("Time budget exhausted, {} contingencies out of {} estimated by DC load flow",
+                                    estimations.size(), propagatedContingencies.size());
+                            break;
+                        }
+                        Optional<LfContingency> optLfContingency = propagatedContingency.toLfContingency(lfNetwork);
+                        if (optLfContingency.isEmpty()) {
+                            continue;
+                        }
+                        LfContingency lfContingency = optLfContingency.get();
+                        lfContingency.apply(lfParameters.getBalanceType());
+                        AbstractSecurityAnalysis.distributedMismatch(lfNetwork, lfContingency.getActivePowerLoss(), lfParameters, lfParametersExt);
+                        if (fastContingencyEngine != null && fastContingencyEngine.run(lfContingency)
+                                || new DcLoadFlowEngine(context).run().isSuccess()) {
+                            estimations.add(new Estimation(propagatedContingency, getSeverity(lfNetwork)));
+                        }
+                        networkState.restore();
+                    }
+                } finally {
+                    if (fastContingencyEngine != null) {
+                        fastContingencyEngine.close();
+                    }
+                }
+            }
+        }
+        return estimations;
+    }
+
+    /**
+     * Order contingencies by decreasing estimated severity. Contingencies that could not be estimated come first, as
+     * nothing tells they are harmless.
+     */
+    private static List<PropagatedContingency> sortBySeverity(List<PropagatedContingency> propagatedContingencies,
+                                                              List<Estimation> sortedEstimations) {
+        Set<PropagatedContingency> estimatedContingencies = new HashSet<>(sortedEstimations.size());
+        for (Estimation estimation : sortedEstimations) {
+            estimatedContingencies.add(estimation.propagatedContingency());
+        }
+        Set<PropagatedContingency> contingencies = new HashSet<>(propagatedContingencies);
+        List<PropagatedContingency> sortedContingencies = new ArrayList<>(propagatedContingencies.size());
+        for (PropagatedContingency propagatedContingency : propagatedContingencies) {
+            if (!estimatedContingencies.contains(propagatedContingency)) {
+                sortedContingencies.add(propagatedContingency);
+            }
+        }
+        for (Estimation estimation : sortedEstimations) {
+            if (contingencies.contains(estimation.propagatedContingency())) {
+                sortedContingencies.add(estimation.propagatedContingency());
+            }
+        }
+        return sortedContingencies;
+    }
+
+    /**
+     * Order contingencies so that the most severe ones are simulated first. Contingencies not estimated before the
+     * deadline keep their original order.
+     */
+    public List<PropagatedContingency> prioritize(List<PropagatedContingency> propagatedContingencies, LfTopoConfig topoConfig,
+                                                  LoadFlowParameters lfParameters, OpenLoadFlowParameters lfParametersExt,
+                                                  Instant deadline) {
+        Objects.requireNonNull(propagatedContingencies);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        List<Estimation> estimations = estimate(propagatedContingencies, topoConfig, lfParameters, lfParametersExt, deadline);
+        estimations.sort(Comparator.comparingDouble(Estimation::severity).reversed());
+        List<PropagatedContingency> sortedContingencies = sortBySeverity(propagatedContingencies, estimations);
+
+        stopwatch.stop();
+        LOGGER.info("{} contingencies prioritized by DC load flow in {} ms", propagatedContingencies.size(),
+                stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+        return sortedContingencies;
+    }
+
+    /**
+     * @param alwaysSimulatedContingencyIds ids of contingencies that cannot be screened-out
+     * @param deadline contingencies not estimated before the deadline are not screened-out
+     */
+    public AbstractSecurityAnalysis.ContingencyScreeningResult screen(List<PropagatedContingency> propagatedContingencies, LfTopoConfig topoConfig,
+                                                                      LoadFlowParameters lfParameters, OpenLoadFlowParameters lfParametersExt,
+                                                                      OpenSecurityAnalysisParameters securityAnalysisParametersExt,
+                                                                      Set<String> alwaysSimulatedContingencyIds, Reporter reporter,
+                                                                      Instant deadline) {
+        Objects.requireNonNull(propagatedContingencies);
+        Objects.requireNonNull(alwaysSimulatedContingencyIds);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        List<Estimation> estimations = estimate(propagatedContingencies, topoConfig, lfParameters, lfParametersExt, deadline);
+
+        // most severe contingencies first
+        estimations.sort(Comparator.comparingDouble(Estimation::severity).reversed());
+        Set<String> screenedOutContingencyIds = new HashSet<>();
+        for (int i = securityAnalysisParametersExt.getContingencyScreeningMaxCount(); i < estimations.size(); i++) {
+            Estimation estimation = estimations.get(i);
+            String contingencyId = estimation.propagatedContingency().getContingency().getId();
+            if (estimation.severity() < securityAnalysisParametersExt.getContingencyScreeningThreshold()
+                    && !alwaysSimulatedContingencyIds.contains(contingencyId)) {
+                LOGGER.debug("Contingency '{}' screened-out (estimated loading {})", contingencyId, estimation.severity());
+                screenedOutContingencyIds.add(contingencyId);
+            }
+        }
+        // both in original contingency order
+        List<PropagatedContingency> simulatedContingencies = new ArrayList<>(propagatedContingencies.size() - screenedOutContingencyIds.size());
+        List<String> sortedScreenedOutContingencyIds = new ArrayList<>(screenedOutContingencyIds.size());
+        for (PropagatedContingency propagatedContingency : propagatedContingencies) {
+            String contingencyId = propagatedContingency.getContingency().getId();
+            if (screenedOutContingencyIds.contains(contingencyId)) {
+                sortedScreenedOutContingencyIds.add(contingencyId);
+            } else {
+                simulatedContingencies.add(propagatedContingency);
+            }
+        }
+        if (securityAnalysisParametersExt.isContingencyPrioritization()) {
+            simulatedContingencies = sortBySeverity(simulatedContingencies, estimations);
+        }
+
+        stopwatch.stop();
+        LOGGER.info("{} contingencies out of {} screened-out by DC load flow in {} ms", sortedScreenedOutContingencyIds.size(),
+                propagatedContingencies.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        Reports.reportContingencyScreening(reporter, propagatedContingencies.size(), sortedScreenedOutContingencyIds);
+
+        return new AbstractSecurityAnalysis.ContingencyScreeningResult(simulatedContingencies, sortedScreenedOutContingencyIds);
+    }
+}
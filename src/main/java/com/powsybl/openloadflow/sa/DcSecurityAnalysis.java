@@ -11,6 +11,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.math.matrix.MatrixFactory;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.dc.DcFastContingencyEngine;
 import com.powsybl.openloadflow.dc.DcLoadFlowContext;
 import com.powsybl.openloadflow.dc.DcLoadFlowEngine;
 import com.powsybl.openloadflow.dc.DcLoadFlowParameters;
@@ -20,15 +21,24 @@ import com.powsybl.openloadflow.dc.equations.DcVariableType;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.network.LfBranch;
 import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfContingency;
 import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
 import com.powsybl.openloadflow.util.Reports;
 import com.powsybl.security.PostContingencyComputationStatus;
 import com.powsybl.security.monitor.StateMonitor;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DcSecurityAnalysis extends AbstractSecurityAnalysis<DcVariableType, DcEquationType, DcLoadFlowParameters, DcLoadFlowContext, DcLoadFlowResult> {
 
+    /**
+     * Fast post-contingency engines of each context, contexts being simulated on several threads in parallel mode.
+     */
+    private final Map<DcLoadFlowContext, DcFastContingencyEngine> fastContingencyEngines = new ConcurrentHashMap<>();
+
     protected DcSecurityAnalysis(Network network, MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory,
                                  List<StateMonitor> stateMonitors, Reporter reporter) {
         super(network, matrixFactory, connectivityFactory, stateMonitors, reporter);
@@ -73,4 +83,32 @@ public class DcSecurityAnalysis extends AbstractSecurityAnalysis<DcVariableType,
     protected PostContingencyComputationStatus postContingencyStatusFromLoadFlowResult(DcLoadFlowResult result) {
         return result.isSuccess() ? PostContingencyComputationStatus.CONVERGED : PostContingencyComputationStatus.FAILED;
     }
+
+    @Override
+    protected void afterPreContingencySimulation(DcLoadFlowContext context, OpenSecurityAnalysisParameters openSecurityAnalysisParameters) {
+        // with phase shifter control, post-contingency states also depend on the outer loop
+        if (openSecurityAnalysisParameters.isDcFastMode() && !context.getParameters().getNetworkParameters().isPhaseControl()) {
+            // the context may have been created on a copy of the network after the pre-contingency simulation, in which
+            // case its state vector has not been computed yet
+            DcLoadFlowEngine.initStateVector(context.getNetwork(), context.getEquationSystem(), new PreviousValueVoltageInitializer());
+            fastContingencyEngines.put(context, new DcFastContingencyEngine(context));
+        }
+    }
+
+    @Override
+    protected void afterPostContingencySimulations(DcLoadFlowContext context) {
+        DcFastContingencyEngine fastContingencyEngine = fastContingencyEngines.remove(context);
+        if (fastContingencyEngine != null) {
+            fastContingencyEngine.close();
+        }
+    }
+
+    @Override
+    protected PostContingencyComputationStatus runPostContingencyLoadFlow(DcLoadFlowContext context, LfContingency lfContingency) {
+        DcFastContingencyEngine fastContingencyEngine = fastContingencyEngines.get(context);
+        if (fastContingencyEngine != null && fastContingencyEngine.run(lfContingency)) {
+            return PostContingencyComputationStatus.CONVERGED;
+        }
+        return super.runPostContingencyLoadFlow(context, lfContingency);
+    }
 }
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.impl.LfStarBus;
+import com.powsybl.security.monitor.StateMonitor;
+import com.powsybl.security.monitor.StateMonitorIndex;
+
+import java.util.*;
+
+/**
+ * A state monitor index resolved against a LF network: monitored branch ids, voltage level ids and three windings
+ * transformer ids of each state monitor are resolved once to LF branches, LF buses and LF star buses, so that
+ * extracting network results of a contingency does not scan the whole network.
+ * <p>
+ * Monitors are resolved lazily, on first use. As the LF network itself, this index is not thread safe.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LfStateMonitorIndex {
+
+    /**
+     * @param branches monitored branches, in LF network order
+     * @param buses buses of monitored voltage levels, in LF network order
+     * @param threeWindingsTransformerIds monitored three windings transformer ids, in monitor order
+     * @param starBuses star bus of each monitored three windings transformer
+     */
+    public record LfStateMonitor(List<LfBranch> branches, List<LfBus> buses, List<String> threeWindingsTransformerIds,
+                                 List<LfBus> starBuses) {
+    }
+
+    private final LfNetwork network;
+
+    private final StateMonitorIndex monitorIndex;
+
+    private final Map<StateMonitor, LfStateMonitor> lfMonitors = new IdentityHashMap<>();
+
+    private Map<String, List<LfBus>> busesByVoltageLevelId;
+
+    public LfStateMonitorIndex(LfNetwork network, StateMonitorIndex monitorIndex) {
+        this.network = Objects.requireNonNull(network);
+        this.monitorIndex = Objects.requireNonNull(monitorIndex);
+    }
+
+    public LfNetwork getNetwork() {
+        return network;
+    }
+
+    private List<LfBus> getBuses(String voltageLevelId) {
+        if (busesByVoltageLevelId == null) {
+            busesByVoltageLevelId = new HashMap<>();
+            for (LfBus bus : network.getBuses()) {
+                busesByVoltageLevelId.computeIfAbsent(bus.getVoltageLevelId(), k -> new ArrayList<>()).add(bus);
+            }
+        }
+        return busesByVoltageLevelId.getOrDefault(voltageLevelId, Collections.emptyList());
+    }
+
+    private LfStateMonitor resolve(StateMonitor monitor) {
+        List<LfBranch> branches = new ArrayList<>();
+        for (String branchId : monitor.getBranchIds()) {
+            LfBranch branch = network.getBranchById(branchId);
+            if (branch != null) {
+                branches.add(branch);
+            }
+        }
+        branches.sort(Comparator.comparingInt(LfBranch::getNum));
+
+        List<LfBus> buses = new ArrayList<>();
+        for (String voltageLevelId : monitor.getVoltageLevelIds()) {
+            buses.addAll(getBuses(voltageLevelId));
+        }
+        buses.sort(Comparator.comparingInt(LfBus::getNum));
+
+        List<String> threeWindingsTransformerIds = new ArrayList<>();
+        List<LfBus> starBuses = new ArrayList<>();
+        for (String threeWindingsTransformerId : monitor.getThreeWindingsTransformerIds()) {
+            LfBus starBus = network.getBusById(LfStarBus.getId(threeWindingsTransformerId));
+            if (starBus != null) {
+                threeWindingsTransformerIds.add(threeWindingsTransformerId);
+                starBuses.add(starBus);
+            }
+        }
+
+        return new LfStateMonitor(branches, buses, threeWindingsTransformerIds, starBuses);
+    }
+
+    private LfStateMonitor getLfStateMonitor(StateMonitor monitor) {
+        return lfMonitors.computeIfAbsent(monitor, this::resolve);
+    }
+
+    public LfStateMonitor getNoneStateMonitor() {
+        return getLfStateMonitor(monitorIndex.getNoneStateMonitor());
+    }
+
+    public LfStateMonitor getAllStateMonitor() {
+        return getLfStateMonitor(monitorIndex.getAllStateMonitor());
+    }
+
+    /**
+     * @return the monitor specific to a contingency if any, otherwise the monitor of all states
+     */
+    public LfStateMonitor getContingencyStateMonitor(String contingencyId) {
+        Objects.requireNonNull(contingencyId);
+        StateMonitor monitor = monitorIndex.getSpecificStateMonitors().get(contingencyId);
+        return monitor != null ? getLfStateMonitor(monitor) : getAllStateMonitor();
+    }
+}
@@ -6,23 +6,17 @@
  */
 package com.powsybl.openloadflow.sa;
 
-import com.powsybl.iidm.network.LimitType;
 import com.powsybl.iidm.network.ThreeSides;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openloadflow.network.LfBranch;
 import com.powsybl.openloadflow.network.LfBus;
 import com.powsybl.openloadflow.network.LfNetwork;
-import com.powsybl.openloadflow.util.Evaluable;
-import com.powsybl.openloadflow.util.PerUnit;
 import com.powsybl.security.LimitViolation;
 import com.powsybl.security.LimitViolationType;
 import com.powsybl.security.SecurityAnalysisParameters;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
-import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.function.ToDoubleFunction;
 
 /**
  * Limit violation manager. A reference limit violation manager could be specified to only report violations that
@@ -38,6 +32,8 @@ public class LimitViolationManager {
 
     private final Map<Object, LimitViolation> violations = new LinkedHashMap<>();
 
+    private CompiledBranchLimits branchLimits;
+
     public LimitViolationManager(LimitViolationManager reference, SecurityAnalysisParameters.IncreasedViolationsParameters parameters) {
         this.reference = reference;
         if (reference != null) {
@@ -49,6 +45,17 @@ public class LimitViolationManager {
         this(null, null);
     }
 
+    /**
+     * Copy of this manager, with limits compiled for a copy of the LF network, to be used as the reference of the
+     * managers detecting violations on that copy.
+     */
+    public LimitViolationManager copy(LfNetwork network) {
+        LimitViolationManager copy = new LimitViolationManager(reference, parameters);
+        copy.violations.putAll(violations);
+        copy.branchLimits = new CompiledBranchLimits(network);
+        return copy;
+    }
+
     public List<LimitViolation> getLimitViolations() {
         return new ArrayList<>(violations.values());
     }
@@ -61,7 +68,7 @@ public class LimitViolationManager {
         Objects.requireNonNull(network);
 
         // Detect violation limits on branches
-        network.getBranches().stream().filter(b -> !b.isDisabled()).forEach(this::detectBranchViolations);
+        detectBranchViolations(network);
 
         // Detect violation limits on buses
         network.getBuses().stream().filter(b -> !b.isDisabled()).forEach(this::detectBusViolations);
@@ -99,60 +106,24 @@ public class LimitViolationManager {
         addLimitViolation(limitViolation, voltageAngleLimit.getId());
     }
 
-    private void detectBranchSideViolations(LfBranch branch, LfBus bus,
-                                            BiFunction<LfBranch, LimitType, List<LfBranch.LfLimit>> limitsGetter,
-                                            Function<LfBranch, Evaluable> iGetter,
-                                            Function<LfBranch, Evaluable> pGetter,
-                                            ToDoubleFunction<LfBranch> sGetter,
-                                            TwoSides side) {
-        List<LfBranch.LfLimit> limits = limitsGetter.apply(branch, LimitType.CURRENT);
-        if (!limits.isEmpty()) {
-            double i = iGetter.apply(branch).eval();
-            limits.stream()
-                    .filter(temporaryLimit -> i > temporaryLimit.getValue())
-                    .findFirst()
-                    .map(temporaryLimit -> createLimitViolation(branch, temporaryLimit, LimitViolationType.CURRENT, PerUnit.ib(bus.getNominalV()), i, side))
-                    .ifPresent(this::addBranchLimitViolation);
-        }
-
-        limits = limitsGetter.apply(branch, LimitType.ACTIVE_POWER);
-        if (!limits.isEmpty()) {
-            double p = pGetter.apply(branch).eval();
-            limits.stream()
-                    .filter(temporaryLimit -> Math.abs(p) > temporaryLimit.getValue())
-                    .findFirst()
-                    .map(temporaryLimit -> createLimitViolation(branch, temporaryLimit, LimitViolationType.ACTIVE_POWER, PerUnit.SB, p, side))
-                    .ifPresent(this::addBranchLimitViolation);
-        }
-
-        limits = limitsGetter.apply(branch, LimitType.APPARENT_POWER);
-        if (!limits.isEmpty()) {
-            //Apparent power is not relevant for fictitious branches and may be NaN
-            double s = sGetter.applyAsDouble(branch);
-            if (!Double.isNaN(s)) {
-                limits.stream()
-                        .filter(temporaryLimit -> s > temporaryLimit.getValue())
-                        .findFirst()
-                        .map(temporaryLimit -> createLimitViolation(branch, temporaryLimit, LimitViolationType.APPARENT_POWER, PerUnit.SB, s, side))
-                        .ifPresent(this::addBranchLimitViolation);
+    private CompiledBranchLimits getBranchLimits(LfNetwork network) {
+        if (branchLimits == null || branchLimits.getNetwork() != network) {
+            // post-contingency and post-action managers reuse the limits compiled by the pre-contingency one
+            if (reference != null && reference.branchLimits != null && reference.branchLimits.getNetwork() == network) {
+                branchLimits = reference.branchLimits;
+            } else {
+                branchLimits = new CompiledBranchLimits(network);
             }
         }
+        return branchLimits;
     }
 
     /**
-     * Detect violation limits on one branch and add them to the given list
-     * @param branch branch of interest
+     * Detect violation limits on branches. Only the most serious violation of each branch side and limit type is
+     * detected, limits being ordered by severity.
      */
-    private void detectBranchViolations(LfBranch branch) {
-        // detect violation limits on a branch
-        // Only detect the most serious one (findFirst) : limit violations are ordered by severity
-        if (branch.getBus1() != null) {
-            detectBranchSideViolations(branch, branch.getBus1(), LfBranch::getLimits1, LfBranch::getI1, LfBranch::getP1, LfBranch::computeApparentPower1, TwoSides.ONE);
-        }
-
-        if (branch.getBus2() != null) {
-            detectBranchSideViolations(branch, branch.getBus2(), LfBranch::getLimits2, LfBranch::getI2, LfBranch::getP2, LfBranch::computeApparentPower2, TwoSides.TWO);
-        }
+    private void detectBranchViolations(LfNetwork network) {
+        getBranchLimits(network).check((branch, limit, type, scale, value, side) -> addBranchLimitViolation(createLimitViolation(branch, limit, type, scale, value, side)));
     }
 
     private static LimitViolation createLimitViolation(LfBranch branch, LfBranch.LfLimit temporaryLimit,
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.security.SecurityAnalysisResult;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Contingencies and operator strategies of a security analysis without any result:
+ * <ul>
+ *     <li>not computed ones, whose simulation has not been started or completed before the time budget of the security
+ *     analysis (see {@link OpenSecurityAnalysisParameters#setTimeBudget(double)}) or of their contingency (see
+ *     {@link OpenSecurityAnalysisParameters#setContingencyTimeBudget(double)}) is exhausted,</li>
+ *     <li>screened-out contingencies, not simulated because their estimated impact is low (see
+ *     {@link OpenSecurityAnalysisParameters#setContingencyScreening(boolean)}).</li>
+ * </ul>
+ * Only added to a result when at least one of them has no result.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class OlfSecurityAnalysisResult extends AbstractExtension<SecurityAnalysisResult> {
+
+    private final List<String> notComputedContingencyIds;
+
+    private final List<String> notComputedOperatorStrategyIds;
+
+    private final List<String> screenedOutContingencyIds;
+
+    public OlfSecurityAnalysisResult(List<String> notComputedContingencyIds, List<String> notComputedOperatorStrategyIds,
+                                     List<String> screenedOutContingencyIds) {
+        this.notComputedContingencyIds = List.copyOf(Objects.requireNonNull(notComputedContingencyIds));
+        this.notComputedOperatorStrategyIds = List.copyOf(Objects.requireNonNull(notComputedOperatorStrategyIds));
+        this.screenedOutContingencyIds = List.copyOf(Objects.requireNonNull(screenedOutContingencyIds));
+    }
+
+    @Override
+    public String getName() {
+        return "OlfSecurityAnalysisResult";
+    }
+
+    public List<String> getNotComputedContingencyIds() {
+        return notComputedContingencyIds;
+    }
+
+    public List<String> getNotComputedOperatorStrategyIds() {
+        return notComputedOperatorStrategyIds;
+    }
+
+    /**
+     * IDs of the contingencies screened-out, in the original contingency order.
+     */
+    public List<String> getScreenedOutContingencyIds() {
+        return screenedOutContingencyIds;
+    }
+}
@@ -8,6 +8,7 @@ package com.powsybl.openloadflow.sa;
 
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.security.SecurityAnalysisParameters;
 
 import java.util.List;
@@ -23,11 +24,56 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
 
     private boolean contingencyPropagation = CONTINGENCY_PROPAGATION_DEFAULT_VALUE;
 
+    private int threadCount = THREAD_COUNT_DEFAULT_VALUE;
+
+    private boolean dcFastMode = DC_FAST_MODE_DEFAULT_VALUE;
+
+    private boolean contingencyScreening = CONTINGENCY_SCREENING_DEFAULT_VALUE;
+
+    private double contingencyScreeningThreshold = CONTINGENCY_SCREENING_THRESHOLD_DEFAULT_VALUE;
+
+    private int contingencyScreeningMaxCount = CONTINGENCY_SCREENING_MAX_COUNT_DEFAULT_VALUE;
+
+    private int operatorStrategyThreadCount = OPERATOR_STRATEGY_THREAD_COUNT_DEFAULT_VALUE;
+
+    private double timeBudget = TIME_BUDGET_DEFAULT_VALUE;
+
+    private double contingencyTimeBudget = CONTINGENCY_TIME_BUDGET_DEFAULT_VALUE;
+
+    private int contingencyMaxIterations = CONTINGENCY_MAX_ITERATIONS_DEFAULT_VALUE;
+
+    private boolean contingencyPrioritization = CONTINGENCY_PRIORITIZATION_DEFAULT_VALUE;
+
     public static final String CREATE_RESULT_EXTENSION_PARAM_NAME = "createResultExtension";
     public static final boolean CREATE_RESULT_EXTENSION_DEFAULT_VALUE = false;
     public static final String CONTINGENCY_PROPAGATION_PARAM_NAME = "contingencyPropagation";
     public static final boolean CONTINGENCY_PROPAGATION_DEFAULT_VALUE = true;
-    public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(CREATE_RESULT_EXTENSION_PARAM_NAME, CONTINGENCY_PROPAGATION_PARAM_NAME);
+    public static final String THREAD_COUNT_PARAM_NAME = "threadCount";
+    public static final int THREAD_COUNT_DEFAULT_VALUE = 1;
+    public static final String DC_FAST_MODE_PARAM_NAME = "dcFastMode";
+    public static final boolean DC_FAST_MODE_DEFAULT_VALUE = false;
+    public static final String CONTINGENCY_SCREENING_PARAM_NAME = "contingencyScreening";
+    public static final boolean CONTINGENCY_SCREENING_DEFAULT_VALUE = false;
+    public static final String CONTINGENCY_SCREENING_THRESHOLD_PARAM_NAME = "contingencyScreeningThreshold";
+    public static final double CONTINGENCY_SCREENING_THRESHOLD_DEFAULT_VALUE = 0.9;
+    public static final String CONTINGENCY_SCREENING_MAX_COUNT_PARAM_NAME = "contingencyScreeningMaxCount";
+    public static final int CONTINGENCY_SCREENING_MAX_COUNT_DEFAULT_VALUE = 0;
+    public static final String OPERATOR_STRATEGY_THREAD_COUNT_PARAM_NAME = "operatorStrategyThreadCount";
+    public static final int OPERATOR_STRATEGY_THREAD_COUNT_DEFAULT_VALUE = 1;
+    public static final String TIME_BUDGET_PARAM_NAME = "timeBudget";
+    public static final double TIME_BUDGET_DEFAULT_VALUE = 0;
+    public static final String CONTINGENCY_TIME_BUDGET_PARAM_NAME = "contingencyTimeBudget";
+    public static final double CONTINGENCY_TIME_BUDGET_DEFAULT_VALUE = 0;
+    public static final String CONTINGENCY_MAX_ITERATIONS_PARAM_NAME = "contingencyMaxIterations";
+    public static final int CONTINGENCY_MAX_ITERATIONS_DEFAULT_VALUE = 0;
+    public static final String CONTINGENCY_PRIORITIZATION_PARAM_NAME = "contingencyPrioritization";
+    public static final boolean CONTINGENCY_PRIORITIZATION_DEFAULT_VALUE = false;
+    public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(CREATE_RESULT_EXTENSION_PARAM_NAME, CONTINGENCY_PROPAGATION_PARAM_NAME,
+                                                                         THREAD_COUNT_PARAM_NAME, DC_FAST_MODE_PARAM_NAME,
+                                                                         CONTINGENCY_SCREENING_PARAM_NAME, CONTINGENCY_SCREENING_THRESHOLD_PARAM_NAME,
+                                                                         CONTINGENCY_SCREENING_MAX_COUNT_PARAM_NAME, OPERATOR_STRATEGY_THREAD_COUNT_PARAM_NAME,
+                                                                         TIME_BUDGET_PARAM_NAME, CONTINGENCY_TIME_BUDGET_PARAM_NAME,
+                                                                         CONTINGENCY_MAX_ITERATIONS_PARAM_NAME, CONTINGENCY_PRIORITIZATION_PARAM_NAME);
 
     @Override
     public String getName() {
@@ -52,6 +98,150 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
         return this;
     }
 
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Number of threads used to run post-contingency simulations. When greater than one, the pre-contingency simulation
+     * is run once and each thread simulates contingencies on its own copy of the converged LF network, taking the next
+     * contingency to simulate as soon as it is done with the previous one.
+     */
+    public OpenSecurityAnalysisParameters setThreadCount(int threadCount) {
+        this.threadCount = OpenLoadFlowParameters.checkParameterValue(threadCount, threadCount >= 1, THREAD_COUNT_PARAM_NAME);
+        return this;
+    }
+
+    public boolean isDcFastMode() {
+        return dcFastMode;
+    }
+
+    /**
+     * In DC security analysis, compute post-contingency flows of contingencies only opening branches from the
+     * pre-contingency LU decomposition of the Jacobian matrix instead of running a full DC load flow for each of them.
+     * Ignored when phase shifter control is enabled.
+     */
+    public OpenSecurityAnalysisParameters setDcFastMode(boolean dcFastMode) {
+        this.dcFastMode = dcFastMode;
+        return this;
+    }
+
+    public boolean isContingencyScreening() {
+        return contingencyScreening;
+    }
+
+    /**
+     * In AC security analysis, estimate post-contingency branch loadings of all contingencies with DC load flows and
+     * only run AC post-contingency simulations for the most severe ones. Only branch loading is screened: voltage and
+     * angle limits are not estimated, so a screened-out contingency may still violate them. Screened-out contingencies
+     * are not simulated: they have no result, and their ids are listed in the {@link OlfSecurityAnalysisResult}
+     * extension of the security analysis result and in the security analysis report.
+     */
+    public OpenSecurityAnalysisParameters setContingencyScreening(boolean contingencyScreening) {
+        this.contingencyScreening = contingencyScreening;
+        return this;
+    }
+
+    public double getContingencyScreeningThreshold() {
+        return contingencyScreeningThreshold;
+    }
+
+    /**
+     * Estimated loading of the most loaded branch (ratio of the flow to the permanent limit) from which a contingency
+     * is simulated in AC.
+     */
+    public OpenSecurityAnalysisParameters setContingencyScreeningThreshold(double contingencyScreeningThreshold) {
+        this.contingencyScreeningThreshold = OpenLoadFlowParameters.checkParameterValue(contingencyScreeningThreshold,
+                contingencyScreeningThreshold >= 0, CONTINGENCY_SCREENING_THRESHOLD_PARAM_NAME);
+        return this;
+    }
+
+    public int getContingencyScreeningMaxCount() {
+        return contingencyScreeningMaxCount;
+    }
+
+    /**
+     * Number of the most severe contingencies to simulate in AC whatever their estimated loading. Zero to only rely on
+     * the threshold.
+     */
+    public OpenSecurityAnalysisParameters setContingencyScreeningMaxCount(int contingencyScreeningMaxCount) {
+        this.contingencyScreeningMaxCount = OpenLoadFlowParameters.checkParameterValue(contingencyScreeningMaxCount,
+                contingencyScreeningMaxCount >= 0, CONTINGENCY_SCREENING_MAX_COUNT_PARAM_NAME);
+        return this;
+    }
+
+    public int getOperatorStrategyThreadCount() {
+        return operatorStrategyThreadCount;
+    }
+
+    /**
+     * Number of threads used to run the operator strategies of a contingency. When greater than one and several
+     * operator strategies of a contingency have their conditions met, they are simulated concurrently, each thread
+     * working on its own copy of the post-contingency LF network.
+     */
+    public OpenSecurityAnalysisParameters setOperatorStrategyThreadCount(int operatorStrategyThreadCount) {
+        this.operatorStrategyThreadCount = OpenLoadFlowParameters.checkParameterValue(operatorStrategyThreadCount,
+                operatorStrategyThreadCount >= 1, OPERATOR_STRATEGY_THREAD_COUNT_PARAM_NAME);
+        return this;
+    }
+
+    public double getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Wall-clock time budget of the whole security analysis, in seconds, zero for no budget. Contingencies whose
+     * simulation is not started or not completed when the budget is exhausted have no result and are listed in the
+     * {@link OlfSecurityAnalysisResult} extension of the security analysis result.
+     */
+    public OpenSecurityAnalysisParameters setTimeBudget(double timeBudget) {
+        this.timeBudget = OpenLoadFlowParameters.checkParameterValue(timeBudget, timeBudget >= 0, TIME_BUDGET_PARAM_NAME);
+        return this;
+    }
+
+    public double getContingencyTimeBudget() {
+        return contingencyTimeBudget;
+    }
+
+    /**
+     * In AC security analysis, wall-clock time budget of the simulation of each contingency and of its operator
+     * strategies, in seconds, zero for no budget. Solver iterations and outer loops are stopped once it is exhausted,
+     * and the contingency, or its operator strategies not completed, then have no result and are listed in the
+     * {@link OlfSecurityAnalysisResult} extension of the security analysis result.
+     */
+    public OpenSecurityAnalysisParameters setContingencyTimeBudget(double contingencyTimeBudget) {
+        this.contingencyTimeBudget = OpenLoadFlowParameters.checkParameterValue(contingencyTimeBudget, contingencyTimeBudget >= 0,
+                                                                                CONTINGENCY_TIME_BUDGET_PARAM_NAME);
+        return this;
+    }
+
+    public int getContingencyMaxIterations() {
+        return contingencyMaxIterations;
+    }
+
+    /**
+     * In AC security analysis, maximum number of solver iterations of post-contingency and post-action load flows,
+     * zero to use the same maximum number of iterations as the pre-contingency load flow.
+     */
+    public OpenSecurityAnalysisParameters setContingencyMaxIterations(int contingencyMaxIterations) {
+        this.contingencyMaxIterations = OpenLoadFlowParameters.checkParameterValue(contingencyMaxIterations,
+                contingencyMaxIterations >= 0, CONTINGENCY_MAX_ITERATIONS_PARAM_NAME);
+        return this;
+    }
+
+    public boolean isContingencyPrioritization() {
+        return contingencyPrioritization;
+    }
+
+    /**
+     * Simulate the most severe contingencies first, severity being estimated with DC load flows as for contingency
+     * screening. Results still follow the contingencies order.
+     */
+    public OpenSecurityAnalysisParameters setContingencyPrioritization(boolean contingencyPrioritization) {
+        this.contingencyPrioritization = contingencyPrioritization;
+        return this;
+    }
+
     public static OpenSecurityAnalysisParameters getOrDefault(SecurityAnalysisParameters parameters) {
         OpenSecurityAnalysisParameters parametersExt = parameters.getExtension(OpenSecurityAnalysisParameters.class);
         if (parametersExt == null) {
@@ -69,7 +259,17 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
         platformConfig.getOptionalModuleConfig("open-security-analysis-default-parameters")
                 .ifPresent(config -> parameters
                         .setCreateResultExtension(config.getBooleanProperty(CREATE_RESULT_EXTENSION_PARAM_NAME, CREATE_RESULT_EXTENSION_DEFAULT_VALUE))
-                        .setContingencyPropagation(config.getBooleanProperty(CONTINGENCY_PROPAGATION_PARAM_NAME, CONTINGENCY_PROPAGATION_DEFAULT_VALUE)));
+                        .setContingencyPropagation(config.getBooleanProperty(CONTINGENCY_PROPAGATION_PARAM_NAME, CONTINGENCY_PROPAGATION_DEFAULT_VALUE))
+                        .setThreadCount(config.getIntProperty(THREAD_COUNT_PARAM_NAME, THREAD_COUNT_DEFAULT_VALUE))
+                        .setDcFastMode(config.getBooleanProperty(DC_FAST_MODE_PARAM_NAME, DC_FAST_MODE_DEFAULT_VALUE))
+                        .setContingencyScreening(config.getBooleanProperty(CONTINGENCY_SCREENING_PARAM_NAME, CONTINGENCY_SCREENING_DEFAULT_VALUE))
+                        .setContingencyScreeningThreshold(config.getDoubleProperty(CONTINGENCY_SCREENING_THRESHOLD_PARAM_NAME, CONTINGENCY_SCREENING_THRESHOLD_DEFAULT_VALUE))
+                        .setContingencyScreeningMaxCount(config.getIntProperty(CONTINGENCY_SCREENING_MAX_COUNT_PARAM_NAME, CONTINGENCY_SCREENING_MAX_COUNT_DEFAULT_VALUE))
+                        .setOperatorStrategyThreadCount(config.getIntProperty(OPERATOR_STRATEGY_THREAD_COUNT_PARAM_NAME, OPERATOR_STRATEGY_THREAD_COUNT_DEFAULT_VALUE))
+                        .setTimeBudget(config.getDoubleProperty(TIME_BUDGET_PARAM_NAME, TIME_BUDGET_DEFAULT_VALUE))
+                        .setContingencyTimeBudget(config.getDoubleProperty(CONTINGENCY_TIME_BUDGET_PARAM_NAME, CONTINGENCY_TIME_BUDGET_DEFAULT_VALUE))
+                        .setContingencyMaxIterations(config.getIntProperty(CONTINGENCY_MAX_ITERATIONS_PARAM_NAME, CONTINGENCY_MAX_ITERATIONS_DEFAULT_VALUE))
+                        .setContingencyPrioritization(config.getBooleanProperty(CONTINGENCY_PRIORITIZATION_PARAM_NAME, CONTINGENCY_PRIORITIZATION_DEFAULT_VALUE)));
         return parameters;
     }
 
@@ -83,6 +283,26 @@ public class OpenSecurityAnalysisParameters extends AbstractExtension<SecurityAn
                 .ifPresent(value -> this.setCreateResultExtension(Boolean.parseBoolean(value)));
         Optional.ofNullable(properties.get(CONTINGENCY_PROPAGATION_PARAM_NAME))
                 .ifPresent(value -> this.setContingencyPropagation(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(THREAD_COUNT_PARAM_NAME))
+                .ifPresent(value -> this.setThreadCount(Integer.parseInt(value)));
+        Optional.ofNullable(properties.get(DC_FAST_MODE_PARAM_NAME))
+                .ifPresent(value -> this.setDcFastMode(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_SCREENING_PARAM_NAME))
+                .ifPresent(value -> this.setContingencyScreening(Boolean.parseBoolean(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_SCREENING_THRESHOLD_PARAM_NAME))
+                .ifPresent(value -> this.setContingencyScreeningThreshold(Double.parseDouble(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_SCREENING_MAX_COUNT_PARAM_NAME))
+                .ifPresent(value -> this.setContingencyScreeningMaxCount(Integer.parseInt(value)));
+        Optional.ofNullable(properties.get(OPERATOR_STRATEGY_THREAD_COUNT_PARAM_NAME))
+                .ifPresent(value -> this.setOperatorStrategyThreadCount(Integer.parseInt(value)));
+        Optional.ofNullable(properties.get(TIME_BUDGET_PARAM_NAME))
+                .ifPresent(value -> this.setTimeBudget(Double.parseDouble(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_TIME_BUDGET_PARAM_NAME))
+                .ifPresent(value -> this.setContingencyTimeBudget(Double.parseDouble(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_MAX_ITERATIONS_PARAM_NAME))
+                .ifPresent(value -> this.setContingencyMaxIterations(Integer.parseInt(value)));
+        Optional.ofNullable(properties.get(CONTINGENCY_PRIORITIZATION_PARAM_NAME))
+                .ifPresent(value -> this.setContingencyPrioritization(Boolean.parseBoolean(value)));
         return this;
     }
 }
@@ -23,6 +23,7 @@ import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
 import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
 import com.powsybl.openloadflow.network.LfBranch;
 import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.util.MetricsListener;
 import com.powsybl.openloadflow.util.PowsyblOpenLoadFlowVersion;
 import com.powsybl.openloadflow.util.ProviderConstants;
 import com.powsybl.security.*;
@@ -48,9 +49,32 @@ public class OpenSecurityAnalysisProvider implements SecurityAnalysisProvider {
 
     private final GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory;
 
+    private final GraphConnectivityFactory<LfBus, LfBranch> incrementalConnectivityFactory;
+
+    private final MetricsListener metricsListener;
+
     public OpenSecurityAnalysisProvider(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory) {
+        this(matrixFactory, connectivityFactory, MetricsListener.NO_OP);
+    }
+
+    public OpenSecurityAnalysisProvider(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory,
+                                        MetricsListener metricsListener) {
+        this(matrixFactory, connectivityFactory, new NaiveGraphConnectivityFactory<>(LfBus::getNum), metricsListener);
+    }
+
+    /**
+     * @param incrementalConnectivityFactory the connectivity factory used when an incremental connectivity is needed
+     *                                       (operator strategies or automation systems simulation),
+     *                                       {@link NaiveGraphConnectivityFactory} in the other constructors. A faster
+     *                                       implementation like {@link com.powsybl.openloadflow.graph.IntGraphConnectivityFactory}
+     *                                       can be given here.
+     */
+    public OpenSecurityAnalysisProvider(MatrixFactory matrixFactory, GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory,
+                                        GraphConnectivityFactory<LfBus, LfBranch> incrementalConnectivityFactory, MetricsListener metricsListener) {
         this.matrixFactory = matrixFactory;
         this.connectivityFactory = connectivityFactory;
+        this.incrementalConnectivityFactory = Objects.requireNonNull(incrementalConnectivityFactory);
+        this.metricsListener = Objects.requireNonNull(metricsListener);
     }
 
     public OpenSecurityAnalysisProvider() {
@@ -63,6 +87,23 @@ public class OpenSecurityAnalysisProvider implements SecurityAnalysisProvider {
                                                          SecurityAnalysisParameters securityAnalysisParameters, ContingenciesProvider contingenciesProvider,
                                                          List<SecurityAnalysisInterceptor> interceptors, List<OperatorStrategy> operatorStrategies, List<Action> actions,
                                                          List<StateMonitor> stateMonitors, Reporter reporter) {
+        return run(network, workingVariantId, limitViolationDetector, limitViolationFilter, computationManager, securityAnalysisParameters,
+                   contingenciesProvider, interceptors, operatorStrategies, actions, stateMonitors, reporter, null);
+    }
+
+    /**
+     * Same as {@link #run(Network, String, LimitViolationDetector, LimitViolationFilter, ComputationManager, SecurityAnalysisParameters,
+     * ContingenciesProvider, List, List, List, List, Reporter)} but streaming the post-contingency and operator strategy
+     * results of this run to a handler, if not null, the security analysis result then only keeping their status, limit
+     * violations and connectivity result.
+     *
+     * @see SecurityAnalysisResultHandler
+     */
+    public CompletableFuture<SecurityAnalysisReport> run(Network network, String workingVariantId, LimitViolationDetector limitViolationDetector,
+                                                         LimitViolationFilter limitViolationFilter, ComputationManager computationManager,
+                                                         SecurityAnalysisParameters securityAnalysisParameters, ContingenciesProvider contingenciesProvider,
+                                                         List<SecurityAnalysisInterceptor> interceptors, List<OperatorStrategy> operatorStrategies, List<Action> actions,
+                                                         List<StateMonitor> stateMonitors, Reporter reporter, SecurityAnalysisResultHandler resultHandler) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(workingVariantId);
         Objects.requireNonNull(limitViolationDetector);
@@ -78,13 +119,15 @@ public class OpenSecurityAnalysisProvider implements SecurityAnalysisProvider {
         LoadFlowParameters loadFlowParameters = securityAnalysisParameters.getLoadFlowParameters();
         OpenLoadFlowParameters loadFlowParametersExt = OpenLoadFlowParameters.get(loadFlowParameters);
 
-        // FIXME implement a fast incremental connectivity algorithm
+        // operator strategies and automation systems need an incremental connectivity algorithm
         GraphConnectivityFactory<LfBus, LfBranch> selectedConnectivityFactory;
         if (operatorStrategies.isEmpty() && !loadFlowParametersExt.isSimulateAutomationSystems()) {
             selectedConnectivityFactory = connectivityFactory;
         } else {
-            LOGGER.warn("Naive (and slow!!!) connectivity algorithm has been selected because at least one operator strategy is configured");
-            selectedConnectivityFactory = new NaiveGraphConnectivityFactory<>(LfBus::getNum);
+            if (incrementalConnectivityFactory instanceof NaiveGraphConnectivityFactory) {
+                LOGGER.warn("Naive (and slow!!!) connectivity algorithm has been selected because at least one operator strategy is configured");
+            }
+            selectedConnectivityFactory = incrementalConnectivityFactory;
         }
 
         AbstractSecurityAnalysis<?, ?, ?, ?, ?> securityAnalysis;
@@ -94,6 +137,11 @@ public class OpenSecurityAnalysisProvider implements SecurityAnalysisProvider {
             securityAnalysis = new AcSecurityAnalysis(network, matrixFactory, selectedConnectivityFactory, stateMonitors, reporter);
         }
 
+        securityAnalysis.setMetricsListener(metricsListener);
+        if (resultHandler != null) {
+            securityAnalysis.setResultHandler(resultHandler);
+        }
+
         return securityAnalysis.run(workingVariantId, securityAnalysisParameters, contingenciesProvider, computationManager, operatorStrategies, actions);
     }
 
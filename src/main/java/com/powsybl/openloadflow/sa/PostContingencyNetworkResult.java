@@ -9,9 +9,6 @@ package com.powsybl.openloadflow.sa;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyElement;
 import com.powsybl.contingency.ContingencyElementType;
-import com.powsybl.openloadflow.network.LfNetwork;
-import com.powsybl.security.monitor.StateMonitor;
-import com.powsybl.security.monitor.StateMonitorIndex;
 import com.powsybl.security.results.BranchResult;
 
 import java.util.ArrayList;
@@ -29,9 +26,9 @@ public class PostContingencyNetworkResult extends AbstractNetworkResult {
 
     private final Contingency contingency;
 
-    public PostContingencyNetworkResult(LfNetwork network, StateMonitorIndex monitorIndex, boolean createResultExtension,
+    public PostContingencyNetworkResult(LfStateMonitorIndex monitorIndex, boolean createResultExtension,
                                         PreContingencyNetworkResult preContingencyMonitorInfos, Contingency contingency) {
-        super(network, monitorIndex, createResultExtension);
+        super(monitorIndex, createResultExtension);
         this.preContingencyMonitorInfos = Objects.requireNonNull(preContingencyMonitorInfos);
         this.contingency = Objects.requireNonNull(contingency);
     }
@@ -42,7 +39,7 @@ public class PostContingencyNetworkResult extends AbstractNetworkResult {
         branchResults.clear();
     }
 
-    public void addResults(StateMonitor monitor) {
+    public void addResults(LfStateMonitorIndex.LfStateMonitor monitor) {
         addResults(monitor, branch -> {
             var preContingencyBranchResult = preContingencyMonitorInfos.getBranchResult(branch.getId());
             double preContingencyBranchP1 = preContingencyBranchResult != null ? preContingencyBranchResult.getP1() : Double.NaN;
@@ -66,12 +63,7 @@ public class PostContingencyNetworkResult extends AbstractNetworkResult {
     @Override
     public void update() {
         clear();
-        StateMonitor stateMonitor = monitorIndex.getSpecificStateMonitors().get(contingency.getId());
-        if (stateMonitor != null) {
-            addResults(stateMonitor);
-        } else {
-            addResults(monitorIndex.getAllStateMonitor());
-        }
+        addResults(monitorIndex.getContingencyStateMonitor(contingency.getId()));
     }
 
     @Override
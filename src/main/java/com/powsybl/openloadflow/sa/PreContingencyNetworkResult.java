@@ -6,9 +6,6 @@
  */
 package com.powsybl.openloadflow.sa;
 
-import com.powsybl.openloadflow.network.LfNetwork;
-import com.powsybl.security.monitor.StateMonitor;
-import com.powsybl.security.monitor.StateMonitorIndex;
 import com.powsybl.security.results.BranchResult;
 
 import java.util.*;
@@ -20,8 +17,8 @@ public class PreContingencyNetworkResult extends AbstractNetworkResult {
 
     private final Map<String, BranchResult> branchResults = new HashMap<>();
 
-    public PreContingencyNetworkResult(LfNetwork network, StateMonitorIndex monitorIndex, boolean createResultExtension) {
-        super(network, monitorIndex, createResultExtension);
+    public PreContingencyNetworkResult(LfStateMonitorIndex monitorIndex, boolean createResultExtension) {
+        super(monitorIndex, createResultExtension);
     }
 
     @Override
@@ -30,7 +27,7 @@ public class PreContingencyNetworkResult extends AbstractNetworkResult {
         branchResults.clear();
     }
 
-    private void addResults(StateMonitor monitor) {
+    private void addResults(LfStateMonitorIndex.LfStateMonitor monitor) {
         addResults(monitor, branch -> {
             var branchResult = branch.createBranchResult(Double.NaN, Double.NaN, createResultExtension);
             branchResults.put(branch.getId(), branchResult);
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+
+/**
+ * Handler of security analysis results, called as soon as each post-contingency or operator strategy simulation is
+ * done. When a handler is configured, the security analysis result only keeps the status, the limit violations and
+ * the connectivity result of each simulation, monitored branches, buses and three windings transformers results being
+ * only available from the handler. This saves the memory of the monitored elements results, but the security analysis
+ * result still grows with the number of contingencies and with the number of limit violations.
+ * <p>
+ * When contingencies are simulated on several threads, the handler is called from the worker threads, never
+ * concurrently, and in the order contingencies are simulated, which is not the order of the contingency list.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface SecurityAnalysisResultHandler {
+
+    /**
+     * Called at the end of each post contingency simulation, before operator strategies of this contingency are
+     * simulated.
+     */
+    default void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+    }
+
+    /**
+     * Called at the end of each operator strategy simulation.
+     */
+    default void onOperatorStrategyResult(OperatorStrategyResult operatorStrategyResult) {
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import static com.powsybl.openloadflow.sensi.BinarySensitivityResultWriter.*;
+
+/**
+ * Read sensitivity results written by {@link BinarySensitivityResultWriter}, block by block, and replay them to a
+ * result writer in the same order as they have been written, contingency statuses being interleaved with values
+ * according to their recorded position. Values skipped because of the zero threshold are not replayed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class BinarySensitivityResultReader {
+
+    private static final SensitivityAnalysisResult.Status[] STATUSES = SensitivityAnalysisResult.Status.values();
+
+    private BinarySensitivityResultReader() {
+    }
+
+    private static boolean read(FileChannel channel, ByteBuffer buffer, int size, boolean eofAllowed) throws IOException {
+        buffer.clear().limit(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                if (eofAllowed && buffer.position() == 0) {
+                    return false;
+                }
+                throw new PowsyblException("Unexpected end of sensitivity result file");
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int size) {
+        if (buffer.capacity() >= size) {
+            return buffer;
+        }
+        return ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void writeStatus(ByteBuffer buffer, int statusIndexesPosition, int statusesPosition, int statusIndex,
+                                    SensitivityResultWriter resultWriter) {
+        int contingencyIndex = buffer.getInt(statusIndexesPosition + statusIndex * Integer.BYTES);
+        SensitivityAnalysisResult.Status status = STATUSES[buffer.get(statusesPosition + statusIndex)];
+        resultWriter.writeContingencyStatus(contingencyIndex, status);
+    }
+
+    public static void read(Path file, SensitivityResultWriter resultWriter) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(resultWriter);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(DEFAULT_BLOCK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            read(channel, buffer, HEADER_SIZE, false);
+            if (buffer.getInt() != MAGIC) {
+                throw new PowsyblException("Not a binary sensitivity result file");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported binary sensitivity result file version: " + version);
+            }
+            boolean float32 = (buffer.getInt() & FLOAT32_FLAG) != 0;
+            int valueBytes = float32 ? Float.BYTES : Double.BYTES;
+
+            int[] factorIndexes = new int[0];
+            int[] contingencyIndexes = new int[0];
+            while (read(channel, buffer, BLOCK_HEADER_SIZE, true)) {
+                int valueCount = buffer.getInt();
+                int statusCount = buffer.getInt();
+                int blockSize = valueCount * (2 * Integer.BYTES + 2 * valueBytes) + statusCount * (2 * Integer.BYTES + 1);
+                buffer = ensureCapacity(buffer, blockSize);
+                read(channel, buffer, blockSize, false);
+
+                if (factorIndexes.length < valueCount) {
+                    factorIndexes = new int[valueCount];
+                    contingencyIndexes = new int[valueCount];
+                }
+                buffer.asIntBuffer().get(factorIndexes, 0, valueCount);
+                buffer.position(valueCount * Integer.BYTES);
+                buffer.asIntBuffer().get(contingencyIndexes, 0, valueCount);
+                int valuesPosition = 2 * valueCount * Integer.BYTES;
+                int referencesPosition = valuesPosition + valueCount * valueBytes;
+                int statusIndexesPosition = referencesPosition + valueCount * valueBytes;
+                int statusPositionsPosition = statusIndexesPosition + statusCount * Integer.BYTES;
+                int statusesPosition = statusPositionsPosition + statusCount * Integer.BYTES;
+                int statusIndex = 0;
+                for (int i = 0; i < valueCount; i++) {
+                    // statuses written before this value
+                    while (statusIndex < statusCount && buffer.getInt(statusPositionsPosition + statusIndex * Integer.BYTES) <= i) {
+                        writeStatus(buffer, statusIndexesPosition, statusesPosition, statusIndex++, resultWriter);
+                    }
+                    double value = float32 ? buffer.getFloat(valuesPosition + i * valueBytes) : buffer.getDouble(valuesPosition + i * valueBytes);
+                    double functionReference = float32 ? buffer.getFloat(referencesPosition + i * valueBytes) : buffer.getDouble(referencesPosition + i * valueBytes);
+                    resultWriter.writeSensitivityValue(factorIndexes[i], contingencyIndexes[i], value, functionReference);
+                }
+                // statuses written after the last value of the block
+                while (statusIndex < statusCount) {
+                    writeStatus(buffer, statusIndexesPosition, statusesPosition, statusIndex++, resultWriter);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
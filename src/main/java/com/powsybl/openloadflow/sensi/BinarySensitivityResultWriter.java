@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A sensitivity result writer for very large outputs, writing results to a file in a compact columnar binary format
+ * which can be read back with {@link BinarySensitivityResultReader}.
+ * <p>
+ * Results are buffered in primitive arrays and written by blocks. After a header (magic number, format version and
+ * flags), the file is a sequence of blocks, each one made of a value count and a contingency status count followed by
+ * the columns of the block: factor indexes, contingency indexes, values, function references, then status contingency
+ * indexes, status positions and status ordinals. The position of a status is the number of values of the block written
+ * before it, so that a reader can replay values and statuses in their original order. All numbers are little endian.
+ * <p>
+ * Values and function references can be quantized to 32 bits floats, and values whose absolute value is lower than a
+ * zero threshold can be skipped: a reader has then to consider missing values as zero.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class BinarySensitivityResultWriter implements SensitivityResultWriter, AutoCloseable {
+
+    static final int MAGIC = 0x4F4C4653; // "OLFS"
+
+    static final int VERSION = 2;
+
+    static final int FLOAT32_FLAG = 1;
+
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    static final int BLOCK_HEADER_SIZE = 2 * Integer.BYTES;
+
+    public static final int DEFAULT_BLOCK_SIZE = 65536;
+
+    private final FileChannel channel;
+
+    private final boolean float32;
+
+    private final double zeroThreshold;
+
+    private final int[] factorIndexes;
+
+    private final int[] contingencyIndexes;
+
+    private final double[] values;
+
+    private final double[] functionReferences;
+
+    private int valueCount = 0;
+
+    private final int[] statusContingencyIndexes;
+
+    private final int[] statusPositions;
+
+    private final byte[] statuses;
+
+    private int statusCount = 0;
+
+    private final ByteBuffer buffer;
+
+    private long writtenValueCount = 0;
+
+    private long skippedValueCount = 0;
+
+    public BinarySensitivityResultWriter(Path file) {
+        this(file, false, 0, DEFAULT_BLOCK_SIZE);
+    }
+
+    public BinarySensitivityResultWriter(Path file, boolean float32, double zeroThreshold) {
+        this(file, float32, zeroThreshold, DEFAULT_BLOCK_SIZE);
+    }
+
+    public BinarySensitivityResultWriter(Path file, boolean float32, double zeroThreshold, int blockSize) {
+        Objects.requireNonNull(file);
+        if (zeroThreshold < 0) {
+            throw new IllegalArgumentException("Invalid zero threshold: " + zeroThreshold);
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Invalid block size: " + blockSize);
+        }
+        this.float32 = float32;
+        this.zeroThreshold = zeroThreshold;
+        factorIndexes = new int[blockSize];
+        contingencyIndexes = new int[blockSize];
+        values = new double[blockSize];
+        functionReferences = new double[blockSize];
+        statusContingencyIndexes = new int[blockSize];
+        statusPositions = new int[blockSize];
+        statuses = new byte[blockSize];
+        int valueBytes = float32 ? Float.BYTES : Double.BYTES;
+        buffer = ByteBuffer.allocateDirect(BLOCK_HEADER_SIZE + blockSize * (2 * Integer.BYTES + 2 * valueBytes + 2 * Integer.BYTES + 1))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(float32 ? FLOAT32_FLAG : 0);
+        writeBuffer();
+    }
+
+    /**
+     * @return the number of values written to the file (including the ones still buffered), skipped values excluded
+     */
+    public long getWrittenValueCount() {
+        return writtenValueCount;
+    }
+
+    /**
+     * @return the number of values skipped because lower than the zero threshold
+     */
+    public long getSkippedValueCount() {
+        return skippedValueCount;
+    }
+
+    private void writeBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private void putValue(double value) {
+        if (float32) {
+            buffer.putFloat((float) value);
+        } else {
+            buffer.putDouble(value);
+        }
+    }
+
+    private void flushBlock() {
+        if (valueCount == 0 && statusCount == 0) {
+            return;
+        }
+        buffer.putInt(valueCount)
+                .putInt(statusCount);
+        for (int i = 0; i < valueCount; i++) {
+            buffer.putInt(factorIndexes[i]);
+        }
+        for (int i = 0; i < valueCount; i++) {
+            buffer.putInt(contingencyIndexes[i]);
+        }
+        for (int i = 0; i < valueCount; i++) {
+            putValue(values[i]);
+        }
+        for (int i = 0; i < valueCount; i++) {
+            putValue(functionReferences[i]);
+        }
+        for (int i = 0; i < statusCount; i++) {
+            buffer.putInt(statusContingencyIndexes[i]);
+        }
+        for (int i = 0; i < statusCount; i++) {
+            buffer.putInt(statusPositions[i]);
+        }
+        buffer.put(statuses, 0, statusCount);
+        writeBuffer();
+        valueCount = 0;
+        statusCount = 0;
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        if (Math.abs(value) < zeroThreshold) {
+            skippedValueCount++;
+            return;
+        }
+        if (valueCount == factorIndexes.length) {
+            flushBlock();
+        }
+        factorIndexes[valueCount] = factorIndex;
+        contingencyIndexes[valueCount] = contingencyIndex;
+        values[valueCount] = value;
+        functionReferences[valueCount] = functionReference;
+        valueCount++;
+        writtenValueCount++;
+    }
+
+    @Override
+    public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        Objects.requireNonNull(status);
+        if (statusCount == statuses.length) {
+            flushBlock();
+        }
+        statusContingencyIndexes[statusCount] = contingencyIndex;
+        statusPositions[statusCount] = valueCount;
+        statuses[statusCount] = (byte) status.ordinal();
+        statusCount++;
+    }
+
+    @Override
+    public void close() {
+        try {
+            flushBlock();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
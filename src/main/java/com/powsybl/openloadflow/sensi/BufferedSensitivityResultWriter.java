@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+import com.powsybl.sensitivity.SensitivityResultWriter;
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A sensitivity result writer that keeps results in memory, to be filled by a worker thread and later written, in the
+ * same order, to the real result writer from the calling thread. Result writers are so never called concurrently and
+ * receive results in the same order as a sequential computation.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class BufferedSensitivityResultWriter implements SensitivityResultWriter {
+
+    private final TIntArrayList factorIndexes = new TIntArrayList();
+
+    private final TIntArrayList contingencyIndexes = new TIntArrayList();
+
+    private final TDoubleArrayList values = new TDoubleArrayList();
+
+    private final TDoubleArrayList functionReferences = new TDoubleArrayList();
+
+    private final List<ContingencyStatus> contingencyStatuses = new ArrayList<>(1);
+
+    private record ContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        factorIndexes.add(factorIndex);
+        contingencyIndexes.add(contingencyIndex);
+        values.add(value);
+        functionReferences.add(functionReference);
+    }
+
+    @Override
+    public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        contingencyStatuses.add(new ContingencyStatus(contingencyIndex, status));
+    }
+
+    /**
+     * Write buffered sensitivity values and then buffered contingency statuses to another writer, and clear the
+     * buffer.
+     */
+    void flush(SensitivityResultWriter resultWriter) {
+        Objects.requireNonNull(resultWriter);
+        for (int i = 0; i < factorIndexes.size(); i++) {
+            resultWriter.writeSensitivityValue(factorIndexes.getQuick(i), contingencyIndexes.getQuick(i), values.getQuick(i), functionReferences.getQuick(i));
+        }
+        for (ContingencyStatus contingencyStatus : contingencyStatuses) {
+            resultWriter.writeContingencyStatus(contingencyStatus.contingencyIndex(), contingencyStatus.status());
+        }
+        factorIndexes.resetQuick();
+        contingencyIndexes.resetQuick();
+        values.resetQuick();
+        functionReferences.resetQuick();
+        contingencyStatuses.clear();
+    }
+}
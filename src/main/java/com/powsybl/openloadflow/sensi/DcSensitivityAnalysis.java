@@ -7,6 +7,8 @@
 package com.powsybl.openloadflow.sensi;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.contingency.BranchContingency;
@@ -39,8 +41,10 @@ import com.powsybl.openloadflow.network.util.VoltageInitializer;
 import com.powsybl.sensitivity.*;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.math.RoundingMode;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.ObjDoubleConsumer;
 import java.util.stream.Collectors;
@@ -55,6 +59,7 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
     private static final double CONNECTIVITY_LOSS_THRESHOLD = 10e-7;
     private static final double FUNCTION_REFERENCE_ZER0_THRESHOLD = 1e-13;
+    private static final int CONTINGENCY_BATCH_SIZE_PER_THREAD = 64;
 
     static final class ComputedContingencyElement {
 
@@ -72,6 +77,16 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
             branchEquation = equationSystem.getEquationTerm(ElementType.BRANCH, lfBranch.getNum(), ClosedBranchSide1DcFlowEquationTerm.class);
         }
 
+        /**
+         * Copy of an element, with the same contingency index but its own local index and alphas.
+         */
+        private ComputedContingencyElement(ComputedContingencyElement other) {
+            this.element = other.element;
+            this.lfBranch = other.lfBranch;
+            this.branchEquation = other.branchEquation;
+            this.contingencyIndex = other.contingencyIndex;
+        }
+
         private int getContingencyIndex() {
             return contingencyIndex;
         }
@@ -710,6 +725,10 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                 resultWriter.writeContingencyStatus(contingency.getIndex(), SensitivityAnalysisResult.Status.NO_IMPACT);
             }
 
+            // function references are overwritten by the post-contingency load flow, save them so that they can be
+            // restored for next contingencies, which are computed from pre-contingency flows
+            double[] functionReferences = factors.stream().mapToDouble(LfSensitivityFactor::getFunctionReference).toArray();
+
             DenseMatrix newFlowStates = calculateActivePowerFlows(loadFlowContext, factors,
                     newParticipatingElements, disabledNetwork, reporter);
 
@@ -717,6 +736,9 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                     contingency, resultWriter, disabledNetwork);
 
             networkState.restore();
+            for (int i = 0; i < factors.size(); i++) {
+                factors.get(i).setFunctionReference(functionReferences[i]);
+            }
             if (participatingElementsChanged || rhsChanged) {
                 setBaseCaseSensitivityValues(factorGroups, factorStates);
             }
@@ -727,7 +749,8 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                                                               SensitivityFactorGroupList<DcVariableType, DcEquationType> factorGroups, DenseMatrix factorState, DenseMatrix contingenciesStates, DenseMatrix flowStates,
                                                               Collection<PropagatedContingency> contingencies, Map<String, ComputedContingencyElement> contingencyElementByBranch,
                                                               Set<LfBus> disabledBuses, List<ParticipatingElement> participatingElements, Set<String> elementsToReconnect,
-                                                              SensitivityResultWriter resultWriter, Reporter reporter, Set<LfBranch> partialDisabledBranches) {
+                                                              SensitivityResultWriter resultWriter, Reporter reporter, Set<LfBranch> partialDisabledBranches,
+                                                              ExecutorService executor) {
         DenseMatrix modifiedFlowStates = flowStates;
 
         PhaseTapChangerContingenciesIndexing phaseTapChangerContingenciesIndexing = new PhaseTapChangerContingenciesIndexing(contingencies, contingencyElementByBranch, elementsToReconnect);
@@ -736,19 +759,12 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
 
         // compute contingencies without loss of phase tap changer
         // first we compute the ones without loss of phase tap changers (because we reuse the load flows from the pre contingency network for all of them)
-        for (PropagatedContingency contingency : phaseTapChangerContingenciesIndexing.getContingenciesWithoutPhaseTapChangerLoss()) {
-            Collection<ComputedContingencyElement> contingencyElements = contingency.getBranchIdsToOpen().keySet().stream()
-                    .filter(element -> !elementsToReconnect.contains(element))
-                    .map(contingencyElementByBranch::get)
-                    .collect(Collectors.toList());
-
-            Set<LfBranch> disabledBranches = contingency.getBranchIdsToOpen().keySet().stream().map(lfNetwork::getBranchById).collect(Collectors.toSet());
-            disabledBranches.addAll(partialDisabledBranches);
-
-            calculateContingencySensitivityValues(contingency, factorGroups, factorState, contingenciesStates, modifiedFlowStates, contingencyElements, resultWriter,
+        calculateSensitivityValuesForContingencies(phaseTapChangerContingenciesIndexing.getContingenciesWithoutPhaseTapChangerLoss(),
+            (contingency, contingencyResultWriter) -> calculateContingencySensitivityValues(contingency, factorGroups, factorState, contingenciesStates, flowStates,
+                    createContingencyElements(contingency, contingencyElementByBranch, elementsToReconnect), contingencyResultWriter,
                     loadFlowContext, lfParametersExt, validFactorHolder, participatingElements,
-                    new DisabledNetwork(disabledBuses, disabledBranches), reporter);
-        }
+                    createDisabledNetwork(contingency, lfNetwork, disabledBuses, partialDisabledBranches), reporter),
+            resultWriter, executor);
 
         // then we compute the ones involving the loss of a phase tap changer (because we need to recompute the load flows)
         for (Map.Entry<Set<LfBranch>, Collection<PropagatedContingency>> e : phaseTapChangerContingenciesIndexing.getContingenciesIndexedByPhaseTapChangers().entrySet()) {
@@ -761,18 +777,94 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
             if (!lfFactors.isEmpty()) {
                 modifiedFlowStates = calculateActivePowerFlows(loadFlowContext, lfFactors, participatingElements, new DisabledNetwork(disabledBuses, disabledPhaseTapChangers), reporter);
             }
-            for (PropagatedContingency contingency : propagatedContingencies) {
-                Collection<ComputedContingencyElement> contingencyElements = contingency.getBranchIdsToOpen().keySet().stream()
-                        .filter(element -> !elementsToReconnect.contains(element))
-                        .map(contingencyElementByBranch::get)
-                        .collect(Collectors.toList());
+            DenseMatrix phaseTapChangersFlowStates = modifiedFlowStates;
+            calculateSensitivityValuesForContingencies(propagatedContingencies,
+                (contingency, contingencyResultWriter) -> calculateContingencySensitivityValues(contingency, factorGroups, factorState, contingenciesStates, phaseTapChangersFlowStates,
+                        createContingencyElements(contingency, contingencyElementByBranch, elementsToReconnect), contingencyResultWriter,
+                        loadFlowContext, lfParametersExt, validFactorHolder, participatingElements,
+                        createDisabledNetwork(contingency, lfNetwork, disabledBuses, partialDisabledBranches), reporter),
+                resultWriter, executor);
+        }
+    }
+
+    /**
+     * Alphas and local indexes are contingency specific, so each contingency works on its own copy of the elements,
+     * which allows contingencies to be processed concurrently.
+     */
+    private static Collection<ComputedContingencyElement> createContingencyElements(PropagatedContingency contingency, Map<String, ComputedContingencyElement> contingencyElementByBranch,
+                                                                                    Set<String> elementsToReconnect) {
+        return contingency.getBranchIdsToOpen().keySet().stream()
+                .filter(element -> !elementsToReconnect.contains(element))
+                .map(contingencyElementByBranch::get)
+                .map(ComputedContingencyElement::new)
+                .collect(Collectors.toList());
+    }
 
-                Set<LfBranch> disabledBranches = contingency.getBranchIdsToOpen().keySet().stream().map(lfNetwork::getBranchById).collect(Collectors.toSet());
-                disabledBranches.addAll(partialDisabledBranches);
+    private static DisabledNetwork createDisabledNetwork(PropagatedContingency contingency, LfNetwork lfNetwork, Set<LfBus> disabledBuses, Set<LfBranch> partialDisabledBranches) {
+        Set<LfBranch> disabledBranches = contingency.getBranchIdsToOpen().keySet().stream().map(lfNetwork::getBranchById).collect(Collectors.toSet());
+        disabledBranches.addAll(partialDisabledBranches);
+        return new DisabledNetwork(disabledBuses, disabledBranches);
+    }
 
-                calculateContingencySensitivityValues(contingency, factorGroups, factorState, contingenciesStates, modifiedFlowStates, contingencyElements, resultWriter,
-                        loadFlowContext, lfParametersExt, validFactorHolder, participatingElements,
-                        new DisabledNetwork(disabledBuses, disabledBranches), reporter);
+    /**
+     * Calculate post-contingency sensitivity values of contingencies sharing the same pre-contingency states.
+     * <p>
+     * With an executor, contingencies only involving branches are processed by batches on worker threads, as they
+     * only read the shared states, the LF network and the factors. Contingencies involving the loss of a generator or
+     * a load have to modify the LF network and the factors, so they are processed on the calling thread once the
+     * workers of the batch are done. Results of each contingency are buffered and written in the contingency order,
+     * so that the result writer is never called concurrently and receives results as in a sequential computation.
+     */
+    private void calculateSensitivityValuesForContingencies(Collection<PropagatedContingency> contingencies,
+                                                            BiConsumer<PropagatedContingency, SensitivityResultWriter> calculator,
+                                                            SensitivityResultWriter resultWriter, ExecutorService executor) {
+        if (executor == null) {
+            contingencies.forEach(contingency -> calculator.accept(contingency, resultWriter));
+            return;
+        }
+
+        int threadCount = OpenSensitivityAnalysisParameters.getOrDefault(parameters).getThreadCount();
+        for (List<PropagatedContingency> batch : Lists.partition(new ArrayList<>(contingencies), threadCount * CONTINGENCY_BATCH_SIZE_PER_THREAD)) {
+            Map<PropagatedContingency, BufferedSensitivityResultWriter> bufferedResultWriters = new IdentityHashMap<>(batch.size());
+            List<PropagatedContingency> branchContingencies = new ArrayList<>(batch.size());
+            for (PropagatedContingency contingency : batch) {
+                if (contingency.getGeneratorIdsToLose().isEmpty() && contingency.getLoadIdsToLoose().isEmpty()) {
+                    bufferedResultWriters.put(contingency, new BufferedSensitivityResultWriter());
+                    branchContingencies.add(contingency);
+                }
+            }
+
+            if (!branchContingencies.isEmpty()) {
+                List<Future<?>> futures = Lists.partition(branchContingencies, IntMath.divide(branchContingencies.size(), threadCount, RoundingMode.CEILING)).stream()
+                        .<Future<?>>map(partition -> executor.submit(() -> partition.forEach(contingency -> calculator.accept(contingency, bufferedResultWriters.get(contingency)))))
+                        .toList();
+                waitForCompletion(futures);
+            }
+
+            for (PropagatedContingency contingency : batch) {
+                BufferedSensitivityResultWriter bufferedResultWriter = bufferedResultWriters.get(contingency);
+                if (bufferedResultWriter != null) {
+                    bufferedResultWriter.flush(resultWriter);
+                } else {
+                    calculator.accept(contingency, resultWriter);
+                }
+            }
+        }
+    }
+
+    private static void waitForCompletion(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new PowsyblException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new PowsyblException(e.getCause());
             }
         }
     }
@@ -785,7 +877,7 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                                                           Map<String, ComputedContingencyElement> contingencyElementByBranch,
                                                           DenseMatrix flowStates, DenseMatrix factorsStates, DenseMatrix contingenciesStates,
                                                           SensitivityResultWriter resultWriter,
-                                                          Reporter reporter) {
+                                                          Reporter reporter, ExecutorService executor) {
         DenseMatrix modifiedFlowStates = flowStates;
 
         List<String> contingenciesIds = connectivityAnalysisResult.getContingencies().stream().map(c -> c.getContingency().getId()).collect(Collectors.toList());
@@ -824,7 +916,7 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
         calculateSensitivityValuesForContingencyList(loadFlowContext, lfParametersExt,
                 validFactorHolder, factorGroups, factorStateForThisConnectivity, contingenciesStates, modifiedFlowStates,
                 connectivityAnalysisResult.getContingencies(), contingencyElementByBranch, disabledBuses, participatingElementsForThisConnectivity,
-                connectivityAnalysisResult.getElementsToReconnect(), resultWriter, reporter, partialDisabledBranches);
+                connectivityAnalysisResult.getElementsToReconnect(), resultWriter, reporter, partialDisabledBranches, executor);
 
         if (rhsChanged) {
             setBaseCaseSensitivityValues(factorGroups, factorsStates); // we modified the rhs, we need to restore previous state
@@ -982,20 +1074,30 @@ public class DcSensitivityAnalysis extends AbstractSensitivityAnalysis<DcVariabl
                 LOGGER.info("After graph based connectivity analysis, {} contingencies do not break connectivity, {} contingencies break connectivity",
                         nonBreakingConnectivityContingencies.size(), connectivityAnalysisResults.stream().mapToInt(results -> results.getContingencies().size()).count());
 
-                LOGGER.info("Processing contingencies with no connectivity break");
-
-                // process contingencies with no connectivity break
-                calculateSensitivityValuesForContingencyList(loadFlowContext, lfParametersExt, validFactorHolder, factorGroups,
-                        factorsStates, contingenciesStates, flowStates, nonBreakingConnectivityContingencies, contingencyElementByBranch,
-                        Collections.emptySet(), participatingElements, Collections.emptySet(), resultWriter, reporter, Collections.emptySet());
-
-                LOGGER.info("Processing contingencies with connectivity break");
-
-                // process contingencies with connectivity break
-                for (ConnectivityAnalysisResult connectivityAnalysisResult : connectivityAnalysisResults) {
-                    processContingenciesBreakingConnectivity(connectivityAnalysisResult, loadFlowContext, lfParameters, lfParametersExt,
-                            validFactorHolder, factorGroups, participatingElements,
-                            contingencyElementByBranch, flowStates, factorsStates, contingenciesStates, resultWriter, reporter);
+                // post-contingency computations only read the states computed above, so contingencies can be processed
+                // on several threads
+                int threadCount = Math.min(OpenSensitivityAnalysisParameters.getOrDefault(parameters).getThreadCount(), Math.max(contingencies.size(), 1));
+                ExecutorService executor = threadCount > 1 ? Executors.newFixedThreadPool(threadCount) : null;
+                try {
+                    LOGGER.info("Processing contingencies with no connectivity break");
+
+                    // process contingencies with no connectivity break
+                    calculateSensitivityValuesForContingencyList(loadFlowContext, lfParametersExt, validFactorHolder, factorGroups,
+                            factorsStates, contingenciesStates, flowStates, nonBreakingConnectivityContingencies, contingencyElementByBranch,
+                            Collections.emptySet(), participatingElements, Collections.emptySet(), resultWriter, reporter, Collections.emptySet(), executor);
+
+                    LOGGER.info("Processing contingencies with connectivity break");
+
+                    // process contingencies with connectivity break
+                    for (ConnectivityAnalysisResult connectivityAnalysisResult : connectivityAnalysisResults) {
+                        processContingenciesBreakingConnectivity(connectivityAnalysisResult, loadFlowContext, lfParameters, lfParametersExt,
+                                validFactorHolder, factorGroups, participatingElements,
+                                contingencyElementByBranch, flowStates, factorsStates, contingenciesStates, resultWriter, reporter, executor);
+                    }
+                } finally {
+                    if (executor != null) {
+                        executor.shutdownNow();
+                    }
                 }
             }
 
@@ -8,6 +8,7 @@ package com.powsybl.openloadflow.sensi;
 
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 
 import java.util.List;
@@ -21,9 +22,13 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
 
     private String debugDir;
 
+    private int threadCount = THREAD_COUNT_DEFAULT_VALUE;
+
     public static final String DEBUG_DIR_PARAM_NAME = "debugDir";
     public static final String DEBUG_DIR_DEFAULT_VALUE = "";
-    public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(DEBUG_DIR_PARAM_NAME);
+    public static final String THREAD_COUNT_PARAM_NAME = "threadCount";
+    public static final int THREAD_COUNT_DEFAULT_VALUE = 1;
+    public static final List<String> SPECIFIC_PARAMETERS_NAMES = List.of(DEBUG_DIR_PARAM_NAME, THREAD_COUNT_PARAM_NAME);
 
     @Override
     public String getName() {
@@ -39,6 +44,28 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
         return this;
     }
 
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Number of threads used to compute DC post-contingency sensitivity values. When greater than one, contingencies
+     * that do not need any new load flow resolution are split into as many partitions, each one being processed on
+     * its own thread from the shared pre-contingency states.
+     */
+    public OpenSensitivityAnalysisParameters setThreadCount(int threadCount) {
+        this.threadCount = OpenLoadFlowParameters.checkParameterValue(threadCount, threadCount >= 1, THREAD_COUNT_PARAM_NAME);
+        return this;
+    }
+
+    public static OpenSensitivityAnalysisParameters getOrDefault(SensitivityAnalysisParameters parameters) {
+        OpenSensitivityAnalysisParameters parametersExt = parameters.getExtension(OpenSensitivityAnalysisParameters.class);
+        if (parametersExt == null) {
+            parametersExt = new OpenSensitivityAnalysisParameters();
+        }
+        return parametersExt;
+    }
+
     public static OpenSensitivityAnalysisParameters load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -47,13 +74,16 @@ public class OpenSensitivityAnalysisParameters extends AbstractExtension<Sensiti
         OpenSensitivityAnalysisParameters parameters = new OpenSensitivityAnalysisParameters();
         platformConfig.getOptionalModuleConfig("open-sensitivityanalysis-default-parameters")
                 .ifPresent(config -> parameters
-                        .setDebugDir(config.getStringProperty(DEBUG_DIR_PARAM_NAME, DEBUG_DIR_DEFAULT_VALUE)));
+                        .setDebugDir(config.getStringProperty(DEBUG_DIR_PARAM_NAME, DEBUG_DIR_DEFAULT_VALUE))
+                        .setThreadCount(config.getIntProperty(THREAD_COUNT_PARAM_NAME, THREAD_COUNT_DEFAULT_VALUE)));
         return parameters;
     }
 
     public static OpenSensitivityAnalysisParameters load(Map<String, String> properties) {
         OpenSensitivityAnalysisParameters parameters = new OpenSensitivityAnalysisParameters();
         Optional.ofNullable(properties.get(DEBUG_DIR_PARAM_NAME)).ifPresent(parameters::setDebugDir);
+        Optional.ofNullable(properties.get(THREAD_COUNT_PARAM_NAME))
+                .ifPresent(value -> parameters.setThreadCount(Integer.parseInt(value)));
         return parameters;
     }
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.util;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+public final class ConcurrencyUtil {
+
+    private ConcurrencyUtil() {
+    }
+
+    /**
+     * Apply a function to each item on at most thread count threads and return results in item order. Items are
+     * submitted by decreasing weight, so that the heaviest ones do not start last and the whole computation ends as
+     * soon as possible after the heaviest item. With only one thread or one item, the function is applied on the
+     * calling thread.
+     */
+    public static <T, R> List<R> map(List<T> items, int threadCount, ToIntFunction<T> weightGetter, Function<T, R> mapper) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(weightGetter);
+        Objects.requireNonNull(mapper);
+        int actualThreadCount = Math.min(threadCount, items.size());
+        if (actualThreadCount <= 1) {
+            return items.stream().map(mapper).toList();
+        }
+
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            futures.add(null);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(actualThreadCount);
+        try {
+            IntStream.range(0, items.size())
+                    .boxed()
+                    .sorted(Comparator.comparingInt((Integer i) -> weightGetter.applyAsInt(items.get(i))).reversed())
+                    .forEach(i -> futures.set(i, executor.submit(() -> mapper.apply(items.get(i)))));
+            List<R> results = new ArrayList<>(items.size());
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PowsyblException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
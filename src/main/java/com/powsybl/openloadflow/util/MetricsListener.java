@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.util;
+
+import com.powsybl.openloadflow.lf.outerloop.OuterLoopStatus;
+import com.powsybl.security.PostContingencyComputationStatus;
+
+/**
+ * Listener of solver performance metrics, to collect programmatically what is only logged at debug level with
+ * {@link Markers#PERFORMANCE_MARKER}. All durations are in nanoseconds.
+ * <p>
+ * As security analysis contingencies might be simulated on several threads, implementations have to be thread safe.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface MetricsListener {
+
+    MetricsListener NO_OP = new MetricsListener() {
+    };
+
+    /**
+     * Called when the Jacobian matrix has been built from scratch, because its structure has changed.
+     *
+     * @param size the number of rows (and columns) of the matrix
+     * @param nonZeroCount the number of non zero elements added to the matrix
+     */
+    default void onJacobianMatrixBuilt(int size, int nonZeroCount, long duration) {
+    }
+
+    /**
+     * Called when the Jacobian matrix values have been updated, the structure being unchanged.
+     */
+    default void onJacobianMatrixUpdated(int size, int nonZeroCount, long duration) {
+    }
+
+    /**
+     * Called when the LU decomposition of the Jacobian matrix has been done from scratch ({@code update} is false) or
+     * updated after a Jacobian matrix values update ({@code update} is true).
+     */
+    default void onLuDecomposition(int size, boolean update, long duration) {
+    }
+
+    /**
+     * Called at the end of each Newton-Raphson iteration.
+     *
+     * @param iteration the iteration number, starting from 0
+     * @param mismatchNorm the norm of the equation mismatches vector, after the state update
+     * @param solveDuration the duration of the linear system solving, including the Jacobian matrix update and its LU
+     *                      decomposition
+     * @param scalingDuration the duration of the state vector scaling
+     */
+    default void onNewtonRaphsonIteration(int iteration, double mismatchNorm, long solveDuration, long scalingDuration) {
+    }
+
+    /**
+     * Called after each check of an AC outer loop.
+     *
+     * @param outerLoopName the name of the outer loop
+     * @param iteration the iteration number of the outer loop
+     */
+    default void onOuterLoopCheck(String outerLoopName, int iteration, OuterLoopStatus status, long duration) {
+    }
+
+    /**
+     * Called at the end of each post contingency simulation of a security analysis, the duration including load flow
+     * and limit violations detection.
+     */
+    default void onPostContingencySimulation(String contingencyId, PostContingencyComputationStatus status, long duration) {
+    }
+
+    /**
+     * Called at the end of each operator strategy simulation of a security analysis, the duration including load flow
+     * and limit violations detection but not the actions application.
+     */
+    default void onOperatorStrategySimulation(String operatorStrategyId, String contingencyId, PostContingencyComputationStatus status,
+                                              long duration) {
+    }
+}
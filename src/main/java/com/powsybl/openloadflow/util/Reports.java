@@ -12,6 +12,7 @@ import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.commons.reporter.TypedValue;
 import com.powsybl.openloadflow.OpenLoadFlowReportConstants;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -202,6 +203,30 @@ public final class Reports {
                 "DC security analysis on network '${networkId}'", NETWORK_ID, networkId);
     }
 
+    public static void reportContingenciesNotComputed(Reporter reporter, Collection<String> notComputedContingencyIds,
+                                                      Collection<String> notComputedOperatorStrategyIds) {
+        reporter.report(Report.builder()
+                .withKey("contingenciesNotComputed")
+                .withDefaultMessage("Time budget exhausted, ${notComputedContingencyCount} contingencies not computed: ${notComputedContingencyIds}, ${notComputedOperatorStrategyCount} operator strategies not computed: ${notComputedOperatorStrategyIds}")
+                .withValue("notComputedContingencyCount", notComputedContingencyIds.size())
+                .withValue("notComputedContingencyIds", notComputedContingencyIds.toString())
+                .withValue("notComputedOperatorStrategyCount", notComputedOperatorStrategyIds.size())
+                .withValue("notComputedOperatorStrategyIds", notComputedOperatorStrategyIds.toString())
+                .withSeverity(TypedValue.WARN_SEVERITY)
+                .build());
+    }
+
+    public static void reportContingencyScreening(Reporter reporter, int contingencyCount, Collection<String> screenedOutContingencyIds) {
+        reporter.report(Report.builder()
+                .withKey("contingencyScreening")
+                .withDefaultMessage("${screenedOutContingencyCount} contingencies out of ${contingencyCount} screened-out by DC load flow, not simulated: ${screenedOutContingencyIds}")
+                .withValue("contingencyCount", contingencyCount)
+                .withValue("screenedOutContingencyCount", screenedOutContingencyIds.size())
+                .withValue("screenedOutContingencyIds", screenedOutContingencyIds.toString())
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .build());
+    }
+
     public static Reporter createPreContingencySimulation(Reporter reporter) {
         return reporter.createSubReporter("preContingencySimulation", "Pre-contingency simulation");
     }
@@ -211,6 +236,16 @@ public final class Reports {
                 "contingencyId", contingencyId);
     }
 
+    public static Reporter createSecurityAnalysisWorker(Reporter reporter, int workerIndex) {
+        return reporter.createSubReporter("securityAnalysisWorker", "Security analysis worker ${workerIndex}",
+                "workerIndex", workerIndex);
+    }
+
+    public static Reporter createOperatorStrategySimulationWorker(Reporter reporter, int workerIndex) {
+        return reporter.createSubReporter("operatorStrategySimulationWorker", "Operator strategies simulation worker ${workerIndex}",
+                "workerIndex", workerIndex);
+    }
+
     public static Reporter createDetailedSolverReporter(Reporter reporter, String solverName, int networkNumCc, int networkNumSc) {
         return reporter.createSubReporter("solver", solverName + " on Network CC${networkNumCc} SC${networkNumSc} || No outer loops calculations",
                 Map.of(NETWORK_NUM_CC, new TypedValue(networkNumCc, TypedValue.UNTYPED),
@@ -269,6 +304,16 @@ public final class Reports {
                 .build());
     }
 
+    public static void reportNewtonRaphsonJacobianReuse(Reporter reporter, int savedLuUpdateCount, int refreshCount) {
+        reporter.report(Report.builder()
+                .withKey("NRJacobianReuse")
+                .withDefaultMessage("Dishonest Newton-Raphson saved ${savedLuUpdateCount} Jacobian matrix LU decomposition updates (${refreshCount} refreshes)")
+                .withValue("savedLuUpdateCount", savedLuUpdateCount)
+                .withValue("refreshCount", refreshCount)
+                .withSeverity(TypedValue.INFO_SEVERITY)
+                .build());
+    }
+
     public static void reportNewtonRaphsonBusesOutOfNormalVoltageRange(Reporter reporter, Map<String, Double> busesOutOfNormalVoltageRange, double minRealisticVoltage, double maxRealisticVoltage) {
         reporter.report(Report.builder()
                 .withKey("newtonRaphsonBusesOutOfNormalVoltageRange")
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.AcLoadFlowResult;
+import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
+import com.powsybl.openloadflow.network.EurostagFactory;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.util.PreviousValueVoltageInitializer;
+import com.powsybl.openloadflow.network.util.UniformValueVoltageInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.powsybl.openloadflow.util.LoadFlowAssert.DELTA_V;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class AcMultiScenarioLoadFlowTest {
+
+    private static final double DELTA_ANGLE = 1E-4;
+
+    private LoadFlowParameters parameters;
+
+    private LoadFlow.Runner loadFlowRunner;
+
+    @BeforeEach
+    void setUp() {
+        parameters = new LoadFlowParameters();
+        OpenLoadFlowParameters.create(parameters);
+        loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+    }
+
+    private void assertSameAsLoadFlow(List<AcLoadFlowResult> results, Consumer<Network> modification) {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        modification.accept(network);
+        loadFlowRunner.run(network, parameters);
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isSuccess());
+        for (LfBus lfBus : results.get(0).getNetwork().getBuses()) {
+            Bus bus = network.getBusView().getBus(lfBus.getId());
+            assertEquals(bus.getV(), lfBus.getV() * lfBus.getNominalV(), DELTA_V);
+            assertEquals(bus.getAngle(), Math.toDegrees(lfBus.getAngle()), DELTA_ANGLE);
+        }
+    }
+
+    @Test
+    void test() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        List<AcLoadFlowScenario> scenarios = List.of(
+                new AcLoadFlowScenario("s1").setLoadP0("LOAD", 700).setLoadQ0("LOAD", 250),
+                new AcLoadFlowScenario("s2").setGeneratorTargetV("GEN", 24).setGeneratorTargetP("GEN", 550),
+                new AcLoadFlowScenario("s3"),
+                new AcLoadFlowScenario("s4"));
+        List<String> scenarioIds = new ArrayList<>();
+        try (AcMultiScenarioLoadFlow multiScenarioLoadFlow = new AcMultiScenarioLoadFlow(network, parameters, new DenseMatrixFactory(), Reporter.NO_OP)) {
+            multiScenarioLoadFlow.run(scenarios.stream(), (scenario, results) -> {
+                scenarioIds.add(scenario.getId());
+                switch (scenario.getId()) {
+                    case "s1" -> assertSameAsLoadFlow(results, n -> n.getLoad("LOAD").setP0(700).setQ0(250));
+                    // previous scenario load change is not kept
+                    case "s2" -> assertSameAsLoadFlow(results, n -> n.getGenerator("GEN").setTargetV(24).setTargetP(550));
+                    // back to base case
+                    case "s3" -> assertSameAsLoadFlow(results, n -> { });
+                    // warm start from the solution of the same case, only slack distribution has to be done again
+                    case "s4" -> {
+                        assertSameAsLoadFlow(results, n -> { });
+                        assertEquals(2, results.get(0).getSolverIterations());
+                    }
+                    default -> fail();
+                }
+            });
+        }
+        assertEquals(List.of("s1", "s2", "s3", "s4"), scenarioIds);
+
+        // IIDM network has not been modified
+        assertEquals(600, network.getLoad("LOAD").getP0());
+        assertEquals(24.5, network.getGenerator("GEN").getTargetV());
+        assertTrue(Double.isNaN(network.getBusView().getBus("VLGEN_0").getV()));
+    }
+
+    @Test
+    void parametersTest() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        var connectivityFactory = new NaiveGraphConnectivityFactory<LfBus, LfBranch>(LfBus::getNum);
+        try (AcMultiScenarioLoadFlow multiScenarioLoadFlow = new AcMultiScenarioLoadFlow(network, parameters, new DenseMatrixFactory(), connectivityFactory, Reporter.NO_OP)) {
+            AcLoadFlowContext context = multiScenarioLoadFlow.getContexts().get(0);
+            assertSame(connectivityFactory, context.getParameters().getNetworkParameters().getConnectivityFactory());
+            assertInstanceOf(UniformValueVoltageInitializer.class, context.getParameters().getVoltageInitializer());
+            multiScenarioLoadFlow.run(new AcLoadFlowScenario("s"));
+            // warm start is only configured on the parameters of the contexts
+            assertInstanceOf(PreviousValueVoltageInitializer.class, context.getParameters().getVoltageInitializer());
+        }
+    }
+
+    @Test
+    void unknownElementsTest() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        try (AcMultiScenarioLoadFlow multiScenarioLoadFlow = new AcMultiScenarioLoadFlow(network, parameters, new DenseMatrixFactory(), Reporter.NO_OP)) {
+            List<AcLoadFlowResult> results = multiScenarioLoadFlow.run(new AcLoadFlowScenario("s")
+                    .setLoadP0("UNKNOWN", 10)
+                    .setGeneratorTargetP("UNKNOWN", 10));
+            assertSameAsLoadFlow(results, n -> { });
+        }
+    }
+}
@@ -6,6 +6,7 @@
  */
 package com.powsybl.openloadflow.ac;
 
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
 import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManagerConstants;
@@ -18,16 +19,20 @@ import com.powsybl.math.matrix.DenseMatrixFactory;
 import com.powsybl.openloadflow.NetworkCache;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import com.powsybl.openloadflow.network.BusBreakerNetworkFactory;
 import com.powsybl.openloadflow.network.EurostagFactory;
 import com.powsybl.openloadflow.network.HvdcNetworkFactory;
 import com.powsybl.openloadflow.network.NodeBreakerNetworkFactory;
 import com.powsybl.openloadflow.network.ShuntNetworkFactory;
 import com.powsybl.openloadflow.network.VoltageControlNetworkFactory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static com.powsybl.openloadflow.util.LoadFlowAssert.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,6 +57,12 @@ class AcLoadFlowWithCachingTest {
         NetworkCache.INSTANCE.clear();
     }
 
+    @AfterEach
+    void tearDown() {
+        NetworkCache.INSTANCE.setMaxEntryCount(NetworkCache.DEFAULT_MAX_ENTRY_COUNT);
+        NetworkCache.INSTANCE.setMaxMemorySize(NetworkCache.DEFAULT_MAX_MEMORY_SIZE);
+    }
+
     @Test
     void testTargetV() {
         var network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
@@ -98,9 +109,109 @@ class AcLoadFlowWithCachingTest {
         // run with different parameters
         parameters.setBalanceType(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_LOAD);
         loadFlowRunner.run(network, parameters);
-        assertEquals(1, NetworkCache.INSTANCE.getEntryCount());
+        assertEquals(2, NetworkCache.INSTANCE.getEntryCount());
         NetworkCache.Entry entry3 = NetworkCache.INSTANCE.findEntry(network).orElseThrow();
-        assertNotSame(entry, entry3); // cache has been evicted and recreated
+        assertNotSame(entry, entry3); // a new entry has been created for the new parameters
+
+        // back to initial parameters, initial entry is still there
+        parameters.setBalanceType(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_GENERATION_P_MAX);
+        loadFlowRunner.run(network, parameters);
+        assertEquals(2, NetworkCache.INSTANCE.getEntryCount());
+        assertSame(entry, NetworkCache.INSTANCE.findEntry(network).orElseThrow());
+        assertNotNull(entry.getContexts());
+        assertEquals(new NetworkCache.Statistics(2, 2, 0), NetworkCache.INSTANCE.getStatistics());
+    }
+
+    @Test
+    void testMaxEntryCount() {
+        var network1 = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        var network2 = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        var network3 = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        NetworkCache.INSTANCE.setMaxEntryCount(2);
+
+        loadFlowRunner.run(network1, parameters);
+        loadFlowRunner.run(network2, parameters);
+        loadFlowRunner.run(network1, parameters);
+        assertEquals(2, NetworkCache.INSTANCE.getEntryCount());
+        assertEquals(new NetworkCache.Statistics(1, 2, 0), NetworkCache.INSTANCE.getStatistics());
+
+        // network 2 entry is the least recently used one
+        loadFlowRunner.run(network3, parameters);
+        assertEquals(2, NetworkCache.INSTANCE.getEntryCount());
+        assertTrue(NetworkCache.INSTANCE.findEntry(network1).isPresent());
+        assertTrue(NetworkCache.INSTANCE.findEntry(network2).isEmpty());
+        assertTrue(NetworkCache.INSTANCE.findEntry(network3).isPresent());
+        assertEquals(new NetworkCache.Statistics(1, 3, 1), NetworkCache.INSTANCE.getStatistics());
+
+        NetworkCache.INSTANCE.setMaxEntryCount(1);
+        assertTrue(NetworkCache.INSTANCE.findEntry(network1).isEmpty());
+        assertTrue(NetworkCache.INSTANCE.findEntry(network3).isPresent());
+        assertThrows(IllegalArgumentException.class, () -> NetworkCache.INSTANCE.setMaxEntryCount(0));
+    }
+
+    @Test
+    void testMaxMemorySize() {
+        var network1 = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        var network2 = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+
+        loadFlowRunner.run(network1, parameters);
+        NetworkCache.Entry entry1 = NetworkCache.INSTANCE.findEntry(network1).orElseThrow();
+        long entryMemorySize = entry1.getEstimatedMemorySize();
+        assertTrue(entryMemorySize > 0);
+
+        // only one entry fits in the memory budget
+        NetworkCache.INSTANCE.setMaxMemorySize(entryMemorySize);
+        assertEquals(1, NetworkCache.INSTANCE.getEntryCount());
+        loadFlowRunner.run(network2, parameters);
+        assertEquals(1, NetworkCache.INSTANCE.getEntryCount());
+        assertTrue(NetworkCache.INSTANCE.findEntry(network1).isEmpty());
+        assertNull(entry1.getContexts()); // resources have been released
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network2).orElseThrow().getContexts());
+        assertEquals(1, NetworkCache.INSTANCE.getStatistics().evictionCount());
+    }
+
+    @Test
+    void testVariants() {
+        var network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, List.of("v1", "v2"));
+
+        loadFlowRunner.run(network, parameters);
+        NetworkCache.Entry initialEntry = NetworkCache.INSTANCE.findEntry(network).orElseThrow();
+        network.getVariantManager().setWorkingVariant("v1");
+        loadFlowRunner.run(network, parameters);
+        NetworkCache.Entry entry1 = NetworkCache.INSTANCE.findEntry(network).orElseThrow();
+        network.getVariantManager().setWorkingVariant("v2");
+        loadFlowRunner.run(network, parameters);
+        NetworkCache.Entry entry2 = NetworkCache.INSTANCE.findEntry(network).orElseThrow();
+        assertEquals(3, NetworkCache.INSTANCE.getEntryCount());
+        assertNotSame(initialEntry, entry1);
+        assertNotSame(entry1, entry2);
+
+        // a change in variant v2 only invalidates v2 entry
+        network.getGenerator("GEN").setTargetQ(10);
+        assertNotNull(initialEntry.getContexts());
+        assertNotNull(entry1.getContexts());
+        assertNull(entry2.getContexts());
+
+        // v1 removal only invalidates v1 entry
+        network.getVariantManager().removeVariant("v1");
+        assertNotNull(initialEntry.getContexts());
+        assertNull(entry1.getContexts());
+
+        // v1 re-creation from v2 does not invalidate any other entry
+        loadFlowRunner.run(network, parameters);
+        network.getVariantManager().cloneVariant("v2", "v1");
+        assertNotNull(initialEntry.getContexts());
+        assertNotNull(entry2.getContexts());
+
+        // v2 overwriting only invalidates v2 entry
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v2", true);
+        assertNotNull(initialEntry.getContexts());
+        assertNull(entry2.getContexts());
+
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        loadFlowRunner.run(network, parameters);
+        assertSame(initialEntry, NetworkCache.INSTANCE.findEntry(network).orElseThrow());
     }
 
     @Test
@@ -137,9 +248,132 @@ class AcLoadFlowWithCachingTest {
         loadFlowRunner.run(network, parameters);
         assertEquals(2, network.getVariantManager().getVariantIds().size());
 
+        // both entries are kept with their own temporary variant
         parametersExt.setActionableSwitchesIds(Set.of("S1VL1_TWT_BREAKER"));
         loadFlowRunner.run(network, parameters);
+        assertEquals(3, network.getVariantManager().getVariantIds().size());
+
+        // temporary variant of the evicted entry is only removed on next access to the network
+        NetworkCache.INSTANCE.setMaxEntryCount(1);
+        assertEquals(1, NetworkCache.INSTANCE.getEntryCount());
+        assertEquals(3, network.getVariantManager().getVariantIds().size());
+        loadFlowRunner.run(network, parameters);
         assertEquals(2, network.getVariantManager().getVariantIds().size());
+
+        NetworkCache.INSTANCE.clear();
+        assertEquals(1, network.getVariantManager().getVariantIds().size());
+    }
+
+    /**
+     * Apply the same change to a cached network and to a reference network, check that the cache is incrementally
+     * updated and that the load flow gives the same results as without cache.
+     */
+    private void assertIncrementalUpdate(Network network, Network referenceNetwork, Consumer<Network> change) {
+        // starting from previous state, Newton-Raphson does not converge to exactly the same point, so a tighter
+        // convergence criteria is needed to compare results
+        parametersExt.setNewtonRaphsonConvEpsPerEq(1e-8)
+                .setSlackBusPMaxMismatch(1e-3);
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+
+        change.accept(network);
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        assertEquals(new NetworkCache.Statistics(1, 1, 0), NetworkCache.INSTANCE.getStatistics());
+
+        change.accept(referenceNetwork);
+        LoadFlowParameters referenceParameters = new LoadFlowParameters();
+        OpenLoadFlowParameters.create(referenceParameters)
+                .setNewtonRaphsonConvEpsPerEq(1e-8)
+                .setSlackBusPMaxMismatch(1e-3);
+        assertTrue(loadFlowRunner.run(referenceNetwork, referenceParameters).isFullyConverged());
+        for (Bus bus : network.getBusView().getBuses()) {
+            Bus referenceBus = referenceNetwork.getBusView().getBus(bus.getId());
+            assertVoltageEquals(referenceBus.getV(), bus);
+            assertEquals(referenceBus.getAngle(), bus.getAngle(), 1e-4);
+        }
+    }
+
+    @Test
+    void testLoadChange() {
+        assertIncrementalUpdate(EurostagFactory.fix(EurostagTutorialExample1Factory.create()),
+                                EurostagFactory.fix(EurostagTutorialExample1Factory.create()),
+            network -> network.getLoad("LOAD").setP0(650).setQ0(250));
+    }
+
+    @Test
+    void testGeneratorActivePowerChange() {
+        assertIncrementalUpdate(IeeeCdfNetworkFactory.create14(), IeeeCdfNetworkFactory.create14(),
+            network -> network.getGenerator("B2-G").setTargetP(60));
+    }
+
+    @Test
+    void testTapPositionChange() {
+        Consumer<Network> setUp = network -> network.getTwoWindingsTransformer("T2wT").getRatioTapChanger()
+                .setTargetDeadband(0)
+                .setRegulating(true)
+                .setTapPosition(2);
+        Network network = VoltageControlNetworkFactory.createNetworkWithT2wt();
+        setUp.accept(network);
+        Network referenceNetwork = VoltageControlNetworkFactory.createNetworkWithT2wt();
+        setUp.accept(referenceNetwork);
+        assertIncrementalUpdate(network, referenceNetwork,
+            n -> n.getTwoWindingsTransformer("T2wT").getRatioTapChanger().setTapPosition(3));
+        assertVoltageEquals(34.426, network.getBusBreakerView().getBus("BUS_3"));
+    }
+
+    @Test
+    void testTapPositionChangeWithImpedanceChange() {
+        var network = VoltageControlNetworkFactory.createNetworkWithT2wt();
+        var rtc = network.getTwoWindingsTransformer("T2wT").getRatioTapChanger()
+                .setTargetDeadband(0)
+                .setRegulating(true);
+
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+        // impedance of tap 1 is different from impedance of tap 0
+        rtc.setTapPosition(1);
+        assertNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+    }
+
+    @Test
+    void testHvdcActivePowerSetpointChange() {
+        assertIncrementalUpdate(HvdcNetworkFactory.createVsc(), HvdcNetworkFactory.createVsc(),
+            network -> network.getHvdcLine("hvdc23").setActivePowerSetpoint(10));
+    }
+
+    @Test
+    void testLineDisconnection() {
+        // breaker mode is needed to keep buses of the cached network valid after a terminal connection change
+        parametersExt.setActionableSwitchesIds(Set.of("C"));
+        var network = BusBreakerNetworkFactory.create();
+        assertIncrementalUpdate(network, BusBreakerNetworkFactory.create(),
+            n -> {
+                n.getLine("L1").getTerminal1().disconnect();
+                n.getLine("L1").getTerminal2().disconnect();
+            });
+        assertActivePowerEquals(-600, network.getLine("L2").getTerminal2());
+    }
+
+    @Test
+    void testLineDisconnectionAtOneSide() {
+        var network = BusBreakerNetworkFactory.create();
+        var l1 = network.getLine("L1");
+        var l2 = network.getLine("L2");
+        parametersExt.setActionableSwitchesIds(Set.of("C"));
+
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        l1.getTerminal1().disconnect();
+        // line is disconnected at only one side, cache is invalidated at next run
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+        assertTrue(loadFlowRunner.run(network, parameters).isFullyConverged());
+        assertEquals(new NetworkCache.Statistics(0, 2, 0), NetworkCache.INSTANCE.getStatistics());
+        assertActivePowerEquals(0.016, l1.getTerminal2());
+        assertActivePowerEquals(-600.016, l2.getTerminal2());
+
+        // a line open at one side in the cached network is not supported
+        l1.getTerminal2().disconnect();
+        assertNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
     }
 
     @Test
@@ -175,19 +409,19 @@ class AcLoadFlowWithCachingTest {
         loadFlowRunner.run(network, parameters);
         assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
 
+        // changes on other variants do not invalidate the cache
         network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
-        assertNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
-
-        loadFlowRunner.run(network, parameters);
         assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
 
         network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v", true);
-        assertNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
-
-        loadFlowRunner.run(network, parameters);
         assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
 
         network.getVariantManager().removeVariant("v");
+        assertNotNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
+
+        // overwrite of the cached variant invalidates the cache
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().cloneVariant("v", VariantManagerConstants.INITIAL_VARIANT_ID, true);
         assertNull(NetworkCache.INSTANCE.findEntry(network).orElseThrow().getContexts());
     }
 
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.ac;
+
+import com.powsybl.commons.reporter.Report;
+import com.powsybl.commons.reporter.ReporterModel;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import com.powsybl.openloadflow.network.SlackBusSelectionMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.powsybl.openloadflow.util.LoadFlowAssert.assertVoltageEquals;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class DishonestNewtonRaphsonTest {
+
+    // convergence is slower than honest Newton-Raphson so solutions are only equal up to stopping criteria
+    private static final double DELTA_ANGLE = 1E-2;
+
+    private LoadFlow.Runner loadFlowRunner;
+
+    private LoadFlowParameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        parameters = new LoadFlowParameters()
+                .setDistributedSlack(true)
+                .setUseReactiveLimits(true);
+        OpenLoadFlowParameters.create(parameters)
+                .setSlackBusSelectionMode(SlackBusSelectionMode.FIRST)
+                .setDishonestNewtonRaphson(true);
+        loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+    }
+
+    private static void findReports(ReporterModel reporter, String key, List<Report> reports) {
+        reporter.getReports().stream()
+                .filter(report -> report.getReportKey().equals(key))
+                .forEach(reports::add);
+        reporter.getSubReporters().forEach(subReporter -> findReports(subReporter, key, reports));
+    }
+
+    @Test
+    void ieee14Test() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        ReporterModel reporter = new ReporterModel("test", "test");
+        LoadFlowResult result = loadFlowRunner.run(network, network.getVariantManager().getWorkingVariantId(), LocalComputationManager.getDefault(), parameters, reporter);
+        assertSame(LoadFlowResult.ComponentResult.Status.CONVERGED, result.getComponentResults().get(0).getStatus());
+
+        // one report per Newton-Raphson run, at least one LU decomposition update has been saved
+        List<Report> reports = new ArrayList<>();
+        findReports(reporter, "NRJacobianReuse", reports);
+        assertFalse(reports.isEmpty());
+        int savedLuUpdateCount = reports.stream()
+                .mapToInt(report -> (Integer) report.getValue("savedLuUpdateCount").getValue())
+                .sum();
+        assertTrue(savedLuUpdateCount > 0);
+
+        // compare with honest Newton-Raphson
+        Network network2 = IeeeCdfNetworkFactory.create14();
+        OpenLoadFlowParameters.get(parameters).setDishonestNewtonRaphson(false);
+        loadFlowRunner.run(network2, parameters);
+        for (Bus bus : network.getBusView().getBuses()) {
+            Bus bus2 = network2.getBusView().getBus(bus.getId());
+            assertVoltageEquals(bus2.getV(), bus);
+            assertEquals(bus2.getAngle(), bus.getAngle(), DELTA_ANGLE);
+        }
+    }
+
+    @Test
+    void refreshAtEachIterationTest() {
+        // with a ratio lower than any mismatch norm reduction, Jacobian matrix is refreshed after each iteration
+        OpenLoadFlowParameters.get(parameters).setDishonestNewtonRaphsonRefreshRatio(1E-20);
+        Network network = IeeeCdfNetworkFactory.create14();
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertSame(LoadFlowResult.ComponentResult.Status.CONVERGED, result.getComponentResults().get(0).getStatus());
+
+        Network network2 = IeeeCdfNetworkFactory.create14();
+        OpenLoadFlowParameters.get(parameters).setDishonestNewtonRaphson(false);
+        LoadFlowResult result2 = loadFlowRunner.run(network2, parameters);
+        assertEquals(result2.getComponentResults().get(0).getIterationCount(), result.getComponentResults().get(0).getIterationCount());
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.ac;
+
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import com.powsybl.openloadflow.ac.solver.AcSolverType;
+import com.powsybl.openloadflow.network.EurostagFactory;
+import com.powsybl.openloadflow.network.SlackBusSelectionMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.powsybl.openloadflow.util.LoadFlowAssert.assertVoltageEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class FastDecoupledTest {
+
+    // convergence is linear so solution is only as accurate as required by stopping criteria
+    private static final double DELTA_ANGLE = 1E-2;
+
+    private LoadFlow.Runner loadFlowRunner;
+
+    private LoadFlowParameters parameters;
+
+    @BeforeEach
+    void setUp() {
+        parameters = new LoadFlowParameters();
+        OpenLoadFlowParameters.create(parameters)
+                .setSlackBusSelectionMode(SlackBusSelectionMode.FIRST)
+                .setAcSolverType(AcSolverType.FAST_DECOUPLED);
+        loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+    }
+
+    @Test
+    void fastDecoupledTest() {
+        Network network = EurostagFactory.fix(EurostagTutorialExample1Factory.create());
+        Bus genBus = network.getBusBreakerView().getBus("NGEN");
+        Bus bus1 = network.getBusBreakerView().getBus("NHV1");
+        Bus bus2 = network.getBusBreakerView().getBus("NHV2");
+        Bus loadBus = network.getBusBreakerView().getBus("NLOAD");
+
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+
+        assertSame(LoadFlowResult.ComponentResult.Status.CONVERGED, result.getComponentResults().get(0).getStatus());
+        assertEquals(4, result.getComponentResults().get(0).getIterationCount());
+
+        // same results as Newton Raphson, up to stopping criteria
+        assertVoltageEquals(24.5, genBus);
+        assertEquals(0, genBus.getAngle(), DELTA_ANGLE);
+        assertVoltageEquals(402.143, bus1);
+        assertEquals(-2.325966, bus1.getAngle(), DELTA_ANGLE);
+        assertVoltageEquals(389.953, bus2);
+        assertEquals(-5.832323, bus2.getAngle(), DELTA_ANGLE);
+        assertVoltageEquals(147.578, loadBus);
+        assertEquals(-11.94045, loadBus.getAngle(), DELTA_ANGLE);
+    }
+
+    @Test
+    void ieee14Test() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        // with slack distribution and reactive limits outer loops
+        parameters.setDistributedSlack(true)
+                .setUseReactiveLimits(true);
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        assertSame(LoadFlowResult.ComponentResult.Status.CONVERGED, result.getComponentResults().get(0).getStatus());
+
+        // compare with Newton Raphson
+        Network network2 = IeeeCdfNetworkFactory.create14();
+        OpenLoadFlowParameters.get(parameters).setAcSolverType(AcSolverType.NEWTON_RAPHSON);
+        loadFlowRunner.run(network2, parameters);
+        for (Bus bus : network.getBusView().getBuses()) {
+            Bus bus2 = network2.getBusView().getBus(bus.getId());
+            assertVoltageEquals(bus2.getV(), bus);
+            assertEquals(bus2.getAngle(), bus.getAngle(), DELTA_ANGLE);
+        }
+    }
+}
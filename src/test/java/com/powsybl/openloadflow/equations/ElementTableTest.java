@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.equations;
+
+import com.powsybl.openloadflow.network.ElementType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ElementTableTest {
+
+    @Test
+    void test() {
+        ElementTable<ElementType, String> table = new ElementTable<>();
+        assertNull(table.get(ElementType.BUS, 0));
+        assertTrue(table.values().isEmpty());
+
+        assertNull(table.put(ElementType.BRANCH, 100, "branch100"));
+        assertNull(table.put(ElementType.BUS, 3, "bus3"));
+        assertNull(table.put(ElementType.BUS, 0, "bus0"));
+        assertEquals("bus3", table.put(ElementType.BUS, 3, "bus3bis"));
+        assertEquals(3, table.size());
+        assertEquals("bus3bis", table.get(ElementType.BUS, 3));
+        assertEquals("branch100", table.get(ElementType.BRANCH, 100));
+        assertNull(table.get(ElementType.BRANCH, 3));
+        assertNull(table.get(ElementType.BUS, 1000));
+        assertNull(table.get(ElementType.HVDC, 0));
+
+        // iterated by type then element number
+        assertEquals(List.of("bus0", "bus3bis", "branch100"), new ArrayList<>(table.values()));
+
+        assertEquals("bus-shunt1", table.computeIfAbsent(ElementType.SHUNT_COMPENSATOR, 1, () -> "bus-shunt1"));
+        assertEquals("bus-shunt1", table.computeIfAbsent(ElementType.SHUNT_COMPENSATOR, 1, () -> "other"));
+        assertEquals(4, table.size());
+
+        assertEquals("bus3bis", table.remove(ElementType.BUS, 3));
+        assertNull(table.remove(ElementType.BUS, 3));
+        assertEquals(3, table.size());
+        assertEquals(List.of("bus0", "branch100", "bus-shunt1"), new ArrayList<>(table.values()));
+
+        assertThrows(IllegalArgumentException.class, () -> table.put(ElementType.BUS, -1, "invalid"));
+        Iterator<String> it = table.values().iterator();
+        table.put(ElementType.HVDC, 0, "hvdc0");
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+}
@@ -6,14 +6,18 @@
  */
 package com.powsybl.openloadflow.equations;
 
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.math.matrix.Matrix;
 import com.powsybl.openloadflow.equations.EquationSystemIndexListener.ChangeType;
 import com.powsybl.openloadflow.network.ElementType;
+import com.powsybl.openloadflow.util.MetricsListener;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -189,4 +193,159 @@ class EquationSystemIndexTest {
         assertEquals(List.of(x, y), equationSystem.getIndex().getSortedEquationsToSolve());
         assertEquals(List.of(a, b, c), equationSystem.getIndex().getSortedVariablesToFind());
     }
+
+    @Test
+    void testIncrementalUpdate() {
+        EquationSystem<TestVariableType, TestEquationType> equationSystem = new EquationSystem<>();
+        List<Boolean> updates = new ArrayList<>();
+        equationSystem.getIndex().addListener(new EquationSystemIndexListener<>() {
+            @Override
+            public void onVariableChange(Variable<TestVariableType> variable, ChangeType changeType) {
+                // nothing to do
+            }
+
+            @Override
+            public void onEquationChange(Equation<TestVariableType, TestEquationType> equation, ChangeType changeType) {
+                // nothing to do
+            }
+
+            @Override
+            public void onEquationTermChange(EquationTerm<TestVariableType, TestEquationType> term) {
+                // nothing to do
+            }
+
+            @Override
+            public void onIndexUpdate(boolean incremental) {
+                updates.add(incremental);
+            }
+        });
+
+        // x0 = a + b
+        // y0 = a + c
+        // x1 = c
+        // y1 = b + c (inactive)
+        var a = equationSystem.getVariableSet().getVariable(0, TestVariableType.A);
+        var b = equationSystem.getVariableSet().getVariable(0, TestVariableType.B);
+        var c = equationSystem.getVariableSet().getVariable(0, TestVariableType.C);
+        var x0 = equationSystem.createEquation(0, TestEquationType.X)
+                .addTerm(a.createTerm())
+                .addTerm(b.createTerm());
+        var y0 = equationSystem.createEquation(0, TestEquationType.Y)
+                .addTerm(a.createTerm())
+                .addTerm(c.createTerm());
+        var x1 = equationSystem.createEquation(1, TestEquationType.X)
+                .addTerm(c.createTerm());
+        var y1 = equationSystem.createEquation(1, TestEquationType.Y)
+                .addTerm(b.createTerm())
+                .addTerm(c.createTerm());
+        y1.setActive(false);
+        assertEquals(List.of(x0, y0, x1), equationSystem.getIndex().getSortedEquationsToSolve());
+        assertEquals(List.of(a, b, c), equationSystem.getIndex().getSortedVariablesToFind());
+        assertEquals(List.of(false), updates);
+        updates.clear();
+
+        // y1 replaces x1 and takes its column
+        x1.setActive(false);
+        y1.setActive(true);
+        assertEquals(List.of(x0, y0, y1), equationSystem.getIndex().getSortedEquationsToSolve());
+        assertEquals(2, y1.getColumn());
+        assertEquals(-1, x1.getColumn());
+        assertEquals(List.of(true), updates);
+        updates.clear();
+
+        // deactivate and reactivate an equation, it gets back its column and index is not updated
+        y0.setActive(false);
+        y0.setActive(true);
+        assertEquals(List.of(x0, y0, y1), equationSystem.getIndex().getSortedEquationsToSolve());
+        assertEquals(1, y0.getColumn());
+        assertTrue(updates.isEmpty());
+
+        // x1 replaces x0, there is no removed equation of same element so it takes any freed column
+        x0.setActive(false);
+        x1.setActive(true);
+        assertEquals(List.of(x1, y0, y1), equationSystem.getIndex().getSortedEquationsToSolve());
+        assertEquals(List.of(a, b, c), equationSystem.getIndex().getSortedVariablesToFind());
+        assertEquals(List.of(true), updates);
+        updates.clear();
+
+        // removing an equation without replacing it needs a full update
+        y0.setActive(false);
+        assertEquals(List.of(x1, y1), equationSystem.getIndex().getSortedEquationsToSolve());
+        assertEquals(List.of(b, c), equationSystem.getIndex().getSortedVariablesToFind());
+        assertEquals(List.of(false), updates);
+    }
+
+    @Test
+    void testJacobianMatrixIncrementalUpdate() {
+        EquationSystem<TestVariableType, TestEquationType> equationSystem = new EquationSystem<>();
+
+        // x0 = a + b
+        // y0 = a + c
+        // x1 = c
+        // y1 = b + c (inactive)
+        var a = equationSystem.getVariableSet().getVariable(0, TestVariableType.A);
+        var b = equationSystem.getVariableSet().getVariable(0, TestVariableType.B);
+        var c = equationSystem.getVariableSet().getVariable(0, TestVariableType.C);
+        equationSystem.createEquation(0, TestEquationType.X)
+                .addTerm(a.createTerm())
+                .addTerm(b.createTerm());
+        equationSystem.createEquation(0, TestEquationType.Y)
+                .addTerm(a.createTerm())
+                .addTerm(c.createTerm());
+        var x1 = equationSystem.createEquation(1, TestEquationType.X)
+                .addTerm(c.createTerm());
+        var y1 = equationSystem.createEquation(1, TestEquationType.Y)
+                .addTerm(b.createTerm())
+                .addTerm(c.createTerm());
+        y1.setActive(false);
+
+        List<String> events = new ArrayList<>();
+        MetricsListener metricsListener = new MetricsListener() {
+            @Override
+            public void onJacobianMatrixBuilt(int size, int nonZeroCount, long duration) {
+                events.add("built" + nonZeroCount);
+            }
+
+            @Override
+            public void onJacobianMatrixUpdated(int size, int nonZeroCount, long duration) {
+                events.add("updated" + nonZeroCount);
+            }
+
+            @Override
+            public void onLuDecomposition(int size, boolean update, long duration) {
+                events.add(update ? "luUpdated" : "luDone");
+            }
+        };
+        try (var j = new JacobianMatrix<>(equationSystem, new DenseMatrixFactory(), metricsListener)) {
+            double[] rhs = {1, 2, 3};
+            j.solve(rhs);
+            assertArrayEquals(new double[] {2, -1, 4}, rhs, 1e-12);
+            assertEquals(List.of("built5", "luDone"), events);
+            events.clear();
+
+            // derivative of y1 to b is not part of the pattern, so matrix is rebuilt but x1 pattern is kept
+            x1.setActive(false);
+            y1.setActive(true);
+            rhs = new double[] {1, 2, 3};
+            j.solve(rhs);
+            assertArrayEquals(new double[] {0, 1, 2}, rhs, 1e-12);
+            assertEquals(List.of("built6", "luDone"), events);
+            events.clear();
+
+            // now switching back and forth only updates the matrix and its LU decomposition
+            y1.setActive(false);
+            x1.setActive(true);
+            rhs = new double[] {1, 2, 3};
+            j.solve(rhs);
+            assertArrayEquals(new double[] {2, -1, 4}, rhs, 1e-12);
+            Matrix m = j.getMatrix();
+            assertEquals(0, m.toDense().get(b.getRow(), x1.getColumn()), 0);
+            x1.setActive(false);
+            y1.setActive(true);
+            rhs = new double[] {1, 2, 3};
+            j.solve(rhs);
+            assertArrayEquals(new double[] {0, 1, 2}, rhs, 1e-12);
+            assertEquals(List.of("updated6", "luUpdated", "updated6", "luUpdated"), events);
+        }
+    }
 }
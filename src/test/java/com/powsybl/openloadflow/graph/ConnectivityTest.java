@@ -7,12 +7,12 @@
 package com.powsybl.openloadflow.graph;
 
 import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.Collections;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -491,16 +491,100 @@ class ConnectivityTest {
         // 1---2   3---4---5   6
     }
 
+    @Test
+    void intGraphConnectivityRandomTest() {
+        // compare with naive implementation on a grid graph randomly cut and partially restored
+        GraphConnectivity<Integer, String> naive = new NaiveGraphConnectivity<>(v -> v - 1);
+        GraphConnectivity<Integer, String> intGraph = createIntGraphConnectivity();
+        int size = 6;
+        List<String> edges = new ArrayList<>();
+        for (int v = 1; v <= size * size; v++) {
+            naive.addVertex(v);
+            intGraph.addVertex(v);
+        }
+        for (int v = 1; v <= size * size; v++) {
+            if (v % size != 0) {
+                edges.add(v + "-" + (v + 1));
+            }
+            if (v + size <= size * size) {
+                edges.add(v + "-" + (v + size));
+            }
+        }
+        for (String e : edges) {
+            String[] vertices = e.split("-");
+            naive.addEdge(Integer.parseInt(vertices[0]), Integer.parseInt(vertices[1]), e);
+            intGraph.addEdge(Integer.parseInt(vertices[0]), Integer.parseInt(vertices[1]), e);
+        }
+
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            naive.startTemporaryChanges();
+            intGraph.startTemporaryChanges();
+            int nestingLevels = random.nextInt(2) + 1;
+            for (int level = 0; level < nestingLevels; level++) {
+                if (level > 0) {
+                    naive.startTemporaryChanges();
+                    intGraph.startTemporaryChanges();
+                }
+                int cutCount = random.nextInt(8) + 1;
+                for (int j = 0; j < cutCount; j++) {
+                    String e = edges.get(random.nextInt(edges.size()));
+                    naive.removeEdge(e);
+                    intGraph.removeEdge(e);
+                }
+                String e = edges.get(random.nextInt(edges.size()));
+                String[] vertices = e.split("-");
+                naive.addEdge(Integer.parseInt(vertices[0]), Integer.parseInt(vertices[1]), e);
+                intGraph.addEdge(Integer.parseInt(vertices[0]), Integer.parseInt(vertices[1]), e);
+                assertSameConnectivity(naive, intGraph, size * size, level == 0);
+            }
+            for (int level = 0; level < nestingLevels; level++) {
+                naive.undoTemporaryChanges();
+                intGraph.undoTemporaryChanges();
+            }
+        }
+    }
+
+    private static void assertSameConnectivity(GraphConnectivity<Integer, String> expected, GraphConnectivity<Integer, String> actual,
+                                               int vertexCount, boolean compareMainComponentChanges) {
+        assertEquals(expected.getNbConnectedComponents(), actual.getNbConnectedComponents());
+        int mainComponentSize = 0;
+        for (int v = 1; v <= vertexCount; v++) {
+            assertEquals(expected.getConnectedComponent(v), actual.getConnectedComponent(v));
+            if (expected.getComponentNumber(v) == 0) {
+                mainComponentSize = expected.getConnectedComponent(v).size();
+            }
+        }
+        // main component being the biggest one, it is only the same if no other component has the same size
+        int finalMainComponentSize = mainComponentSize;
+        boolean sameMainComponent = IntStream.rangeClosed(1, vertexCount)
+                .noneMatch(v -> expected.getComponentNumber(v) != 0 && expected.getConnectedComponent(v).size() == finalMainComponentSize);
+        if (compareMainComponentChanges && sameMainComponent) {
+            assertEquals(expected.getVerticesRemovedFromMainComponent(), actual.getVerticesRemovedFromMainComponent());
+            assertEquals(expected.getEdgesRemovedFromMainComponent(), actual.getEdgesRemovedFromMainComponent());
+            assertEquals(expected.getVerticesAddedToMainComponent(), actual.getVerticesAddedToMainComponent());
+            assertEquals(expected.getEdgesAddedToMainComponent(), actual.getEdgesAddedToMainComponent());
+        }
+    }
+
     private static Stream<Arguments> provideNonRestrictedConnectivities() {
         return Stream.of(
                 Arguments.of(new NaiveGraphConnectivity<Integer, String>(v -> v - 1)),
-                Arguments.of(new MinimumSpanningTreeGraphConnectivity<>()));
+                Arguments.of(new MinimumSpanningTreeGraphConnectivity<>()),
+                Arguments.of(createIntGraphConnectivity()));
     }
 
     private static Stream<Arguments> provideAllConnectivities() {
         return Stream.of(
                 Arguments.of(new NaiveGraphConnectivity<Integer, String>(v -> v - 1)),
                 Arguments.of(new EvenShiloachGraphDecrementalConnectivity<>()),
-                Arguments.of(new MinimumSpanningTreeGraphConnectivity<>()));
+                Arguments.of(new MinimumSpanningTreeGraphConnectivity<>()),
+                Arguments.of(createIntGraphConnectivity()));
+    }
+
+    private static GraphConnectivity<Integer, String> createIntGraphConnectivity() {
+        // edges are numbered in their addition order
+        Map<String, Integer> edgeNums = new HashMap<>();
+        return new IntGraphConnectivity<>(v -> v - 1, e -> edgeNums.computeIfAbsent(e, k -> edgeNums.size()));
     }
 }
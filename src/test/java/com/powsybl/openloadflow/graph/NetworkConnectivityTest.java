@@ -40,6 +40,7 @@ class NetworkConnectivityTest {
     void testConnectivity() {
         testConnectivity(new NaiveGraphConnectivity<>(LfBus::getNum));
         testConnectivity(new EvenShiloachGraphDecrementalConnectivity<>());
+        testConnectivity(new IntGraphConnectivity<>(LfBus::getNum, LfBranch::getNum));
     }
 
     @Test
@@ -48,6 +49,7 @@ class NetworkConnectivityTest {
         // created connected component.
         testReducedMainComponent(new NaiveGraphConnectivity<>(LfBus::getNum));
         testReducedMainComponent(new EvenShiloachGraphDecrementalConnectivity<>());
+        testReducedMainComponent(new IntGraphConnectivity<>(LfBus::getNum, LfBranch::getNum));
     }
 
     @Test
@@ -56,6 +58,7 @@ class NetworkConnectivityTest {
         testReaddEdge(new NaiveGraphConnectivity<>(LfBus::getNum), true);
         testReaddEdge(new EvenShiloachGraphDecrementalConnectivity<>(), false);
         testReaddEdge(new MinimumSpanningTreeGraphConnectivity<>(), true);
+        testReaddEdge(new IntGraphConnectivity<>(LfBus::getNum, LfBranch::getNum), true);
     }
 
     @Test
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.network;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.PhaseShifterTestCaseFactory;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowResult;
+import com.powsybl.openloadflow.ac.AcloadFlowEngine;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.network.impl.Networks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LfNetworkCopyTest {
+
+    private static final double DELTA = 1e-10;
+
+    private LoadFlowParameters parameters;
+
+    private OpenLoadFlowParameters parametersExt;
+
+    @BeforeEach
+    void setUp() {
+        parameters = new LoadFlowParameters()
+                .setTransformerVoltageControlOn(true)
+                .setShuntCompensatorVoltageControlOn(true)
+                .setHvdcAcEmulation(true);
+        parametersExt = OpenLoadFlowParameters.create(parameters)
+                .setSlackBusSelectionMode(SlackBusSelectionMode.MOST_MESHED);
+    }
+
+    private AcLoadFlowParameters createAcParameters(Network network) {
+        return OpenLoadFlowParameters.createAcParameters(network, parameters, parametersExt, new DenseMatrixFactory(),
+                new EvenShiloachGraphDecrementalConnectivityFactory<>());
+    }
+
+    private static AcLoadFlowResult runAcLoadFlow(LfNetwork lfNetwork, AcLoadFlowParameters acParameters) {
+        try (var context = new AcLoadFlowContext(lfNetwork, acParameters)) {
+            return new AcloadFlowEngine(context).run();
+        }
+    }
+
+    private void assertSameLoadFlowResults(Network network) {
+        AcLoadFlowParameters acParameters = createAcParameters(network);
+        List<LfNetwork> lfNetworks = Networks.load(network, acParameters.getNetworkParameters());
+        LfNetwork lfNetwork = lfNetworks.get(0);
+        LfNetwork lfNetworkCopy = lfNetwork.copy(Reporter.NO_OP);
+
+        assertEquals(lfNetwork.getBuses().size(), lfNetworkCopy.getBuses().size());
+        assertEquals(lfNetwork.getBranches().size(), lfNetworkCopy.getBranches().size());
+        assertEquals(lfNetwork.getShunts().size(), lfNetworkCopy.getShunts().size());
+        assertEquals(lfNetwork.getHvdcs().size(), lfNetworkCopy.getHvdcs().size());
+        assertEquals(lfNetwork.getSlackBus().getId(), lfNetworkCopy.getSlackBus().getId());
+
+        AcLoadFlowResult result = runAcLoadFlow(lfNetwork, acParameters);
+        AcLoadFlowResult resultCopy = runAcLoadFlow(lfNetworkCopy, acParameters);
+        assertTrue(result.isSuccess());
+        assertEquals(result.getSolverStatus(), resultCopy.getSolverStatus());
+        assertEquals(result.getOuterLoopIterations(), resultCopy.getOuterLoopIterations());
+        assertEquals(result.getSolverIterations(), resultCopy.getSolverIterations());
+        for (LfBus bus : lfNetwork.getBuses()) {
+            LfBus busCopy = lfNetworkCopy.getBusById(bus.getId());
+            assertNotSame(bus, busCopy);
+            assertEquals(bus.getV(), busCopy.getV(), DELTA);
+            assertEquals(bus.getAngle(), busCopy.getAngle(), DELTA);
+        }
+        for (LfBranch branch : lfNetwork.getBranches()) {
+            LfBranch branchCopy = lfNetworkCopy.getBranchById(branch.getId());
+            assertNotSame(branch.getPiModel(), branchCopy.getPiModel());
+            assertEquals(branch.getP1().eval(), branchCopy.getP1().eval(), DELTA);
+            assertEquals(branch.getQ1().eval(), branchCopy.getQ1().eval(), DELTA);
+        }
+    }
+
+    @Test
+    void testGeneratorVoltageControl() {
+        assertSameLoadFlowResults(EurostagTutorialExample1Factory.create());
+        assertSameLoadFlowResults(VoltageControlNetworkFactory.createWithGeneratorRemoteControl());
+        assertSameLoadFlowResults(VoltageControlNetworkFactory.createWithStaticVarCompensator());
+    }
+
+    @Test
+    void testTransformerControls() {
+        assertSameLoadFlowResults(VoltageControlNetworkFactory.createNetworkWithT2wt());
+        assertSameLoadFlowResults(VoltageControlNetworkFactory.createWithTransformerSharedRemoteControl());
+        assertSameLoadFlowResults(VoltageControlNetworkFactory.createNetworkWithT3wt());
+        Network network = PhaseShifterTestCaseFactory.create();
+        network.getTwoWindingsTransformer("PS1").getPhaseTapChanger()
+                .setRegulationMode(PhaseTapChanger.RegulationMode.ACTIVE_POWER_CONTROL)
+                .setTargetDeadband(1)
+                .setRegulating(true)
+                .setRegulationValue(83);
+        parameters.setPhaseShifterRegulationOn(true);
+        assertSameLoadFlowResults(network);
+    }
+
+    @Test
+    void testShuntVoltageControl() {
+        assertSameLoadFlowResults(VoltageControlNetworkFactory.createWithShuntSharedRemoteControl());
+    }
+
+    @Test
+    void testHvdc() {
+        assertSameLoadFlowResults(HvdcNetworkFactory.createWithHvdcInAcEmulation());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        Network network = PhaseShifterTestCaseFactory.create();
+        AcLoadFlowParameters acParameters = createAcParameters(network);
+        LfNetwork lfNetwork = Networks.load(network, acParameters.getNetworkParameters()).get(0);
+        LfNetwork lfNetworkCopy = lfNetwork.copy(Reporter.NO_OP);
+
+        LfBranch ps1 = lfNetwork.getBranchById("PS1");
+        LfBranch ps1Copy = lfNetworkCopy.getBranchById("PS1");
+        LfBranch l2 = lfNetwork.getBranchById("L2");
+        LfBranch l2Copy = lfNetworkCopy.getBranchById("L2");
+        LfGenerator g1 = lfNetwork.getGeneratorById("G1");
+        LfGenerator g1Copy = lfNetworkCopy.getGeneratorById("G1");
+        assertSame(lfNetworkCopy.getBusById(g1.getBus().getId()), g1Copy.getBus());
+        assertSame(lfNetworkCopy, g1Copy.getBus().getNetwork());
+
+        double a1 = ps1.getPiModel().getA1();
+        double targetP = g1.getTargetP();
+        ps1Copy.getPiModel().setA1(a1 + 0.1);
+        l2Copy.setDisabled(true);
+        g1Copy.setTargetP(targetP + 1);
+
+        assertEquals(a1, ps1.getPiModel().getA1(), 0);
+        assertEquals(a1 + 0.1, ps1Copy.getPiModel().getA1(), 0);
+        assertFalse(l2.isDisabled());
+        assertTrue(l2Copy.isDisabled());
+        assertEquals(targetP, g1.getTargetP(), 0);
+        assertEquals(targetP + 1, g1Copy.getTargetP(), 0);
+        assertEquals(targetP, g1.getBus().getGenerationTargetP(), 0);
+        assertEquals(targetP + 1, g1Copy.getBus().getGenerationTargetP(), 0);
+    }
+}
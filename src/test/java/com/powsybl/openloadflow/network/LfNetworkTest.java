@@ -20,10 +20,12 @@ import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
 import com.powsybl.openloadflow.OpenLoadFlowProvider;
 import com.powsybl.openloadflow.network.impl.Networks;
 import com.powsybl.openloadflow.util.Evaluable;
 import com.powsybl.openloadflow.util.EvaluableConstants;
+import com.powsybl.openloadflow.util.LoadFlowAssert;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -161,6 +163,36 @@ class LfNetworkTest extends AbstractSerDeTest {
         assertEquals(2, result.getComponentResults().size());
     }
 
+    @Test
+    void testMultipleComponentsMultiThreaded() {
+        LfNetworkParameters networkParameters = new LfNetworkParameters()
+                .setComputeMainConnectedComponentOnly(false);
+        List<LfNetwork> lfNetworks = Networks.load(HvdcNetworkFactory.createVsc(), networkParameters);
+        List<LfNetwork> lfNetworks2 = Networks.load(HvdcNetworkFactory.createVsc(), new LfNetworkParameters(networkParameters).setThreadCount(2));
+        assertEquals(2, lfNetworks2.size());
+        for (int i = 0; i < lfNetworks.size(); i++) {
+            assertEquals(lfNetworks.get(i).getNumSC(), lfNetworks2.get(i).getNumSC());
+            assertEquals(lfNetworks.get(i).getBuses().stream().map(LfBus::getId).toList(),
+                         lfNetworks2.get(i).getBuses().stream().map(LfBus::getId).toList());
+        }
+
+        Network network = ConnectedComponentNetworkFactory.createTwoUnconnectedCC();
+        Network network2 = ConnectedComponentNetworkFactory.createTwoUnconnectedCC();
+        LoadFlow.Runner loadFlowRunner = new LoadFlow.Runner(new OpenLoadFlowProvider(new DenseMatrixFactory()));
+        LoadFlowParameters parameters = new LoadFlowParameters()
+                .setConnectedComponentMode(LoadFlowParameters.ConnectedComponentMode.ALL);
+        LoadFlowResult result = loadFlowRunner.run(network, parameters);
+        OpenLoadFlowParameters.create(parameters).setThreadCount(2);
+        LoadFlowResult result2 = loadFlowRunner.run(network2, parameters);
+
+        assertTrue(result2.isFullyConverged());
+        LoadFlowAssert.assertLoadFlowResultsEquals(result, result2);
+        network.getBusView().getBuses().forEach(bus -> {
+            assertEquals(bus.getV(), network2.getBusView().getBus(bus.getId()).getV(), 0);
+            assertEquals(bus.getAngle(), network2.getBusView().getBus(bus.getId()).getAngle(), 0);
+        });
+    }
+
     @Test
     void testMultipleConnectedComponentsDCMainComponent() {
         Network network = ConnectedComponentNetworkFactory.createTwoUnconnectedCC();
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.network;
+
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.math.matrix.DenseMatrixFactory;
+import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcLoadFlowContext;
+import com.powsybl.openloadflow.ac.AcLoadFlowParameters;
+import com.powsybl.openloadflow.ac.AcloadFlowEngine;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.network.impl.Networks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class NetworkStateTest {
+
+    private LfNetwork lfNetwork;
+
+    private LfLoad load;
+
+    private LfBranch branch;
+
+    private LfGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        Network network = EurostagTutorialExample1Factory.create();
+        lfNetwork = Networks.load(network, new FirstSlackBusSelector()).get(0);
+        load = lfNetwork.getLoadById("LOAD");
+        branch = lfNetwork.getBranchById("NHV1_NHV2_1");
+        generator = lfNetwork.getGeneratorById("GEN");
+    }
+
+    @Test
+    void testRestore() {
+        double loadTargetP = load.getTargetP();
+        double generatorTargetP = generator.getTargetP();
+        double v = load.getBus().getV();
+        NetworkState networkState = NetworkState.save(lfNetwork);
+        load.setTargetP(loadTargetP + 1);
+        generator.setTargetP(generatorTargetP + 1);
+        branch.setDisabled(true);
+        load.getBus().setV(v + 0.1);
+        networkState.restore();
+        assertEquals(loadTargetP, load.getTargetP());
+        assertEquals(generatorTargetP, generator.getTargetP());
+        assertFalse(branch.isDisabled());
+        assertEquals(v, load.getBus().getV());
+
+        // state can be restored several times
+        branch.setDisabled(true);
+        networkState.restore();
+        assertFalse(branch.isDisabled());
+    }
+
+    @Test
+    void testNestedSave() {
+        double loadTargetP = load.getTargetP();
+        NetworkState networkState = NetworkState.save(lfNetwork);
+        branch.setDisabled(true);
+        load.setTargetP(loadTargetP + 1);
+        NetworkState nestedNetworkState = NetworkState.save(lfNetwork);
+        load.setTargetP(loadTargetP + 2);
+        generator.setDisabled(true);
+        nestedNetworkState.restore();
+        assertTrue(branch.isDisabled());
+        assertEquals(loadTargetP + 1, load.getTargetP());
+        assertFalse(generator.isDisabled());
+
+        networkState.restore();
+        assertFalse(branch.isDisabled());
+        assertEquals(loadTargetP, load.getTargetP());
+
+        // nested state has been discarded by the restore of the outer state, it is fully restored
+        nestedNetworkState.restore();
+        assertTrue(branch.isDisabled());
+        assertEquals(loadTargetP + 1, load.getTargetP());
+    }
+
+    private static AcLoadFlowParameters createAcParameters(Network network) {
+        LoadFlowParameters parameters = new LoadFlowParameters()
+                .setTransformerVoltageControlOn(true)
+                .setShuntCompensatorVoltageControlOn(true)
+                .setHvdcAcEmulation(true);
+        OpenLoadFlowParameters parametersExt = OpenLoadFlowParameters.create(parameters)
+                .setSlackBusSelectionMode(SlackBusSelectionMode.MOST_MESHED);
+        return OpenLoadFlowParameters.createAcParameters(network, parameters, parametersExt, new DenseMatrixFactory(),
+                new EvenShiloachGraphDecrementalConnectivityFactory<>());
+    }
+
+    private static void runAcLoadFlow(LfNetwork lfNetwork, AcLoadFlowParameters acParameters) {
+        try (var context = new AcLoadFlowContext(lfNetwork, acParameters)) {
+            new AcloadFlowEngine(context).run();
+        }
+    }
+
+    /**
+     * All the values restored by a network state, whatever the elements that have been tracked as modified.
+     */
+    private static List<Object> getValues(LfNetwork lfNetwork) {
+        List<Object> values = new ArrayList<>();
+        for (LfBus bus : lfNetwork.getBuses()) {
+            values.add(bus.getId());
+            values.add(bus.isDisabled());
+            values.add(bus.getV());
+            values.add(bus.getAngle());
+            values.add(bus.getGenerationTargetQ());
+            values.add(bus.isGeneratorVoltageControlEnabled());
+            values.add(bus.isGeneratorReactivePowerControlEnabled());
+            bus.getShunt().ifPresent(shunt -> values.add(shunt.getB()));
+            bus.getControllerShunt().ifPresent(shunt -> {
+                values.add(shunt.getB());
+                values.add(shunt.isVoltageControlEnabled());
+            });
+            bus.getSvcShunt().ifPresent(shunt -> values.add(shunt.getB()));
+            for (LfLoad lfLoad : bus.getLoads()) {
+                values.add(lfLoad.getTargetP());
+                values.add(lfLoad.getTargetQ());
+            }
+        }
+        for (LfBranch lfBranch : lfNetwork.getBranches()) {
+            values.add(lfBranch.getId());
+            values.add(lfBranch.isDisabled());
+            PiModel piModel = lfBranch.getPiModel();
+            if (piModel instanceof PiModelArray) {
+                values.add(piModel.getTapPosition());
+            }
+            values.add(piModel.getA1());
+            values.add(piModel.getR1());
+            values.add(lfBranch.isPhaseControlEnabled());
+            values.add(lfBranch.isVoltageControlEnabled());
+        }
+        for (LfHvdc hvdc : lfNetwork.getHvdcs()) {
+            values.add(hvdc.getId());
+            values.add(hvdc.isDisabled());
+        }
+        return values;
+    }
+
+    private static void modify(LfNetwork lfNetwork) {
+        for (LfBus bus : lfNetwork.getBuses()) {
+            bus.getControllerShunt().ifPresent(shunt -> shunt.setVoltageControlEnabled(!shunt.isVoltageControlEnabled()));
+            for (LfLoad lfLoad : bus.getLoads()) {
+                lfLoad.setTargetP(lfLoad.getTargetP() * 1.1);
+            }
+        }
+        for (LfBranch lfBranch : lfNetwork.getBranches()) {
+            if (lfBranch.isVoltageController()) {
+                lfBranch.setVoltageControlEnabled(!lfBranch.isVoltageControlEnabled());
+            }
+        }
+        for (LfHvdc hvdc : lfNetwork.getHvdcs()) {
+            hvdc.setDisabled(!hvdc.isDisabled());
+        }
+    }
+
+    /**
+     * Check that states restored after outer loops changes (shunt susceptances, tap positions, voltage control flags)
+     * and after HVDC state changes are the same with an incremental restore and with a full restore.
+     */
+    private static void assertIncrementalRestoreMatchesFullRestore(Network network) {
+        AcLoadFlowParameters acParameters = createAcParameters(network);
+        LfNetwork lfNetwork = Networks.load(network, acParameters.getNetworkParameters()).get(0);
+        List<Object> initialValues = getValues(lfNetwork);
+        NetworkState rootState = NetworkState.save(lfNetwork);
+
+        runAcLoadFlow(lfNetwork, acParameters);
+        List<Object> loadFlowValues = getValues(lfNetwork);
+        NetworkState loadFlowState = NetworkState.save(lfNetwork);
+
+        // incremental restore of the elements modified since the load flow
+        modify(lfNetwork);
+        runAcLoadFlow(lfNetwork, acParameters);
+        loadFlowState.restore();
+        assertEquals(loadFlowValues, getValues(lfNetwork));
+
+        // incremental restore of the elements modified since the root state, load flow state is discarded
+        modify(lfNetwork);
+        runAcLoadFlow(lfNetwork, acParameters);
+        rootState.restore();
+        assertEquals(initialValues, getValues(lfNetwork));
+
+        // full restore of the discarded load flow state
+        modify(lfNetwork);
+        runAcLoadFlow(lfNetwork, acParameters);
+        loadFlowState.restore();
+        assertEquals(loadFlowValues, getValues(lfNetwork));
+
+        // full restore of the root state, discarded by the previous full restore
+        runAcLoadFlow(lfNetwork, acParameters);
+        rootState.restore();
+        assertEquals(initialValues, getValues(lfNetwork));
+
+        // a network loaded again and restored incrementally ends in the same state as the fully restored one
+        LfNetwork otherLfNetwork = Networks.load(network, acParameters.getNetworkParameters()).get(0);
+        NetworkState otherRootState = NetworkState.save(otherLfNetwork);
+        modify(otherLfNetwork);
+        runAcLoadFlow(otherLfNetwork, acParameters);
+        otherRootState.restore();
+        assertEquals(getValues(lfNetwork), getValues(otherLfNetwork));
+    }
+
+    @Test
+    void testRestoreAfterGeneratorVoltageControlOuterLoop() {
+        assertIncrementalRestoreMatchesFullRestore(VoltageControlNetworkFactory.createWithGeneratorRemoteControl());
+        assertIncrementalRestoreMatchesFullRestore(VoltageControlNetworkFactory.createWithStaticVarCompensator());
+    }
+
+    @Test
+    void testRestoreAfterTransformerVoltageControlOuterLoop() {
+        assertIncrementalRestoreMatchesFullRestore(VoltageControlNetworkFactory.createNetworkWithT2wt());
+        assertIncrementalRestoreMatchesFullRestore(VoltageControlNetworkFactory.createWithTransformerSharedRemoteControl());
+    }
+
+    @Test
+    void testRestoreAfterShuntVoltageControlOuterLoop() {
+        assertIncrementalRestoreMatchesFullRestore(VoltageControlNetworkFactory.createWithShuntSharedRemoteControl());
+    }
+
+    @Test
+    void testRestoreAfterHvdcChange() {
+        assertIncrementalRestoreMatchesFullRestore(HvdcNetworkFactory.createWithHvdcInAcEmulation());
+    }
+
+    @Test
+    void testCopy() {
+        for (Network network : List.of(VoltageControlNetworkFactory.createWithShuntSharedRemoteControl(),
+                                       VoltageControlNetworkFactory.createWithTransformerSharedRemoteControl(),
+                                       HvdcNetworkFactory.createWithHvdcInAcEmulation())) {
+            AcLoadFlowParameters acParameters = createAcParameters(network);
+            LfNetwork lfNetwork = Networks.load(network, acParameters.getNetworkParameters()).get(0);
+            LfNetwork lfNetworkCopy = lfNetwork.copy(Reporter.NO_OP);
+            modify(lfNetwork);
+            runAcLoadFlow(lfNetwork, acParameters);
+            NetworkState.copy(lfNetwork, lfNetworkCopy);
+            assertEquals(getValues(lfNetwork), getValues(lfNetworkCopy));
+
+            // copy can be reused for another state of the network
+            modify(lfNetwork);
+            runAcLoadFlow(lfNetwork, acParameters);
+            NetworkState.copy(lfNetwork, lfNetworkCopy);
+            assertEquals(getValues(lfNetwork), getValues(lfNetworkCopy));
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.commons.test.AbstractSerDeTest;
 import com.powsybl.commons.test.ComparisonUtils;
 import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.BusbarSectionContingency;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.GeneratorContingency;
 import com.powsybl.contingency.LoadContingency;
@@ -33,13 +34,13 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Florian Dupuy {@literal <florian.dupuy at rte-france.com>}
@@ -143,4 +144,46 @@ class LfContingencyTest extends AbstractSerDeTest {
                             lfNetwork.getBranchById("T3wT_leg_3"), DisabledBranchStatus.BOTH_SIDES),
                 lfContingency.getDisabledNetwork().getBranchesStatus());
     }
+
+    @Test
+    void testMultiThreadedPropagation() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        List<Contingency> contingencies = new ArrayList<>();
+        network.getBranchStream().forEach(b -> contingencies.add(new Contingency(b.getId(), new BranchContingency(b.getId()))));
+        network.getGeneratorStream().forEach(g -> contingencies.add(new Contingency(g.getId(), new GeneratorContingency(g.getId()))));
+        network.getLoadStream().forEach(l -> contingencies.add(new Contingency(l.getId(), new LoadContingency(l.getId()))));
+        network.getBusbarSectionStream().forEach(bbs -> contingencies.add(new Contingency(bbs.getId(), new BusbarSectionContingency(bbs.getId()))));
+        // same elements as previous contingencies
+        contingencies.add(new Contingency("LINE_S3S4_BIS", new BranchContingency("LINE_S3S4")));
+        contingencies.add(new Contingency("LD1_BIS", new LoadContingency("LD1")));
+
+        PropagatedContingencyCreationParameters creationParameters = new PropagatedContingencyCreationParameters()
+                .setContingencyPropagation(true);
+        LfTopoConfig topoConfig = new LfTopoConfig();
+        List<PropagatedContingency> propagatedContingencies = PropagatedContingency.createList(network, contingencies, topoConfig, creationParameters);
+        LfTopoConfig topoConfig2 = new LfTopoConfig();
+        List<PropagatedContingency> propagatedContingencies2 = PropagatedContingency.createList(network, contingencies, topoConfig2, creationParameters.setThreadCount(3));
+
+        assertEquals(contingencies.size(), propagatedContingencies2.size());
+        for (int i = 0; i < contingencies.size(); i++) {
+            PropagatedContingency propagatedContingency = propagatedContingencies.get(i);
+            PropagatedContingency propagatedContingency2 = propagatedContingencies2.get(i);
+            assertEquals(i, propagatedContingency2.getIndex());
+            assertSame(contingencies.get(i), propagatedContingency2.getContingency());
+            assertEquals(propagatedContingency.getBranchIdsToOpen(), propagatedContingency2.getBranchIdsToOpen());
+            assertEquals(propagatedContingency.getSwitchesToOpen(), propagatedContingency2.getSwitchesToOpen());
+            assertEquals(propagatedContingency.getGeneratorIdsToLose(), propagatedContingency2.getGeneratorIdsToLose());
+            assertEquals(propagatedContingency.getLoadIdsToLoose().keySet(), propagatedContingency2.getLoadIdsToLoose().keySet());
+        }
+        assertEquals(topoConfig.getSwitchesToOpen(), topoConfig2.getSwitchesToOpen());
+        assertEquals(topoConfig.getBranchIdsOpenableSide1(), topoConfig2.getBranchIdsOpenableSide1());
+        assertEquals(topoConfig.getBranchIdsOpenableSide2(), topoConfig2.getBranchIdsOpenableSide2());
+
+        // contingencies with the same elements do not share their propagation
+        PropagatedContingency ld1 = propagatedContingencies2.stream().filter(pc -> pc.getContingency().getId().equals("LD1")).findFirst().orElseThrow();
+        PropagatedContingency ld1Bis = propagatedContingencies2.get(contingencies.size() - 1);
+        assertEquals(ld1.getLoadIdsToLoose().keySet(), ld1Bis.getLoadIdsToLoose().keySet());
+        assertNotSame(ld1.getLoadIdsToLoose().get("LD1"), ld1Bis.getLoadIdsToLoose().get("LD1"));
+        assertEquals(ld1.getLoadIdsToLoose().get("LD1").getActive(), ld1Bis.getLoadIdsToLoose().get("LD1").getActive());
+    }
 }
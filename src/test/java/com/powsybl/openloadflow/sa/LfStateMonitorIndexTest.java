@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sa;
+
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.openloadflow.network.LfBranch;
+import com.powsybl.openloadflow.network.LfBus;
+import com.powsybl.openloadflow.network.LfNetwork;
+import com.powsybl.openloadflow.network.LfNetworkParameters;
+import com.powsybl.openloadflow.network.impl.Networks;
+import com.powsybl.security.monitor.StateMonitor;
+import com.powsybl.security.monitor.StateMonitorIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LfStateMonitorIndexTest {
+
+    @Test
+    void test() {
+        Network network = EurostagTutorialExample1Factory.create();
+        LfNetwork lfNetwork = Networks.load(network, new LfNetworkParameters()).get(0);
+        StateMonitorIndex monitorIndex = new StateMonitorIndex(List.of(
+                new StateMonitor(ContingencyContext.none(), Set.of("NGEN_NHV1"), Collections.emptySet(), Collections.emptySet()),
+                new StateMonitor(ContingencyContext.all(), Set.of("NHV1_NHV2_2", "NHV1_NHV2_1", "unknown"), Set.of("VLHV1", "VLGEN"), Set.of("unknown")),
+                new StateMonitor(ContingencyContext.specificContingency("c1"), Set.of("NHV2_NLOAD"), Set.of("VLLOAD"), Collections.emptySet())));
+        LfStateMonitorIndex lfMonitorIndex = new LfStateMonitorIndex(lfNetwork, monitorIndex);
+        assertSame(lfNetwork, lfMonitorIndex.getNetwork());
+
+        LfStateMonitorIndex.LfStateMonitor noneMonitor = lfMonitorIndex.getNoneStateMonitor();
+        assertEquals(List.of("NGEN_NHV1"), noneMonitor.branches().stream().map(LfBranch::getId).toList());
+        assertTrue(noneMonitor.buses().isEmpty());
+
+        // unknown elements are ignored, and branches and buses are in network order
+        LfStateMonitorIndex.LfStateMonitor allMonitor = lfMonitorIndex.getAllStateMonitor();
+        assertEquals(List.of("NHV1_NHV2_1", "NHV1_NHV2_2"), allMonitor.branches().stream().map(LfBranch::getId).toList());
+        assertEquals(List.of("VLGEN_0", "VLHV1_0"), allMonitor.buses().stream().map(LfBus::getId).toList());
+        assertTrue(allMonitor.threeWindingsTransformerIds().isEmpty());
+        assertTrue(allMonitor.starBuses().isEmpty());
+
+        // monitors are only resolved once
+        assertSame(allMonitor, lfMonitorIndex.getAllStateMonitor());
+        assertSame(allMonitor, lfMonitorIndex.getContingencyStateMonitor("c2"));
+
+        LfStateMonitorIndex.LfStateMonitor c1Monitor = lfMonitorIndex.getContingencyStateMonitor("c1");
+        assertEquals(List.of("NHV2_NLOAD"), c1Monitor.branches().stream().map(LfBranch::getId).toList());
+        assertEquals(List.of("VLLOAD_0"), c1Monitor.buses().stream().map(LfBus::getId).toList());
+    }
+}
@@ -13,6 +13,7 @@ import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import com.powsybl.openloadflow.graph.IntGraphConnectivityFactory;
 import com.powsybl.openloadflow.graph.MinimumSpanningTreeGraphConnectivityFactory;
 import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
 import com.powsybl.openloadflow.network.*;
@@ -80,15 +81,27 @@ class OpenSecurityAnalysisGraphTest {
         }
     }
 
+    @Test
+    void testIntGraph() {
+        LOGGER.info("Test int graph on test network containing {} branches", network.getBranchCount());
+        try (var testDataRef = computeReferenceLfContingencies();
+             var testData = computeLfContingencies(new IntGraphConnectivityFactory<>(LfBus::getNum, LfBranch::getNum))) {
+            printResult(testData.getListLfContingencies());
+            checkResult(testData.getListLfContingencies(), testDataRef.getListLfContingencies());
+        }
+    }
+
     @Test
     void testNullVertices() {
         network.getSwitch("B3").setOpen(true);
         contingenciesProvider = n -> Collections.singletonList(new Contingency("L1", new BranchContingency("L1")));
         try (var testDataRef = computeReferenceLfContingencies();
              var testData1 = computeLfContingencies(new MinimumSpanningTreeGraphConnectivityFactory<>());
-             var testData2 = computeLfContingencies(new EvenShiloachGraphDecrementalConnectivityFactory<>())) {
+             var testData2 = computeLfContingencies(new EvenShiloachGraphDecrementalConnectivityFactory<>());
+             var testData3 = computeLfContingencies(new IntGraphConnectivityFactory<>(LfBus::getNum, LfBranch::getNum))) {
             checkResult(testData1.getListLfContingencies(), testDataRef.getListLfContingencies());
             checkResult(testData2.getListLfContingencies(), testDataRef.getListLfContingencies());
+            checkResult(testData3.getListLfContingencies(), testDataRef.getListLfContingencies());
         }
 
         contingenciesProvider = n -> Collections.singletonList(new Contingency("L2", new BranchContingency("L2")));
@@ -96,9 +109,11 @@ class OpenSecurityAnalysisGraphTest {
         network.getSwitch("B1").setOpen(true);
         try (var testDataRef = computeReferenceLfContingencies();
              var testData1 = computeLfContingencies(new MinimumSpanningTreeGraphConnectivityFactory<>());
-             var testData2 = computeLfContingencies(new EvenShiloachGraphDecrementalConnectivityFactory<>())) {
+             var testData2 = computeLfContingencies(new EvenShiloachGraphDecrementalConnectivityFactory<>());
+             var testData3 = computeLfContingencies(new IntGraphConnectivityFactory<>(LfBus::getNum, LfBranch::getNum))) {
             checkResult(testData1.getListLfContingencies(), testDataRef.getListLfContingencies());
             checkResult(testData2.getListLfContingencies(), testDataRef.getListLfContingencies());
+            checkResult(testData3.getListLfContingencies(), testDataRef.getListLfContingencies());
         }
     }
 
@@ -45,7 +45,9 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
 
     @Test
     void specificParametersNamesTest() {
-        assertEquals(List.of("createResultExtension", "contingencyPropagation"), provider.getSpecificParametersNames());
+        assertEquals(List.of("createResultExtension", "contingencyPropagation", "threadCount", "dcFastMode",
+                             "contingencyScreening", "contingencyScreeningThreshold", "contingencyScreeningMaxCount",
+                             "operatorStrategyThreadCount", "timeBudget", "contingencyMaxIterations", "contingencyPrioritization"), provider.getSpecificParametersNames());
     }
 
     @Test
@@ -59,6 +61,43 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         assertTrue(parametersExt.isContingencyPropagation());
         parametersExt.setContingencyPropagation(false);
         assertFalse(parametersExt.isContingencyPropagation());
+        assertEquals(1, parametersExt.getThreadCount());
+        parametersExt.setThreadCount(4);
+        assertEquals(4, parametersExt.getThreadCount());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setThreadCount(0));
+        assertFalse(parametersExt.isDcFastMode());
+        parametersExt.setDcFastMode(true);
+        assertTrue(parametersExt.isDcFastMode());
+        assertFalse(parametersExt.isContingencyScreening());
+        parametersExt.setContingencyScreening(true);
+        assertTrue(parametersExt.isContingencyScreening());
+        assertEquals(0.9, parametersExt.getContingencyScreeningThreshold());
+        parametersExt.setContingencyScreeningThreshold(0.8);
+        assertEquals(0.8, parametersExt.getContingencyScreeningThreshold());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setContingencyScreeningThreshold(-1));
+        assertEquals(0, parametersExt.getContingencyScreeningMaxCount());
+        parametersExt.setContingencyScreeningMaxCount(10);
+        assertEquals(10, parametersExt.getContingencyScreeningMaxCount());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setContingencyScreeningMaxCount(-1));
+        assertEquals(1, parametersExt.getOperatorStrategyThreadCount());
+        parametersExt.setOperatorStrategyThreadCount(4);
+        assertEquals(4, parametersExt.getOperatorStrategyThreadCount());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setOperatorStrategyThreadCount(0));
+        assertEquals(0, parametersExt.getTimeBudget());
+        parametersExt.setTimeBudget(300);
+        assertEquals(300, parametersExt.getTimeBudget());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setTimeBudget(-1));
+        assertEquals(0, parametersExt.getContingencyTimeBudget());
+        parametersExt.setContingencyTimeBudget(10);
+        assertEquals(10, parametersExt.getContingencyTimeBudget());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setContingencyTimeBudget(-1));
+        assertEquals(0, parametersExt.getContingencyMaxIterations());
+        parametersExt.setContingencyMaxIterations(5);
+        assertEquals(5, parametersExt.getContingencyMaxIterations());
+        assertThrows(IllegalArgumentException.class, () -> parametersExt.setContingencyMaxIterations(-1));
+        assertFalse(parametersExt.isContingencyPrioritization());
+        parametersExt.setContingencyPrioritization(true);
+        assertTrue(parametersExt.isContingencyPrioritization());
     }
 
     @Test
@@ -67,9 +106,29 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         MapModuleConfig moduleConfig = platformConfig.createModuleConfig("open-security-analysis-default-parameters");
         moduleConfig.setStringProperty("createResultExtension", "true");
         moduleConfig.setStringProperty("contingencyPropagation", "false");
+        moduleConfig.setStringProperty("threadCount", "4");
+        moduleConfig.setStringProperty("dcFastMode", "true");
+        moduleConfig.setStringProperty("contingencyScreening", "true");
+        moduleConfig.setStringProperty("contingencyScreeningThreshold", "0.8");
+        moduleConfig.setStringProperty("contingencyScreeningMaxCount", "10");
+        moduleConfig.setStringProperty("operatorStrategyThreadCount", "4");
+        moduleConfig.setStringProperty("timeBudget", "300");
+        moduleConfig.setStringProperty("contingencyTimeBudget", "10");
+        moduleConfig.setStringProperty("contingencyMaxIterations", "5");
+        moduleConfig.setStringProperty("contingencyPrioritization", "true");
         OpenSecurityAnalysisParameters parametersExt = (OpenSecurityAnalysisParameters) provider.loadSpecificParameters(platformConfig).orElseThrow();
         assertTrue(parametersExt.isCreateResultExtension());
         assertFalse(parametersExt.isContingencyPropagation());
+        assertEquals(4, parametersExt.getThreadCount());
+        assertTrue(parametersExt.isDcFastMode());
+        assertTrue(parametersExt.isContingencyScreening());
+        assertEquals(0.8, parametersExt.getContingencyScreeningThreshold());
+        assertEquals(10, parametersExt.getContingencyScreeningMaxCount());
+        assertEquals(4, parametersExt.getOperatorStrategyThreadCount());
+        assertEquals(300, parametersExt.getTimeBudget());
+        assertEquals(10, parametersExt.getContingencyTimeBudget());
+        assertEquals(5, parametersExt.getContingencyMaxIterations());
+        assertTrue(parametersExt.isContingencyPrioritization());
     }
 
     @Test
@@ -77,14 +136,39 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         OpenSecurityAnalysisParameters parametersExt = (OpenSecurityAnalysisParameters) provider.loadSpecificParameters(Collections.emptyMap()).orElseThrow();
         assertFalse(parametersExt.isCreateResultExtension());
         assertTrue(parametersExt.isContingencyPropagation());
+        assertEquals(1, parametersExt.getThreadCount());
+        assertFalse(parametersExt.isDcFastMode());
+        assertFalse(parametersExt.isContingencyScreening());
+        assertEquals(0.9, parametersExt.getContingencyScreeningThreshold());
+        assertEquals(0, parametersExt.getContingencyScreeningMaxCount());
+        assertEquals(1, parametersExt.getOperatorStrategyThreadCount());
+        assertEquals(0, parametersExt.getTimeBudget());
+        assertEquals(0, parametersExt.getContingencyTimeBudget());
+        assertEquals(0, parametersExt.getContingencyMaxIterations());
+        assertFalse(parametersExt.isContingencyPrioritization());
     }
 
     @Test
     void specificParametersFromPropertiesTest() {
-        Map<String, String> properties = Map.of("createResultExtension", "true", "contingencyPropagation", "false");
+        Map<String, String> properties = Map.ofEntries(Map.entry("createResultExtension", "true"), Map.entry("contingencyPropagation", "false"),
+                                                       Map.entry("threadCount", "4"), Map.entry("dcFastMode", "true"),
+                                                       Map.entry("contingencyScreening", "true"), Map.entry("contingencyScreeningThreshold", "0.8"),
+                                                       Map.entry("contingencyScreeningMaxCount", "10"), Map.entry("operatorStrategyThreadCount", "4"),
+                                                       Map.entry("timeBudget", "300"), Map.entry("contingencyTimeBudget", "10"),
+                                                       Map.entry("contingencyMaxIterations", "5"), Map.entry("contingencyPrioritization", "true"));
         OpenSecurityAnalysisParameters parametersExt = (OpenSecurityAnalysisParameters) provider.loadSpecificParameters(properties).orElseThrow();
         assertTrue(parametersExt.isCreateResultExtension());
         assertFalse(parametersExt.isContingencyPropagation());
+        assertEquals(4, parametersExt.getThreadCount());
+        assertTrue(parametersExt.isDcFastMode());
+        assertTrue(parametersExt.isContingencyScreening());
+        assertEquals(0.8, parametersExt.getContingencyScreeningThreshold());
+        assertEquals(10, parametersExt.getContingencyScreeningMaxCount());
+        assertEquals(4, parametersExt.getOperatorStrategyThreadCount());
+        assertEquals(300, parametersExt.getTimeBudget());
+        assertEquals(10, parametersExt.getContingencyTimeBudget());
+        assertEquals(5, parametersExt.getContingencyMaxIterations());
+        assertTrue(parametersExt.isContingencyPrioritization());
     }
 
     @Test
@@ -92,7 +176,17 @@ class OpenSecurityAnalysisProviderTest extends AbstractSerDeTest {
         SecurityAnalysisParameters parameters = new SecurityAnalysisParameters();
         OpenSecurityAnalysisParameters parametersExt = new OpenSecurityAnalysisParameters()
                 .setCreateResultExtension(true)
-                .setContingencyPropagation(false);
+                .setContingencyPropagation(false)
+                .setThreadCount(4)
+                .setDcFastMode(true)
+                .setContingencyScreening(true)
+                .setContingencyScreeningThreshold(0.8)
+                .setContingencyScreeningMaxCount(10)
+                .setOperatorStrategyThreadCount(4)
+                .setTimeBudget(300)
+                .setContingencyTimeBudget(10)
+                .setContingencyMaxIterations(5)
+                .setContingencyPrioritization(true);
         parameters.addExtension(OpenSecurityAnalysisParameters.class, parametersExt);
         roundTripTest(parameters, JsonSecurityAnalysisParameters::write, JsonSecurityAnalysisParameters::read, "/sa-params.json");
     }
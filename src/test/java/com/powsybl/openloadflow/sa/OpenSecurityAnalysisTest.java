@@ -8,6 +8,7 @@ package com.powsybl.openloadflow.sa;
 
 import com.google.common.collect.ImmutableList;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.reporter.Report;
 import com.powsybl.commons.reporter.Reporter;
 import com.powsybl.commons.reporter.ReporterModel;
 import com.powsybl.contingency.*;
@@ -2856,4 +2857,228 @@ class OpenSecurityAnalysisTest extends AbstractOpenSecurityAnalysisTest {
         assertEquals(1, b2PostContingencyResult.getNetworkResult().getBusResult("b3").getV(), DELTA_V);
         assertEquals(0.795, b2PostContingencyResult.getNetworkResult().getBusResult("b1").getV(), DELTA_V);
     }
+
+    @Test
+    void testMultiThreads() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        List<Contingency> contingencies = createAllBranchesContingencies(network);
+        List<StateMonitor> monitors = createNetworkMonitors(network);
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                .setThreadCount(3);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+        ReporterModel reporter = new ReporterModel("testSaReport", "Test report of security analysis");
+        SecurityAnalysisResult resultMt = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters, reporter);
+
+        // pre-contingency simulation is only run once, contingencies are simulated by 3 workers
+        assertEquals(1, countSubReporters(reporter, "preContingencySimulation"));
+        assertEquals(3, countSubReporters(reporter, "securityAnalysisWorker"));
+        assertEquals(result.getPostContingencyResults().size(), countSubReporters(reporter, "postContingencySimulation"));
+
+        assertSame(result.getPreContingencyResult().getStatus(), resultMt.getPreContingencyResult().getStatus());
+        assertEquals(result.getPostContingencyResults().size(), resultMt.getPostContingencyResults().size());
+        for (int i = 0; i < result.getPostContingencyResults().size(); i++) {
+            PostContingencyResult postContingencyResult = result.getPostContingencyResults().get(i);
+            PostContingencyResult postContingencyResultMt = resultMt.getPostContingencyResults().get(i);
+            assertEquals(postContingencyResult.getContingency().getId(), postContingencyResultMt.getContingency().getId());
+            assertSame(postContingencyResult.getStatus(), postContingencyResultMt.getStatus());
+            assertEquals(postContingencyResult.getLimitViolationsResult().getLimitViolations().size(),
+                         postContingencyResultMt.getLimitViolationsResult().getLimitViolations().size());
+            for (BranchResult branchResult : postContingencyResult.getNetworkResult().getBranchResults()) {
+                BranchResult branchResultMt = postContingencyResultMt.getNetworkResult().getBranchResult(branchResult.getBranchId());
+                assertEquals(branchResult.getP1(), branchResultMt.getP1(), DELTA_POWER);
+                assertEquals(branchResult.getQ1(), branchResultMt.getQ1(), DELTA_POWER);
+            }
+        }
+
+        // working variant is restored
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+        assertEquals(1, network.getVariantManager().getVariantIds().size());
+    }
+
+    private static Optional<Report> findReport(ReporterModel reporter, String reportKey) {
+        for (Report report : reporter.getReports()) {
+            if (report.getReportKey().equals(reportKey)) {
+                return Optional.of(report);
+            }
+        }
+        for (ReporterModel subReporter : reporter.getSubReporters()) {
+            Optional<Report> report = findReport(subReporter, reportKey);
+            if (report.isPresent()) {
+                return report;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int countSubReporters(ReporterModel reporter, String taskKey) {
+        int count = 0;
+        for (ReporterModel subReporter : reporter.getSubReporters()) {
+            if (subReporter.getTaskKey().equals(taskKey)) {
+                count++;
+            }
+            count += countSubReporters(subReporter, taskKey);
+        }
+        return count;
+    }
+
+    @Test
+    void testDcFastMode() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        network.getLineStream().forEach(line -> line.newActivePowerLimits1().setPermanentLimit(60).add());
+        List<Contingency> contingencies = new ArrayList<>(createAllBranchesContingencies(network));
+        contingencies.add(new Contingency("L1-2-1+L1-5-1", new BranchContingency("L1-2-1"), new BranchContingency("L1-5-1")));
+        contingencies.add(new Contingency("L2-3-1+L4-5-1+L9-14-1", new BranchContingency("L2-3-1"), new BranchContingency("L4-5-1"),
+                                          new BranchContingency("L9-14-1")));
+        contingencies.add(new Contingency("B2-G", new GeneratorContingency("B2-G")));
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        securityAnalysisParameters.getLoadFlowParameters().setDc(true);
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+        assertFalse(result.getPostContingencyResults().stream().allMatch(r -> r.getLimitViolationsResult().getLimitViolations().isEmpty()));
+
+        OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                .setDcFastMode(true);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+        assertSameDcResults(result, runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters));
+
+        // also on several threads
+        openSecurityAnalysisParameters.setThreadCount(2);
+        assertSameDcResults(result, runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters));
+    }
+
+    private static void assertSameDcResults(SecurityAnalysisResult expected, SecurityAnalysisResult actual) {
+        assertEquals(expected.getPostContingencyResults().size(), actual.getPostContingencyResults().size());
+        for (int i = 0; i < expected.getPostContingencyResults().size(); i++) {
+            PostContingencyResult expectedResult = expected.getPostContingencyResults().get(i);
+            PostContingencyResult actualResult = actual.getPostContingencyResults().get(i);
+            assertEquals(expectedResult.getContingency().getId(), actualResult.getContingency().getId());
+            assertSame(expectedResult.getStatus(), actualResult.getStatus());
+            assertEquals(expectedResult.getLimitViolationsResult().getLimitViolations().size(),
+                         actualResult.getLimitViolationsResult().getLimitViolations().size());
+            for (BranchResult branchResult : expectedResult.getNetworkResult().getBranchResults()) {
+                BranchResult actualBranchResult = actualResult.getNetworkResult().getBranchResult(branchResult.getBranchId());
+                assertEquals(branchResult.getP1(), actualBranchResult.getP1(), DELTA_POWER);
+                assertEquals(branchResult.getP2(), actualBranchResult.getP2(), DELTA_POWER);
+            }
+        }
+    }
+
+    @Test
+    void testDcContingencyScreening() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        // base case lines loading is about 80%
+        loadFlowRunner.run(network, new LoadFlowParameters());
+        network.getLineStream().forEach(line -> line.newActivePowerLimits1().setPermanentLimit(Math.abs(line.getTerminal1().getP()) * 1.25 + 1).add());
+        List<Contingency> contingencies = createAllBranchesContingencies(network);
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                .setContingencyScreening(true);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+        SecurityAnalysisResult screenedResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        // contingencies with violations are all simulated in AC, screened-out ones are not simulated and have no result
+        OlfSecurityAnalysisResult screenedResultExt = screenedResult.getExtension(OlfSecurityAnalysisResult.class);
+        assertNotNull(screenedResultExt);
+        List<String> screenedOutContingencyIds = screenedResultExt.getScreenedOutContingencyIds();
+        assertFalse(screenedOutContingencyIds.isEmpty());
+        assertTrue(screenedOutContingencyIds.size() < contingencies.size());
+        assertTrue(screenedResultExt.getNotComputedContingencyIds().isEmpty());
+        assertEquals(result.getPostContingencyResults().size() - screenedOutContingencyIds.size(), screenedResult.getPostContingencyResults().size());
+        Iterator<PostContingencyResult> screenedResultIt = screenedResult.getPostContingencyResults().iterator();
+        for (PostContingencyResult expectedResult : result.getPostContingencyResults()) {
+            if (screenedOutContingencyIds.contains(expectedResult.getContingency().getId())) {
+                assertSame(PostContingencyComputationStatus.CONVERGED, expectedResult.getStatus());
+                assertTrue(expectedResult.getLimitViolationsResult().getLimitViolations().isEmpty());
+            } else {
+                PostContingencyResult actualResult = screenedResultIt.next();
+                assertEquals(expectedResult.getContingency().getId(), actualResult.getContingency().getId());
+                assertSame(expectedResult.getStatus(), actualResult.getStatus());
+                assertEquals(expectedResult.getLimitViolationsResult().getLimitViolations().size(),
+                             actualResult.getLimitViolationsResult().getLimitViolations().size());
+            }
+        }
+        assertTrue(screenedResult.getPostContingencyResults().stream().noneMatch(r -> r.getStatus() == PostContingencyComputationStatus.NO_IMPACT));
+
+        // only the 3 most severe contingencies
+        openSecurityAnalysisParameters.setContingencyScreeningThreshold(1000)
+                .setContingencyScreeningMaxCount(3);
+        screenedResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+        assertEquals(3, screenedResult.getPostContingencyResults().size());
+        assertEquals(contingencies.size() - 3, screenedResult.getExtension(OlfSecurityAnalysisResult.class).getScreenedOutContingencyIds().size());
+    }
+
+    @Test
+    void testTimeBudgetAndContingencyPrioritization() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        loadFlowRunner.run(network, new LoadFlowParameters());
+        network.getLineStream().forEach(line -> line.newActivePowerLimits1().setPermanentLimit(Math.abs(line.getTerminal1().getP()) * 1.25 + 1).add());
+        List<Contingency> contingencies = createAllBranchesContingencies(network);
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+
+        // prioritized contingencies are simulated in another order, but results are the same and in the same order
+        OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                .setContingencyPrioritization(true);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+        SecurityAnalysisResult prioritizedResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+        assertEquals(result.getPostContingencyResults().size(), prioritizedResult.getPostContingencyResults().size());
+        for (int i = 0; i < result.getPostContingencyResults().size(); i++) {
+            PostContingencyResult expectedResult = result.getPostContingencyResults().get(i);
+            PostContingencyResult actualResult = prioritizedResult.getPostContingencyResults().get(i);
+            assertEquals(expectedResult.getContingency().getId(), actualResult.getContingency().getId());
+            assertSame(expectedResult.getStatus(), actualResult.getStatus());
+            assertEquals(expectedResult.getLimitViolationsResult().getLimitViolations().size(),
+                         actualResult.getLimitViolationsResult().getLimitViolations().size());
+        }
+
+        // same on several threads
+        openSecurityAnalysisParameters.setThreadCount(2);
+        prioritizedResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+        assertEquals(result.getPostContingencyResults().stream().map(r -> r.getContingency().getId()).toList(),
+                     prioritizedResult.getPostContingencyResults().stream().map(r -> r.getContingency().getId()).toList());
+
+        // budget exhausted before the first contingency: pre-contingency state is simulated, contingencies are not
+        openSecurityAnalysisParameters.setThreadCount(1)
+                .setTimeBudget(1e-6);
+        assertNull(result.getExtension(OlfSecurityAnalysisResult.class));
+        ReporterModel reporter = new ReporterModel("testSaReport", "Test report of security analysis");
+        SecurityAnalysisResult budgetResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters, reporter);
+        assertSame(LoadFlowResult.ComponentResult.Status.CONVERGED, budgetResult.getPreContingencyResult().getStatus());
+        assertTrue(budgetResult.getPostContingencyResults().isEmpty());
+        // contingencies not computed are listed in the result, so that they can be told apart from diverging ones
+        OlfSecurityAnalysisResult budgetResultExt = budgetResult.getExtension(OlfSecurityAnalysisResult.class);
+        assertNotNull(budgetResultExt);
+        assertEquals(contingencies.stream().map(Contingency::getId).collect(Collectors.toSet()), new HashSet<>(budgetResultExt.getNotComputedContingencyIds()));
+        assertTrue(budgetResultExt.getNotComputedOperatorStrategyIds().isEmpty());
+        Report notComputedReport = findReport(reporter, "contingenciesNotComputed").orElseThrow();
+        assertEquals(contingencies.size(), notComputedReport.getValue("notComputedContingencyCount").getValue());
+
+        // contingency budget exhausted before the first solver iteration of each contingency: contingencies are all
+        // started but none is computed
+        openSecurityAnalysisParameters.setTimeBudget(0)
+                .setContingencyTimeBudget(1e-6);
+        SecurityAnalysisResult contingencyBudgetResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+        assertSame(LoadFlowResult.ComponentResult.Status.CONVERGED, contingencyBudgetResult.getPreContingencyResult().getStatus());
+        assertTrue(contingencyBudgetResult.getPostContingencyResults().isEmpty());
+        assertEquals(contingencies.stream().map(Contingency::getId).collect(Collectors.toSet()),
+                     new HashSet<>(contingencyBudgetResult.getExtension(OlfSecurityAnalysisResult.class).getNotComputedContingencyIds()));
+
+        // one solver iteration is not enough to reach post-contingency states
+        openSecurityAnalysisParameters.setContingencyTimeBudget(0)
+                .setContingencyMaxIterations(1);
+        SecurityAnalysisResult iterationBudgetResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters);
+        assertSame(LoadFlowResult.ComponentResult.Status.CONVERGED, iterationBudgetResult.getPreContingencyResult().getStatus());
+        assertTrue(iterationBudgetResult.getPostContingencyResults().stream().anyMatch(r -> r.getStatus() != PostContingencyComputationStatus.CONVERGED));
+    }
 }
@@ -14,11 +14,15 @@ import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControlAdder
 import com.powsybl.iidm.serde.test.MetrixTutorialSixBusesFactory;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openloadflow.OpenLoadFlowParameters;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
 import com.powsybl.openloadflow.graph.GraphConnectivityFactory;
+import com.powsybl.openloadflow.graph.IntGraphConnectivityFactory;
 import com.powsybl.openloadflow.graph.NaiveGraphConnectivityFactory;
 import com.powsybl.openloadflow.network.*;
 import com.powsybl.openloadflow.util.LoadFlowAssert;
+import com.powsybl.openloadflow.util.MetricsListener;
 import com.powsybl.security.LimitViolation;
+import com.powsybl.security.LimitViolationFilter;
 import com.powsybl.security.LimitViolationType;
 import com.powsybl.security.SecurityAnalysisParameters;
 import com.powsybl.security.SecurityAnalysisResult;
@@ -27,6 +31,7 @@ import com.powsybl.security.condition.AllViolationCondition;
 import com.powsybl.security.condition.AnyViolationCondition;
 import com.powsybl.security.condition.AtLeastOneViolationCondition;
 import com.powsybl.security.condition.TrueCondition;
+import com.powsybl.security.detectors.DefaultLimitViolationDetector;
 import com.powsybl.security.monitor.StateMonitor;
 import com.powsybl.security.results.BranchResult;
 import com.powsybl.security.results.OperatorStrategyResult;
@@ -194,6 +199,42 @@ class OpenSecurityAnalysisWithActionsTest extends AbstractOpenSecurityAnalysisTe
         assertEquals(441.539, network.getLine("L3").getTerminal1().getI(), LoadFlowAssert.DELTA_I);
     }
 
+    @Test
+    void testSecurityAnalysisWithOperatorStrategyAndIntGraphConnectivity() {
+        securityAnalysisProvider = new OpenSecurityAnalysisProvider(matrixFactory, new EvenShiloachGraphDecrementalConnectivityFactory<>(),
+                                                                    new IntGraphConnectivityFactory<>(LfBus::getNum, LfBranch::getNum), MetricsListener.NO_OP);
+
+        Network network = NodeBreakerNetworkFactory.create3Bars();
+        network.getSwitch("C1").setOpen(true);
+        network.getSwitch("C2").setOpen(true);
+
+        List<Contingency> contingencies = Stream.of("L1", "L3", "L2")
+                .map(id -> new Contingency(id, new BranchContingency(id)))
+                .collect(Collectors.toList());
+
+        List<Action> actions = List.of(new SwitchAction("action1", "C1", false),
+                                       new SwitchAction("action3", "C2", false));
+
+        List<OperatorStrategy> operatorStrategies = List.of(new OperatorStrategy("strategyL1", ContingencyContext.specificContingency("L1"), new TrueCondition(), List.of("action1")),
+                                                            new OperatorStrategy("strategyL3", ContingencyContext.specificContingency("L3"), new TrueCondition(), List.of("action3")),
+                                                            new OperatorStrategy("strategyL2", ContingencyContext.specificContingency("L2"), new TrueCondition(), List.of("action1", "action3")));
+
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+
+        LoadFlowParameters parameters = new LoadFlowParameters();
+        parameters.setDistributedSlack(false);
+        setSlackBusId(parameters, "VL2_0");
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        securityAnalysisParameters.setLoadFlowParameters(parameters);
+
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters,
+                operatorStrategies, actions, Reporter.NO_OP);
+        assertEquals(583.624, getOperatorStrategyResult(result, "strategyL1").getNetworkResult().getBranchResult("L2").getI1(), LoadFlowAssert.DELTA_I);
+        assertEquals(583.624, getOperatorStrategyResult(result, "strategyL3").getNetworkResult().getBranchResult("L1").getI1(), LoadFlowAssert.DELTA_I);
+        assertEquals(441.539, getOperatorStrategyResult(result, "strategyL2").getNetworkResult().getBranchResult("L1").getI1(), LoadFlowAssert.DELTA_I);
+        assertEquals(441.539, getOperatorStrategyResult(result, "strategyL2").getNetworkResult().getBranchResult("L3").getI1(), LoadFlowAssert.DELTA_I);
+    }
+
     @Test
     void testSecurityAnalysisWithOperatorStrategy2() {
         GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory = new NaiveGraphConnectivityFactory<>(LfBus::getNum);
@@ -423,6 +464,68 @@ class OpenSecurityAnalysisWithActionsTest extends AbstractOpenSecurityAnalysisTe
         }
     }
 
+    @Test
+    void testOperatorStrategiesOnSeveralThreads() {
+        Network network = MetrixTutorialSixBusesSecurityAnalysisFactory.createWithCurrentLimits();
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        LoadFlowParameters parameters = new LoadFlowParameters();
+        parameters.setBalanceType(LoadFlowParameters.BalanceType.PROPORTIONAL_TO_LOAD);
+        parameters.setHvdcAcEmulation(false);
+        securityAnalysisParameters.setLoadFlowParameters(parameters);
+
+        List<Contingency> contingencies = List.of(new Contingency("branch_S_SO_1", new BranchContingency("S_SO_1")),
+                                                  new Contingency("branch_S_SE_1", new BranchContingency("S_SE_1")));
+
+        List<StateMonitor> monitors = createNetworkMonitors(network);
+
+        List<Action> actions = List.of(new SwitchAction("openSwitch", "SS1_SS1_DJ_OMN", true),
+                                       new LineConnectionAction("openLineSSO2", "S_SO_2", true, true),
+                                       new PhaseTapChangerTapPositionAction("pstChangeTap", "NE_NO_1", false, 8),
+                                       new LoadActionBuilder().withId("loadAction").withLoadId("SE_L1").withRelativeValue(true).withActivePowerValue(-50.0).build());
+        List<OperatorStrategy> operatorStrategies = List.of(new OperatorStrategy("strategy1", ContingencyContext.specificContingency("branch_S_SO_1"), new AllViolationCondition(List.of("S_SO_2")), List.of("openSwitch")),
+                                                            new OperatorStrategy("strategy2", ContingencyContext.specificContingency("branch_S_SO_1"), new AllViolationCondition(List.of("S_SO_2")), List.of("openLineSSO2")),
+                                                            new OperatorStrategy("strategy3", ContingencyContext.specificContingency("branch_S_SO_1"), new AllViolationCondition(List.of("S_SO_2")), List.of("pstChangeTap")),
+                                                            new OperatorStrategy("strategy4", ContingencyContext.specificContingency("branch_S_SO_1"), new TrueCondition(), List.of("pstChangeTap", "loadAction")),
+                                                            new OperatorStrategy("strategy5", ContingencyContext.specificContingency("branch_S_SO_1"), new AllViolationCondition(List.of("S_SO_1")), List.of("openSwitch")),
+                                                            new OperatorStrategy("strategy6", ContingencyContext.specificContingency("branch_S_SE_1"), new TrueCondition(), List.of("loadAction")),
+                                                            new OperatorStrategy("strategy7", ContingencyContext.specificContingency("branch_S_SE_1"), new TrueCondition(), List.of("openLineSSO2")));
+
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters,
+                operatorStrategies, actions, Reporter.NO_OP);
+
+        OpenSecurityAnalysisParameters openSecurityAnalysisParameters = new OpenSecurityAnalysisParameters()
+                .setOperatorStrategyThreadCount(3);
+        securityAnalysisParameters.addExtension(OpenSecurityAnalysisParameters.class, openSecurityAnalysisParameters);
+        SecurityAnalysisResult resultMt = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters,
+                operatorStrategies, actions, Reporter.NO_OP);
+
+        // strategy5 condition cannot be met as its violation is on the contingency line
+        assertTrue(getOptionalOperatorStrategyResult(result, "strategy5").isEmpty());
+        assertEquals(6, result.getOperatorStrategyResults().size());
+        assertEquals(result.getOperatorStrategyResults().size(), resultMt.getOperatorStrategyResults().size());
+        for (int i = 0; i < result.getOperatorStrategyResults().size(); i++) {
+            OperatorStrategyResult operatorStrategyResult = result.getOperatorStrategyResults().get(i);
+            OperatorStrategyResult operatorStrategyResultMt = resultMt.getOperatorStrategyResults().get(i);
+            assertEquals(operatorStrategyResult.getOperatorStrategy().getId(), operatorStrategyResultMt.getOperatorStrategy().getId());
+            assertSame(operatorStrategyResult.getStatus(), operatorStrategyResultMt.getStatus());
+            assertEquals(operatorStrategyResult.getLimitViolationsResult().getLimitViolations().size(),
+                         operatorStrategyResultMt.getLimitViolationsResult().getLimitViolations().size());
+            for (BranchResult branchResult : operatorStrategyResult.getNetworkResult().getBranchResults()) {
+                BranchResult branchResultMt = operatorStrategyResultMt.getNetworkResult().getBranchResult(branchResult.getBranchId());
+                assertEquals(branchResult.getP1(), branchResultMt.getP1(), LoadFlowAssert.DELTA_POWER);
+                assertEquals(branchResult.getI1(), branchResultMt.getI1(), LoadFlowAssert.DELTA_I);
+            }
+        }
+
+        // prioritized contingencies are simulated in another order, but operator strategy results keep the same order
+        openSecurityAnalysisParameters.setContingencyPrioritization(true);
+        SecurityAnalysisResult prioritizedResult = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters,
+                operatorStrategies, actions, Reporter.NO_OP);
+        assertEquals(result.getOperatorStrategyResults().stream().map(r -> r.getOperatorStrategy().getId()).toList(),
+                     prioritizedResult.getOperatorStrategyResults().stream().map(r -> r.getOperatorStrategy().getId()).toList());
+    }
+
     @Test
     void testMetrixVoltage() {
         GraphConnectivityFactory<LfBus, LfBranch> connectivityFactory = new NaiveGraphConnectivityFactory<>(LfBus::getNum);
@@ -1213,4 +1316,62 @@ class OpenSecurityAnalysisWithActionsTest extends AbstractOpenSecurityAnalysisTe
         assertEquals(network.getBusBreakerView().getBus("BUS_2").getV(),
                 getOperatorStrategyResult(result, "strategy").getNetworkResult().getBusResult("BUS_2").getV(), LoadFlowAssert.DELTA_POWER);
     }
+
+    @Test
+    void testResultHandler() {
+        Network network = VoltageControlNetworkFactory.createWithShuntSharedRemoteControl();
+
+        SecurityAnalysisParameters securityAnalysisParameters = new SecurityAnalysisParameters();
+        securityAnalysisParameters.setLoadFlowParameters(new LoadFlowParameters().setDc(true));
+        List<Contingency> contingencies = createAllBranchesContingencies(network);
+        List<StateMonitor> monitors = createAllBranchesMonitors(network);
+        List<Action> actions = List.of(new LoadActionBuilder().withId("action").withLoadId("l4").withRelativeValue(false).withActivePowerValue(260).build());
+        List<OperatorStrategy> operatorStrategies = List.of(new OperatorStrategy("strategy", ContingencyContext.specificContingency("tr2"), new TrueCondition(), List.of("action")));
+
+        SecurityAnalysisResult result = runSecurityAnalysis(network, contingencies, monitors, securityAnalysisParameters, operatorStrategies, actions, Reporter.NO_OP);
+
+        List<PostContingencyResult> handledPostContingencyResults = new ArrayList<>();
+        List<OperatorStrategyResult> handledOperatorStrategyResults = new ArrayList<>();
+        SecurityAnalysisResultHandler resultHandler = new SecurityAnalysisResultHandler() {
+            @Override
+            public void onPostContingencyResult(PostContingencyResult postContingencyResult) {
+                handledPostContingencyResults.add(postContingencyResult);
+            }
+
+            @Override
+            public void onOperatorStrategyResult(OperatorStrategyResult operatorStrategyResult) {
+                handledOperatorStrategyResults.add(operatorStrategyResult);
+            }
+        };
+        SecurityAnalysisResult streamedResult = securityAnalysisProvider.run(network, network.getVariantManager().getWorkingVariantId(),
+                                                                             new DefaultLimitViolationDetector(), new LimitViolationFilter(),
+                                                                             computationManager, securityAnalysisParameters, n -> contingencies,
+                                                                             Collections.emptyList(), operatorStrategies, actions, monitors,
+                                                                             Reporter.NO_OP, resultHandler)
+                .join()
+                .getResult();
+
+        // full results are only passed to the handler
+        assertEquals(result.getPostContingencyResults().size(), handledPostContingencyResults.size());
+        assertEquals(1, handledOperatorStrategyResults.size());
+        assertEquals(result.getPostContingencyResults().size(), streamedResult.getPostContingencyResults().size());
+        assertEquals(1, streamedResult.getOperatorStrategyResults().size());
+        for (int i = 0; i < result.getPostContingencyResults().size(); i++) {
+            PostContingencyResult postContingencyResult = result.getPostContingencyResults().get(i);
+            PostContingencyResult handledPostContingencyResult = handledPostContingencyResults.get(i);
+            PostContingencyResult streamedPostContingencyResult = streamedResult.getPostContingencyResults().get(i);
+            assertEquals(postContingencyResult.getContingency().getId(), handledPostContingencyResult.getContingency().getId());
+            assertEquals(postContingencyResult.getNetworkResult().getBranchResults().size(), handledPostContingencyResult.getNetworkResult().getBranchResults().size());
+            assertFalse(handledPostContingencyResult.getNetworkResult().getBranchResults().isEmpty());
+            // only status and violations are kept in the result
+            assertEquals(postContingencyResult.getContingency().getId(), streamedPostContingencyResult.getContingency().getId());
+            assertSame(postContingencyResult.getStatus(), streamedPostContingencyResult.getStatus());
+            assertEquals(postContingencyResult.getLimitViolationsResult().getLimitViolations().size(),
+                         streamedPostContingencyResult.getLimitViolationsResult().getLimitViolations().size());
+            assertTrue(streamedPostContingencyResult.getNetworkResult().getBranchResults().isEmpty());
+        }
+        assertFalse(handledOperatorStrategyResults.get(0).getNetworkResult().getBranchResults().isEmpty());
+        assertTrue(streamedResult.getOperatorStrategyResults().get(0).getNetworkResult().getBranchResults().isEmpty());
+        assertFalse(streamedResult.getPreContingencyResult().getNetworkResult().getBranchResults().isEmpty());
+    }
 }
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.sensi;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.reporter.Reporter;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openloadflow.network.FourBusNetworkFactory;
+import com.powsybl.sensitivity.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BinarySensitivityResultWriterTest extends AbstractSensitivityAnalysisTest {
+
+    private final List<Contingency> contingencies = List.of(new Contingency("l23", new BranchContingency("l23")),
+                                                            new Contingency("l34", new BranchContingency("l34")));
+
+    private void run(Network network, SensitivityResultWriter resultWriter) {
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "b1_vl_0", true);
+        List<SensitivityFactor> factors = createFactorMatrix(network.getGeneratorStream().toList(),
+                                                             network.getBranchStream().collect(Collectors.toList()));
+        sensiProvider.run(network, network.getVariantManager().getWorkingVariantId(), new SensitivityFactorModelReader(factors, network),
+                          resultWriter, contingencies, Collections.emptyList(), sensiParameters, LocalComputationManager.getDefault(), Reporter.NO_OP)
+                .join();
+    }
+
+    private static void assertValuesEquals(List<SensitivityValue> expectedValues, List<SensitivityValue> values, double delta) {
+        assertEquals(expectedValues.size(), values.size());
+        for (int i = 0; i < values.size(); i++) {
+            SensitivityValue expectedValue = expectedValues.get(i);
+            SensitivityValue value = values.get(i);
+            assertEquals(expectedValue.getFactorIndex(), value.getFactorIndex());
+            assertEquals(expectedValue.getContingencyIndex(), value.getContingencyIndex());
+            assertEquals(expectedValue.getValue(), value.getValue(), delta);
+            assertEquals(expectedValue.getFunctionReference(), value.getFunctionReference(), delta);
+        }
+    }
+
+    @Test
+    void testWriteAndRead() {
+        Network network = FourBusNetworkFactory.create();
+        SensitivityResultModelWriter expectedResultWriter = new SensitivityResultModelWriter(contingencies);
+        run(network, expectedResultWriter);
+
+        // small blocks so that values and statuses are written in several blocks
+        Path file = fileSystem.getPath("/sensi.bin");
+        try (BinarySensitivityResultWriter resultWriter = new BinarySensitivityResultWriter(file, false, 0, 7)) {
+            run(network, resultWriter);
+            assertEquals(expectedResultWriter.getValues().size(), resultWriter.getWrittenValueCount());
+            assertEquals(0, resultWriter.getSkippedValueCount());
+        }
+        SensitivityResultModelWriter resultWriter = new SensitivityResultModelWriter(contingencies);
+        BinarySensitivityResultReader.read(file, resultWriter);
+        assertValuesEquals(expectedResultWriter.getValues(), resultWriter.getValues(), 0);
+        assertEquals(expectedResultWriter.getContingencyStatuses().size(), resultWriter.getContingencyStatuses().size());
+        for (int i = 0; i < contingencies.size(); i++) {
+            assertEquals(expectedResultWriter.getContingencyStatuses().get(i).getContingencyId(), resultWriter.getContingencyStatuses().get(i).getContingencyId());
+            assertEquals(expectedResultWriter.getContingencyStatuses().get(i).getStatus(), resultWriter.getContingencyStatuses().get(i).getStatus());
+        }
+    }
+
+    @Test
+    void testFloat32AndZeroThreshold() throws IOException {
+        Network network = FourBusNetworkFactory.create();
+        SensitivityResultModelWriter expectedResultWriter = new SensitivityResultModelWriter(contingencies);
+        run(network, expectedResultWriter);
+        List<SensitivityValue> expectedValues = expectedResultWriter.getValues().stream()
+                .filter(value -> Math.abs(value.getValue()) >= 1e-6)
+                .toList();
+        assertTrue(expectedValues.size() < expectedResultWriter.getValues().size());
+
+        Path file = fileSystem.getPath("/sensi.bin");
+        Path file64 = fileSystem.getPath("/sensi64.bin");
+        try (BinarySensitivityResultWriter resultWriter = new BinarySensitivityResultWriter(file, true, 1e-6);
+             BinarySensitivityResultWriter resultWriter64 = new BinarySensitivityResultWriter(file64)) {
+            run(network, resultWriter);
+            run(network, resultWriter64);
+            assertEquals(expectedValues.size(), resultWriter.getWrittenValueCount());
+            assertEquals(expectedResultWriter.getValues().size() - expectedValues.size(), resultWriter.getSkippedValueCount());
+        }
+        assertTrue(Files.size(file) < Files.size(file64) / 2 + 100);
+
+        SensitivityResultModelWriter resultWriter = new SensitivityResultModelWriter(contingencies);
+        BinarySensitivityResultReader.read(file, resultWriter);
+        assertValuesEquals(expectedValues, resultWriter.getValues(), 1e-4);
+    }
+
+    @Test
+    void testValuesAndStatusesOrder() {
+        Path file = fileSystem.getPath("/sensi.bin");
+        try (BinarySensitivityResultWriter resultWriter = new BinarySensitivityResultWriter(file, false, 0, 2)) {
+            resultWriter.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+            resultWriter.writeSensitivityValue(0, 0, 1, 10);
+            resultWriter.writeContingencyStatus(1, SensitivityAnalysisResult.Status.FAILURE);
+            resultWriter.writeSensitivityValue(1, 1, 2, 20);
+            resultWriter.writeSensitivityValue(2, 1, 3, 30);
+            resultWriter.writeContingencyStatus(2, SensitivityAnalysisResult.Status.NO_IMPACT);
+        }
+        List<String> events = new ArrayList<>();
+        BinarySensitivityResultReader.read(file, new SensitivityResultWriter() {
+            @Override
+            public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+                events.add("value " + factorIndex);
+            }
+
+            @Override
+            public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+                events.add("status " + contingencyIndex);
+            }
+        });
+        assertEquals(List.of("status 0", "value 0", "status 1", "value 1", "value 2", "status 2"), events);
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path file = fileSystem.getPath("/sensi.bin");
+        Files.writeString(file, "hello world!");
+        SensitivityResultModelWriter resultWriter = new SensitivityResultModelWriter(contingencies);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> BinarySensitivityResultReader.read(file, resultWriter));
+        assertEquals("Not a binary sensitivity result file", e.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> new BinarySensitivityResultWriter(file, false, -1));
+    }
+}
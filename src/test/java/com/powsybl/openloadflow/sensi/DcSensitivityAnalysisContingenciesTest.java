@@ -2457,4 +2457,36 @@ class DcSensitivityAnalysisContingenciesTest extends AbstractSensitivityAnalysis
         assertEquals(300.0, result.getBranchFlow1FunctionReferenceValue("NGEN", "NHV1_NHV2_1"), LoadFlowAssert.DELTA_POWER);
         assertEquals(600.0, result.getBranchFlow1FunctionReferenceValue("NGEN", "NGEN_NHV1"), LoadFlowAssert.DELTA_POWER);
     }
+
+    @Test
+    void testParallelContingencies() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        List<SensitivityFactor> factors = createFactorMatrix(network.getGeneratorStream().toList(), network.getBranchStream().toList());
+        // branch contingencies, one breaking connectivity, mixed with generator contingencies
+        List<Contingency> contingencies = new ArrayList<>();
+        network.getBranchStream().forEach(branch -> contingencies.add(new Contingency(branch.getId(), new BranchContingency(branch.getId()))));
+        contingencies.add(2, new Contingency("B2-G", new GeneratorContingency("B2-G")));
+        contingencies.add(7, new Contingency("B3-G", new GeneratorContingency("B3-G")));
+
+        SensitivityAnalysisParameters sensiParameters = createParameters(true, "VL1_0", true);
+        SensitivityAnalysisResult result = sensiRunner.run(network, factors, contingencies, Collections.emptyList(), sensiParameters);
+
+        sensiParameters.addExtension(OpenSensitivityAnalysisParameters.class, new OpenSensitivityAnalysisParameters()
+                .setThreadCount(3));
+        SensitivityAnalysisResult parallelResult = sensiRunner.run(network, factors, contingencies, Collections.emptyList(), sensiParameters);
+
+        assertEquals(result.getValues().size(), parallelResult.getValues().size());
+        for (int i = 0; i < result.getValues().size(); i++) {
+            SensitivityValue value = result.getValues().get(i);
+            SensitivityValue parallelValue = parallelResult.getValues().get(i);
+            assertEquals(value.getFactorIndex(), parallelValue.getFactorIndex());
+            assertEquals(value.getContingencyIndex(), parallelValue.getContingencyIndex());
+            assertEquals(value.getValue(), parallelValue.getValue(), 0);
+            assertEquals(value.getFunctionReference(), parallelValue.getFunctionReference(), 0);
+        }
+        for (Contingency contingency : contingencies) {
+            assertEquals(result.getContingencyStatus(contingency.getId()), parallelResult.getContingencyStatus(contingency.getId()));
+        }
+        assertEquals(SensitivityAnalysisResult.Status.SUCCESS, parallelResult.getContingencyStatus("B2-G"));
+    }
 }
@@ -34,6 +34,7 @@ class OpenSensitivityAnalysisParametersTest {
 
         MapModuleConfig lfModuleConfig = platformConfig.createModuleConfig("open-sensitivityanalysis-default-parameters");
         lfModuleConfig.setStringProperty("debugDir", "/debugDir");
+        lfModuleConfig.setStringProperty("threadCount", "2");
     }
 
     @AfterEach
@@ -45,5 +46,6 @@ class OpenSensitivityAnalysisParametersTest {
     void test() {
         OpenSensitivityAnalysisParameters parameters = OpenSensitivityAnalysisParameters.load(platformConfig);
         Assertions.assertEquals("/debugDir", parameters.getDebugDir());
+        Assertions.assertEquals(2, parameters.getThreadCount());
     }
 }
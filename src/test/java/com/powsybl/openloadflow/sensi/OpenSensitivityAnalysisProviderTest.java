@@ -34,7 +34,7 @@ class OpenSensitivityAnalysisProviderTest extends AbstractSensitivityAnalysisTes
     @Test
     void specificParametersTest() {
         var provider = new OpenSensitivityAnalysisProvider();
-        assertEquals(1, provider.getSpecificParametersNames().size());
+        assertEquals(2, provider.getSpecificParametersNames().size());
         SensitivityAnalysisParameters parameters = new SensitivityAnalysisParameters();
 
         provider.loadSpecificParameters(Collections.emptyMap())
@@ -44,5 +44,9 @@ class OpenSensitivityAnalysisProviderTest extends AbstractSensitivityAnalysisTes
         provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.DEBUG_DIR_PARAM_NAME, ""))
                 .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
         assertEquals("", parameters.getExtension(OpenSensitivityAnalysisParameters.class).getDebugDir());
+
+        provider.loadSpecificParameters(Map.of(OpenSensitivityAnalysisParameters.THREAD_COUNT_PARAM_NAME, "4"))
+                .ifPresent(parametersExt -> parameters.addExtension((Class) parametersExt.getClass(), parametersExt));
+        assertEquals(4, parameters.getExtension(OpenSensitivityAnalysisParameters.class).getThreadCount());
     }
 }
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2024, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openloadflow.util;
+
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.ieeecdf.converter.IeeeCdfNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.openloadflow.OpenLoadFlowProvider;
+import com.powsybl.openloadflow.ac.outerloop.DistributedSlackOuterLoop;
+import com.powsybl.openloadflow.ac.outerloop.MonitoringVoltageOuterLoop;
+import com.powsybl.openloadflow.ac.outerloop.ReactiveLimitsOuterLoop;
+import com.powsybl.openloadflow.graph.EvenShiloachGraphDecrementalConnectivityFactory;
+import com.powsybl.openloadflow.lf.outerloop.OuterLoopStatus;
+import com.powsybl.openloadflow.sa.AbstractOpenSecurityAnalysisTest;
+import com.powsybl.openloadflow.sa.OpenSecurityAnalysisProvider;
+import com.powsybl.security.PostContingencyComputationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MetricsListenerTest extends AbstractOpenSecurityAnalysisTest {
+
+    private static final class RecordingMetricsListener implements MetricsListener {
+
+        private final Queue<String> events = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void onJacobianMatrixBuilt(int size, int nonZeroCount, long duration) {
+            assertTrue(nonZeroCount >= size);
+            assertTrue(duration >= 0);
+            events.add("jacobianBuilt");
+        }
+
+        @Override
+        public void onJacobianMatrixUpdated(int size, int nonZeroCount, long duration) {
+            assertTrue(nonZeroCount >= size);
+            assertTrue(duration >= 0);
+            events.add("jacobianUpdated");
+        }
+
+        @Override
+        public void onLuDecomposition(int size, boolean update, long duration) {
+            assertTrue(duration >= 0);
+            events.add(update ? "luUpdated" : "luDone");
+        }
+
+        @Override
+        public void onNewtonRaphsonIteration(int iteration, double mismatchNorm, long solveDuration, long scalingDuration) {
+            assertTrue(mismatchNorm >= 0);
+            assertTrue(solveDuration >= 0);
+            assertTrue(scalingDuration >= 0);
+            events.add("iteration" + iteration);
+        }
+
+        @Override
+        public void onOuterLoopCheck(String outerLoopName, int iteration, OuterLoopStatus status, long duration) {
+            assertTrue(duration >= 0);
+            events.add(outerLoopName + iteration + status);
+        }
+
+        @Override
+        public void onPostContingencySimulation(String contingencyId, PostContingencyComputationStatus status, long duration) {
+            assertTrue(duration >= 0);
+            events.add(contingencyId + status);
+        }
+    }
+
+    @Test
+    void testLoadFlow() {
+        Network network = IeeeCdfNetworkFactory.create14();
+        RecordingMetricsListener metricsListener = new RecordingMetricsListener();
+        loadFlowProvider = new OpenLoadFlowProvider(matrixFactory, new EvenShiloachGraphDecrementalConnectivityFactory<>(), metricsListener);
+        assertTrue(runLoadFlow(network, new LoadFlowParameters()).isOk());
+        assertEquals(List.of("jacobianBuilt", "luDone", "iteration0",
+                             "jacobianUpdated", "luUpdated", "iteration1",
+                             "jacobianUpdated", "luUpdated", "iteration2",
+                             DistributedSlackOuterLoop.NAME + "0" + OuterLoopStatus.STABLE,
+                             MonitoringVoltageOuterLoop.NAME + "0" + OuterLoopStatus.STABLE,
+                             ReactiveLimitsOuterLoop.NAME + "0" + OuterLoopStatus.STABLE),
+                     List.copyOf(metricsListener.events));
+    }
+
+    @Test
+    void testSecurityAnalysis() {
+        Network network = createNodeBreakerNetwork();
+        RecordingMetricsListener metricsListener = new RecordingMetricsListener();
+        securityAnalysisProvider = new OpenSecurityAnalysisProvider(matrixFactory, new EvenShiloachGraphDecrementalConnectivityFactory<>(), metricsListener);
+        runSecurityAnalysis(network, List.of(new Contingency("L2", new BranchContingency("L2"))));
+        assertTrue(metricsListener.events.contains(DistributedSlackOuterLoop.NAME + "0" + OuterLoopStatus.UNSTABLE));
+        assertTrue(metricsListener.events.contains(DistributedSlackOuterLoop.NAME + "1" + OuterLoopStatus.STABLE));
+        assertEquals("L2" + PostContingencyComputationStatus.CONVERGED, metricsListener.events.stream().reduce((e1, e2) -> e2).orElseThrow());
+    }
+}